@@ -0,0 +1,84 @@
+package com.hostel.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares a JMH JSON result with the stored baseline and exits with status 1
+ * when a benchmark got slower, or allocates more per operation, than the
+ * tolerance allows. A time regression also needs the two 99.9% confidence
+ * intervals to be disjoint, so a noisy score is not flagged on its mean
+ * alone. Usage: {@code BaselineComparison <baseline> <result> [tolerance]}.
+ */
+public class BaselineComparison {
+
+	private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2) {
+			System.err.println("Usage: BaselineComparison <baseline.json> <result.json> [tolerance]");
+			System.exit(2);
+		}
+		double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : 0.15;
+		Map<String, double[]> baseline = read(new File(args[0]));
+		Map<String, double[]> result = read(new File(args[1]));
+
+		int regressions = 0;
+		System.out.printf("%-48s %24s %24s %8s %12s %12s%n", "Benchmark", "Baseline ns", "Current ns", "Change",
+				"Base B/op", "Curr B/op");
+		for (Map.Entry<String, double[]> entry : result.entrySet()) {
+			double[] current = entry.getValue();
+			double[] base = baseline.get(entry.getKey());
+			if (base == null) {
+				System.out.printf("%-48s %24s %24s %8s %12s %12.0f%n", entry.getKey(), "-", score(current), "new",
+						"-", current[2]);
+				continue;
+			}
+			double change = (current[0] - base[0]) / base[0];
+			boolean disjoint = current[0] - current[1] > base[0] + base[1];
+			boolean slower = change > tolerance && disjoint;
+			// allocation is deterministic, so any growth beyond a few bytes is a real change
+			boolean allocates = current[2] > base[2] * (1 + tolerance) + 8;
+			String flag = slower || allocates ? "  REGRESSION" : change > tolerance ? "  (within error)" : "";
+			if (slower || allocates) {
+				regressions++;
+			}
+			System.out.printf("%-48s %24s %24s %+7.1f%% %12.0f %12.0f%s%n", entry.getKey(), score(base),
+					score(current), change * 100, base[2], current[2], flag);
+		}
+
+		if (regressions > 0) {
+			System.out.printf("%d benchmark(s) regressed beyond %.0f%%%n", regressions, tolerance * 100);
+			System.exit(1);
+		}
+	}
+
+	private static String score(double[] metrics) {
+		return String.format("%.1f +- %.1f", metrics[0], metrics[1]);
+	}
+
+	/**
+	 * Reads score, score error and allocated bytes per operation for every
+	 * benchmark. The error is NaN when a run had too few iterations for an
+	 * interval; it is then taken as 0.
+	 */
+	private static Map<String, double[]> read(File file) throws IOException {
+		Map<String, double[]> scores = new LinkedHashMap<>();
+		for (JsonNode run : new ObjectMapper().readTree(file)) {
+			double score = run.path("primaryMetric").path("score").asDouble();
+			double error = run.path("primaryMetric").path("scoreError").asDouble();
+			double allocated = run.path("secondaryMetrics").path("·" + ALLOCATION).path("score")
+					.asDouble(run.path("secondaryMetrics").path(ALLOCATION).path("score").asDouble());
+			StringBuilder name = new StringBuilder(run.path("benchmark").asText().replace("com.hostel.benchmark.", ""));
+			run.path("params").fields().forEachRemaining(
+					param -> name.append(':').append(param.getKey()).append('=').append(param.getValue().asText()));
+			scores.put(name.toString(), new double[] { score, Double.isNaN(error) ? 0 : error, allocated });
+		}
+		return scores;
+	}
+}
@@ -0,0 +1,81 @@
+package com.hostel.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hostel.config.JwtService;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Token signing on login and verification on every authenticated request.
+ * {@code parseCached} is the steady state of the claims cache;
+ * {@code parseUncached} cycles through more tokens than the cache holds, so
+ * every call hashes, verifies the signature and decodes the claims.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class JwtBenchmark {
+
+	private static final int TOKENS = 1024;
+
+	private JwtService cachedService;
+	private JwtService uncachedService;
+	private String token;
+	private String[] tokens;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		cachedService = jwtService(10000);
+		uncachedService = jwtService(1);
+		token = cachedService.generateToken("guest@example.com", "USER");
+		cachedService.parseToken(token);
+
+		tokens = new String[TOKENS];
+		for (int i = 0; i < TOKENS; i++) {
+			tokens[i] = uncachedService.generateToken("guest" + i + "@example.com", "USER");
+		}
+	}
+
+	private static JwtService jwtService(int cacheSize) {
+		JwtService jwtService = new JwtService();
+		ReflectionTestUtils.setField(jwtService, "secret",
+				"YourSuperSecretKeyForJWTTokenGenerationMustBeLongEnoughAtLeast256Bits");
+		ReflectionTestUtils.setField(jwtService, "expiration", 86400000L);
+		ReflectionTestUtils.setField(jwtService, "claimsCacheSize", cacheSize);
+		jwtService.init();
+		return jwtService;
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return cachedService.generateToken("guest@example.com", "USER");
+	}
+
+	@Benchmark
+	public Claims parseCached() {
+		return cachedService.parseToken(token);
+	}
+
+	@Benchmark
+	public Claims parseUncached() {
+		next = (next + 1) & (TOKENS - 1);
+		return uncachedService.parseToken(tokens[next]);
+	}
+}
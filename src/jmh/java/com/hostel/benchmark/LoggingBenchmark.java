@@ -0,0 +1,106 @@
+package com.hostel.benchmark;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+
+/**
+ * Request-thread cost of one booking event, logged the way BookingService
+ * does, behind the same AsyncAppender settings as logback-spring.xml. The
+ * disabled cases are the cost when the level is off. In this tight loop the
+ * queue fills and INFO events start being discarded, as they would be under
+ * the same load in production, so {@code enabled} is the request-thread cost
+ * only; formatting happens on the appender thread. A booking request logs
+ * about three such events.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class LoggingBenchmark {
+
+	private Logger enabled;
+	private Logger disabled;
+	private AsyncAppender async;
+	private Long bookingId = 31L;
+	private Double amount = 2994.0;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+		context.reset();
+
+		PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+		encoder.setContext(context);
+		encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss} [%thread] %-5level %logger{36} - %msg %kvp%n");
+		encoder.start();
+
+		OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+		sink.setContext(context);
+		sink.setEncoder(encoder);
+		sink.setOutputStream(OutputStream.nullOutputStream());
+		sink.start();
+
+		async = new AsyncAppender();
+		async.setContext(context);
+		async.setQueueSize(8192);
+		async.setNeverBlock(true);
+		async.setIncludeCallerData(false);
+		async.addAppender(sink);
+		async.start();
+
+		enabled = context.getLogger("com.hostel.service.BookingService");
+		enabled.setLevel(ch.qos.logback.classic.Level.INFO);
+		enabled.setAdditive(false);
+		enabled.addAppender(async);
+
+		disabled = context.getLogger("com.hostel.service.PaymentService");
+		disabled.setLevel(ch.qos.logback.classic.Level.WARN);
+		disabled.setAdditive(false);
+		disabled.addAppender(async);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		async.stop();
+	}
+
+	@Benchmark
+	public void enabled() {
+		enabled.atInfo().setMessage("Booking created").addKeyValue("bookingId", bookingId)
+				.addKeyValue("status", "PENDING_PAYMENT").addKeyValue("amount", amount).log();
+	}
+
+	@Benchmark
+	public void disabledFluent() {
+		disabled.atInfo().setMessage("Booking created").addKeyValue("bookingId", bookingId)
+				.addKeyValue("status", "PENDING_PAYMENT").addKeyValue("amount", amount).log();
+	}
+
+	@Benchmark
+	public void disabledParameterized() {
+		disabled.info("Booking created - ID: {}, Status: {}, Amount: {}", bookingId, "PENDING_PAYMENT", amount);
+	}
+}
@@ -0,0 +1,126 @@
+package com.hostel.benchmark;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.hostel.dto.response.BookingResponse;
+import com.hostel.dto.response.HostelResponse;
+import com.hostel.entity.Booking;
+import com.hostel.entity.Facility;
+import com.hostel.entity.Hostel;
+import com.hostel.entity.Payment;
+import com.hostel.entity.Room;
+import com.hostel.entity.User;
+import com.hostel.enums.BookingStatus;
+import com.hostel.enums.PaymentStatus;
+import com.hostel.enums.RoomType;
+import com.hostel.mapper.BookingMapper;
+import com.hostel.mapper.HostelMapper;
+import com.hostel.repository.FacilityRepository;
+import com.hostel.service.FacilityDictionary;
+
+/**
+ * Entity to response mapping for the list endpoints, on fully initialised
+ * entities (no lazy loading is measured).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class MapperBenchmark {
+
+	private BookingMapper bookingMapper;
+	private HostelMapper hostelMapper;
+	private Booking booking;
+	private Hostel hostel;
+	private BitSet hostelFacilities;
+
+	@Setup
+	public void setUp() {
+		List<Facility> facilities = new ArrayList<>();
+		for (long id = 1; id <= 12; id++) {
+			Facility facility = new Facility("Facility " + id);
+			facility.setFacilityId(id * 50 + 1);
+			facilities.add(facility);
+		}
+		FacilityRepository facilityRepository = mock(FacilityRepository.class);
+		when(facilityRepository.findAll()).thenReturn(facilities);
+		FacilityDictionary facilityDictionary = new FacilityDictionary();
+		ReflectionTestUtils.setField(facilityDictionary, "facilityRepository", facilityRepository);
+		ReflectionTestUtils.setField(facilityDictionary, "transactionManager", mock(PlatformTransactionManager.class));
+		facilityDictionary.size();
+
+		bookingMapper = new BookingMapper();
+		hostelMapper = new HostelMapper();
+		ReflectionTestUtils.setField(hostelMapper, "facilityDictionary", facilityDictionary);
+
+		User owner = new User();
+		owner.setUserId(7L);
+		owner.setName("Raj Kumar");
+
+		hostel = new Hostel("Sea View", "Goa", "Beach Road", owner);
+		hostel.setHostelId(11L);
+		hostel.setDescription("Hostel near the beach");
+		hostel.setApproved(true);
+		hostel.setFacilities(new HashSet<>(facilities.subList(0, 6)));
+		hostelFacilities = facilityDictionary.encode(hostel.getFacilities());
+
+		Room room = new Room(hostel, RoomType.DORM, 8, 499.0);
+		room.setRoomId(21L);
+
+		Payment payment = new Payment();
+		payment.setPaymentId(41L);
+		payment.setPaymentStatus(PaymentStatus.COMPLETED);
+
+		booking = new Booking();
+		booking.setBookingId(31L);
+		booking.setUser(owner);
+		booking.setHostel(hostel);
+		booking.setRoom(room);
+		booking.setPayment(payment);
+		booking.setCheckInDate(LocalDate.of(2026, 3, 1));
+		booking.setCheckOutDate(LocalDate.of(2026, 3, 4));
+		booking.setNumberOfBeds(2);
+		booking.setTotalPrice(2994.0);
+		booking.setBookingStatus(BookingStatus.CONFIRMED);
+		booking.setBookingDate(LocalDateTime.of(2026, 2, 20, 10, 0));
+	}
+
+	@Benchmark
+	public BookingResponse bookingToResponse() {
+		return bookingMapper.toResponse(booking);
+	}
+
+	@Benchmark
+	public HostelResponse hostelToResponse() {
+		return hostelMapper.toResponse(hostel);
+	}
+
+	@Benchmark
+	public HostelResponse hostelToResponseFromOrdinals() {
+		return hostelMapper.toResponse(hostel, hostelFacilities);
+	}
+}
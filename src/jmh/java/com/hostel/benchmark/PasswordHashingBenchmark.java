@@ -0,0 +1,54 @@
+package com.hostel.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCrypt cost per work factor, the CPU one registration ({@code encode}) or
+ * login ({@code matches}) takes from the password hashing pool. Used to pick
+ * the {@code password.bcrypt.strength.*} settings: one pool thread serves
+ * about 1000 / cost-in-ms logins per second. Iterations are longer than in
+ * the other benchmarks because a single call takes tens of milliseconds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(3)
+public class PasswordHashingBenchmark {
+
+	@Param({ "10", "11", "12" })
+	private int strength;
+
+	private BCryptPasswordEncoder encoder;
+	private String hash;
+
+	@Setup
+	public void setUp() {
+		encoder = new BCryptPasswordEncoder(strength);
+		hash = encoder.encode("LoadTest@123");
+	}
+
+	@Benchmark
+	public String encode() {
+		return encoder.encode("LoadTest@123");
+	}
+
+	@Benchmark
+	public boolean matches() {
+		return encoder.matches("LoadTest@123", hash);
+	}
+}
@@ -0,0 +1,72 @@
+package com.hostel.benchmark;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hostel.dto.request.BookingRequest;
+import com.hostel.entity.Booking;
+import com.hostel.entity.Hostel;
+import com.hostel.entity.Room;
+import com.hostel.enums.RoomType;
+import com.hostel.mapper.BookingMapper;
+import com.hostel.service.BookingService;
+
+/**
+ * The CPU part of createBooking once the entities are loaded: the stay price
+ * and the new booking entity built from the request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class PricingBenchmark {
+
+	private BookingMapper bookingMapper;
+	private BookingRequest request;
+	private Room room;
+
+	@Setup
+	public void setUp() {
+		bookingMapper = new BookingMapper();
+
+		Hostel hostel = new Hostel("Sea View", "Goa", "Beach Road", null);
+		hostel.setHostelId(11L);
+		room = new Room(hostel, RoomType.PRIVATE, 4, 1499.0);
+		room.setRoomId(21L);
+
+		request = new BookingRequest();
+		request.setUserId(7L);
+		request.setHostelId(11L);
+		request.setRoomId(21L);
+		request.setCheckInDate(LocalDate.of(2026, 3, 1));
+		request.setCheckOutDate(LocalDate.of(2026, 3, 8));
+		request.setNumberOfBeds(2);
+	}
+
+	@Benchmark
+	public double totalPrice() {
+		return BookingService.totalPrice(request, room);
+	}
+
+	@Benchmark
+	public Booking newBooking() {
+		Booking booking = bookingMapper.toEntity(request);
+		booking.setRoom(room);
+		booking.setHostel(room.getHostel());
+		booking.setTotalPrice(BookingService.totalPrice(request, room));
+		return booking;
+	}
+}
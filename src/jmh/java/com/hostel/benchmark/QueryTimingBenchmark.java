@@ -0,0 +1,107 @@
+package com.hostel.benchmark;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import com.hostel.config.QueryTimingDataSource;
+import com.hostel.service.QueryStatisticsService;
+
+/**
+ * Cost of query capture on one prepared statement against in-memory H2:
+ * prepare, execute, read every row, close. {@code plain} uses the H2
+ * DataSource directly and {@code timed} goes through
+ * {@link QueryTimingDataSource}, so the difference is the proxy overhead per
+ * statement and per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class QueryTimingBenchmark {
+
+	private static final String SQL = "SELECT room_id, beds FROM rooms WHERE hostel_id = ?";
+
+	@Param({ "1", "50" })
+	private int rows;
+
+	private Connection plain;
+	private Connection timed;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		JdbcDataSource h2 = new JdbcDataSource();
+		h2.setURL("jdbc:h2:mem:query-timing;DB_CLOSE_DELAY=-1");
+		plain = h2.getConnection();
+		try (Statement statement = plain.createStatement()) {
+			statement.execute("CREATE TABLE IF NOT EXISTS rooms (room_id BIGINT, hostel_id BIGINT, beds INT)");
+			statement.execute("DELETE FROM rooms");
+		}
+		try (PreparedStatement insert = plain.prepareStatement("INSERT INTO rooms VALUES (?, ?, ?)")) {
+			for (int id = 1; id <= rows; id++) {
+				insert.setLong(1, id);
+				insert.setLong(2, 1L);
+				insert.setInt(3, 4);
+				insert.addBatch();
+			}
+			insert.executeBatch();
+		}
+
+		StaticListableBeanFactory beans = new StaticListableBeanFactory();
+		beans.addBean("queryStatisticsService", new QueryStatisticsService());
+		DataSource wrapped = new QueryTimingDataSource(h2, beans.getBeanProvider(QueryStatisticsService.class));
+		timed = wrapped.getConnection();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		timed.close();
+		plain.close();
+	}
+
+	@Benchmark
+	public long plain() throws SQLException {
+		return select(plain);
+	}
+
+	@Benchmark
+	public long timed() throws SQLException {
+		return select(timed);
+	}
+
+	private static long select(Connection connection) throws SQLException {
+		long sum = 0;
+		try (PreparedStatement statement = connection.prepareStatement(SQL)) {
+			statement.setLong(1, 1L);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				while (resultSet.next()) {
+					sum += resultSet.getInt(2);
+				}
+			}
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,19 @@
+/**
+ * JMH benchmarks for the CPU-bound hot paths: response mapping, booking
+ * pricing, JWT signing/verification and structured logging. They are
+ * compiled and run only with the {@code jmh} Maven profile:
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec@benchmark
+ * mvn -Pjmh test-compile exec:java@compare
+ * </pre>
+ *
+ * The first command runs every benchmark with the gc profiler and writes
+ * {@code target/jmh-result.json}. The second compares it against
+ * {@code src/jmh/baseline/jmh-baseline.json}; after an intended change,
+ * copy the result over the baseline in the same commit. Record the baseline
+ * on the JDK the project builds with (21) and keep the benchmarks at three
+ * forks of ten iterations, so the error bars the comparison relies on stay
+ * comparable.
+ */
+package com.hostel.benchmark;
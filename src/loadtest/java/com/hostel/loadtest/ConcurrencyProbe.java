@@ -0,0 +1,40 @@
+package com.hostel.loadtest;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Counts the requests the container is running at once. Clients can have
+ * far more requests outstanding than this; the difference is what waits in
+ * the connector for a request thread.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ConcurrencyProbe extends OncePerRequestFilter {
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger peak = new AtomicInteger();
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			inFlight.decrementAndGet();
+		}
+	}
+
+	public int getPeak() {
+		return peak.get();
+	}
+}
@@ -0,0 +1,55 @@
+package com.hostel.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency histogram and status counts of one endpoint. Latencies are kept in
+ * microseconds with three significant digits, up to one minute.
+ */
+public class EndpointStats {
+
+	private final String name;
+	private final Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+	private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+	private final LongAdder failures = new LongAdder();
+
+	public EndpointStats(String name) {
+		this.name = name;
+	}
+
+	public void record(int status, long elapsedNanos) {
+		latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), latencies.getHighestTrackableValue()));
+		statuses.computeIfAbsent(status, code -> new LongAdder()).increment();
+	}
+
+	/** A request that never got a response (connect error, timeout). */
+	public void fail() {
+		failures.increment();
+	}
+
+	public Summary summarize(double seconds) {
+		long requests = latencies.getTotalCount();
+		Map<Integer, Long> byStatus = new TreeMap<>();
+		statuses.forEach((status, count) -> byStatus.put(status, count.sum()));
+		long errors = byStatus.entrySet().stream().filter(entry -> entry.getKey() >= 500)
+				.mapToLong(Map.Entry::getValue).sum() + failures.sum();
+		return new Summary(name, requests, requests / seconds, millis(latencies.getValueAtPercentile(50)),
+				millis(latencies.getValueAtPercentile(90)), millis(latencies.getValueAtPercentile(99)),
+				millis(latencies.getValueAtPercentile(99.9)), millis(latencies.getMaxValue()), errors, byStatus);
+	}
+
+	private static double millis(long micros) {
+		return micros / 1000.0;
+	}
+
+	public record Summary(String endpoint, long requests, double throughput, double p50Ms, double p90Ms,
+			double p99Ms, double p999Ms, double maxMs, long errors, Map<Integer, Long> statuses) {
+	}
+}
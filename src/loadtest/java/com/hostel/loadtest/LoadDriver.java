@@ -0,0 +1,237 @@
+package com.hostel.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hostel.loadtest.LoadTestSettings.Operation;
+
+/**
+ * Runs one session per client, each on its own virtual thread, against the
+ * started application. Each session logs in as a seeded guest and then
+ * performs operations picked by the configured weights until the run ends.
+ * Only requests completed after the warm-up are recorded.
+ */
+public class LoadDriver {
+
+	private static final Logger logger = LoggerFactory.getLogger(LoadDriver.class);
+
+	private final String baseUrl;
+	private final LoadTestSettings settings;
+	private final Seed seed;
+	private final Operation[] weighted;
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+	private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+	private final HttpClient httpClient;
+	private final ExecutorService clients;
+	// clients of the same guest share its token after the first login
+	private final Map<Long, String> tokens = new ConcurrentHashMap<>();
+	private volatile boolean measuring;
+	private volatile long deadline;
+
+	public LoadDriver(String baseUrl, LoadTestSettings settings, Seed seed) {
+		this.baseUrl = baseUrl;
+		this.settings = settings;
+		this.seed = seed;
+		this.weighted = weighted(settings.getMix());
+		this.clients = Executors.newVirtualThreadPerTaskExecutor();
+		this.httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(10)).build();
+	}
+
+	private static Operation[] weighted(Map<Operation, Integer> mix) {
+		List<Operation> operations = new ArrayList<>();
+		mix.forEach((operation, weight) -> {
+			for (int i = 0; i < weight; i++) {
+				operations.add(operation);
+			}
+		});
+		if (operations.isEmpty()) {
+			throw new IllegalArgumentException("loadtest.mix has no weights");
+		}
+		return operations.toArray(new Operation[0]);
+	}
+
+	public List<EndpointStats.Summary> run() throws InterruptedException {
+		long start = System.nanoTime();
+		long warmupEnd = start + TimeUnit.SECONDS.toNanos(settings.getWarmupSeconds());
+		deadline = warmupEnd + TimeUnit.SECONDS.toNanos(settings.getDurationSeconds());
+
+		List<Seed.Guest> guests = seed.guests();
+		for (int i = 0; i < settings.getClients(); i++) {
+			Seed.Guest guest = guests.get(i % guests.size());
+			clients.submit(() -> new Session(guest).run());
+		}
+		logger.info("Started {} clients - Warm-up: {}s, Duration: {}s", settings.getClients(),
+				settings.getWarmupSeconds(), settings.getDurationSeconds());
+
+		TimeUnit.NANOSECONDS.sleep(warmupEnd - System.nanoTime());
+		measuring = true;
+		long measureStart = System.nanoTime();
+		TimeUnit.NANOSECONDS.sleep(deadline - System.nanoTime());
+		measuring = false;
+		double seconds = (System.nanoTime() - measureStart) / 1e9;
+
+		clients.shutdown();
+		if (!clients.awaitTermination(60, TimeUnit.SECONDS)) {
+			clients.shutdownNow();
+		}
+		return stats.values().stream().map(endpoint -> endpoint.summarize(seconds))
+				.sorted(Comparator.comparing(EndpointStats.Summary::endpoint)).toList();
+	}
+
+	private JsonNode send(String endpoint, HttpRequest.Builder request) {
+		request.timeout(Duration.ofSeconds(30));
+		long start = System.nanoTime();
+		try {
+			HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+			long elapsed = System.nanoTime() - start;
+			if (measuring) {
+				stats.computeIfAbsent(endpoint, EndpointStats::new).record(response.statusCode(), elapsed);
+			}
+			if (response.statusCode() >= 300) {
+				return null;
+			}
+			return objectMapper.readTree(response.body()).path("data");
+		} catch (IOException e) {
+			if (measuring) {
+				stats.computeIfAbsent(endpoint, EndpointStats::new).fail();
+			}
+			return null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+	}
+
+	private HttpRequest.Builder json(String path, Object body, String token) {
+		try {
+			return authorized(path, token).header("Content-Type", "application/json")
+					.POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private HttpRequest.Builder authorized(String path, String token) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path));
+		return token == null ? builder : builder.header("Authorization", "Bearer " + token);
+	}
+
+	private final class Session {
+
+		private final Seed.Guest guest;
+		private final Deque<Long> pending = new ArrayDeque<>();
+		private final Deque<Long> paid = new ArrayDeque<>();
+		private String token;
+
+		private Session(Seed.Guest guest) {
+			this.guest = guest;
+		}
+
+		private void run() {
+			try {
+				while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+					if (token == null) {
+						token = tokens.get(guest.userId());
+					}
+					Operation operation = token == null ? Operation.LOGIN
+							: weighted[ThreadLocalRandom.current().nextInt(weighted.length)];
+					perform(operation);
+					if (settings.getThinkMs() > 0) {
+						Thread.sleep(ThreadLocalRandom.current().nextInt(settings.getThinkMs() + 1));
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (RuntimeException e) {
+				logger.error("Client stopped - Guest: {}", guest.email(), e);
+			}
+		}
+
+		private void perform(Operation operation) {
+			switch (operation) {
+			case LOGIN -> login();
+			case SEARCH -> search();
+			case AVAILABLE -> send("GET /api/v1/rooms/available",
+					authorized("/api/v1/rooms/available?size=50", token).GET());
+			case HOSTELS -> send("GET /api/v1/hostels/search",
+					authorized("/api/v1/hostels/search?city=" + city(), token).GET());
+			case BOOK -> book();
+			case PAY -> {
+				if (pending.isEmpty()) {
+					book();
+				} else {
+					pay(pending.poll());
+				}
+			}
+			case CANCEL -> {
+				Long bookingId = !paid.isEmpty() ? paid.poll() : pending.poll();
+				if (bookingId == null) {
+					book();
+				} else {
+					send("PUT /api/v1/bookings/{id}/cancel", authorized("/api/v1/bookings/" + bookingId
+							+ "/cancel?reason=load-test", token).PUT(HttpRequest.BodyPublishers.noBody()));
+				}
+			}
+			}
+		}
+
+		private void login() {
+			JsonNode data = send("POST /api/v1/users/login", json("/api/v1/users/login",
+					Map.of("email", guest.email(), "password", LoadTestSeeder.PASSWORD), null));
+			if (data != null && data.hasNonNull("token")) {
+				token = data.get("token").asText();
+				tokens.put(guest.userId(), token);
+			}
+		}
+
+		private void search() {
+			LocalDate checkIn = LocalDate.now().plusDays(1 + ThreadLocalRandom.current().nextInt(90));
+			send("GET /api/v1/search", authorized("/api/v1/search?city=" + city() + "&checkIn=" + checkIn
+					+ "&checkOut=" + checkIn.plusDays(2) + "&beds=1", token).GET());
+		}
+
+		private void book() {
+			JsonNode data = send("POST /api/v1/bookings", json("/api/v1/bookings",
+					LoadTestSeeder.bookingRequest(guest.userId(), seed.randomRoom()), token));
+			if (data != null && data.hasNonNull("bookingId")) {
+				pending.add(data.get("bookingId").asLong());
+			}
+		}
+
+		private void pay(Long bookingId) {
+			JsonNode data = send("POST /api/v1/payments", json("/api/v1/payments",
+					Map.of("bookingId", bookingId, "paymentMethod", "UPI", "upiId", "guest@upi"), token));
+			if (data != null) {
+				paid.add(bookingId);
+			}
+		}
+
+		private String city() {
+			return LoadTestSeeder.CITIES.get(ThreadLocalRandom.current().nextInt(LoadTestSeeder.CITIES.size()));
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package com.hostel.loadtest;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hostel.HostelBookingSystemApplication;
+
+/**
+ * Boots the whole application on a random port against the in-memory
+ * database ({@code embedded} profile), seeds it and drives it over HTTP from
+ * the same JVM. Per-endpoint throughput and latency percentiles are printed
+ * and written to {@code loadtest.report}, together with the peak number of
+ * requests the container ran at once.
+ *
+ * <pre>
+ * mvn -Ploadtest test-compile exec:exec@loadtest
+ * mvn -Ploadtest test-compile exec:exec@loadtest -Dloadtest.args="--loadtest.clients=2000"
+ * mvn -Ploadtest test-compile exec:exec@loadtest-platform exec:exec@loadtest-virtual exec:java@compare-threads
+ * </pre>
+ */
+public class LoadTestRunner {
+
+	public static void main(String[] args) throws Exception {
+		SpringApplication application = new SpringApplication(HostelBookingSystemApplication.class);
+		application.setAdditionalProfiles("embedded");
+		application.addInitializers(context -> ((GenericApplicationContext) context).registerBean(ConcurrencyProbe.class));
+
+		try (ConfigurableApplicationContext context = application.run(args)) {
+			LoadTestSettings settings = LoadTestSettings.from(context.getEnvironment());
+			Seed seed = new LoadTestSeeder(context, settings).seed();
+			String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+			List<EndpointStats.Summary> summaries = new LoadDriver(baseUrl, settings, seed).run();
+
+			boolean virtualThreads = context.getEnvironment().getProperty("spring.threads.virtual.enabled",
+					Boolean.class, false);
+			int peak = context.getBean(ConcurrencyProbe.class).getPeak();
+			print(summaries, settings, virtualThreads, peak, System.out);
+			write(summaries, settings, virtualThreads, peak);
+		}
+		System.exit(0);
+	}
+
+	private static void print(List<EndpointStats.Summary> summaries, LoadTestSettings settings,
+			boolean virtualThreads, int peak, PrintStream out) {
+		out.printf("%nClients: %d, Duration: %ds, Rooms: %d, Guests: %d, Threads: %s%n", settings.getClients(),
+				settings.getDurationSeconds(), settings.getHostels() * settings.getRoomsPerHostel(),
+				settings.getUsers(), threads(virtualThreads));
+		out.printf("%-36s %9s %9s %9s %9s %9s %9s %9s %7s  %s%n", "Endpoint", "Requests", "Req/s", "p50 ms",
+				"p90 ms", "p99 ms", "p99.9 ms", "max ms", "Errors", "Statuses");
+		long requests = 0;
+		double throughput = 0;
+		for (EndpointStats.Summary summary : summaries) {
+			out.printf("%-36s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %7d  %s%n", summary.endpoint(),
+					summary.requests(), summary.throughput(), summary.p50Ms(), summary.p90Ms(), summary.p99Ms(),
+					summary.p999Ms(), summary.maxMs(), summary.errors(), summary.statuses());
+			requests += summary.requests();
+			throughput += summary.throughput();
+		}
+		out.printf("%-36s %9d %9.1f%n", "Total", requests, throughput);
+		out.printf("Peak concurrent requests: %d%n", peak);
+	}
+
+	private static void write(List<EndpointStats.Summary> summaries, LoadTestSettings settings,
+			boolean virtualThreads, int peak) throws Exception {
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("threads", threads(virtualThreads));
+		report.put("clients", settings.getClients());
+		report.put("durationSeconds", settings.getDurationSeconds());
+		report.put("mix", settings.getMix());
+		report.put("peakConcurrentRequests", peak);
+		report.put("endpoints", summaries);
+		File file = new File(settings.getReport());
+		if (file.getParentFile() != null) {
+			file.getParentFile().mkdirs();
+		}
+		new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+	}
+
+	private static String threads(boolean virtualThreads) {
+		return virtualThreads ? "virtual" : "platform";
+	}
+}
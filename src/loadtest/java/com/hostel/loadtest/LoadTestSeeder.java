@@ -0,0 +1,160 @@
+package com.hostel.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hostel.dto.request.BookingRequest;
+import com.hostel.dto.response.ImportJobResponse;
+import com.hostel.entity.Room;
+import com.hostel.entity.User;
+import com.hostel.enums.ImportFormat;
+import com.hostel.enums.ImportStatus;
+import com.hostel.enums.RoomType;
+import com.hostel.enums.UserRole;
+import com.hostel.enums.UserStatus;
+import com.hostel.exception.BadRequestException;
+import com.hostel.repository.RoomRepository;
+import com.hostel.repository.UserRepository;
+import com.hostel.service.BookingService;
+import com.hostel.service.HostelImportService;
+
+/**
+ * Fills the embedded database through the application's own services, so
+ * the room calendars, search index and catalogue are primed exactly as in
+ * production. Hostels and rooms go through the CSV import; bookings through
+ * BookingService. Every user shares one password, hashed once.
+ */
+public class LoadTestSeeder {
+
+	private static final Logger logger = LoggerFactory.getLogger(LoadTestSeeder.class);
+
+	static final String PASSWORD = "LoadTest@123";
+
+	static final List<String> CITIES = List.of("Goa", "Manali", "Pune", "Chennai", "Jaipur", "Rishikesh", "Mumbai",
+			"Bangalore");
+
+	private static final int CHUNK = 500;
+
+	private final ApplicationContext context;
+	private final LoadTestSettings settings;
+
+	public LoadTestSeeder(ApplicationContext context, LoadTestSettings settings) {
+		this.context = context;
+		this.settings = settings;
+	}
+
+	public Seed seed() throws InterruptedException {
+		long start = System.nanoTime();
+		String password = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+
+		List<User> owners = saveUsers("owner", settings.getOwners(), UserRole.OWNER, UserStatus.APPROVED, password);
+		List<User> guests = saveUsers("guest", settings.getUsers(), UserRole.USER, UserStatus.ACTIVE, password);
+		importHostels(owners);
+
+		List<Room> rooms = context.getBean(RoomRepository.class).findAll();
+		List<Seed.SeededRoom> seededRooms = rooms.stream()
+				.map(room -> new Seed.SeededRoom(room.getRoomId(), room.getHostel().getHostelId())).toList();
+		List<Seed.Guest> seededGuests = guests.stream()
+				.map(guest -> new Seed.Guest(guest.getUserId(), guest.getEmail())).toList();
+		Seed seed = new Seed(seededGuests, seededRooms);
+
+		int booked = seedBookings(seed);
+		logger.info("Seeded - Owners: {}, Guests: {}, Rooms: {}, Bookings: {}, Seconds: {}", owners.size(),
+				guests.size(), rooms.size(), booked, (System.nanoTime() - start) / 1_000_000_000);
+		return seed;
+	}
+
+	private List<User> saveUsers(String prefix, int count, UserRole role, UserStatus userStatus, String password) {
+		UserRepository userRepository = context.getBean(UserRepository.class);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(
+				context.getBean(PlatformTransactionManager.class));
+		List<User> saved = new ArrayList<>(count);
+		for (int from = 0; from < count; from += CHUNK) {
+			List<User> chunk = new ArrayList<>();
+			for (int i = from; i < Math.min(count, from + CHUNK); i++) {
+				User user = new User();
+				user.setName(prefix + " " + i);
+				user.setEmail(prefix + i + "@load.test");
+				user.setPhone("9" + String.format("%09d", i));
+				user.setPassword(password);
+				user.setRole(role);
+				user.setStatus(userStatus);
+				chunk.add(user);
+			}
+			saved.addAll(transactionTemplate.execute(status -> userRepository.saveAll(chunk)));
+		}
+		return saved;
+	}
+
+	private void importHostels(List<User> owners) throws InterruptedException {
+		RoomType[] types = RoomType.values();
+		StringBuilder csv = new StringBuilder(
+				"hostelRef,ownerId,hostelName,city,address,description,facilityIds,roomType,totalBeds,pricePerNight\n");
+		for (int h = 0; h < settings.getHostels(); h++) {
+			Long ownerId = owners.get(h % owners.size()).getUserId();
+			String city = CITIES.get(h % CITIES.size());
+			for (int r = 0; r < settings.getRoomsPerHostel(); r++) {
+				RoomType type = types[r % types.length];
+				int beds = type == RoomType.PRIVATE ? 2 : 8;
+				double price = 300 + ThreadLocalRandom.current().nextInt(20) * 50;
+				if (r == 0) {
+					csv.append("h").append(h).append(',').append(ownerId).append(",Hostel ").append(h).append(',')
+							.append(city).append(",Street ").append(h).append(",,,");
+				} else {
+					csv.append("h").append(h).append(",,,,,,,");
+				}
+				csv.append(type).append(',').append(beds).append(',').append(price).append('\n');
+			}
+		}
+
+		HostelImportService importService = context.getBean(HostelImportService.class);
+		ImportJobResponse job = importService.submit(new MockMultipartFile("file", "seed.csv", "text/csv",
+				csv.toString().getBytes(StandardCharsets.UTF_8)), ImportFormat.CSV, 0);
+		while (job.getStatus() == ImportStatus.RUNNING) {
+			Thread.sleep(100);
+			job = importService.getJob(job.getJobId());
+		}
+		if (job.getStatus() != ImportStatus.COMPLETED || job.getRowsRejected() > 0) {
+			throw new IllegalStateException("Seed import failed - Status: " + job.getStatus() + ", Rejected: "
+					+ job.getRowsRejected() + ", Error: " + job.getError());
+		}
+	}
+
+	private int seedBookings(Seed seed) {
+		BookingService bookingService = context.getBean(BookingService.class);
+		int booked = 0;
+		for (int i = 0; i < settings.getBookings(); i++) {
+			try {
+				bookingService.createBooking(seed.randomBooking());
+				booked++;
+			} catch (BadRequestException e) {
+				// room full for those nights; the load phase sees the same
+			}
+		}
+		return booked;
+	}
+
+	static BookingRequest bookingRequest(Long userId, Seed.SeededRoom room) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		LocalDate checkIn = LocalDate.now().plusDays(1 + random.nextInt(90));
+		BookingRequest request = new BookingRequest();
+		request.setUserId(userId);
+		request.setHostelId(room.hostelId());
+		request.setRoomId(room.roomId());
+		request.setCheckInDate(checkIn);
+		request.setCheckOutDate(checkIn.plusDays(1 + random.nextInt(5)));
+		request.setNumberOfBeds(1);
+		return request;
+	}
+}
@@ -0,0 +1,105 @@
+package com.hostel.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.core.env.Environment;
+
+/**
+ * Volumes and traffic shape of a run, read from {@code loadtest.*}. Any of
+ * them can be overridden on the command line, e.g.
+ * {@code --loadtest.clients=2000}.
+ */
+public class LoadTestSettings {
+
+	private final int owners;
+	private final int users;
+	private final int hostels;
+	private final int roomsPerHostel;
+	private final int bookings;
+	private final int clients;
+	private final int warmupSeconds;
+	private final int durationSeconds;
+	private final int thinkMs;
+	private final Map<Operation, Integer> mix;
+	private final String report;
+
+	private LoadTestSettings(Environment environment) {
+		owners = environment.getProperty("loadtest.owners", Integer.class, 20);
+		users = environment.getProperty("loadtest.users", Integer.class, 1000);
+		hostels = environment.getProperty("loadtest.hostels", Integer.class, 200);
+		roomsPerHostel = environment.getProperty("loadtest.rooms-per-hostel", Integer.class, 5);
+		bookings = environment.getProperty("loadtest.bookings", Integer.class, 2000);
+		clients = environment.getProperty("loadtest.clients", Integer.class, 500);
+		warmupSeconds = environment.getProperty("loadtest.warmup-seconds", Integer.class, 10);
+		durationSeconds = environment.getProperty("loadtest.duration-seconds", Integer.class, 60);
+		thinkMs = environment.getProperty("loadtest.think-ms", Integer.class, 50);
+		mix = parseMix(environment.getProperty("loadtest.mix",
+				"login:5,search:30,available:10,hostels:15,book:18,pay:14,cancel:8"));
+		report = environment.getProperty("loadtest.report", "target/loadtest-report.json");
+	}
+
+	public static LoadTestSettings from(Environment environment) {
+		return new LoadTestSettings(environment);
+	}
+
+	private static Map<Operation, Integer> parseMix(String value) {
+		Map<Operation, Integer> weights = new LinkedHashMap<>();
+		for (String part : value.split(",")) {
+			String[] pair = part.trim().split(":");
+			if (pair.length != 2) {
+				throw new IllegalArgumentException("loadtest.mix entries must be name:weight - " + part);
+			}
+			weights.put(Operation.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+		}
+		return weights;
+	}
+
+	public int getOwners() {
+		return owners;
+	}
+
+	public int getUsers() {
+		return users;
+	}
+
+	public int getHostels() {
+		return hostels;
+	}
+
+	public int getRoomsPerHostel() {
+		return roomsPerHostel;
+	}
+
+	public int getBookings() {
+		return bookings;
+	}
+
+	public int getClients() {
+		return clients;
+	}
+
+	public int getWarmupSeconds() {
+		return warmupSeconds;
+	}
+
+	public int getDurationSeconds() {
+		return durationSeconds;
+	}
+
+	public int getThinkMs() {
+		return thinkMs;
+	}
+
+	public Map<Operation, Integer> getMix() {
+		return mix;
+	}
+
+	public String getReport() {
+		return report;
+	}
+
+	public enum Operation {
+		LOGIN, SEARCH, AVAILABLE, HOSTELS, BOOK, PAY, CANCEL
+	}
+}
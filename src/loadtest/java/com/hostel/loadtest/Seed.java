@@ -0,0 +1,27 @@
+package com.hostel.loadtest;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.hostel.dto.request.BookingRequest;
+
+/**
+ * What the seeder created and the clients pick their requests from.
+ */
+public record Seed(List<Guest> guests, List<SeededRoom> rooms) {
+
+	public record Guest(Long userId, String email) {
+	}
+
+	public record SeededRoom(Long roomId, Long hostelId) {
+	}
+
+	public SeededRoom randomRoom() {
+		return rooms.get(ThreadLocalRandom.current().nextInt(rooms.size()));
+	}
+
+	public BookingRequest randomBooking() {
+		Guest guest = guests.get(ThreadLocalRandom.current().nextInt(guests.size()));
+		return LoadTestSeeder.bookingRequest(guest.userId(), randomRoom());
+	}
+}
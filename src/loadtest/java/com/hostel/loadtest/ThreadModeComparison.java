@@ -0,0 +1,58 @@
+package com.hostel.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Prints two load test reports side by side, normally the same run with
+ * platform and with virtual request threads. Usage:
+ * {@code ThreadModeComparison <platform.json> <virtual.json>}.
+ */
+public class ThreadModeComparison {
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2) {
+			System.err.println("Usage: ThreadModeComparison <platform.json> <virtual.json>");
+			System.exit(2);
+		}
+		ObjectMapper objectMapper = new ObjectMapper();
+		JsonNode platform = objectMapper.readTree(new File(args[0]));
+		JsonNode virtual = objectMapper.readTree(new File(args[1]));
+
+		System.out.printf("%nClients: %d / %d, Threads: %s / %s%n", platform.path("clients").asInt(),
+				virtual.path("clients").asInt(), platform.path("threads").asText(), virtual.path("threads").asText());
+		System.out.printf("%-36s %10s %10s %10s %10s %8s %8s%n", "Endpoint", "Req/s", "Req/s", "p99 ms", "p99 ms",
+				"Errors", "Errors");
+		Map<String, JsonNode[]> endpoints = new TreeMap<>();
+		platform.path("endpoints").forEach(endpoint -> endpoints
+				.computeIfAbsent(endpoint.path("endpoint").asText(), name -> new JsonNode[2])[0] = endpoint);
+		virtual.path("endpoints").forEach(endpoint -> endpoints
+				.computeIfAbsent(endpoint.path("endpoint").asText(), name -> new JsonNode[2])[1] = endpoint);
+		double[] throughput = new double[2];
+		for (Map.Entry<String, JsonNode[]> entry : endpoints.entrySet()) {
+			JsonNode[] pair = entry.getValue();
+			System.out.printf("%-36s %10s %10s %10s %10s %8s %8s%n", entry.getKey(), value(pair[0], "throughput"),
+					value(pair[1], "throughput"), value(pair[0], "p99Ms"), value(pair[1], "p99Ms"),
+					value(pair[0], "errors"), value(pair[1], "errors"));
+			for (int i = 0; i < 2; i++) {
+				throughput[i] += pair[i] == null ? 0 : pair[i].path("throughput").asDouble();
+			}
+		}
+		System.out.printf("%-36s %10.1f %10.1f%n", "Total", throughput[0], throughput[1]);
+		System.out.printf("%-36s %10d %10d%n", "Peak concurrent requests", platform.path("peakConcurrentRequests")
+				.asInt(), virtual.path("peakConcurrentRequests").asInt());
+	}
+
+	private static String value(JsonNode endpoint, String field) {
+		if (endpoint == null) {
+			return "-";
+		}
+		JsonNode value = endpoint.path(field);
+		return value.isIntegralNumber() ? value.asText() : String.format("%.1f", value.asDouble());
+	}
+}
@@ -0,0 +1,76 @@
+package com.hostel.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Moves each id_sequences row past the highest ID already in its table.
+ * Rows inserted while the entities still used IDENTITY columns would
+ * otherwise collide with the first pooled block. The pooled optimizer hands
+ * out the block ending at the stored value, so the row is set one full
+ * allocation above the current maximum.
+ */
+@Component
+public class IdSequenceInitializer implements SmartInitializingSingleton {
+
+	private static final Logger logger = LoggerFactory.getLogger(IdSequenceInitializer.class);
+
+	private static final int ALLOCATION_SIZE = 50;
+
+	private static final Map<String, String> ID_COLUMNS = new LinkedHashMap<>();
+
+	static {
+		ID_COLUMNS.put("users", "user_id");
+		ID_COLUMNS.put("hostels", "hostel_id");
+		ID_COLUMNS.put("rooms", "room_id");
+		ID_COLUMNS.put("facilities", "facility_id");
+		ID_COLUMNS.put("bookings", "booking_id");
+		ID_COLUMNS.put("payments", "payment_id");
+		ID_COLUMNS.put("logout", "id");
+		ID_COLUMNS.put("room_night_occupancy", "id");
+	}
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.executeWithoutResult(status -> ID_COLUMNS.forEach(this::seed));
+	}
+
+	private void seed(String table, String idColumn) {
+		long maxId = ((Number) entityManager
+				.createNativeQuery("SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table).getSingleResult())
+				.longValue();
+		long floor = maxId + ALLOCATION_SIZE + 1;
+
+		List<?> current = entityManager
+				.createNativeQuery("SELECT next_val FROM id_sequences WHERE sequence_name = :name")
+				.setParameter("name", table).getResultList();
+		if (current.isEmpty()) {
+			entityManager.createNativeQuery("INSERT INTO id_sequences (sequence_name, next_val) VALUES (:name, :value)")
+					.setParameter("name", table).setParameter("value", floor).executeUpdate();
+			logger.info("ID sequence created - Table: {}, Next value: {}", table, floor);
+		} else if (((Number) current.get(0)).longValue() < floor) {
+			entityManager.createNativeQuery("UPDATE id_sequences SET next_val = :value WHERE sequence_name = :name")
+					.setParameter("name", table).setParameter("value", floor).executeUpdate();
+			logger.info("ID sequence advanced - Table: {}, Next value: {}", table, floor);
+		}
+	}
+}
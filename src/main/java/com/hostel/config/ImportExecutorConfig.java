@@ -0,0 +1,37 @@
+package com.hostel.config;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ImportExecutorConfig {
+
+	@Value("${import.threads:2}")
+	private int threads;
+
+	@Value("${import.queue-capacity:10}")
+	private int queueCapacity;
+
+	@Value("${spring.threads.virtual.enabled:false}")
+	private boolean virtualThreads;
+
+	/**
+	 * Runs import jobs in the background. A full queue rejects the submission
+	 * rather than running a whole file import on the request thread.
+	 */
+	@Bean(name = "importExecutor")
+	public Executor importExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("import-");
+		executor.setVirtualThreads(virtualThreads);
+		executor.initialize();
+		return executor;
+	}
+}
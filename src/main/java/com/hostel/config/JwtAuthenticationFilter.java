@@ -13,6 +13,10 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.hostel.service.LogoutService;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,6 +30,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	@Autowired
 	private LogoutService logoutService;
 
+	@Autowired
+	private MeterRegistry meterRegistry;
+
 	public JwtAuthenticationFilter(JwtService jwtService) {
 		this.jwtService = jwtService;
 	}
@@ -41,31 +48,37 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 			return;
 		}
 
+		// only the filter's own work is timed, not the rest of the chain
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "authenticated";
+
 		try {
 
 			String token = authHeader.substring(7);
 
-			String email = jwtService.extractEmail(token);
-			String role = jwtService.extractRole(token);
+			// signature and expiry are checked once here; the claims are reused below
+			Claims claims = jwtService.parseToken(token);
+			String email = claims.getSubject();
+			String role = claims.get("role", String.class);
 
 			if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-				if (jwtService.validateToken(token, email)) {
-
-					SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + role);
-					UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(email, null,
-							Collections.singletonList(authority));
+				SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + role);
+				UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(email, null,
+						Collections.singletonList(authority));
 
-					authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+				authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-					SecurityContextHolder.getContext().setAuthentication(authToken);
-				}
+				SecurityContextHolder.getContext().setAuthentication(authToken);
 			}
 		} catch (Exception e) {
 
+			outcome = "rejected";
 			logger.error("JWT authentication failed: " + e.getMessage());
 		}
 
+		sample.stop(meterRegistry.timer("hostel.security.filter", "filter", "jwt", "outcome", outcome));
+
 		filterChain.doFilter(request, response);
 	}
 }
\ No newline at end of file
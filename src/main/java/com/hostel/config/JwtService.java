@@ -1,15 +1,22 @@
 package com.hostel.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class JwtService {
@@ -20,6 +27,25 @@ public class JwtService {
 	@Value("${jwt.expiration}")
 	private Long expiration;
 
+	@Value("${jwt.claims-cache-size:10000}")
+	private int claimsCacheSize = 10000;
+
+	private Key signingKey;
+
+	private JwtParser parser;
+
+	/**
+	 * Verified claims keyed by the SHA-256 of the token, so a token is only
+	 * signature-checked and decoded once until it expires.
+	 */
+	private final Map<String, VerifiedClaims> claimsCache = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	public void init() {
+		signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+		parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+	}
+
 	public String generateToken(String email, String role) {
 		Map<String, Object> claims = new HashMap<>();
 		claims.put("role", role);
@@ -31,27 +57,44 @@ public class JwtService {
 		Date expiryDate = new Date(now.getTime() + expiration);
 
 		return Jwts.builder().setClaims(claims).setSubject(subject).setIssuedAt(now).setExpiration(expiryDate)
-				.signWith(getSigningKey(), SignatureAlgorithm.HS256).compact();
+				.signWith(signingKey, SignatureAlgorithm.HS256).compact();
 	}
 
-	private Key getSigningKey() {
-		return Keys.hmacShaKeyFor(secret.getBytes());
+	/**
+	 * Verifies the token and returns its claims. Throws the usual jjwt
+	 * exceptions for tampered, malformed or expired tokens.
+	 */
+	public Claims parseToken(String token) {
+		String key = hash(token);
+		long now = System.currentTimeMillis();
+
+		VerifiedClaims cached = claimsCache.get(key);
+		if (cached != null) {
+			if (cached.expiresAt > now) {
+				return cached.claims;
+			}
+			claimsCache.remove(key, cached);
+		}
+
+		Claims claims = parser.parseClaimsJws(token).getBody();
+		long expiresAt = claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE;
+		if (claimsCache.size() >= claimsCacheSize) {
+			evict(now);
+		}
+		claimsCache.put(key, new VerifiedClaims(claims, expiresAt));
+		return claims;
 	}
 
 	public String extractEmail(String token) {
-		return extractAllClaims(token).getSubject();
+		return parseToken(token).getSubject();
 	}
 
 	public String extractRole(String token) {
-		return (String) extractAllClaims(token).get("role");
+		return (String) parseToken(token).get("role");
 	}
 
 	public Date extractExpiration(String token) {
-		return extractAllClaims(token).getExpiration();
-	}
-
-	private Claims extractAllClaims(String token) {
-		return Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token).getBody();
+		return parseToken(token).getExpiration();
 	}
 
 	public boolean isTokenExpired(String token) {
@@ -59,7 +102,34 @@ public class JwtService {
 	}
 
 	public boolean validateToken(String token, String email) {
-		String tokenEmail = extractEmail(token);
-		return (tokenEmail.equals(email) && !isTokenExpired(token));
+		Claims claims = parseToken(token);
+		return (claims.getSubject().equals(email) && !claims.getExpiration().before(new Date()));
+	}
+
+	private void evict(long now) {
+		claimsCache.values().removeIf(entry -> entry.expiresAt <= now);
+		if (claimsCache.size() >= claimsCacheSize) {
+			claimsCache.clear();
+		}
+	}
+
+	private static String hash(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+
+	private static final class VerifiedClaims {
+
+		private final Claims claims;
+		private final long expiresAt;
+
+		private VerifiedClaims(Claims claims, long expiresAt) {
+			this.claims = claims;
+			this.expiresAt = expiresAt;
+		}
 	}
 }
@@ -0,0 +1,63 @@
+package com.hostel.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.hostel.service.BookingHoldService;
+import com.hostel.service.FacilityDictionary;
+import com.hostel.service.HostelCatalogueCache;
+import com.hostel.service.PasswordHashingService;
+import com.hostel.service.RateLimitService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@Configuration
+public class MetricsConfig {
+
+	@Autowired
+	private HostelCatalogueCache hostelCatalogueCache;
+
+	@Autowired
+	private FacilityDictionary facilityDictionary;
+
+	@Autowired
+	private BookingHoldService bookingHoldService;
+
+	@Autowired
+	private PasswordHashingService passwordHashingService;
+
+	@Autowired
+	private RateLimitService rateLimitService;
+
+	/**
+	 * Publishes the in-memory caches and queues next to the timers. Values are
+	 * read at scrape time, so nothing is added to the request path.
+	 */
+	@Bean
+	public MeterBinder inMemoryStateMetrics() {
+		return registry -> {
+			FunctionCounter.builder("hostel.catalogue.requests", hostelCatalogueCache, HostelCatalogueCache::getHits)
+					.tag("result", "hit").register(registry);
+			FunctionCounter
+					.builder("hostel.catalogue.requests", hostelCatalogueCache, HostelCatalogueCache::getMisses)
+					.tag("result", "miss").register(registry);
+			Gauge.builder("hostel.catalogue.size", hostelCatalogueCache, HostelCatalogueCache::size)
+					.register(registry);
+			// size() loads the dictionary, so only report it once something else has
+			Gauge.builder("hostel.facility.dictionary.size", facilityDictionary, FacilityDictionary::loadedSize)
+					.register(registry);
+			Gauge.builder("hostel.booking.holds.pending", bookingHoldService, BookingHoldService::pending)
+					.register(registry);
+			Gauge.builder("hostel.password.hashing.queued", passwordHashingService, PasswordHashingService::queued)
+					.register(registry);
+			FunctionCounter.builder("hostel.password.hashing.rejected", passwordHashingService,
+					PasswordHashingService::getRejected).register(registry);
+			Gauge.builder("hostel.ratelimit.clients", rateLimitService, RateLimitService::size).register(registry);
+			FunctionCounter.builder("hostel.ratelimit.limited", rateLimitService, RateLimitService::getLimited)
+					.register(registry);
+		};
+	}
+}
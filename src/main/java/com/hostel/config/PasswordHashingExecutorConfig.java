@@ -0,0 +1,33 @@
+package com.hostel.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class PasswordHashingExecutorConfig {
+
+	@Value("${password.hashing.threads:2}")
+	private int threads;
+
+	@Value("${password.hashing.queue-capacity:64}")
+	private int queueCapacity;
+
+	/**
+	 * Runs BCrypt on its own platform threads, so hashing never uses more
+	 * than this many cores whatever the request load. A full queue rejects
+	 * the work instead of running it on the request thread. Hashing is CPU
+	 * bound, so these stay platform threads in virtual-thread mode.
+	 */
+	@Bean(name = "passwordHashingExecutor")
+	public ThreadPoolTaskExecutor passwordHashingExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("password-");
+		executor.initialize();
+		return executor;
+	}
+}
@@ -0,0 +1,42 @@
+package com.hostel.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class PaymentExecutorConfig {
+
+	@Value("${payment.gateway.threads:16}")
+	private int threads;
+
+	@Value("${payment.gateway.queue-capacity:200}")
+	private int queueCapacity;
+
+	@Value("${spring.threads.virtual.enabled:false}")
+	private boolean virtualThreads;
+
+	/**
+	 * Runs gateway calls off the request thread. When the queue is full the
+	 * submitting thread runs the call itself, which pushes back on callers
+	 * instead of dropping payments. In virtual-thread mode the workers are
+	 * virtual threads, but the pool size still caps concurrent gateway calls.
+	 */
+	@Bean(name = "paymentExecutor")
+	public Executor paymentExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("payment-");
+		executor.setVirtualThreads(virtualThreads);
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.initialize();
+		return executor;
+	}
+}
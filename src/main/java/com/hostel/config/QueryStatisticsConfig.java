@@ -0,0 +1,42 @@
+package com.hostel.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.hostel.service.QueryStatisticsService;
+
+/**
+ * Off by default: every connection, statement and result set is proxied and
+ * each row read goes through reflection, which QueryTimingBenchmark puts at
+ * about 0.8 microseconds per statement plus 40 nanoseconds per row. Turn it on
+ * with {@code query.capture.enabled=true} while investigating slow endpoints;
+ * the same flag turns on Hibernate statistics.
+ */
+@Configuration
+@ConditionalOnProperty(name = "query.capture.enabled", havingValue = "true")
+public class QueryStatisticsConfig {
+
+	/**
+	 * Wraps the pooled DataSource so every statement Hibernate runs is timed.
+	 * Static so the post-processor is registered before the DataSource is
+	 * created.
+	 */
+	@Bean
+	public static BeanPostProcessor queryTimingDataSourcePostProcessor(
+			ObjectProvider<QueryStatisticsService> queryStatisticsService) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource dataSource && !(bean instanceof QueryTimingDataSource)) {
+					return new QueryTimingDataSource(dataSource, queryStatisticsService);
+				}
+				return bean;
+			}
+		};
+	}
+}
@@ -0,0 +1,40 @@
+package com.hostel.config;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.hostel.service.QueryStatisticsService;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Groups the statements of one HTTP request, including those run by the
+ * security filters, so repeated selects can be reported per endpoint.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryStatisticsFilter extends OncePerRequestFilter {
+
+	@Autowired
+	private QueryStatisticsService queryStatisticsService;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+
+		queryStatisticsService.begin(request.getMethod() + " " + request.getRequestURI());
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			queryStatisticsService.end();
+		}
+	}
+}
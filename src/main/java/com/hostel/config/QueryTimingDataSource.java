@@ -0,0 +1,151 @@
+package com.hostel.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.hostel.service.QueryStatisticsService;
+
+/**
+ * Times every prepared statement and counts the rows it returned or changed.
+ * A query is reported when its result set or statement is closed, so the time
+ * covers execution only and the row count covers what was actually read.
+ */
+public class QueryTimingDataSource extends DelegatingDataSource {
+
+	private final ObjectProvider<QueryStatisticsService> queryStatisticsService;
+
+	public QueryTimingDataSource(DataSource targetDataSource,
+			ObjectProvider<QueryStatisticsService> queryStatisticsService) {
+		super(targetDataSource);
+		this.queryStatisticsService = queryStatisticsService;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return wrap(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return wrap(super.getConnection(username, password));
+	}
+
+	private Connection wrap(Connection connection) {
+		return proxy(Connection.class, (proxy, method, args) -> {
+			Object result = invoke(connection, method, args);
+			if (result instanceof PreparedStatement statement && method.getName().startsWith("prepare")) {
+				StatementTiming timing = new StatementTiming((String) args[0]);
+				Class<? extends PreparedStatement> type = statement instanceof CallableStatement
+						? CallableStatement.class
+						: PreparedStatement.class;
+				return proxy(type, timing.handler(statement));
+			}
+			return result;
+		});
+	}
+
+	private void report(String sql, long elapsedNanos, long rows) {
+		QueryStatisticsService service = queryStatisticsService.getIfAvailable();
+		if (service != null) {
+			service.record(sql, elapsedNanos, rows);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+		return (T) Proxy.newProxyInstance(QueryTimingDataSource.class.getClassLoader(), new Class<?>[] { type },
+				(proxy, method, args) -> switch (method.getName()) {
+				case "equals" -> proxy == args[0];
+				case "hashCode" -> System.identityHashCode(proxy);
+				default -> handler.invoke(proxy, method, args);
+				});
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	private final class StatementTiming {
+
+		private final String sql;
+		private long nanos;
+		private long rows;
+		private boolean pending;
+
+		private StatementTiming(String sql) {
+			this.sql = sql;
+		}
+
+		private InvocationHandler handler(PreparedStatement statement) {
+			return (proxy, method, args) -> {
+				String name = method.getName();
+				if (!name.startsWith("execute")) {
+					if (name.equals("close")) {
+						flush();
+					}
+					return invoke(statement, method, args);
+				}
+				// a statement can be executed again with new parameters
+				flush();
+				long start = System.nanoTime();
+				Object result = invoke(statement, method, args);
+				nanos = System.nanoTime() - start;
+				pending = true;
+				if (result instanceof ResultSet resultSet) {
+					return proxy(ResultSet.class, rowCounter(resultSet));
+				}
+				if (result instanceof Integer count) {
+					rows = count;
+				} else if (result instanceof Long count) {
+					rows = count;
+				} else if (result instanceof int[] counts) {
+					rows = IntStream.of(counts).filter(count -> count > 0).sum();
+				} else if (result instanceof long[] counts) {
+					rows = LongStream.of(counts).filter(count -> count > 0).sum();
+				}
+				if (!(result instanceof Boolean)) {
+					flush();
+				}
+				return result;
+			};
+		}
+
+		private InvocationHandler rowCounter(ResultSet resultSet) {
+			return (proxy, method, args) -> {
+				Object result = invoke(resultSet, method, args);
+				if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+					rows++;
+				} else if (method.getName().equals("close")) {
+					flush();
+				}
+				return result;
+			};
+		}
+
+		private void flush() {
+			if (pending) {
+				pending = false;
+				report(sql, nanos, rows);
+				rows = 0;
+			}
+		}
+	}
+}
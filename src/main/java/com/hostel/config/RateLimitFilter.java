@@ -0,0 +1,80 @@
+package com.hostel.config;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.hostel.service.RateLimitService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Runs after {@link JwtAuthenticationFilter}, so authenticated requests are
+ * limited per user email and anonymous ones (login, registration, public
+ * search) per client address.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+	private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+	@Autowired
+	private RateLimitService rateLimitService;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !rateLimitService.isEnabled();
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String client = client(request);
+		int cost = rateLimitService.cost(request.getMethod(), request.getRequestURI());
+		long waitNanos = rateLimitService.tryConsume(client, cost, System.nanoTime());
+		sample.stop(meterRegistry.timer("hostel.security.filter", "filter", "ratelimit", "outcome",
+				waitNanos == 0 ? "allowed" : "limited"));
+
+		if (waitNanos > 0) {
+			long retryAfter = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+			logger.warn("Rate limit exceeded - Client: {}, Request: {} {}, Retry after: {}s", client,
+					request.getMethod(), request.getRequestURI(), retryAfter);
+			response.setStatus(429);
+			response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+			response.setContentType("application/json");
+			response.getWriter().write("{\"success\":false,\"message\":\"Too many requests. Please retry later.\"}");
+			return;
+		}
+
+		filterChain.doFilter(request, response);
+	}
+
+	private static String client(HttpServletRequest request) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.isAuthenticated()
+				&& !(authentication instanceof AnonymousAuthenticationToken)) {
+			return "user:" + authentication.getName();
+		}
+		return "ip:" + request.getRemoteAddr();
+	}
+}
@@ -13,6 +13,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import jakarta.servlet.DispatcherType;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
@@ -22,23 +24,31 @@ public class SecurityConfig {
 	@Autowired
 	private TokenBlacklistFilter tokenBlacklistFilter;
 
+	@Autowired
+	private RateLimitFilter rateLimitFilter;
+
 	public SecurityConfig(JwtAuthenticationFilter jwtAuthFilter) {
 		this.jwtAuthFilter = jwtAuthFilter;
 	}
 
 	@Bean
 	public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+		// the original request was already authorized; its async dispatch carries no token
 		http.csrf(csrf -> csrf.disable()).authorizeHttpRequests(auth -> auth
+				.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 				.requestMatchers("/api/v1/users/register", "/api/v1/users/login", "/api/v1/users/forgot-password",
 						"/api/v1/users/reset-password", "/api/v1/hostels", "/api/v1/hostels/**", "/api/v1/rooms/**",
-						"/api/v1/facilities", "/api/v1/auth/**", "/api/v1/rooms/**")
-				.permitAll().requestMatchers("/api/v1/users/admin/**").hasRole("ADMIN")
+						"/api/v1/facilities", "/api/v1/auth/**", "/api/v1/rooms/**", "/api/v1/search",
+						"/actuator/health", "/actuator/prometheus")
+				.permitAll().requestMatchers("/api/v1/users/admin/**", "/api/v1/bookings/admin/export",
+						"/api/v1/imports/**").hasRole("ADMIN")
 				.requestMatchers("/api/v1/hostels/add", "/api/v1/rooms/add").hasAnyRole("OWNER", "ADMIN")
 				.requestMatchers("/api/v1/users/bookings/**").hasAnyRole("USER", "OWNER", "ADMIN").anyRequest()
 				.authenticated())
 				.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 				.addFilterBefore(tokenBlacklistFilter, UsernamePasswordAuthenticationFilter.class)
-				.addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+				.addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+				.addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
 		return http.build();
 	}
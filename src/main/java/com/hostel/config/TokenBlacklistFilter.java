@@ -1,6 +1,8 @@
 package com.hostel.config;
 
 import com.hostel.service.LogoutService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,6 +23,9 @@ public class TokenBlacklistFilter extends OncePerRequestFilter {
     @Autowired
     private LogoutService logoutService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
@@ -30,8 +35,12 @@ public class TokenBlacklistFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
 
-            
-            if (logoutService.isTokenBlacklisted(token)) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            boolean blacklisted = logoutService.isTokenBlacklisted(token);
+            sample.stop(meterRegistry.timer("hostel.security.filter", "filter", "blacklist", "outcome",
+                    blacklisted ? "blacklisted" : "allowed"));
+
+            if (blacklisted) {
                 logger.warn("Attempted to use blacklisted token (user logged out)");
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 response.setContentType("application/json");
@@ -1,19 +1,29 @@
 package com.hostel.controller;
 
+import com.hostel.dto.request.BatchBookingRequest;
 import com.hostel.dto.request.BookingRequest;
 import com.hostel.dto.response.BookingResponse;
 import com.hostel.dto.response.BookingStatisticsResponse;
 import com.hostel.dto.response.ApiResponse;
+import com.hostel.dto.response.CursorPage;
 import com.hostel.enums.BookingStatus;
+import com.hostel.enums.ExportFormat;
+import com.hostel.service.BookingExportService;
 import com.hostel.service.BookingService;
+import com.hostel.service.IdempotencyService;
 //import com.hostel.service.BookingService.BookingStatistics;
 
 import jakarta.validation.Valid;
+
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/bookings")
@@ -23,16 +33,34 @@ public class BookingController {
 	@Autowired
 	private BookingService bookingService;
 
+	@Autowired
+	private BookingExportService bookingExportService;
+
+	@Autowired
+	private IdempotencyService idempotencyService;
+
 	@PostMapping
-	public ResponseEntity<ApiResponse<BookingResponse>> createBooking(@Valid @RequestBody BookingRequest request) {
-		BookingResponse response = bookingService.createBooking(request);
+	public ResponseEntity<ApiResponse<BookingResponse>> createBooking(@Valid @RequestBody BookingRequest request,
+			@RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+		return idempotencyService.execute(idempotencyKey, "booking.create", request, BookingResponse.class, () -> {
+			BookingResponse response = bookingService.createBooking(request);
+			return ResponseEntity.status(HttpStatus.CREATED)
+					.body(ApiResponse.success("Booking created successfully", response));
+		});
+	}
+
+	@PostMapping("/batch")
+	public ResponseEntity<ApiResponse<List<BookingResponse>>> createBookings(
+			@Valid @RequestBody BatchBookingRequest request) {
+		List<BookingResponse> response = bookingService.createBookings(request.getBookings());
 		return ResponseEntity.status(HttpStatus.CREATED)
-				.body(ApiResponse.success("Booking created successfully", response));
+				.body(ApiResponse.success("Bookings created successfully", response));
 	}
 
 	@GetMapping
-	public ResponseEntity<ApiResponse<List<BookingResponse>>> getAllBookings() {
-		List<BookingResponse> bookings = bookingService.getAllBookings();
+	public ResponseEntity<ApiResponse<CursorPage<BookingResponse>>> getAllBookings(@RequestParam(required = false) Long cursor,
+			@RequestParam(required = false) Integer size) {
+		CursorPage<BookingResponse> bookings = bookingService.getAllBookings(cursor, size);
 		return ResponseEntity.ok(ApiResponse.success("Bookings retrieved successfully", bookings));
 	}
 
@@ -43,20 +71,23 @@ public class BookingController {
 	}
 
 	@GetMapping("/user/{userId}")
-	public ResponseEntity<ApiResponse<List<BookingResponse>>> getBookingsByUser(@PathVariable Long userId) {
-		List<BookingResponse> bookings = bookingService.getBookingsByUser(userId);
+	public ResponseEntity<ApiResponse<CursorPage<BookingResponse>>> getBookingsByUser(@PathVariable Long userId,
+			@RequestParam(required = false) Long cursor, @RequestParam(required = false) Integer size) {
+		CursorPage<BookingResponse> bookings = bookingService.getBookingsByUser(userId, cursor, size);
 		return ResponseEntity.ok(ApiResponse.success("User bookings retrieved successfully", bookings));
 	}
 
 	@GetMapping("/hostel/{hostelId}")
-	public ResponseEntity<ApiResponse<List<BookingResponse>>> getBookingsByHostel(@PathVariable Long hostelId) {
-		List<BookingResponse> bookings = bookingService.getBookingsByHostel(hostelId);
+	public ResponseEntity<ApiResponse<CursorPage<BookingResponse>>> getBookingsByHostel(@PathVariable Long hostelId,
+			@RequestParam(required = false) Long cursor, @RequestParam(required = false) Integer size) {
+		CursorPage<BookingResponse> bookings = bookingService.getBookingsByHostel(hostelId, cursor, size);
 		return ResponseEntity.ok(ApiResponse.success("Hostel bookings retrieved successfully", bookings));
 	}
 
 	@GetMapping("/owner/{ownerId}")
-	public ResponseEntity<ApiResponse<List<BookingResponse>>> getBookingsByOwner(@PathVariable Long ownerId) {
-		List<BookingResponse> bookings = bookingService.getBookingsByOwner(ownerId);
+	public ResponseEntity<ApiResponse<CursorPage<BookingResponse>>> getBookingsByOwner(@PathVariable Long ownerId,
+			@RequestParam(required = false) Long cursor, @RequestParam(required = false) Integer size) {
+		CursorPage<BookingResponse> bookings = bookingService.getBookingsByOwner(ownerId, cursor, size);
 		return ResponseEntity.ok(ApiResponse.success("Owner bookings retrieved successfully", bookings));
 	}
 
@@ -79,4 +110,28 @@ public class BookingController {
 		BookingStatisticsResponse stats = bookingService.getStatistics();
 		return ResponseEntity.ok(ApiResponse.success("Statistics retrieved successfully", stats));
 	}
+
+	@GetMapping("/hostel/{hostelId}/statistics")
+	public ResponseEntity<ApiResponse<BookingStatisticsResponse>> getHostelStatistics(@PathVariable Long hostelId) {
+		BookingStatisticsResponse stats = bookingService.getHostelStatistics(hostelId);
+		return ResponseEntity.ok(ApiResponse.success("Statistics retrieved successfully", stats));
+	}
+
+	@GetMapping("/owner/{ownerId}/statistics")
+	public ResponseEntity<ApiResponse<BookingStatisticsResponse>> getOwnerStatistics(@PathVariable Long ownerId) {
+		BookingStatisticsResponse stats = bookingService.getOwnerStatistics(ownerId);
+		return ResponseEntity.ok(ApiResponse.success("Statistics retrieved successfully", stats));
+	}
+
+	@GetMapping("/admin/export")
+	public ResponseEntity<StreamingResponseBody> exportBookings(
+			@RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+		boolean csv = format == ExportFormat.CSV;
+		StreamingResponseBody body = out -> bookingExportService.export(format, out);
+		return ResponseEntity.ok()
+				.contentType(csv ? MediaType.parseMediaType("text/csv") : MediaType.parseMediaType("application/x-ndjson"))
+				.header(HttpHeaders.CONTENT_DISPOSITION,
+						"attachment; filename=\"bookings." + (csv ? "csv" : "ndjson") + "\"")
+				.body(body);
+	}
 }
@@ -3,6 +3,7 @@ package com.hostel.controller;
 import com.hostel.dto.request.HostelRequest;
 import com.hostel.dto.response.HostelResponse;
 import com.hostel.dto.response.ApiResponse;
+import com.hostel.dto.response.CursorPage;
 import com.hostel.service.HostelService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,8 +28,9 @@ public class HostelController {
 	}
 
 	@GetMapping
-	public ResponseEntity<ApiResponse<List<HostelResponse>>> getAllHostels() {
-		List<HostelResponse> hostels = hostelService.getApprovedHostels();
+	public ResponseEntity<ApiResponse<CursorPage<HostelResponse>>> getAllHostels(@RequestParam(required = false) Long cursor,
+			@RequestParam(required = false) Integer size) {
+		CursorPage<HostelResponse> hostels = hostelService.getApprovedHostels(cursor, size);
 		return ResponseEntity.ok(ApiResponse.success("Hostels retrieved successfully", hostels));
 	}
 
@@ -39,14 +41,16 @@ public class HostelController {
 	}
 
 	@GetMapping("/search")
-	public ResponseEntity<ApiResponse<List<HostelResponse>>> searchHostelsByCity(@RequestParam String city) {
-		List<HostelResponse> hostels = hostelService.searchHostelsByCity(city);
+	public ResponseEntity<ApiResponse<CursorPage<HostelResponse>>> searchHostelsByCity(@RequestParam String city,
+			@RequestParam(required = false) Long cursor, @RequestParam(required = false) Integer size) {
+		CursorPage<HostelResponse> hostels = hostelService.searchHostelsByCity(city, cursor, size);
 		return ResponseEntity.ok(ApiResponse.success("Search results retrieved", hostels));
 	}
 
 	@GetMapping("/owner/{ownerId}")
-	public ResponseEntity<ApiResponse<List<HostelResponse>>> getHostelsByOwner(@PathVariable Long ownerId) {
-		List<HostelResponse> hostels = hostelService.getHostelsByOwner(ownerId);
+	public ResponseEntity<ApiResponse<CursorPage<HostelResponse>>> getHostelsByOwner(@PathVariable Long ownerId,
+			@RequestParam(required = false) Long cursor, @RequestParam(required = false) Integer size) {
+		CursorPage<HostelResponse> hostels = hostelService.getHostelsByOwner(ownerId, cursor, size);
 		return ResponseEntity.ok(ApiResponse.success("Owner hostels retrieved", hostels));
 	}
 
@@ -78,8 +82,9 @@ public class HostelController {
 	}
 
 	@GetMapping("/admin/pending")
-	public ResponseEntity<ApiResponse<List<HostelResponse>>> getPendingHostels() {
-		List<HostelResponse> hostels = hostelService.getPendingHostels();
+	public ResponseEntity<ApiResponse<CursorPage<HostelResponse>>> getPendingHostels(@RequestParam(required = false) Long cursor,
+			@RequestParam(required = false) Integer size) {
+		CursorPage<HostelResponse> hostels = hostelService.getPendingHostels(cursor, size);
 		return ResponseEntity.ok(ApiResponse.success("Pending hostels retrieved successfully", hostels));
 	}
 
@@ -0,0 +1,33 @@
+package com.hostel.controller;
+
+import com.hostel.dto.response.ApiResponse;
+import com.hostel.dto.response.ImportJobResponse;
+import com.hostel.enums.ImportFormat;
+import com.hostel.service.HostelImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequestMapping("/api/v1/imports")
+@CrossOrigin(origins = "*")
+public class ImportController {
+
+	@Autowired
+	private HostelImportService hostelImportService;
+
+	@PostMapping("/hostels")
+	public ResponseEntity<ApiResponse<ImportJobResponse>> importHostels(@RequestParam("file") MultipartFile file,
+			@RequestParam(defaultValue = "CSV") ImportFormat format, @RequestParam(defaultValue = "0") long startLine) {
+		ImportJobResponse response = hostelImportService.submit(file, format, startLine);
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success("Import started", response));
+	}
+
+	@GetMapping("/{jobId}")
+	public ResponseEntity<ApiResponse<ImportJobResponse>> getImport(@PathVariable String jobId) {
+		ImportJobResponse response = hostelImportService.getJob(jobId);
+		return ResponseEntity.ok(ApiResponse.success("Import status retrieved", response));
+	}
+}
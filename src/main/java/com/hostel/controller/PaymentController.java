@@ -2,7 +2,10 @@ package com.hostel.controller;
 
 import com.hostel.dto.request.PaymentRequest;
 import com.hostel.dto.response.ApiResponse;
+import com.hostel.dto.response.CursorPage;
 import com.hostel.dto.response.PaymentResponse;
+import com.hostel.enums.PaymentStatus;
+import com.hostel.service.IdempotencyService;
 import com.hostel.service.PaymentService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,7 +13,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 
 @RestController
 @RequestMapping("/api/v1/payments")
@@ -20,11 +24,19 @@ public class PaymentController {
 	@Autowired
 	private PaymentService paymentService;
 
+	@Autowired
+	private IdempotencyService idempotencyService;
+
 	@PostMapping
-	public ResponseEntity<ApiResponse<PaymentResponse>> processPayment(@Valid @RequestBody PaymentRequest request) {
-		PaymentResponse response = paymentService.processPayment(request);
-		return ResponseEntity.status(HttpStatus.CREATED)
-				.body(ApiResponse.success("Payment processed successfully", response));
+	public CompletableFuture<ResponseEntity<ApiResponse<PaymentResponse>>> processPayment(
+			@Valid @RequestBody PaymentRequest request,
+			@RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+		// a declined payment is not replayed, so retrying with the same key charges again
+		return idempotencyService.executeAsync(idempotencyKey, "payment.create", request, PaymentResponse.class,
+				response -> response.getPaymentStatus() != PaymentStatus.FAILED,
+				() -> paymentService.processPayment(request)
+						.thenApply(response -> ResponseEntity.status(HttpStatus.CREATED)
+								.body(ApiResponse.success("Payment processed successfully", response))));
 	}
 
 	@GetMapping("/{paymentId}")
@@ -40,8 +52,9 @@ public class PaymentController {
 	}
 
 	@GetMapping("/user/{userId}")
-	public ResponseEntity<ApiResponse<List<PaymentResponse>>> getPaymentsByUser(@PathVariable Long userId) {
-		List<PaymentResponse> payments = paymentService.getPaymentsByUser(userId);
+	public ResponseEntity<ApiResponse<CursorPage<PaymentResponse>>> getPaymentsByUser(@PathVariable Long userId,
+			@RequestParam(required = false) Long cursor, @RequestParam(required = false) Integer size) {
+		CursorPage<PaymentResponse> payments = paymentService.getPaymentsByUser(userId, cursor, size);
 		return ResponseEntity.ok(ApiResponse.success("User payments retrieved successfully", payments));
 	}
 
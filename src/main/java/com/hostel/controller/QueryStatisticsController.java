@@ -0,0 +1,34 @@
+package com.hostel.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hostel.dto.response.ApiResponse;
+import com.hostel.dto.response.QueryStatisticsResponse;
+import com.hostel.service.QueryStatisticsService;
+
+@RestController
+@RequestMapping("/api/v1/users/admin/queries")
+@CrossOrigin(origins = "*")
+public class QueryStatisticsController {
+
+	@Autowired
+	private QueryStatisticsService queryStatisticsService;
+
+	@GetMapping
+	public ResponseEntity<ApiResponse<QueryStatisticsResponse>> getStatistics() {
+		QueryStatisticsResponse response = queryStatisticsService.getStatistics();
+		return ResponseEntity.ok(ApiResponse.success("Query statistics retrieved successfully", response));
+	}
+
+	@DeleteMapping
+	public ResponseEntity<ApiResponse<String>> reset() {
+		queryStatisticsService.reset();
+		return ResponseEntity.ok(ApiResponse.success("Query statistics reset", null));
+	}
+}
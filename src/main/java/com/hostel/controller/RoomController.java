@@ -3,13 +3,15 @@ package com.hostel.controller;
 import com.hostel.dto.request.RoomRequest;
 import com.hostel.dto.response.RoomResponse;
 import com.hostel.dto.response.ApiResponse;
+import com.hostel.dto.response.CursorPage;
 import com.hostel.service.RoomService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("/api/v1/rooms")
@@ -26,8 +28,9 @@ public class RoomController {
 	}
 
 	@GetMapping
-	public ResponseEntity<ApiResponse<List<RoomResponse>>> getAllRooms() {
-		List<RoomResponse> rooms = roomService.getAllRooms();
+	public ResponseEntity<ApiResponse<CursorPage<RoomResponse>>> getAllRooms(@RequestParam(required = false) Long cursor,
+			@RequestParam(required = false) Integer size) {
+		CursorPage<RoomResponse> rooms = roomService.getAllRooms(cursor, size);
 		return ResponseEntity.ok(ApiResponse.success("Rooms retrieved successfully", rooms));
 	}
 
@@ -38,27 +41,37 @@ public class RoomController {
 	}
 
 	@GetMapping("/hostel/{hostelId}")
-	public ResponseEntity<ApiResponse<List<RoomResponse>>> getRoomsByHostel(@PathVariable Long hostelId) {
-		List<RoomResponse> rooms = roomService.getRoomsByHostel(hostelId);
+	public ResponseEntity<ApiResponse<CursorPage<RoomResponse>>> getRoomsByHostel(@PathVariable Long hostelId,
+			@RequestParam(required = false) Long cursor, @RequestParam(required = false) Integer size) {
+		CursorPage<RoomResponse> rooms = roomService.getRoomsByHostel(hostelId, cursor, size);
 		return ResponseEntity.ok(ApiResponse.success("Hostel rooms retrieved", rooms));
 	}
 
 	@GetMapping("/available")
-	public ResponseEntity<ApiResponse<List<RoomResponse>>> getAvailableRooms() {
-		List<RoomResponse> rooms = roomService.getAvailableRooms();
+	public ResponseEntity<ApiResponse<CursorPage<RoomResponse>>> getAvailableRooms(@RequestParam(required = false) Long cursor,
+			@RequestParam(required = false) Integer size,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut) {
+		CursorPage<RoomResponse> rooms = roomService.getAvailableRooms(cursor, size, checkIn, checkOut);
 		return ResponseEntity.ok(ApiResponse.success("Available rooms retrieved", rooms));
 	}
 
 	@GetMapping("/hostel/{hostelId}/available")
-	public ResponseEntity<ApiResponse<List<RoomResponse>>> getAvailableRoomsByHostel(@PathVariable Long hostelId) {
-		List<RoomResponse> rooms = roomService.getAvailableRoomsByHostel(hostelId);
+	public ResponseEntity<ApiResponse<CursorPage<RoomResponse>>> getAvailableRoomsByHostel(@PathVariable Long hostelId,
+			@RequestParam(required = false) Long cursor, @RequestParam(required = false) Integer size,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut) {
+		CursorPage<RoomResponse> rooms = roomService.getAvailableRoomsByHostel(hostelId, cursor, size, checkIn,
+				checkOut);
 		return ResponseEntity.ok(ApiResponse.success("Available rooms for hostel retrieved", rooms));
 	}
 
 	@GetMapping("/{roomId}/availability")
 	public ResponseEntity<ApiResponse<Boolean>> checkAvailability(@PathVariable Long roomId,
-			@RequestParam Integer requiredBeds) {
-		boolean available = roomService.checkAvailability(roomId, requiredBeds);
+			@RequestParam Integer requiredBeds,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut) {
+		boolean available = roomService.checkAvailability(roomId, requiredBeds, checkIn, checkOut);
 		return ResponseEntity.ok(ApiResponse.success("Availability checked", available));
 	}
 
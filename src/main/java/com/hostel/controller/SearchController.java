@@ -0,0 +1,26 @@
+package com.hostel.controller;
+
+import com.hostel.dto.request.RoomSearchRequest;
+import com.hostel.dto.response.ApiResponse;
+import com.hostel.dto.response.RoomResponse;
+import com.hostel.service.RoomSearchService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/search")
+@CrossOrigin(origins = "*")
+public class SearchController {
+
+	@Autowired
+	private RoomSearchService roomSearchService;
+
+	@GetMapping
+	public ResponseEntity<ApiResponse<List<RoomResponse>>> searchRooms(@Valid RoomSearchRequest request) {
+		List<RoomResponse> rooms = roomSearchService.search(request);
+		return ResponseEntity.ok(ApiResponse.success("Search results retrieved", rooms));
+	}
+}
@@ -1,7 +1,5 @@
 package com.hostel.controller;
 
-import java.util.List;
-
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -21,6 +19,7 @@ import com.hostel.dto.request.LoginRequest;
 import com.hostel.dto.request.ResetPasswordRequest;
 import com.hostel.dto.request.UserRequest;
 import com.hostel.dto.response.ApiResponse;
+import com.hostel.dto.response.CursorPage;
 import com.hostel.dto.response.LoginResponse;
 import com.hostel.dto.response.UserResponse;
 import com.hostel.enums.UserRole;
@@ -56,14 +55,16 @@ public class UserController {
 	}
 
 	@GetMapping
-	public ResponseEntity<ApiResponse<List<UserResponse>>> getAllUsers() {
-		List<UserResponse> users = userService.getAllUsers();
+	public ResponseEntity<ApiResponse<CursorPage<UserResponse>>> getAllUsers(@RequestParam(required = false) Long cursor,
+			@RequestParam(required = false) Integer size) {
+		CursorPage<UserResponse> users = userService.getAllUsers(cursor, size);
 		return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", users));
 	}
 
 	@GetMapping("/role/{role}")
-	public ResponseEntity<ApiResponse<List<UserResponse>>> getUsersByRole(@PathVariable UserRole role) {
-		List<UserResponse> users = userService.getUsersByRole(role);
+	public ResponseEntity<ApiResponse<CursorPage<UserResponse>>> getUsersByRole(@PathVariable UserRole role,
+			@RequestParam(required = false) Long cursor, @RequestParam(required = false) Integer size) {
+		CursorPage<UserResponse> users = userService.getUsersByRole(role, cursor, size);
 		return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", users));
 	}
 
@@ -88,8 +89,9 @@ public class UserController {
 	}
 
 	@GetMapping("/admin/owners/pending")
-	public ResponseEntity<ApiResponse<List<UserResponse>>> getPendingOwners() {
-		List<UserResponse> pendingOwners = userService.getPendingOwners();
+	public ResponseEntity<ApiResponse<CursorPage<UserResponse>>> getPendingOwners(@RequestParam(required = false) Long cursor,
+			@RequestParam(required = false) Integer size) {
+		CursorPage<UserResponse> pendingOwners = userService.getPendingOwners(cursor, size);
 		return ResponseEntity.ok(ApiResponse.success("Pending owners retrieved successfully", pendingOwners));
 	}
 
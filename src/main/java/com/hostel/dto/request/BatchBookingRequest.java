@@ -0,0 +1,24 @@
+package com.hostel.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public class BatchBookingRequest {
+
+	@NotEmpty(message = "At least one booking is required")
+	@Size(max = 100, message = "A batch can contain at most 100 bookings")
+	private List<@Valid BookingRequest> bookings;
+
+	public BatchBookingRequest() {
+	}
+
+	public List<BookingRequest> getBookings() {
+		return bookings;
+	}
+
+	public void setBookings(List<BookingRequest> bookings) {
+		this.bookings = bookings;
+	}
+}
@@ -0,0 +1,113 @@
+package com.hostel.dto.request;
+
+import com.hostel.enums.RoomType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.format.annotation.DateTimeFormat;
+import java.time.LocalDate;
+import java.util.List;
+
+public class RoomSearchRequest {
+
+	public static final int DEFAULT_LIMIT = 50;
+
+	private String city;
+
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	private LocalDate checkIn;
+
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	private LocalDate checkOut;
+
+	@Min(value = 1, message = "At least 1 bed must be requested")
+	private Integer beds = 1;
+
+	private RoomType roomType;
+
+	@Min(value = 0, message = "Minimum price must be positive")
+	private Double minPrice;
+
+	@Min(value = 0, message = "Maximum price must be positive")
+	private Double maxPrice;
+
+	private List<Long> facilityIds;
+
+	@Min(value = 1, message = "Limit must be at least 1")
+	@Max(value = 200, message = "Limit must be at most 200")
+	private Integer limit = DEFAULT_LIMIT;
+
+	public RoomSearchRequest() {
+	}
+
+	public String getCity() {
+		return city;
+	}
+
+	public void setCity(String city) {
+		this.city = city;
+	}
+
+	public LocalDate getCheckIn() {
+		return checkIn;
+	}
+
+	public void setCheckIn(LocalDate checkIn) {
+		this.checkIn = checkIn;
+	}
+
+	public LocalDate getCheckOut() {
+		return checkOut;
+	}
+
+	public void setCheckOut(LocalDate checkOut) {
+		this.checkOut = checkOut;
+	}
+
+	public Integer getBeds() {
+		return beds;
+	}
+
+	public void setBeds(Integer beds) {
+		this.beds = beds;
+	}
+
+	public RoomType getRoomType() {
+		return roomType;
+	}
+
+	public void setRoomType(RoomType roomType) {
+		this.roomType = roomType;
+	}
+
+	public Double getMinPrice() {
+		return minPrice;
+	}
+
+	public void setMinPrice(Double minPrice) {
+		this.minPrice = minPrice;
+	}
+
+	public Double getMaxPrice() {
+		return maxPrice;
+	}
+
+	public void setMaxPrice(Double maxPrice) {
+		this.maxPrice = maxPrice;
+	}
+
+	public List<Long> getFacilityIds() {
+		return facilityIds;
+	}
+
+	public void setFacilityIds(List<Long> facilityIds) {
+		this.facilityIds = facilityIds;
+	}
+
+	public Integer getLimit() {
+		return limit;
+	}
+
+	public void setLimit(Integer limit) {
+		this.limit = limit;
+	}
+}
@@ -23,6 +23,7 @@ public class BookingResponse {
 	private Double totalPrice;
 	private BookingStatus bookingStatus;
 	private LocalDateTime bookingDate;
+	private LocalDateTime holdExpiresAt;
 
 	private PaymentStatus paymentStatus;
 	private String transactionId;
@@ -137,6 +138,14 @@ public class BookingResponse {
 		this.bookingDate = bookingDate;
 	}
 
+	public LocalDateTime getHoldExpiresAt() {
+		return holdExpiresAt;
+	}
+
+	public void setHoldExpiresAt(LocalDateTime holdExpiresAt) {
+		this.holdExpiresAt = holdExpiresAt;
+	}
+
 	public PaymentStatus getPaymentStatus() {
 		return paymentStatus;
 	}
@@ -3,17 +3,22 @@ package com.hostel.dto.response;
 public class BookingStatisticsResponse {
 
 	private long total;
+	private long pendingPayment;
 	private long confirmed;
 	private long cancelled;
+	private long rejected;
 	private long completed;
 
 	public BookingStatisticsResponse() {
 	}
 
-	public BookingStatisticsResponse(long total, long confirmed, long cancelled, long completed) {
+	public BookingStatisticsResponse(long total, long pendingPayment, long confirmed, long cancelled, long rejected,
+			long completed) {
 		this.total = total;
+		this.pendingPayment = pendingPayment;
 		this.confirmed = confirmed;
 		this.cancelled = cancelled;
+		this.rejected = rejected;
 		this.completed = completed;
 	}
 
@@ -25,6 +30,14 @@ public class BookingStatisticsResponse {
 		this.total = total;
 	}
 
+	public long getPendingPayment() {
+		return pendingPayment;
+	}
+
+	public void setPendingPayment(long pendingPayment) {
+		this.pendingPayment = pendingPayment;
+	}
+
 	public long getConfirmed() {
 		return confirmed;
 	}
@@ -41,6 +54,14 @@ public class BookingStatisticsResponse {
 		this.cancelled = cancelled;
 	}
 
+	public long getRejected() {
+		return rejected;
+	}
+
+	public void setRejected(long rejected) {
+		this.rejected = rejected;
+	}
+
 	public long getCompleted() {
 		return completed;
 	}
@@ -48,4 +69,4 @@ public class BookingStatisticsResponse {
 	public void setCompleted(long completed) {
 		this.completed = completed;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,82 @@
+package com.hostel.dto.response;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Limit;
+
+/**
+ * One page of a keyset-paginated list. Pass {@code nextCursor} back as the
+ * {@code cursor} request parameter to get the following page; it is null on
+ * the last page.
+ */
+public class CursorPage<T> {
+
+	public static final int DEFAULT_SIZE = 50;
+
+	public static final int MAX_SIZE = 200;
+
+	private List<T> items;
+	private Long nextCursor;
+	private boolean hasMore;
+
+	public CursorPage() {
+	}
+
+	public CursorPage(List<T> items, Long nextCursor) {
+		this.items = items;
+		this.nextCursor = nextCursor;
+		this.hasMore = nextCursor != null;
+	}
+
+	/**
+	 * Builds a page from rows fetched with {@link #fetchLimit(int)}, i.e. one
+	 * row more than the page size so the presence of a next page is known.
+	 */
+	public static <E, T> CursorPage<T> of(List<E> rows, int size, Function<E, Long> idOf, Function<E, T> mapper) {
+		boolean hasMore = rows.size() > size;
+		List<E> page = hasMore ? rows.subList(0, size) : rows;
+		Long nextCursor = hasMore ? idOf.apply(page.get(page.size() - 1)) : null;
+		return new CursorPage<>(page.stream().map(mapper).collect(Collectors.toList()), nextCursor);
+	}
+
+	public static int size(Integer requested) {
+		if (requested == null || requested < 1) {
+			return DEFAULT_SIZE;
+		}
+		return Math.min(requested, MAX_SIZE);
+	}
+
+	public static long after(Long cursor) {
+		return cursor == null ? 0L : cursor;
+	}
+
+	public static Limit fetchLimit(int size) {
+		return Limit.of(size + 1);
+	}
+
+	public List<T> getItems() {
+		return items;
+	}
+
+	public void setItems(List<T> items) {
+		this.items = items;
+	}
+
+	public Long getNextCursor() {
+		return nextCursor;
+	}
+
+	public void setNextCursor(Long nextCursor) {
+		this.nextCursor = nextCursor;
+	}
+
+	public boolean isHasMore() {
+		return hasMore;
+	}
+
+	public void setHasMore(boolean hasMore) {
+		this.hasMore = hasMore;
+	}
+}
@@ -0,0 +1,124 @@
+package com.hostel.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.hostel.enums.ImportFormat;
+import com.hostel.enums.ImportStatus;
+
+/**
+ * Progress of a hostel/room import. {@code checkpointLine} is the last file
+ * line whose chunk was committed; resubmitting the file with
+ * {@code startLine} set to it continues after the committed rows.
+ */
+public class ImportJobResponse {
+
+	private String jobId;
+	private ImportFormat format;
+	private ImportStatus status;
+	private long rowsRead;
+	private long hostelsCreated;
+	private long roomsCreated;
+	private long rowsRejected;
+	private long checkpointLine;
+	private LocalDateTime startedAt;
+	private LocalDateTime finishedAt;
+	private String error;
+	private List<ImportRejection> rejections;
+
+	public String getJobId() {
+		return jobId;
+	}
+
+	public void setJobId(String jobId) {
+		this.jobId = jobId;
+	}
+
+	public ImportFormat getFormat() {
+		return format;
+	}
+
+	public void setFormat(ImportFormat format) {
+		this.format = format;
+	}
+
+	public ImportStatus getStatus() {
+		return status;
+	}
+
+	public void setStatus(ImportStatus status) {
+		this.status = status;
+	}
+
+	public long getRowsRead() {
+		return rowsRead;
+	}
+
+	public void setRowsRead(long rowsRead) {
+		this.rowsRead = rowsRead;
+	}
+
+	public long getHostelsCreated() {
+		return hostelsCreated;
+	}
+
+	public void setHostelsCreated(long hostelsCreated) {
+		this.hostelsCreated = hostelsCreated;
+	}
+
+	public long getRoomsCreated() {
+		return roomsCreated;
+	}
+
+	public void setRoomsCreated(long roomsCreated) {
+		this.roomsCreated = roomsCreated;
+	}
+
+	public long getRowsRejected() {
+		return rowsRejected;
+	}
+
+	public void setRowsRejected(long rowsRejected) {
+		this.rowsRejected = rowsRejected;
+	}
+
+	public long getCheckpointLine() {
+		return checkpointLine;
+	}
+
+	public void setCheckpointLine(long checkpointLine) {
+		this.checkpointLine = checkpointLine;
+	}
+
+	public LocalDateTime getStartedAt() {
+		return startedAt;
+	}
+
+	public void setStartedAt(LocalDateTime startedAt) {
+		this.startedAt = startedAt;
+	}
+
+	public LocalDateTime getFinishedAt() {
+		return finishedAt;
+	}
+
+	public void setFinishedAt(LocalDateTime finishedAt) {
+		this.finishedAt = finishedAt;
+	}
+
+	public String getError() {
+		return error;
+	}
+
+	public void setError(String error) {
+		this.error = error;
+	}
+
+	public List<ImportRejection> getRejections() {
+		return rejections;
+	}
+
+	public void setRejections(List<ImportRejection> rejections) {
+		this.rejections = rejections;
+	}
+}
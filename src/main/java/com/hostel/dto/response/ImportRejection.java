@@ -0,0 +1,31 @@
+package com.hostel.dto.response;
+
+public class ImportRejection {
+
+	private long line;
+	private String reason;
+
+	public ImportRejection() {
+	}
+
+	public ImportRejection(long line, String reason) {
+		this.line = line;
+		this.reason = reason;
+	}
+
+	public long getLine() {
+		return line;
+	}
+
+	public void setLine(long line) {
+		this.line = line;
+	}
+
+	public String getReason() {
+		return reason;
+	}
+
+	public void setReason(String reason) {
+		this.reason = reason;
+	}
+}
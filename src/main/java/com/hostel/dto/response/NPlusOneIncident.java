@@ -0,0 +1,53 @@
+package com.hostel.dto.response;
+
+import java.time.LocalDateTime;
+
+public class NPlusOneIncident {
+
+	private String request;
+	private String sql;
+	private int executions;
+	private LocalDateTime detectedAt;
+
+	public NPlusOneIncident() {
+	}
+
+	public NPlusOneIncident(String request, String sql, int executions, LocalDateTime detectedAt) {
+		this.request = request;
+		this.sql = sql;
+		this.executions = executions;
+		this.detectedAt = detectedAt;
+	}
+
+	public String getRequest() {
+		return request;
+	}
+
+	public void setRequest(String request) {
+		this.request = request;
+	}
+
+	public String getSql() {
+		return sql;
+	}
+
+	public void setSql(String sql) {
+		this.sql = sql;
+	}
+
+	public int getExecutions() {
+		return executions;
+	}
+
+	public void setExecutions(int executions) {
+		this.executions = executions;
+	}
+
+	public LocalDateTime getDetectedAt() {
+		return detectedAt;
+	}
+
+	public void setDetectedAt(LocalDateTime detectedAt) {
+		this.detectedAt = detectedAt;
+	}
+}
@@ -0,0 +1,102 @@
+package com.hostel.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Hibernate statistics since the last reset, plus the slowest statements and
+ * the suspected N+1 patterns seen in the current and previous window.
+ */
+public class QueryStatisticsResponse {
+
+	private LocalDateTime windowStartedAt;
+	private long slowThresholdMs;
+	private long statementsPrepared;
+	private long queryExecutions;
+	private long queryExecutionMaxTimeMs;
+	private String queryExecutionMaxTimeQuery;
+	private long entityLoads;
+	private long collectionFetches;
+	private List<SlowQuery> slowQueries;
+	private List<NPlusOneIncident> suspectedNPlusOne;
+
+	public LocalDateTime getWindowStartedAt() {
+		return windowStartedAt;
+	}
+
+	public void setWindowStartedAt(LocalDateTime windowStartedAt) {
+		this.windowStartedAt = windowStartedAt;
+	}
+
+	public long getSlowThresholdMs() {
+		return slowThresholdMs;
+	}
+
+	public void setSlowThresholdMs(long slowThresholdMs) {
+		this.slowThresholdMs = slowThresholdMs;
+	}
+
+	public long getStatementsPrepared() {
+		return statementsPrepared;
+	}
+
+	public void setStatementsPrepared(long statementsPrepared) {
+		this.statementsPrepared = statementsPrepared;
+	}
+
+	public long getQueryExecutions() {
+		return queryExecutions;
+	}
+
+	public void setQueryExecutions(long queryExecutions) {
+		this.queryExecutions = queryExecutions;
+	}
+
+	public long getQueryExecutionMaxTimeMs() {
+		return queryExecutionMaxTimeMs;
+	}
+
+	public void setQueryExecutionMaxTimeMs(long queryExecutionMaxTimeMs) {
+		this.queryExecutionMaxTimeMs = queryExecutionMaxTimeMs;
+	}
+
+	public String getQueryExecutionMaxTimeQuery() {
+		return queryExecutionMaxTimeQuery;
+	}
+
+	public void setQueryExecutionMaxTimeQuery(String queryExecutionMaxTimeQuery) {
+		this.queryExecutionMaxTimeQuery = queryExecutionMaxTimeQuery;
+	}
+
+	public long getEntityLoads() {
+		return entityLoads;
+	}
+
+	public void setEntityLoads(long entityLoads) {
+		this.entityLoads = entityLoads;
+	}
+
+	public long getCollectionFetches() {
+		return collectionFetches;
+	}
+
+	public void setCollectionFetches(long collectionFetches) {
+		this.collectionFetches = collectionFetches;
+	}
+
+	public List<SlowQuery> getSlowQueries() {
+		return slowQueries;
+	}
+
+	public void setSlowQueries(List<SlowQuery> slowQueries) {
+		this.slowQueries = slowQueries;
+	}
+
+	public List<NPlusOneIncident> getSuspectedNPlusOne() {
+		return suspectedNPlusOne;
+	}
+
+	public void setSuspectedNPlusOne(List<NPlusOneIncident> suspectedNPlusOne) {
+		this.suspectedNPlusOne = suspectedNPlusOne;
+	}
+}
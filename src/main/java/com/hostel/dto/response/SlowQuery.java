@@ -0,0 +1,63 @@
+package com.hostel.dto.response;
+
+import java.time.LocalDateTime;
+
+public class SlowQuery {
+
+	private String sql;
+	private long elapsedMs;
+	private long rows;
+	private String request;
+	private LocalDateTime executedAt;
+
+	public SlowQuery() {
+	}
+
+	public SlowQuery(String sql, long elapsedMs, long rows, String request, LocalDateTime executedAt) {
+		this.sql = sql;
+		this.elapsedMs = elapsedMs;
+		this.rows = rows;
+		this.request = request;
+		this.executedAt = executedAt;
+	}
+
+	public String getSql() {
+		return sql;
+	}
+
+	public void setSql(String sql) {
+		this.sql = sql;
+	}
+
+	public long getElapsedMs() {
+		return elapsedMs;
+	}
+
+	public void setElapsedMs(long elapsedMs) {
+		this.elapsedMs = elapsedMs;
+	}
+
+	public long getRows() {
+		return rows;
+	}
+
+	public void setRows(long rows) {
+		this.rows = rows;
+	}
+
+	public String getRequest() {
+		return request;
+	}
+
+	public void setRequest(String request) {
+		this.request = request;
+	}
+
+	public LocalDateTime getExecutedAt() {
+		return executedAt;
+	}
+
+	public void setExecutedAt(LocalDateTime executedAt) {
+		this.executedAt = executedAt;
+	}
+}
@@ -18,13 +18,17 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.Version;
 
 @Entity
 @Table(name = "bookings")
 public class Booking {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "bookings_id")
+	@TableGenerator(name = "bookings_id", table = "id_sequences", pkColumnName = "sequence_name",
+			valueColumnName = "next_val", pkColumnValue = "bookings", allocationSize = 50)
 	private Long bookingId;
 
 	@ManyToOne
@@ -58,6 +62,13 @@ public class Booking {
 	@Column(nullable = false)
 	private LocalDateTime bookingDate = LocalDateTime.now();
 
+	private LocalDateTime holdExpiresAt;
+
+	// the hold reaper and payment completion both move a booking out of PENDING_PAYMENT
+	@Version
+	@Column(nullable = false)
+	private long version;
+
 	@OneToOne(mappedBy = "booking", cascade = CascadeType.ALL)
 	private Payment payment;
 
@@ -155,6 +166,18 @@ public class Booking {
 		this.bookingDate = bookingDate;
 	}
 
+	public LocalDateTime getHoldExpiresAt() {
+		return holdExpiresAt;
+	}
+
+	public void setHoldExpiresAt(LocalDateTime holdExpiresAt) {
+		this.holdExpiresAt = holdExpiresAt;
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
 	public void setPayment(Payment payment) {
 		this.payment = payment;
 	}
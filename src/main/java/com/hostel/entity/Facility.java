@@ -8,7 +8,9 @@ import java.util.Set;
 public class Facility {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "facilities_id")
+	@TableGenerator(name = "facilities_id", table = "id_sequences", pkColumnName = "sequence_name",
+			valueColumnName = "next_val", pkColumnValue = "facilities", allocationSize = 50)
 	private Long facilityId;
 
 	@Column(unique = true, nullable = false)
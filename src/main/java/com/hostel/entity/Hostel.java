@@ -1,6 +1,7 @@
 package com.hostel.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
@@ -10,7 +11,9 @@ import java.util.Set;
 public class Hostel {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "hostels_id")
+	@TableGenerator(name = "hostels_id", table = "id_sequences", pkColumnName = "sequence_name",
+			valueColumnName = "next_val", pkColumnValue = "hostels", allocationSize = 50)
 	private Long hostelId;
 
 	@Column(nullable = false)
@@ -41,7 +44,9 @@ public class Hostel {
 	@OneToMany(mappedBy = "hostel", cascade = CascadeType.ALL)
 	private List<Booking> bookings;
 
+	// loaded for a whole page of hostels at once when the page query cannot join the collection
 	@ManyToMany
+	@BatchSize(size = 200)
 	@JoinTable(name = "hostel_facilities", joinColumns = @JoinColumn(name = "hostel_id"), inverseJoinColumns = @JoinColumn(name = "facility_id"))
 	private Set<Facility> facilities;
 
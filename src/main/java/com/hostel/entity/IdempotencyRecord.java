@@ -0,0 +1,114 @@
+package com.hostel.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Persistable;
+
+@Entity
+@Table(name = "idempotency_keys", indexes = @Index(name = "idx_idempotency_expires_at", columnList = "expiresAt"))
+public class IdempotencyRecord implements Persistable<String> {
+
+	@Id
+	@Column(length = 64)
+	private String keyHash;
+
+	@Column(nullable = false, length = 64)
+	private String fingerprint;
+
+	// both stay null while the request that claimed the key is still running
+	private Integer statusCode;
+
+	@Lob
+	private String responseBody;
+
+	@Column(nullable = false)
+	private LocalDateTime createdAt = LocalDateTime.now();
+
+	@Column(nullable = false)
+	private LocalDateTime expiresAt;
+
+	// the key is assigned, so save() must insert rather than merge for a duplicate key to fail
+	@Transient
+	private boolean isNew = true;
+
+	public IdempotencyRecord() {
+	}
+
+	public IdempotencyRecord(String keyHash, String fingerprint, Integer statusCode, String responseBody,
+			LocalDateTime expiresAt) {
+		this.keyHash = keyHash;
+		this.fingerprint = fingerprint;
+		this.statusCode = statusCode;
+		this.responseBody = responseBody;
+		this.expiresAt = expiresAt;
+	}
+
+	@Override
+	public String getId() {
+		return keyHash;
+	}
+
+	@Override
+	public boolean isNew() {
+		return isNew;
+	}
+
+	@PostPersist
+	@PostLoad
+	void markNotNew() {
+		isNew = false;
+	}
+
+	public boolean isPending() {
+		return responseBody == null;
+	}
+
+	public String getKeyHash() {
+		return keyHash;
+	}
+
+	public void setKeyHash(String keyHash) {
+		this.keyHash = keyHash;
+	}
+
+	public String getFingerprint() {
+		return fingerprint;
+	}
+
+	public void setFingerprint(String fingerprint) {
+		this.fingerprint = fingerprint;
+	}
+
+	public Integer getStatusCode() {
+		return statusCode;
+	}
+
+	public void setStatusCode(Integer statusCode) {
+		this.statusCode = statusCode;
+	}
+
+	public String getResponseBody() {
+		return responseBody;
+	}
+
+	public void setResponseBody(String responseBody) {
+		this.responseBody = responseBody;
+	}
+
+	public LocalDateTime getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(LocalDateTime createdAt) {
+		this.createdAt = createdAt;
+	}
+
+	public LocalDateTime getExpiresAt() {
+		return expiresAt;
+	}
+
+	public void setExpiresAt(LocalDateTime expiresAt) {
+		this.expiresAt = expiresAt;
+	}
+}
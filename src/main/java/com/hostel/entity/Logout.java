@@ -4,10 +4,13 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_logout_token", columnList = "token"))
 public class Logout {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "logout_id")
+	@TableGenerator(name = "logout_id", table = "id_sequences", pkColumnName = "sequence_name",
+			valueColumnName = "next_val", pkColumnValue = "logout", allocationSize = 50)
 	private Long id;
 
 	private String token;
@@ -10,11 +10,13 @@ import java.time.LocalDateTime;
 public class Payment {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "payments_id")
+	@TableGenerator(name = "payments_id", table = "id_sequences", pkColumnName = "sequence_name",
+			valueColumnName = "next_val", pkColumnValue = "payments", allocationSize = 50)
 	private Long paymentId;
 
 	@OneToOne
-	@JoinColumn(name = "booking_id", nullable = false)
+	@JoinColumn(name = "booking_id", nullable = false, unique = true)
 	private Booking booking;
 
 	@Column(nullable = false)
@@ -30,6 +32,9 @@ public class Payment {
 	@Column(name = "transaction_id", unique = true)
 	private String transactionId;
 
+	@Column(name = "gateway_reference", unique = true)
+	private String gatewayReference;
+
 	@Column(name = "payment_date")
 	private LocalDateTime paymentDate;
 
@@ -98,6 +103,14 @@ public class Payment {
 		this.transactionId = transactionId;
 	}
 
+	public String getGatewayReference() {
+		return gatewayReference;
+	}
+
+	public void setGatewayReference(String gatewayReference) {
+		this.gatewayReference = gatewayReference;
+	}
+
 	public LocalDateTime getPaymentDate() {
 		return paymentDate;
 	}
@@ -9,7 +9,9 @@ import java.util.List;
 public class Room {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "rooms_id")
+	@TableGenerator(name = "rooms_id", table = "id_sequences", pkColumnName = "sequence_name",
+			valueColumnName = "next_val", pkColumnValue = "rooms", allocationSize = 50)
 	private Long roomId;
 
 	@ManyToOne
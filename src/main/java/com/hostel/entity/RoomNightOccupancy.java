@@ -0,0 +1,67 @@
+package com.hostel.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "room_night_occupancy", uniqueConstraints = @UniqueConstraint(columnNames = { "room_id", "night" }))
+public class RoomNightOccupancy {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "room_night_occupancy_id")
+	@TableGenerator(name = "room_night_occupancy_id", table = "id_sequences", pkColumnName = "sequence_name",
+			valueColumnName = "next_val", pkColumnValue = "room_night_occupancy", allocationSize = 50)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "room_id", nullable = false)
+	private Room room;
+
+	@Column(nullable = false)
+	private LocalDate night;
+
+	@Column(name = "booked_beds", nullable = false)
+	private Integer bookedBeds;
+
+	public RoomNightOccupancy() {
+	}
+
+	public RoomNightOccupancy(Room room, LocalDate night, Integer bookedBeds) {
+		this.room = room;
+		this.night = night;
+		this.bookedBeds = bookedBeds;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public Room getRoom() {
+		return room;
+	}
+
+	public void setRoom(Room room) {
+		this.room = room;
+	}
+
+	public LocalDate getNight() {
+		return night;
+	}
+
+	public void setNight(LocalDate night) {
+		this.night = night;
+	}
+
+	public Integer getBookedBeds() {
+		return bookedBeds;
+	}
+
+	public void setBookedBeds(Integer bookedBeds) {
+		this.bookedBeds = bookedBeds;
+	}
+}
@@ -11,7 +11,9 @@ import java.util.List;
 public class User {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "users_id")
+	@TableGenerator(name = "users_id", table = "id_sequences", pkColumnName = "sequence_name",
+			valueColumnName = "next_val", pkColumnValue = "users", allocationSize = 50)
 	private Long userId;
 
 	@Column(nullable = false)
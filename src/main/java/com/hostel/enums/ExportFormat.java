@@ -0,0 +1,6 @@
+package com.hostel.enums;
+
+public enum ExportFormat {
+
+	NDJSON, CSV
+}
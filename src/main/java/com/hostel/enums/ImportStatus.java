@@ -0,0 +1,6 @@
+package com.hostel.enums;
+
+public enum ImportStatus {
+
+	RUNNING, COMPLETED, FAILED
+}
@@ -2,5 +2,5 @@ package com.hostel.enums;
 
 public enum PaymentStatus {
 
-	PENDING, COMPLETED, FAILED, REFUNDED
+	PENDING, UNKNOWN, COMPLETED, FAILED, REFUND_PENDING, REFUNDED
 }
@@ -0,0 +1,15 @@
+package com.hostel.exception;
+
+public class TooManyRequestsException extends RuntimeException {
+
+	private final long retryAfterSeconds;
+
+	public TooManyRequestsException(String message, long retryAfterSeconds) {
+		super(message);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+}
@@ -26,6 +26,7 @@ public class BookingMapper {
 		response.setTotalPrice(booking.getTotalPrice());
 		response.setBookingStatus(booking.getBookingStatus());
 		response.setBookingDate(booking.getBookingDate());
+		response.setHoldExpiresAt(booking.getHoldExpiresAt());
 
 		if (booking.getUser() != null) {
 			response.setUserId(booking.getUser().getUserId());
@@ -1,15 +1,19 @@
 package com.hostel.mapper;
 
 import com.hostel.entity.Hostel;
-import com.hostel.entity.Facility;
 import com.hostel.dto.request.HostelRequest;
 import com.hostel.dto.response.HostelResponse;
+import com.hostel.service.FacilityDictionary;
+import java.util.BitSet;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
-import java.util.stream.Collectors;
 
 @Component
 public class HostelMapper {
 
+	@Autowired
+	private FacilityDictionary facilityDictionary;
+
 	public Hostel toEntity(HostelRequest request) {
 		Hostel hostel = new Hostel();
 		hostel.setHostelName(request.getHostelName());
@@ -20,6 +24,24 @@ public class HostelMapper {
 	}
 
 	public HostelResponse toResponse(Hostel hostel) {
+		HostelResponse response = fields(hostel);
+		if (hostel.getFacilities() != null) {
+			response.setFacilities(facilityDictionary.names(hostel.getFacilities()));
+		}
+		return response;
+	}
+
+	/**
+	 * Maps a hostel whose facilities were read as dictionary ordinals, so the
+	 * facilities collection is never loaded.
+	 */
+	public HostelResponse toResponse(Hostel hostel, BitSet facilities) {
+		HostelResponse response = fields(hostel);
+		response.setFacilities(facilityDictionary.names(facilities));
+		return response;
+	}
+
+	private HostelResponse fields(Hostel hostel) {
 		HostelResponse response = new HostelResponse();
 		response.setHostelId(hostel.getHostelId());
 		response.setHostelName(hostel.getHostelName());
@@ -34,11 +56,6 @@ public class HostelMapper {
 			response.setOwnerName(hostel.getOwner().getName());
 		}
 
-		if (hostel.getFacilities() != null) {
-			response.setFacilities(
-					hostel.getFacilities().stream().map(Facility::getFacilityName).collect(Collectors.toList()));
-		}
-
 		return response;
 	}
 
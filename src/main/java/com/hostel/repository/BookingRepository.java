@@ -5,24 +5,33 @@ import com.hostel.entity.User;
 import com.hostel.entity.Hostel;
 import com.hostel.entity.Room;
 import com.hostel.enums.BookingStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.repository.query.Param;
 
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, Long> {
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingStreamRepository {
+
+	@Override
+	@EntityGraph(attributePaths = { "user", "hostel", "room", "payment" })
+	List<Booking> findAll();
 
 	List<Booking> findByUser(User user);
 
+	@EntityGraph(attributePaths = { "user", "hostel", "room", "payment" })
 	List<Booking> findByUser_UserId(Long userId);
 
 	List<Booking> findByHostel(Hostel hostel);
 
+	@EntityGraph(attributePaths = { "user", "hostel", "room", "payment" })
 	List<Booking> findByHostel_HostelId(Long hostelId);
 
 	List<Booking> findByRoom(Room room);
@@ -31,6 +40,7 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
 
 	List<Booking> findByUserAndBookingStatus(User user, BookingStatus status);
 
+	@EntityGraph(attributePaths = { "user", "hostel", "room", "payment" })
 	@Query("SELECT b FROM Booking b WHERE b.hostel.owner.userId = :ownerId")
 	List<Booking> findBookingsByOwner(@Param("ownerId") Long ownerId);
 
@@ -39,13 +49,47 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
 	List<Booking> findOverlappingBookings(@Param("roomId") Long roomId, @Param("checkIn") LocalDate checkIn,
 			@Param("checkOut") LocalDate checkOut);
 
+	@Query("SELECT b FROM Booking b JOIN FETCH b.room WHERE b.bookingStatus IN :statuses AND b.checkOutDate > :from")
+	List<Booking> findActiveFrom(@Param("statuses") List<BookingStatus> statuses, @Param("from") LocalDate from);
+
+	@Query("SELECT b.bookingId, b.holdExpiresAt FROM Booking b WHERE b.bookingStatus = :status")
+	List<Object[]> findHoldsByStatus(@Param("status") BookingStatus status);
+
+	@EntityGraph(attributePaths = { "hostel", "room", "payment" })
+	@Query("SELECT b FROM Booking b WHERE b.bookingId IN :ids AND b.bookingStatus = :status "
+			+ "AND (b.holdExpiresAt IS NULL OR b.holdExpiresAt <= :now)")
+	List<Booking> findExpiredHolds(@Param("ids") List<Long> ids, @Param("status") BookingStatus status,
+			@Param("now") LocalDateTime now);
+
 	@Query("SELECT COUNT(b) FROM Booking b")
 	Long countTotalBookings();
 
 	Long countByBookingStatus(BookingStatus status);
 
+	@Query("SELECT b.hostel.hostelId, b.hostel.owner.userId, b.bookingStatus, COUNT(b) FROM Booking b "
+			+ "GROUP BY b.hostel.hostelId, b.hostel.owner.userId, b.bookingStatus")
+	List<Object[]> countByHostelAndStatus();
+
 	// Optional<User> findByHostel_Owner_UserId(Long ownerId);
 
+	@EntityGraph(attributePaths = { "user", "hostel", "room", "payment" })
 	List<Booking> findByHostel_Owner_UserId(Long ownerId);
 
+	@EntityGraph(attributePaths = { "user", "hostel", "room", "payment" })
+	@Query("SELECT b FROM Booking b WHERE b.bookingId > :after ORDER BY b.bookingId")
+	List<Booking> findPage(@Param("after") Long after, Limit limit);
+
+	@EntityGraph(attributePaths = { "user", "hostel", "room", "payment" })
+	@Query("SELECT b FROM Booking b WHERE b.user.userId = :userId AND b.bookingId > :after ORDER BY b.bookingId")
+	List<Booking> findPageByUser(@Param("userId") Long userId, @Param("after") Long after, Limit limit);
+
+	@EntityGraph(attributePaths = { "user", "hostel", "room", "payment" })
+	@Query("SELECT b FROM Booking b WHERE b.hostel.hostelId = :hostelId AND b.bookingId > :after ORDER BY b.bookingId")
+	List<Booking> findPageByHostel(@Param("hostelId") Long hostelId, @Param("after") Long after, Limit limit);
+
+	@EntityGraph(attributePaths = { "user", "hostel", "room", "payment" })
+	@Query("SELECT b FROM Booking b WHERE b.hostel.owner.userId = :ownerId AND b.bookingId > :after ORDER BY b.bookingId")
+	List<Booking> findPageByOwner(@Param("ownerId") Long ownerId, @Param("after") Long after, Limit limit);
+
+
 }
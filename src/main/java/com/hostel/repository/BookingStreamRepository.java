@@ -0,0 +1,14 @@
+package com.hostel.repository;
+
+import com.hostel.entity.Booking;
+import java.util.stream.Stream;
+
+public interface BookingStreamRepository {
+
+	/**
+	 * Every booking with its user, hostel, room and payment, in id order, read
+	 * through a forward-only result set. Must be consumed inside a transaction
+	 * and closed.
+	 */
+	Stream<Booking> streamAll();
+}
@@ -0,0 +1,36 @@
+package com.hostel.repository;
+
+import com.hostel.entity.Booking;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.beans.factory.annotation.Value;
+import java.util.stream.Stream;
+
+/**
+ * Sets the fetch size on the export statement alone. The default of
+ * Integer.MIN_VALUE makes MySQL Connector/J stream that one result set row by
+ * row; every other statement keeps the driver defaults, so the shared URL
+ * needs no useCursorFetch (which turns on server-side prepares everywhere).
+ */
+public class BookingStreamRepositoryImpl implements BookingStreamRepository {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Value("${export.fetch-size:" + Integer.MIN_VALUE + "}")
+	private int fetchSize = Integer.MIN_VALUE;
+
+	@Override
+	public Stream<Booking> streamAll() {
+		EntityGraph<Booking> graph = entityManager.createEntityGraph(Booking.class);
+		graph.addAttributeNodes("user", "hostel", "room", "payment");
+		return entityManager.createQuery("SELECT b FROM Booking b ORDER BY b.bookingId", Booking.class)
+				.setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, graph)
+				.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+				.setHint(HibernateHints.HINT_READ_ONLY, true)
+				.getResultStream();
+	}
+}
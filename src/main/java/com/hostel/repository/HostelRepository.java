@@ -2,29 +2,64 @@ package com.hostel.repository;
 
 import com.hostel.entity.Hostel;
 import com.hostel.entity.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface HostelRepository extends JpaRepository<Hostel, Long> {
 
+	@EntityGraph(attributePaths = { "owner", "facilities" })
 	List<Hostel> findByApproved(Boolean approved);
 
 	List<Hostel> findByCity(String city);
 
+	@EntityGraph(attributePaths = { "owner", "facilities" })
 	List<Hostel> findByCityAndApproved(String city, Boolean approved);
 
 	List<Hostel> findByOwner(User owner);
 
+	@EntityGraph(attributePaths = { "owner", "facilities" })
 	List<Hostel> findByOwner_UserId(Long ownerId);
 
 	List<Hostel> findByHostelNameContainingIgnoreCase(String hostelName);
 
+	@EntityGraph(attributePaths = { "owner", "facilities" })
 	@Query("SELECT h FROM Hostel h WHERE h.city = :city AND h.approved = true")
 	List<Hostel> searchHostelsByCity(@Param("city") String city);
 
+	@EntityGraph(attributePaths = { "owner", "facilities" })
 	List<Hostel> findByApprovedTrue();
+
+	@EntityGraph(attributePaths = "owner")
+	@Query("SELECT h FROM Hostel h WHERE h.approved = true")
+	List<Hostel> findApprovedWithOwner();
+
+	@EntityGraph(attributePaths = "owner")
+	@Query("SELECT h FROM Hostel h WHERE h.hostelId IN :ids")
+	List<Hostel> findWithOwnerByIds(@Param("ids") Collection<Long> ids);
+
+	@Query("SELECT h.hostelId, f.facilityId FROM Hostel h JOIN h.facilities f WHERE h.approved = true")
+	List<Object[]> findApprovedFacilityIds();
+
+	@Query("SELECT h.hostelId, f.facilityId FROM Hostel h JOIN h.facilities f WHERE h.hostelId IN :ids")
+	List<Object[]> findFacilityIds(@Param("ids") Collection<Long> ids);
+
+	@EntityGraph(attributePaths = "owner")
+	@Query("SELECT h FROM Hostel h WHERE h.approved = :approved AND h.hostelId > :after ORDER BY h.hostelId")
+	List<Hostel> findPageByApproved(@Param("approved") Boolean approved, @Param("after") Long after, Limit limit);
+
+	@EntityGraph(attributePaths = "owner")
+	@Query("SELECT h FROM Hostel h WHERE h.city = :city AND h.approved = true AND h.hostelId > :after ORDER BY h.hostelId")
+	List<Hostel> findApprovedPageByCity(@Param("city") String city, @Param("after") Long after, Limit limit);
+
+	@EntityGraph(attributePaths = "owner")
+	@Query("SELECT h FROM Hostel h WHERE h.owner.userId = :ownerId AND h.hostelId > :after ORDER BY h.hostelId")
+	List<Hostel> findPageByOwner(@Param("ownerId") Long ownerId, @Param("after") Long after, Limit limit);
+
 }
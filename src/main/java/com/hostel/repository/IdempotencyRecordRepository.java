@@ -0,0 +1,16 @@
+package com.hostel.repository;
+
+import com.hostel.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+	@Modifying
+	@Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+	int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -7,11 +7,14 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public interface LogoutRepository extends JpaRepository<Logout, Long> {
 
 	boolean existsByToken(String token);
 
+	List<Logout> findByExpiresAtAfter(LocalDateTime now);
+
 	@Modifying
 	@Query("DELETE FROM Logout l WHERE l.expiresAt < :now")
 	int deleteExpiredTokens(@Param("now") LocalDateTime now);
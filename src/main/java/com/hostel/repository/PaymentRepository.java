@@ -2,7 +2,11 @@ package com.hostel.repository;
 
 import com.hostel.entity.Payment;
 import com.hostel.enums.PaymentStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
@@ -16,5 +20,10 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     
     List<Payment> findByPaymentStatus(PaymentStatus status);
     
+    @EntityGraph(attributePaths = "booking")
     List<Payment> findByBooking_User_UserId(Long userId);
-}
\ No newline at end of file
+
+    @EntityGraph(attributePaths = "booking")
+    @Query("SELECT p FROM Payment p WHERE p.booking.user.userId = :userId AND p.paymentId > :after ORDER BY p.paymentId")
+    List<Payment> findPageByUser(@Param("userId") Long userId, @Param("after") Long after, Limit limit);
+}
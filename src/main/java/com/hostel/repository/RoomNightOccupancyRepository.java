@@ -0,0 +1,28 @@
+package com.hostel.repository;
+
+import com.hostel.entity.RoomNightOccupancy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RoomNightOccupancyRepository extends JpaRepository<RoomNightOccupancy, Long> {
+
+	List<RoomNightOccupancy> findByRoom_RoomIdAndNightIn(Long roomId, Collection<LocalDate> nights);
+
+	@Query("SELECT o FROM RoomNightOccupancy o WHERE o.night >= :from AND o.bookedBeds > 0")
+	List<RoomNightOccupancy> findActiveFrom(@Param("from") LocalDate from);
+
+	@Modifying
+	@Query("DELETE FROM RoomNightOccupancy o WHERE o.night < :before")
+	int deleteNightsBefore(@Param("before") LocalDate before);
+
+	@Modifying
+	@Query("DELETE FROM RoomNightOccupancy o WHERE o.room.roomId = :roomId")
+	int deleteByRoomId(@Param("roomId") Long roomId);
+}
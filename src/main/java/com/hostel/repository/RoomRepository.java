@@ -3,6 +3,8 @@ package com.hostel.repository;
 import com.hostel.entity.Room;
 import com.hostel.entity.Hostel;
 import com.hostel.enums.RoomType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,20 +14,47 @@ import java.util.List;
 @Repository
 public interface RoomRepository extends JpaRepository<Room, Long> {
 
+	@Override
+	@EntityGraph(attributePaths = "hostel")
+	List<Room> findAll();
+
 	List<Room> findByHostel(Hostel hostel);
 
+	@EntityGraph(attributePaths = "hostel")
 	List<Room> findByHostel_HostelId(Long hostelId);
 
 	List<Room> findByRoomType(RoomType roomType);
 
 	List<Room> findByHostelAndRoomType(Hostel hostel, RoomType roomType);
 
+	@EntityGraph(attributePaths = "hostel")
 	@Query("SELECT r FROM Room r WHERE r.availableBeds > 0")
 	List<Room> findAvailableRooms();
 
+	@EntityGraph(attributePaths = "hostel")
 	@Query("SELECT r FROM Room r WHERE r.hostel.hostelId = :hostelId AND r.availableBeds > 0")
 	List<Room> findAvailableRoomsByHostel(@Param("hostelId") Long hostelId);
 
+	@EntityGraph(attributePaths = "hostel")
 	@Query("SELECT r FROM Room r WHERE r.pricePerNight BETWEEN :minPrice AND :maxPrice")
 	List<Room> findByPriceRange(@Param("minPrice") Double minPrice, @Param("maxPrice") Double maxPrice);
+
+	@EntityGraph(attributePaths = "hostel")
+	@Query("SELECT r FROM Room r WHERE r.roomId > :after ORDER BY r.roomId")
+	List<Room> findPage(@Param("after") Long after, Limit limit);
+
+	@EntityGraph(attributePaths = "hostel")
+	@Query("SELECT r FROM Room r WHERE r.hostel.hostelId = :hostelId AND r.roomId > :after ORDER BY r.roomId")
+	List<Room> findPageByHostel(@Param("hostelId") Long hostelId, @Param("after") Long after, Limit limit);
+
+	// availableBeds is the capacity per night; RoomService drops rooms booked out for the stay
+	@EntityGraph(attributePaths = "hostel")
+	@Query("SELECT r FROM Room r WHERE r.availableBeds > 0 AND r.roomId > :after ORDER BY r.roomId")
+	List<Room> findAvailablePage(@Param("after") Long after, Limit limit);
+
+	@EntityGraph(attributePaths = "hostel")
+	@Query("SELECT r FROM Room r WHERE r.hostel.hostelId = :hostelId AND r.availableBeds > 0 AND r.roomId > :after "
+			+ "ORDER BY r.roomId")
+	List<Room> findAvailablePageByHostel(@Param("hostelId") Long hostelId, @Param("after") Long after, Limit limit);
+
 }
@@ -3,7 +3,10 @@ package com.hostel.repository;
 import com.hostel.entity.User;
 import com.hostel.enums.UserRole;
 import com.hostel.enums.UserStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
@@ -29,4 +32,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
 	Optional<User> findByResetToken(String resetToken);
 
-}
\ No newline at end of file
+	@Query("SELECT u FROM User u WHERE u.userId > :after ORDER BY u.userId")
+	List<User> findPage(@Param("after") Long after, Limit limit);
+
+	@Query("SELECT u FROM User u WHERE u.role = :role AND u.userId > :after ORDER BY u.userId")
+	List<User> findPageByRole(@Param("role") UserRole role, @Param("after") Long after, Limit limit);
+
+	@Query("SELECT u FROM User u WHERE u.role = :role AND u.status = :status AND u.userId > :after ORDER BY u.userId")
+	List<User> findPageByRoleAndStatus(@Param("role") UserRole role, @Param("status") UserStatus status,
+			@Param("after") Long after, Limit limit);
+
+}
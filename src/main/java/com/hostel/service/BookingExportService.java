@@ -0,0 +1,121 @@
+package com.hostel.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hostel.dto.response.BookingResponse;
+import com.hostel.entity.Booking;
+import com.hostel.enums.ExportFormat;
+import com.hostel.mapper.BookingMapper;
+import com.hostel.repository.BookingRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Writes every booking with its payment to an output stream one row at a
+ * time. Rows come from a forward-only cursor and the persistence context is
+ * cleared as we go, so memory use does not depend on the table size.
+ */
+@Service
+public class BookingExportService {
+
+	private static final Logger logger = LoggerFactory.getLogger(BookingExportService.class);
+
+	private static final int CLEAR_EVERY = 500;
+
+	private static final String CSV_HEADER = "bookingId,userId,userName,hostelId,hostelName,roomId,roomType,"
+			+ "checkInDate,checkOutDate,numberOfBeds,totalPrice,bookingStatus,bookingDate,"
+			+ "paymentStatus,paymentMethod,transactionId,amount";
+
+	private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+	@Autowired
+	private BookingRepository bookingRepository;
+
+	@Autowired
+	private BookingMapper bookingMapper;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Transactional(readOnly = true)
+	public long export(ExportFormat format, OutputStream outputStream) throws IOException {
+		logger.info("Starting booking export - Format: {}", format);
+
+		Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+		if (format == ExportFormat.CSV) {
+			writer.write(CSV_HEADER);
+			writer.write('\n');
+		}
+
+		long rows = 0;
+		try (Stream<Booking> bookings = bookingRepository.streamAll()) {
+			var iterator = bookings.iterator();
+			while (iterator.hasNext()) {
+				BookingResponse row = bookingMapper.toResponse(iterator.next());
+				if (format == ExportFormat.CSV) {
+					writeCsv(writer, row);
+				} else {
+					writer.write(objectMapper.writeValueAsString(row));
+				}
+				writer.write('\n');
+
+				if (++rows % CLEAR_EVERY == 0) {
+					entityManager.clear();
+					writer.flush();
+				}
+			}
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		writer.flush();
+
+		logger.info("Booking export completed - Format: {}, Rows: {}", format, rows);
+		return rows;
+	}
+
+	private void writeCsv(Writer writer, BookingResponse row) throws IOException {
+		Object[] values = { row.getBookingId(), row.getUserId(), row.getUserName(), row.getHostelId(),
+				row.getHostelName(), row.getRoomId(), row.getRoomType(), row.getCheckInDate(), row.getCheckOutDate(),
+				row.getNumberOfBeds(), row.getTotalPrice(), row.getBookingStatus(), row.getBookingDate(),
+				row.getPaymentStatus(), row.getPaymentMethod(), row.getTransactionId(), row.getAmount() };
+		for (int i = 0; i < values.length; i++) {
+			if (i > 0) {
+				writer.write(',');
+			}
+			writer.write(csvField(values[i]));
+		}
+	}
+
+	private static String csvField(Object value) {
+		if (value == null) {
+			return "";
+		}
+		String text = value.toString();
+		// user-entered text that a spreadsheet would evaluate as a formula is kept as text
+		if (value instanceof String && !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+			text = "'" + text;
+		}
+		if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+			return text;
+		}
+		return '"' + text.replace("\"", "\"\"") + '"';
+	}
+}
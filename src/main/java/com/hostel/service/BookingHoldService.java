@@ -0,0 +1,213 @@
+package com.hostel.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hostel.entity.Booking;
+import com.hostel.entity.Payment;
+import com.hostel.enums.BookingStatus;
+import com.hostel.enums.PaymentStatus;
+import com.hostel.repository.BookingRepository;
+
+/**
+ * Expires unpaid bookings. Every PENDING_PAYMENT booking gets a hold that
+ * sits in a {@link DelayQueue} until its TTL passes; the reaper drains the
+ * expired holds and cancels them in one transaction per batch, giving the
+ * beds back to {@link RoomInventoryService}. Holds for bookings that were
+ * paid or cancelled in the meantime are skipped by the status check. A
+ * payment that completes while a batch is being cancelled fails the batch on
+ * the booking version; the batch is queued again and the paid booking is
+ * skipped on the next pass. A booking whose charge is still PENDING or
+ * UNKNOWN is not cancelled, since reconciliation may yet capture it; its hold
+ * is re-armed for another TTL. Any other failure ends the pass and the batch
+ * is retried after a backoff that doubles up to {@code max-retry-ms}.
+ */
+@Service
+public class BookingHoldService implements SmartInitializingSingleton {
+
+	private static final Logger logger = LoggerFactory.getLogger(BookingHoldService.class);
+
+	@Autowired
+	private BookingRepository bookingRepository;
+
+	@Autowired
+	private RoomInventoryService roomInventoryService;
+
+	@Autowired
+	private BookingStatisticsService bookingStatisticsService;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Value("${booking.hold.ttl-minutes:15}")
+	private long ttlMinutes = 15;
+
+	@Value("${booking.hold.batch-size:500}")
+	private int batchSize = 500;
+
+	@Value("${booking.hold.retry-ms:5000}")
+	private long retryMs = 5000;
+
+	@Value("${booking.hold.max-retry-ms:300000}")
+	private long maxRetryMs = 300000;
+
+	private final DelayQueue<Hold> holds = new DelayQueue<>();
+
+	// only touched by reap(), which the scheduler never runs concurrently
+	private int failures;
+	private long retryAfterMillis;
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(true);
+		List<Object[]> pending = transactionTemplate
+				.execute(status -> bookingRepository.findHoldsByStatus(BookingStatus.PENDING_PAYMENT));
+		for (Object[] row : pending) {
+			LocalDateTime expiresAt = row[1] != null ? (LocalDateTime) row[1] : newExpiry();
+			holds.add(new Hold((Long) row[0], toMillis(expiresAt)));
+		}
+		logger.info("Booking holds loaded - Pending: {}", pending.size());
+	}
+
+	public LocalDateTime newExpiry() {
+		return LocalDateTime.now().plusMinutes(ttlMinutes);
+	}
+
+	public void track(Booking booking) {
+		Hold hold = new Hold(booking.getBookingId(), toMillis(booking.getHoldExpiresAt()));
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			holds.add(hold);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				holds.add(hold);
+			}
+		});
+	}
+
+	public int pending() {
+		return holds.size();
+	}
+
+	@Scheduled(fixedDelayString = "${booking.hold.reap-ms:5000}")
+	public void reap() {
+		if (System.currentTimeMillis() < retryAfterMillis) {
+			return;
+		}
+		int cancelled = 0;
+		List<Hold> expired = new ArrayList<>();
+		while (holds.drainTo(expired, batchSize) > 0) {
+			int batch = cancelBatch(expired);
+			boolean lastBatch = expired.size() < batchSize;
+			expired.clear();
+			// a failed batch is back in the queue; draining again would only pick it up again
+			if (batch < 0 || lastBatch) {
+				break;
+			}
+			cancelled += batch;
+		}
+		if (cancelled > 0) {
+			logger.info("Expired booking holds cancelled - Count: {}", cancelled);
+		}
+	}
+
+	/**
+	 * Cancels one batch of expired holds and returns how many bookings were
+	 * cancelled, or -1 if the batch failed and was queued again.
+	 */
+	private int cancelBatch(List<Hold> expired) {
+		List<Long> bookingIds = expired.stream().map(hold -> hold.bookingId).toList();
+		List<Hold> rearmed = new ArrayList<>();
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		try {
+			Integer cancelled = transactionTemplate.execute(status -> {
+				List<Booking> bookings = new ArrayList<>();
+				for (Booking booking : bookingRepository.findExpiredHolds(bookingIds, BookingStatus.PENDING_PAYMENT,
+						LocalDateTime.now())) {
+					if (isInFlight(booking.getPayment())) {
+						rearmed.add(new Hold(booking.getBookingId(), toMillis(newExpiry())));
+						continue;
+					}
+					booking.setBookingStatus(BookingStatus.CANCELLED);
+					roomInventoryService.release(booking.getRoom(), booking.getCheckInDate(),
+							booking.getCheckOutDate(), booking.getNumberOfBeds());
+					bookingStatisticsService.recordTransition(booking, BookingStatus.PENDING_PAYMENT);
+					bookings.add(booking);
+				}
+				bookingRepository.saveAll(bookings);
+				return bookings.size();
+			});
+			failures = 0;
+			if (!rearmed.isEmpty()) {
+				holds.addAll(rearmed);
+				logger.info("Booking holds extended, payment still in flight - Holds: {}", rearmed.size());
+			}
+			return cancelled == null ? 0 : cancelled;
+		} catch (OptimisticLockingFailureException e) {
+			holds.addAll(expired);
+			logger.warn("Booking changed while expiring holds, retrying - Holds: {}", expired.size());
+			return -1;
+		} catch (RuntimeException e) {
+			failures++;
+			retryAfterMillis = System.currentTimeMillis() + backoffMillis();
+			holds.addAll(expired);
+			logger.error("Booking hold expiry failed - Holds: {}, Attempt: {}", expired.size(), failures, e);
+			return -1;
+		}
+	}
+
+	private long backoffMillis() {
+		return Math.min(maxRetryMs, retryMs << Math.min(failures - 1, 16));
+	}
+
+	private static boolean isInFlight(Payment payment) {
+		return payment != null && (payment.getPaymentStatus() == PaymentStatus.PENDING
+				|| payment.getPaymentStatus() == PaymentStatus.UNKNOWN);
+	}
+
+	private static long toMillis(LocalDateTime dateTime) {
+		return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	private static final class Hold implements Delayed {
+
+		private final Long bookingId;
+		private final long expiresAtMillis;
+
+		private Hold(Long bookingId, long expiresAtMillis) {
+			this.bookingId = bookingId;
+			this.expiresAtMillis = expiresAtMillis;
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit) {
+			return unit.convert(expiresAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+		}
+
+		@Override
+		public int compareTo(Delayed other) {
+			return Long.compare(expiresAtMillis, ((Hold) other).expiresAtMillis);
+		}
+	}
+}
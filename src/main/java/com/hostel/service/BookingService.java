@@ -4,8 +4,11 @@ package com.hostel.service;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -17,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.hostel.dto.request.BookingRequest;
 import com.hostel.dto.response.BookingResponse;
 import com.hostel.dto.response.BookingStatisticsResponse;
+import com.hostel.dto.response.CursorPage;
 import com.hostel.entity.Booking;
 import com.hostel.entity.Hostel;
 import com.hostel.entity.Room;
@@ -30,8 +34,11 @@ import com.hostel.repository.HostelRepository;
 import com.hostel.repository.RoomRepository;
 import com.hostel.repository.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 @Service
 @Transactional
+@Timed(value = "hostel.service", histogram = true, percentiles = { 0.5, 0.95, 0.99 })
 public class BookingService {
 
 	private static final Logger logger = LoggerFactory.getLogger(BookingService.class);
@@ -51,6 +58,15 @@ public class BookingService {
 	@Autowired
 	private BookingMapper bookingMapper;
 
+	@Autowired
+	private RoomInventoryService roomInventoryService;
+
+	@Autowired
+	private BookingStatisticsService bookingStatisticsService;
+
+	@Autowired
+	private BookingHoldService bookingHoldService;
+
 //    public BookingResponse createBooking(BookingRequest request) {
 //        logger.info("Creating booking - User ID: {}, Hostel ID: {}, Room ID: {}", 
 //                   request.getUserId(), request.getHostelId(), request.getRoomId());
@@ -170,8 +186,8 @@ public class BookingService {
 	// BookingService.java
 
 	public BookingResponse createBooking(BookingRequest request) {
-		logger.info("Creating booking - User ID: {}, Hostel ID: {}, Room ID: {}", request.getUserId(),
-				request.getHostelId(), request.getRoomId());
+		logger.atInfo().setMessage("Creating booking").addKeyValue("userId", request.getUserId())
+				.addKeyValue("hostelId", request.getHostelId()).addKeyValue("roomId", request.getRoomId()).log();
 
 		try {
 
@@ -184,24 +200,16 @@ public class BookingService {
 			Room room = roomRepository.findById(request.getRoomId())
 					.orElseThrow(() -> new ResourceNotFoundException("Room", "roomId", request.getRoomId()));
 
-			long numberOfNights = ChronoUnit.DAYS.between(request.getCheckInDate(), request.getCheckOutDate());
-			double totalPrice = numberOfNights * room.getPricePerNight() * request.getNumberOfBeds();
-
-			Booking booking = bookingMapper.toEntity(request);
-			booking.setUser(user);
-			booking.setHostel(hostel);
-			booking.setRoom(room);
-			booking.setTotalPrice(totalPrice);
-
-			booking.setBookingStatus(BookingStatus.PENDING_PAYMENT);
+			validateStay(request, hostel);
+			reserveBeds(request, room);
 
-			room.setAvailableBeds(room.getAvailableBeds() - request.getNumberOfBeds());
-			roomRepository.save(room);
+			Booking savedBooking = bookingRepository.save(newBooking(request, user, hostel, room));
+			bookingStatisticsService.recordCreated(savedBooking);
+			bookingHoldService.track(savedBooking);
 
-			Booking savedBooking = bookingRepository.save(booking);
-
-			logger.info("Booking created - ID: {}, Status: PENDING_PAYMENT, Amount: {}", savedBooking.getBookingId(),
-					totalPrice);
+			logger.atInfo().setMessage("Booking created").addKeyValue("bookingId", savedBooking.getBookingId())
+					.addKeyValue("status", BookingStatus.PENDING_PAYMENT)
+					.addKeyValue("amount", savedBooking.getTotalPrice()).log();
 
 			return bookingMapper.toResponse(savedBooking);
 
@@ -214,8 +222,111 @@ public class BookingService {
 		}
 	}
 
+	/**
+	 * Creates a group of bookings all-or-nothing. Users, hostels and rooms are
+	 * loaded with one findAllById each and the bookings are written with a
+	 * single saveAll. If any room cannot be reserved the transaction rolls
+	 * back and the room calendars undo the reservations already made.
+	 */
+	public List<BookingResponse> createBookings(List<BookingRequest> requests) {
+		logger.atInfo().setMessage("Creating batch booking").addKeyValue("bookings", requests.size()).log();
+
+		Map<Long, User> users = byId(userRepository.findAllById(idsOf(requests, BookingRequest::getUserId)),
+				User::getUserId);
+		Map<Long, Hostel> hostels = byId(hostelRepository.findAllById(idsOf(requests, BookingRequest::getHostelId)),
+				Hostel::getHostelId);
+		Map<Long, Room> rooms = byId(roomRepository.findAllById(idsOf(requests, BookingRequest::getRoomId)),
+				Room::getRoomId);
+
+		List<Booking> bookings = new ArrayList<>(requests.size());
+		for (BookingRequest request : requests) {
+			User user = users.get(request.getUserId());
+			if (user == null) {
+				throw new ResourceNotFoundException("User", "userId", request.getUserId());
+			}
+			Hostel hostel = hostels.get(request.getHostelId());
+			if (hostel == null) {
+				throw new ResourceNotFoundException("Hostel", "hostelId", request.getHostelId());
+			}
+			Room room = rooms.get(request.getRoomId());
+			if (room == null) {
+				throw new ResourceNotFoundException("Room", "roomId", request.getRoomId());
+			}
+
+			validateStay(request, hostel);
+			reserveBeds(request, room);
+			bookings.add(newBooking(request, user, hostel, room));
+		}
+
+		List<Booking> savedBookings = bookingRepository.saveAll(bookings);
+		for (Booking savedBooking : savedBookings) {
+			bookingStatisticsService.recordCreated(savedBooking);
+			bookingHoldService.track(savedBooking);
+		}
+
+		logger.atInfo().setMessage("Batch booking created").addKeyValue("bookings", savedBookings.size()).log();
+		return savedBookings.stream().map(bookingMapper::toResponse).toList();
+	}
+
+	private void validateStay(BookingRequest request, Hostel hostel) {
+		if (request.getCheckInDate().isBefore(LocalDate.now())) {
+			logger.warn("Booking validation failed: Check-in date is in the past - {}", request.getCheckInDate());
+			throw new BadRequestException("Check-in date cannot be in the past");
+		}
+
+		if (!request.getCheckOutDate().isAfter(request.getCheckInDate())) {
+			logger.warn("Booking validation failed: Check-out date before check-in - CheckIn: {}, CheckOut: {}",
+					request.getCheckInDate(), request.getCheckOutDate());
+			throw new BadRequestException("Check-out date must be after check-in date");
+		}
+
+		if (!hostel.getApproved()) {
+			logger.warn("Booking failed: Hostel not approved - ID: {}", hostel.getHostelId());
+			throw new BadRequestException("Hostel is not approved for bookings");
+		}
+	}
+
+	private void reserveBeds(BookingRequest request, Room room) {
+		if (!roomInventoryService.reserve(room, request.getCheckInDate(), request.getCheckOutDate(),
+				request.getNumberOfBeds())) {
+			int availableBeds = roomInventoryService.getAvailableBeds(room, request.getCheckInDate(),
+					request.getCheckOutDate());
+			logger.warn("Booking failed: Insufficient beds - Room ID: {}, Available: {}, Required: {}",
+					room.getRoomId(), availableBeds, request.getNumberOfBeds());
+			if (availableBeds == 0) {
+				throw new BadRequestException("Room is already booked for selected dates");
+			}
+			throw new BadRequestException("Not enough beds available. Only " + availableBeds + " beds available");
+		}
+	}
+
+	private Booking newBooking(BookingRequest request, User user, Hostel hostel, Room room) {
+		Booking booking = bookingMapper.toEntity(request);
+		booking.setUser(user);
+		booking.setHostel(hostel);
+		booking.setRoom(room);
+		booking.setTotalPrice(totalPrice(request, room));
+
+		booking.setBookingStatus(BookingStatus.PENDING_PAYMENT);
+		booking.setHoldExpiresAt(bookingHoldService.newExpiry());
+		return booking;
+	}
+
+	public static double totalPrice(BookingRequest request, Room room) {
+		long numberOfNights = ChronoUnit.DAYS.between(request.getCheckInDate(), request.getCheckOutDate());
+		return numberOfNights * room.getPricePerNight() * request.getNumberOfBeds();
+	}
+
+	private static Set<Long> idsOf(List<BookingRequest> requests, Function<BookingRequest, Long> id) {
+		return requests.stream().map(id).collect(Collectors.toSet());
+	}
+
+	private static <T> Map<Long, T> byId(List<T> entities, Function<T, Long> id) {
+		return entities.stream().collect(Collectors.toMap(id, Function.identity()));
+	}
+
 	public BookingResponse confirmBookingAfterPayment(Long bookingId) {
-		logger.info("Confirming booking after payment - ID: {}", bookingId);
+		logger.atInfo().setMessage("Confirming booking after payment").addKeyValue("bookingId", bookingId).log();
 
 		Booking booking = bookingRepository.findById(bookingId)
 				.orElseThrow(() -> new ResourceNotFoundException("Booking", "bookingId", bookingId));
@@ -226,14 +337,17 @@ public class BookingService {
 		}
 
 		booking.setBookingStatus(BookingStatus.CONFIRMED);
+		booking.setHoldExpiresAt(null);
 		Booking updatedBooking = bookingRepository.save(booking);
+		bookingStatisticsService.recordTransition(updatedBooking, BookingStatus.PENDING_PAYMENT);
 
-		logger.info("Booking confirmed successfully - ID: {}", bookingId);
+		logger.atInfo().setMessage("Booking confirmed").addKeyValue("bookingId", bookingId).log();
 		return bookingMapper.toResponse(updatedBooking);
 	}
 
 	public BookingResponse cancelBooking(Long bookingId, String reason) {
-		logger.info("Attempting to cancel booking - ID: {}, Reason: {}", bookingId, reason);
+		logger.atInfo().setMessage("Cancelling booking").addKeyValue("bookingId", bookingId)
+				.addKeyValue("reason", reason).log();
 
 		Booking booking = bookingRepository.findById(bookingId).orElseThrow(() -> {
 			logger.error("Booking cancellation failed: Booking not found - ID: {}", bookingId);
@@ -250,27 +364,32 @@ public class BookingService {
 			throw new BadRequestException("Booking is already cancelled");
 		}
 
+		BookingStatus previousStatus = booking.getBookingStatus();
 		booking.setBookingStatus(BookingStatus.CANCELLED);
 
 		Room room = booking.getRoom();
-		int previousAvailability = room.getAvailableBeds();
-		room.setAvailableBeds(room.getAvailableBeds() + booking.getNumberOfBeds());
-		roomRepository.save(room);
+		roomInventoryService.release(room, booking.getCheckInDate(), booking.getCheckOutDate(),
+				booking.getNumberOfBeds());
 
-		logger.debug("Room availability restored - Room ID: {}, Previous: {}, New: {}", room.getRoomId(),
-				previousAvailability, room.getAvailableBeds());
+		logger.debug("Room availability restored - Room ID: {}, CheckIn: {}, CheckOut: {}", room.getRoomId(),
+				booking.getCheckInDate(), booking.getCheckOutDate());
 
 		Booking updatedBooking = bookingRepository.save(booking);
+		bookingStatisticsService.recordTransition(updatedBooking, previousStatus);
 
-		logger.info("Booking cancelled successfully - ID: {}, User: {}, Beds restored: {}", bookingId,
-				booking.getUser().getEmail(), booking.getNumberOfBeds());
+		// the supplier keeps the lazy user unloaded when INFO is off
+		logger.atInfo().setMessage("Booking cancelled").addKeyValue("bookingId", bookingId)
+				.addKeyValue("user", () -> booking.getUser().getEmail())
+				.addKeyValue("bedsRestored", booking.getNumberOfBeds()).log();
 
 		return bookingMapper.toResponse(updatedBooking);
 	}
 
-	public List<BookingResponse> getAllBookings() {
-		logger.info("Fetching all bookings");
-		return bookingRepository.findAll().stream().map(bookingMapper::toResponse).collect(Collectors.toList());
+	public CursorPage<BookingResponse> getAllBookings(Long cursor, Integer size) {
+		logger.info("Fetching bookings page - Cursor: {}, Size: {}", cursor, size);
+		int pageSize = CursorPage.size(size);
+		List<Booking> rows = bookingRepository.findPage(CursorPage.after(cursor), CursorPage.fetchLimit(pageSize));
+		return CursorPage.of(rows, pageSize, Booking::getBookingId, bookingMapper::toResponse);
 
 	}
 
@@ -282,17 +401,21 @@ public class BookingService {
 
 	}
 
-	public List<BookingResponse> getBookingsByHostel(Long hostelId) {
-		logger.info("Fetching bookings for hostel ID: {}", hostelId);
-		return bookingRepository.findByHostel_HostelId(hostelId).stream().map(bookingMapper::toResponse)
-				.collect(Collectors.toList());
+	public CursorPage<BookingResponse> getBookingsByHostel(Long hostelId, Long cursor, Integer size) {
+		logger.info("Fetching bookings for hostel ID: {}, Cursor: {}", hostelId, cursor);
+		int pageSize = CursorPage.size(size);
+		List<Booking> rows = bookingRepository.findPageByHostel(hostelId, CursorPage.after(cursor),
+				CursorPage.fetchLimit(pageSize));
+		return CursorPage.of(rows, pageSize, Booking::getBookingId, bookingMapper::toResponse);
 
 	}
 
-	public List<BookingResponse> getBookingsByOwner(Long ownerId) {
-		logger.info("Fetching bookings for owner ID: {}", ownerId);
-		return bookingRepository.findByHostel_Owner_UserId(ownerId).stream().map(bookingMapper::toResponse)
-				.collect(Collectors.toList());
+	public CursorPage<BookingResponse> getBookingsByOwner(Long ownerId, Long cursor, Integer size) {
+		logger.info("Fetching bookings for owner ID: {}, Cursor: {}", ownerId, cursor);
+		int pageSize = CursorPage.size(size);
+		List<Booking> rows = bookingRepository.findPageByOwner(ownerId, CursorPage.after(cursor),
+				CursorPage.fetchLimit(pageSize));
+		return CursorPage.of(rows, pageSize, Booking::getBookingId, bookingMapper::toResponse);
 
 	}
 
@@ -301,31 +424,61 @@ public class BookingService {
 		Booking booking = bookingRepository.findById(bookingId)
 				.orElseThrow(() -> new ResourceNotFoundException("Booking", "bookingId", bookingId));
 
+		BookingStatus previousStatus = booking.getBookingStatus();
+		Room room = booking.getRoom();
+		if (!holdsBeds(previousStatus) && holdsBeds(status)) {
+			if (!roomInventoryService.reserve(room, booking.getCheckInDate(), booking.getCheckOutDate(),
+					booking.getNumberOfBeds())) {
+				logger.warn("Booking status update failed: Insufficient beds - ID: {}, Room ID: {}", bookingId,
+						room.getRoomId());
+				throw new BadRequestException("Room no longer has enough beds for this booking");
+			}
+		} else if (holdsBeds(previousStatus) && !holdsBeds(status)) {
+			roomInventoryService.release(room, booking.getCheckInDate(), booking.getCheckOutDate(),
+					booking.getNumberOfBeds());
+		}
+
 		booking.setBookingStatus(status);
+		if (status == BookingStatus.PENDING_PAYMENT && previousStatus != BookingStatus.PENDING_PAYMENT) {
+			booking.setHoldExpiresAt(bookingHoldService.newExpiry());
+			bookingHoldService.track(booking);
+		} else if (status != BookingStatus.PENDING_PAYMENT) {
+			booking.setHoldExpiresAt(null);
+		}
 		Booking updatedBooking = bookingRepository.save(booking);
+		bookingStatisticsService.recordTransition(updatedBooking, previousStatus);
 
 		logger.info("Booking status updated successfully - ID: {}, Status: {}", bookingId, status);
 		return bookingMapper.toResponse(updatedBooking);
 
 	}
 
+	// the statuses the room calendars count, as rebuilt by RoomInventoryService on start
+	private static boolean holdsBeds(BookingStatus status) {
+		return status == BookingStatus.PENDING_PAYMENT || status == BookingStatus.CONFIRMED;
+	}
+
 	public BookingStatisticsResponse getStatistics() {
-		long total = bookingRepository.count();
-		long confirmed = bookingRepository.countByBookingStatus(BookingStatus.CONFIRMED);
-		long cancelled = bookingRepository.countByBookingStatus(BookingStatus.CANCELLED);
-		long completed = bookingRepository.countByBookingStatus(BookingStatus.COMPLETED);
+		return bookingStatisticsService.getStatistics();
+	}
+
+	public BookingStatisticsResponse getHostelStatistics(Long hostelId) {
+		return bookingStatisticsService.getHostelStatistics(hostelId);
+	}
 
-		return new BookingStatisticsResponse(total, confirmed, cancelled, completed);
+	public BookingStatisticsResponse getOwnerStatistics(Long ownerId) {
+		return bookingStatisticsService.getOwnerStatistics(ownerId);
 	}
 
-	public List<BookingResponse> getBookingsByUser(long userId) {
-		logger.info("Fetching bookings for userId={}", userId);
-		List<Booking> bookings = bookingRepository.findByUser_UserId(userId);
+	public CursorPage<BookingResponse> getBookingsByUser(long userId, Long cursor, Integer size) {
+		logger.info("Fetching bookings for userId={}, cursor={}", userId, cursor);
+		int pageSize = CursorPage.size(size);
+		List<Booking> bookings = bookingRepository.findPageByUser(userId, CursorPage.after(cursor),
+				CursorPage.fetchLimit(pageSize));
 		if (bookings.isEmpty()) {
 			logger.warn("No bookings found for userId={}", userId);
-			return Collections.emptyList();
 		}
-		return bookings.stream().map(bookingMapper::toResponse).collect(Collectors.toList());
+		return CursorPage.of(bookings, pageSize, Booking::getBookingId, bookingMapper::toResponse);
 	}
 
 }
@@ -0,0 +1,210 @@
+package com.hostel.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hostel.dto.response.BookingStatisticsResponse;
+import com.hostel.entity.Booking;
+import com.hostel.entity.Hostel;
+import com.hostel.enums.BookingStatus;
+import com.hostel.repository.BookingRepository;
+
+/**
+ * Keeps booking counts per status, hostel and owner in memory. Counters move
+ * on every committed status change and are periodically rebuilt from a single
+ * GROUP BY query to repair any drift. Changes committed while the query runs
+ * are journaled and replayed onto the rebuilt counters before they replace
+ * the live ones. A change committed just before the query starts can still
+ * be counted twice; the next rebuild corrects it.
+ */
+@Service
+public class BookingStatisticsService implements SmartInitializingSingleton {
+
+	private static final Logger logger = LoggerFactory.getLogger(BookingStatisticsService.class);
+
+	@Autowired
+	private BookingRepository bookingRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private volatile Counters counters = new Counters();
+
+	// guards the swap against concurrent changes; only held for in-memory work
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private List<Consumer<Counters>> journal;
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		reconcile();
+	}
+
+	public void recordCreated(Booking booking) {
+		record(booking, null, booking.getBookingStatus());
+	}
+
+	public void recordTransition(Booking booking, BookingStatus previous) {
+		record(booking, previous, booking.getBookingStatus());
+	}
+
+	public BookingStatisticsResponse getStatistics() {
+		return counters.global.toResponse();
+	}
+
+	public BookingStatisticsResponse getHostelStatistics(Long hostelId) {
+		return counters.byHostel.getOrDefault(hostelId, StatusCounters.EMPTY).toResponse();
+	}
+
+	public BookingStatisticsResponse getOwnerStatistics(Long ownerId) {
+		return counters.byOwner.getOrDefault(ownerId, StatusCounters.EMPTY).toResponse();
+	}
+
+	@Scheduled(initialDelayString = "${statistics.reconcile-ms:300000}",
+			fixedDelayString = "${statistics.reconcile-ms:300000}")
+	public void reconcile() {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(true);
+		List<Consumer<Counters>> changes = new ArrayList<>();
+		withLock(() -> journal = changes);
+		List<Object[]> rows;
+		try {
+			rows = transactionTemplate.execute(status -> bookingRepository.countByHostelAndStatus());
+		} catch (RuntimeException e) {
+			withLock(() -> journal = null);
+			throw e;
+		}
+
+		Counters rebuilt = new Counters();
+		for (Object[] row : rows) {
+			rebuilt.add((Long) row[0], (Long) row[1], (BookingStatus) row[2], ((Number) row[3]).longValue());
+		}
+
+		long before;
+		lock.lock();
+		try {
+			changes.forEach(change -> change.accept(rebuilt));
+			before = counters.global.total();
+			counters = rebuilt;
+			journal = null;
+		} finally {
+			lock.unlock();
+		}
+		logger.info("Booking statistics reconciled - Total: {}, Drift: {}, Replayed: {}", rebuilt.global.total(),
+				rebuilt.global.total() - before, changes.size());
+	}
+
+	private void record(Booking booking, BookingStatus from, BookingStatus to) {
+		if (from == to) {
+			return;
+		}
+		Hostel hostel = booking.getHostel();
+		Long hostelId = hostel != null ? hostel.getHostelId() : null;
+		Long ownerId = hostel != null && hostel.getOwner() != null ? hostel.getOwner().getUserId() : null;
+
+		Consumer<Counters> change = target -> {
+			if (from != null) {
+				target.add(hostelId, ownerId, from, -1);
+			}
+			if (to != null) {
+				target.add(hostelId, ownerId, to, 1);
+			}
+		};
+		afterCommit(() -> withLock(() -> {
+			change.accept(counters);
+			if (journal != null) {
+				journal.add(change);
+			}
+		}));
+	}
+
+	private void withLock(Runnable action) {
+		lock.lock();
+		try {
+			action.run();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private static void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+	private static final class Counters {
+
+		private final StatusCounters global = new StatusCounters();
+		private final Map<Long, StatusCounters> byHostel = new ConcurrentHashMap<>();
+		private final Map<Long, StatusCounters> byOwner = new ConcurrentHashMap<>();
+
+		private void add(Long hostelId, Long ownerId, BookingStatus status, long delta) {
+			global.add(status, delta);
+			if (hostelId != null) {
+				byHostel.computeIfAbsent(hostelId, id -> new StatusCounters()).add(status, delta);
+			}
+			if (ownerId != null) {
+				byOwner.computeIfAbsent(ownerId, id -> new StatusCounters()).add(status, delta);
+			}
+		}
+	}
+
+	private static final class StatusCounters {
+
+		private static final StatusCounters EMPTY = new StatusCounters();
+
+		private final LongAdder[] counts = new LongAdder[BookingStatus.values().length];
+
+		private StatusCounters() {
+			for (int i = 0; i < counts.length; i++) {
+				counts[i] = new LongAdder();
+			}
+		}
+
+		private void add(BookingStatus status, long delta) {
+			counts[status.ordinal()].add(delta);
+		}
+
+		private long get(BookingStatus status) {
+			return counts[status.ordinal()].sum();
+		}
+
+		private long total() {
+			long total = 0;
+			for (LongAdder count : counts) {
+				total += count.sum();
+			}
+			return total;
+		}
+
+		private BookingStatisticsResponse toResponse() {
+			return new BookingStatisticsResponse(total(), get(BookingStatus.PENDING_PAYMENT),
+					get(BookingStatus.CONFIRMED), get(BookingStatus.CANCELLED), get(BookingStatus.REJECTED),
+					get(BookingStatus.COMPLETED));
+		}
+	}
+}
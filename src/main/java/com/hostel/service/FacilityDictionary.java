@@ -0,0 +1,294 @@
+package com.hostel.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hostel.entity.Facility;
+import com.hostel.exception.ResourceNotFoundException;
+import com.hostel.repository.FacilityRepository;
+
+/**
+ * In-memory copy of the facilities table. Every facility gets a dense ordinal
+ * so a hostel's facilities fit in a small {@link BitSet} (pooled ids are too
+ * sparse to index by directly) and a facility filter is a bitwise AND. Names
+ * are interned and shared by every mapped response. The table is loaded on
+ * first use and {@link FacilityService} applies its changes after commit;
+ * ordinals of deleted facilities are not reused.
+ */
+@Service
+public class FacilityDictionary {
+
+	private static final Logger logger = LoggerFactory.getLogger(FacilityDictionary.class);
+
+	@Autowired
+	private FacilityRepository facilityRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private volatile Snapshot snapshot;
+
+	// the first load runs a query under the lock, which must not pin a virtual thread
+	private final ReentrantLock lock = new ReentrantLock();
+
+	public boolean contains(Long facilityId) {
+		return snapshot().byId.containsKey(facilityId);
+	}
+
+	/**
+	 * Resolves facility ids to entity references without selecting the rows;
+	 * only usable inside a transaction.
+	 */
+	public Set<Facility> references(Collection<Long> facilityIds) {
+		Set<Facility> facilities = new HashSet<>();
+		if (facilityIds == null) {
+			return facilities;
+		}
+		Snapshot current = snapshot();
+		for (Long facilityId : facilityIds) {
+			if (!current.byId.containsKey(facilityId)) {
+				logger.error("Facility not found - ID: {}", facilityId);
+				throw new ResourceNotFoundException("Facility", "facilityId", facilityId);
+			}
+			facilities.add(facilityRepository.getReferenceById(facilityId));
+		}
+		return facilities;
+	}
+
+	public BitSet encode(Collection<Facility> facilities) {
+		BitSet bits = new BitSet();
+		if (facilities != null) {
+			Snapshot current = snapshot();
+			for (Facility facility : facilities) {
+				Entry entry = current.byId.get(facility.getFacilityId());
+				if (entry != null) {
+					bits.set(entry.ordinal);
+				}
+			}
+		}
+		return bits;
+	}
+
+	/**
+	 * Encodes a facility filter, or returns null when it names a facility that
+	 * does not exist and therefore cannot match any hostel.
+	 */
+	public BitSet encodeIds(Collection<Long> facilityIds) {
+		BitSet bits = new BitSet();
+		if (facilityIds != null) {
+			Snapshot current = snapshot();
+			for (Long facilityId : facilityIds) {
+				Entry entry = current.byId.get(facilityId);
+				if (entry == null) {
+					return null;
+				}
+				bits.set(entry.ordinal);
+			}
+		}
+		return bits;
+	}
+
+	/**
+	 * Groups (hostel id, facility id) rows into one ordinal set per hostel.
+	 * Ids the dictionary has not picked up yet are skipped.
+	 */
+	public Map<Long, BitSet> encodeRows(List<Object[]> rows) {
+		Map<Long, BitSet> byHostel = new HashMap<>();
+		Snapshot current = snapshot();
+		for (Object[] row : rows) {
+			Entry entry = current.byId.get((Long) row[1]);
+			if (entry != null) {
+				byHostel.computeIfAbsent((Long) row[0], hostelId -> new BitSet()).set(entry.ordinal);
+			}
+		}
+		return byHostel;
+	}
+
+	public static boolean hasAll(BitSet facilities, BitSet required) {
+		BitSet matched = (BitSet) required.clone();
+		matched.and(facilities);
+		return matched.equals(required);
+	}
+
+	/**
+	 * Facility names in ordinal order. Facilities committed after the last
+	 * dictionary update are appended with their own names.
+	 */
+	public List<String> names(Collection<Facility> facilities) {
+		List<String> names = new ArrayList<>();
+		if (facilities == null || facilities.isEmpty()) {
+			return names;
+		}
+		BitSet bits = new BitSet();
+		List<String> unknown = null;
+		Snapshot current = snapshot();
+		for (Facility facility : facilities) {
+			Entry entry = current.byId.get(facility.getFacilityId());
+			if (entry != null) {
+				bits.set(entry.ordinal);
+			} else {
+				if (unknown == null) {
+					unknown = new ArrayList<>();
+				}
+				unknown.add(facility.getFacilityName());
+			}
+		}
+		names.addAll(names(bits));
+		if (unknown != null) {
+			names.addAll(unknown);
+		}
+		return names;
+	}
+
+	/**
+	 * Facility names for an ordinal set from {@link #encode} or
+	 * {@link #encodeRows}, in ordinal order.
+	 */
+	public List<String> names(BitSet facilities) {
+		List<String> names = new ArrayList<>(facilities.cardinality());
+		Snapshot current = snapshot();
+		for (int ordinal = facilities.nextSetBit(0); ordinal >= 0; ordinal = facilities.nextSetBit(ordinal + 1)) {
+			names.add(current.byOrdinal.get(ordinal).name);
+		}
+		return names;
+	}
+
+	public int size() {
+		return snapshot().byId.size();
+	}
+
+	public int loadedSize() {
+		Snapshot current = snapshot;
+		return current == null ? 0 : current.byId.size();
+	}
+
+	public void register(Facility facility) {
+		Long facilityId = facility.getFacilityId();
+		String name = facility.getFacilityName();
+		afterCommit(() -> update(current -> current.with(facilityId, name)));
+	}
+
+	public void remove(Long facilityId) {
+		afterCommit(() -> update(current -> current.without(facilityId)));
+	}
+
+	private void update(UnaryOperator<Snapshot> change) {
+		lock.lock();
+		try {
+			// not loaded yet: the first load reads the committed change from the table
+			if (snapshot != null) {
+				snapshot = change.apply(snapshot);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private Snapshot snapshot() {
+		Snapshot current = snapshot;
+		return current != null ? current : load();
+	}
+
+	private Snapshot load() {
+		lock.lock();
+		try {
+			if (snapshot == null) {
+				TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+				transactionTemplate.setReadOnly(true);
+				List<Facility> facilities = new ArrayList<>(
+						transactionTemplate.execute(status -> facilityRepository.findAll()));
+				facilities.sort(Comparator.comparing(Facility::getFacilityId));
+				Map<Long, Entry> byId = new HashMap<>();
+				List<Entry> byOrdinal = new ArrayList<>();
+				for (Facility facility : facilities) {
+					Entry entry = new Entry(byOrdinal.size(), facility.getFacilityName());
+					byOrdinal.add(entry);
+					byId.put(facility.getFacilityId(), entry);
+				}
+				Snapshot loaded = new Snapshot(byId, byOrdinal);
+				snapshot = loaded;
+				logger.info("Facility dictionary loaded - Facilities: {}", loaded.byId.size());
+			}
+			return snapshot;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private static void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+	private static final class Entry {
+
+		private final int ordinal;
+		private final String name;
+
+		private Entry(int ordinal, String name) {
+			this.ordinal = ordinal;
+			this.name = name.intern();
+		}
+	}
+
+	private static final class Snapshot {
+
+		private final Map<Long, Entry> byId;
+		private final List<Entry> byOrdinal;
+
+		private Snapshot(Map<Long, Entry> byId, List<Entry> byOrdinal) {
+			this.byId = byId;
+			this.byOrdinal = byOrdinal;
+		}
+
+		private Snapshot with(Long facilityId, String name) {
+			Map<Long, Entry> ids = new HashMap<>(byId);
+			List<Entry> ordinals = new ArrayList<>(byOrdinal);
+			Entry existing = byId.get(facilityId);
+			Entry entry = new Entry(existing != null ? existing.ordinal : ordinals.size(), name);
+			if (existing != null) {
+				ordinals.set(entry.ordinal, entry);
+			} else {
+				ordinals.add(entry);
+			}
+			ids.put(facilityId, entry);
+			return new Snapshot(ids, ordinals);
+		}
+
+		private Snapshot without(Long facilityId) {
+			Entry existing = byId.get(facilityId);
+			if (existing == null) {
+				return this;
+			}
+			Map<Long, Entry> ids = new HashMap<>(byId);
+			ids.remove(facilityId);
+			return new Snapshot(ids, byOrdinal);
+		}
+	}
+}
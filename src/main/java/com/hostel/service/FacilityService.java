@@ -1,6 +1,7 @@
 package com.hostel.service;
 
 import com.hostel.entity.Facility;
+import com.hostel.entity.Hostel;
 import com.hostel.dto.request.FacilityRequest;
 import com.hostel.dto.response.FacilityResponse;
 import com.hostel.repository.FacilityRepository;
@@ -30,6 +31,12 @@ public class FacilityService {
 	@Autowired
 	private FacilityMapper facilityMapper;
 
+	@Autowired
+	private HostelCatalogueCache hostelCatalogueCache;
+
+	@Autowired
+	private FacilityDictionary facilityDictionary;
+
 	public FacilityResponse addFacility(FacilityRequest request) {
 		logger.info("Adding new facility - Name: {}", request.getFacilityName());
 
@@ -43,6 +50,7 @@ public class FacilityService {
 			Facility facility = facilityMapper.toEntity(request);
 
 			Facility savedFacility = facilityRepository.save(facility);
+			facilityDictionary.register(savedFacility);
 
 			logger.info("Facility created successfully - ID: {}, Name: {}", savedFacility.getFacilityId(),
 					savedFacility.getFacilityName());
@@ -83,6 +91,7 @@ public class FacilityService {
 		}
 
 		facilityRepository.delete(facility);
+		facilityDictionary.remove(facilityId);
 		logger.info("Facility deleted successfully - ID: {}, Name: {}", facilityId, facility.getFacilityName());
 	}
 
@@ -102,6 +111,10 @@ public class FacilityService {
 		facility.setFacilityName(request.getFacilityName());
 
 		Facility updatedFacility = facilityRepository.save(facility);
+		facilityDictionary.register(updatedFacility);
+		if (facility.getHostels() != null) {
+			hostelCatalogueCache.refresh(facility.getHostels().stream().map(Hostel::getHostelId).toList());
+		}
 		logger.info("Facility updated successfully - ID: {}, Name: {}", facilityId, updatedFacility.getFacilityName());
 
 		return facilityMapper.toResponse(updatedFacility);
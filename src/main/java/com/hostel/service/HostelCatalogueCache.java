@@ -0,0 +1,276 @@
+package com.hostel.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hostel.dto.response.CursorPage;
+import com.hostel.dto.response.HostelResponse;
+import com.hostel.entity.Hostel;
+import com.hostel.mapper.HostelMapper;
+import com.hostel.repository.HostelRepository;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Read-through cache of the approved hostel catalogue. The whole catalogue is
+ * loaded with one query on first use and kept as pre-mapped
+ * {@link HostelResponse} snapshots ordered by id, overall and per city, so
+ * keyset pages are served straight from memory. Facilities are read as
+ * (hostel, facility id) rows and named through {@link FacilityDictionary}
+ * ordinals; the facilities collection of a hostel is never loaded. Writers call
+ * {@link #refresh(Long)} for each hostel they change; after commit only that
+ * hostel is reloaded. Callers get a copy of each snapshot, so a response
+ * changed further down the request cannot leak into the cache. Requests
+ * served from memory count as hits; the initial load and ids missing from the
+ * catalogue, which the caller reads from the database, count as misses.
+ */
+@Service
+public class HostelCatalogueCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(HostelCatalogueCache.class);
+
+	@Autowired
+	private HostelRepository hostelRepository;
+
+	@Autowired
+	private HostelMapper hostelMapper;
+
+	@Autowired
+	private FacilityDictionary facilityDictionary;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate loadTemplate;
+
+	private volatile Catalogue catalogue;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	// not synchronized: a virtual thread blocked on the query would pin its carrier
+	private final ReentrantLock lock = new ReentrantLock();
+
+	@PostConstruct
+	public void init() {
+		// reloads run from afterCommit callbacks, where the finished transaction is still bound
+		loadTemplate = new TransactionTemplate(transactionManager);
+		loadTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		loadTemplate.setReadOnly(true);
+	}
+
+	public CursorPage<HostelResponse> getApprovedHostels(Long cursor, int size) {
+		return page(catalogue().all, cursor, size);
+	}
+
+	public CursorPage<HostelResponse> getApprovedHostelsByCity(String city, Long cursor, int size) {
+		NavigableMap<Long, HostelResponse> hostels = catalogue().byCity.get(cityKey(city));
+		return hostels == null ? new CursorPage<>(List.of(), null) : page(hostels, cursor, size);
+	}
+
+	/**
+	 * Returns the cached hostel, or null when it is not part of the approved
+	 * catalogue and has to be read from the database.
+	 */
+	public HostelResponse getApprovedHostel(Long hostelId) {
+		Catalogue current = catalogue;
+		HostelResponse hostel = (current != null ? current : load()).all.get(hostelId);
+		if (hostel == null) {
+			misses.increment();
+			return null;
+		}
+		// a lookup that had to load the catalogue was already counted as a miss
+		if (current != null) {
+			hits.increment();
+		}
+		return copy(hostel);
+	}
+
+	public void refresh(Long hostelId) {
+		refresh(List.of(hostelId));
+	}
+
+	public void refresh(Collection<Long> hostelIds) {
+		List<Long> ids = List.copyOf(hostelIds);
+		afterCommit(() -> reload(ids));
+	}
+
+	public void refreshOwner(Long ownerId) {
+		afterCommit(() -> {
+			Catalogue current = catalogue;
+			if (current != null) {
+				reload(current.all.values().stream().filter(hostel -> ownerId.equals(hostel.getOwnerId()))
+						.map(HostelResponse::getHostelId).toList());
+			}
+		});
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	public int size() {
+		Catalogue current = catalogue;
+		return current == null ? 0 : current.all.size();
+	}
+
+	private Catalogue catalogue() {
+		Catalogue current = catalogue;
+		if (current == null) {
+			return load();
+		}
+		hits.increment();
+		return current;
+	}
+
+	private Catalogue load() {
+		lock.lock();
+		try {
+			if (catalogue == null) {
+				misses.increment();
+				Catalogue loaded = new Catalogue();
+				loadTemplate.executeWithoutResult(status -> {
+					Map<Long, BitSet> facilities = facilityDictionary
+							.encodeRows(hostelRepository.findApprovedFacilityIds());
+					hostelRepository.findApprovedWithOwner()
+							.forEach(hostel -> loaded.put(snapshot(hostel, facilities)));
+				});
+				catalogue = loaded;
+				logger.info("Hostel catalogue loaded - Hostels: {}", loaded.all.size());
+			}
+			return catalogue;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void reload(List<Long> hostelIds) {
+		lock.lock();
+		try {
+			Catalogue current = catalogue;
+			if (current == null || hostelIds.isEmpty()) {
+				return;
+			}
+			Map<Long, HostelResponse> approved = loadTemplate.execute(status -> {
+				Map<Long, BitSet> facilities = facilityDictionary
+						.encodeRows(hostelRepository.findFacilityIds(hostelIds));
+				return hostelRepository.findWithOwnerByIds(hostelIds).stream()
+						.filter(hostel -> Boolean.TRUE.equals(hostel.getApproved()))
+						.collect(Collectors.toMap(Hostel::getHostelId, hostel -> snapshot(hostel, facilities)));
+			});
+			Set<Long> present = approved.keySet();
+			for (Long hostelId : hostelIds) {
+				if (present.contains(hostelId)) {
+					current.put(approved.get(hostelId));
+				} else {
+					current.remove(hostelId);
+				}
+			}
+			logger.debug("Hostel catalogue refreshed - Hostels: {}", hostelIds.size());
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private HostelResponse snapshot(Hostel hostel, Map<Long, BitSet> facilities) {
+		HostelResponse response = hostelMapper.toResponse(hostel,
+				facilities.getOrDefault(hostel.getHostelId(), new BitSet()));
+		response.setFacilities(List.copyOf(response.getFacilities()));
+		return response;
+	}
+
+	private static CursorPage<HostelResponse> page(NavigableMap<Long, HostelResponse> hostels, Long cursor,
+			int size) {
+		List<HostelResponse> rows = new ArrayList<>(size + 1);
+		for (HostelResponse hostel : hostels.tailMap(CursorPage.after(cursor), false).values()) {
+			rows.add(hostel);
+			if (rows.size() > size) {
+				break;
+			}
+		}
+		return CursorPage.of(rows, size, HostelResponse::getHostelId, HostelCatalogueCache::copy);
+	}
+
+	// the facilities list is already immutable and can be shared
+	private static HostelResponse copy(HostelResponse hostel) {
+		HostelResponse response = new HostelResponse();
+		response.setHostelId(hostel.getHostelId());
+		response.setHostelName(hostel.getHostelName());
+		response.setCity(hostel.getCity());
+		response.setAddress(hostel.getAddress());
+		response.setDescription(hostel.getDescription());
+		response.setApproved(hostel.getApproved());
+		response.setCreatedDate(hostel.getCreatedDate());
+		response.setOwnerId(hostel.getOwnerId());
+		response.setOwnerName(hostel.getOwnerName());
+		response.setFacilities(hostel.getFacilities());
+		return response;
+	}
+
+	// matches the case-insensitive collation MySQL applies to the city column
+	private static String cityKey(String city) {
+		return city.trim().toLowerCase(Locale.ROOT);
+	}
+
+	private static void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+	private static final class Catalogue {
+
+		private final NavigableMap<Long, HostelResponse> all = new ConcurrentSkipListMap<>();
+		private final Map<String, NavigableMap<Long, HostelResponse>> byCity = new ConcurrentHashMap<>();
+
+		private void put(HostelResponse hostel) {
+			remove(hostel.getHostelId());
+			all.put(hostel.getHostelId(), hostel);
+			byCity.computeIfAbsent(cityKey(hostel.getCity()), city -> new ConcurrentSkipListMap<>())
+					.put(hostel.getHostelId(), hostel);
+		}
+
+		private void remove(Long hostelId) {
+			HostelResponse previous = all.remove(hostelId);
+			if (previous != null) {
+				NavigableMap<Long, HostelResponse> city = byCity.get(cityKey(previous.getCity()));
+				if (city != null) {
+					city.remove(hostelId);
+				}
+			}
+		}
+	}
+}
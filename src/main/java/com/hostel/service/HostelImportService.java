@@ -0,0 +1,664 @@
+package com.hostel.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hostel.dto.response.ImportJobResponse;
+import com.hostel.dto.response.ImportRejection;
+import com.hostel.entity.Facility;
+import com.hostel.entity.Hostel;
+import com.hostel.entity.Room;
+import com.hostel.entity.User;
+import com.hostel.enums.ImportFormat;
+import com.hostel.enums.ImportStatus;
+import com.hostel.enums.RoomType;
+import com.hostel.enums.UserRole;
+import com.hostel.enums.UserStatus;
+import com.hostel.exception.BadRequestException;
+import com.hostel.exception.ConflictException;
+import com.hostel.exception.ResourceNotFoundException;
+import com.hostel.repository.HostelRepository;
+import com.hostel.repository.RoomRepository;
+import com.hostel.repository.UserRepository;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Imports hostels and rooms from a CSV or NDJSON file in the background.
+ * Each row may define a hostel (hostelName, ownerId, city, address, optional
+ * description and ';'-separated facilityIds under a file-local hostelRef),
+ * a room (roomType, totalBeds, pricePerNight, optional roomDescription) for
+ * an existing hostelId or an earlier hostelRef, or both. The file is read a
+ * chunk at a time; rows of a chunk are parsed in parallel, owners and
+ * hostels are looked up once per chunk, facilities are resolved through the
+ * {@link FacilityDictionary}, and each chunk is written in its own
+ * transaction. Bad rows are rejected with the file line they start on
+ * without stopping the job.
+ */
+@Service
+public class HostelImportService {
+
+	private static final Logger logger = LoggerFactory.getLogger(HostelImportService.class);
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private HostelRepository hostelRepository;
+
+	@Autowired
+	private RoomRepository roomRepository;
+
+	@Autowired
+	private RoomInventoryService roomInventoryService;
+
+	@Autowired
+	private RoomSearchService roomSearchService;
+
+	@Autowired
+	private HostelCatalogueCache hostelCatalogueCache;
+
+	@Autowired
+	private FacilityDictionary facilityDictionary;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	@Qualifier("importExecutor")
+	private Executor importExecutor;
+
+	@Value("${import.chunk-size:1000}")
+	private int chunkSize = 1000;
+
+	@Value("${import.max-rejections:1000}")
+	private int maxRejections = 1000;
+
+	@Value("${import.retained-jobs:50}")
+	private int retainedJobs = 50;
+
+	private TransactionTemplate transactionTemplate;
+
+	private Map<String, ImportJob> jobs;
+
+	@PostConstruct
+	public void init() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		int maxJobs = retainedJobs;
+		jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, ImportJob> eldest) {
+				return size() > maxJobs && eldest.getValue().status != ImportStatus.RUNNING;
+			}
+		});
+	}
+
+	public ImportJobResponse submit(MultipartFile file, ImportFormat format, long startLine) {
+		if (file == null || file.isEmpty()) {
+			throw new BadRequestException("Import file is empty");
+		}
+		Path path;
+		try {
+			path = Files.createTempFile("hostel-import-", ".tmp");
+			file.transferTo(path);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Import file could not be stored", e);
+		}
+
+		ImportJob job = new ImportJob(UUID.randomUUID().toString(), format, startLine);
+		jobs.put(job.jobId, job);
+		logger.info("Import submitted - Job: {}, Format: {}, File: {}, Start line: {}", job.jobId, format,
+				file.getOriginalFilename(), startLine);
+		try {
+			importExecutor.execute(() -> run(job, path));
+		} catch (RejectedExecutionException e) {
+			jobs.remove(job.jobId);
+			deleteQuietly(path);
+			logger.warn("Import rejected: too many imports queued - Job: {}", job.jobId);
+			throw new ConflictException("Too many imports are in progress, please retry later");
+		}
+		return job.toResponse();
+	}
+
+	public ImportJobResponse getJob(String jobId) {
+		ImportJob job = jobs.get(jobId);
+		if (job == null) {
+			throw new ResourceNotFoundException("Import", "jobId", jobId);
+		}
+		return job.toResponse();
+	}
+
+	private void run(ImportJob job, Path path) {
+		try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			process(job, reader);
+			job.finish(ImportStatus.COMPLETED, null);
+			logger.info("Import completed - Job: {}, Rows: {}, Hostels: {}, Rooms: {}, Rejected: {}", job.jobId,
+					job.rowsRead, job.hostelsCreated, job.roomsCreated, job.rowsRejected);
+		} catch (Exception e) {
+			job.finish(ImportStatus.FAILED, e.getMessage());
+			logger.error("Import failed - Job: {}, Checkpoint line: {}", job.jobId, job.checkpointLine, e);
+		} finally {
+			deleteQuietly(path);
+		}
+	}
+
+	private void process(ImportJob job, BufferedReader reader) throws IOException {
+		ImportContext context = new ImportContext();
+
+		RecordReader records = new RecordReader(reader, job.format == ImportFormat.CSV);
+		List<String> header = null;
+		if (job.format == ImportFormat.CSV) {
+			String headerLine = records.next();
+			if (headerLine == null) {
+				throw new BadRequestException("Import file has no header line");
+			}
+			header = parseCsvLine(headerLine).stream().map(String::trim).toList();
+		}
+
+		List<RawRow> chunk = new ArrayList<>(chunkSize);
+		String record;
+		while ((record = records.next()) != null) {
+			// checkpoints fall on record boundaries, so a record is skipped whole or read whole
+			if (records.lastLine <= job.startLine || record.isBlank()) {
+				continue;
+			}
+			chunk.add(new RawRow(records.firstLine, record));
+			if (chunk.size() == chunkSize) {
+				importChunk(job, context, header, chunk, records.lastLine);
+				chunk = new ArrayList<>(chunkSize);
+			}
+		}
+		if (!chunk.isEmpty()) {
+			importChunk(job, context, header, chunk, records.lastLine);
+		}
+		job.checkpointLine = Math.max(job.checkpointLine, records.lastLine);
+	}
+
+	private void importChunk(ImportJob job, ImportContext context, List<String> header, List<RawRow> chunk,
+			long lastLine) {
+		List<ImportRow> parsed = chunk.parallelStream().map(raw -> parse(raw, job.format, header)).toList();
+
+		List<ImportRow> rows = new ArrayList<>(parsed.size());
+		for (ImportRow row : parsed) {
+			if (row.rejection != null) {
+				job.reject(row.line, row.rejection, maxRejections);
+			} else {
+				rows.add(row);
+			}
+		}
+		context.loadOwners(rows, userRepository);
+		context.loadHostels(rows, hostelRepository);
+
+		ChunkResult result = transactionTemplate.execute(status -> write(job, context, rows));
+
+		result.rooms.forEach(roomInventoryService::track);
+		context.refs.putAll(result.refs);
+		job.hostelsCreated += result.refs.size();
+		job.roomsCreated += result.rooms.size();
+		job.rowsRead += chunk.size();
+		job.checkpointLine = lastLine;
+		logger.debug("Import chunk committed - Job: {}, Checkpoint line: {}, Hostels: {}, Rooms: {}", job.jobId,
+				lastLine, result.refs.size(), result.rooms.size());
+	}
+
+	private ChunkResult write(ImportJob job, ImportContext context, List<ImportRow> rows) {
+		List<Hostel> hostels = new ArrayList<>();
+		List<Room> rooms = new ArrayList<>();
+		Map<Hostel, List<Room>> roomsOfNewHostels = new IdentityHashMap<>();
+		Map<String, Hostel> refs = new HashMap<>();
+
+		for (ImportRow row : rows) {
+			Hostel hostel;
+			try {
+				hostel = row.definesHostel() ? newHostel(row, context, refs) : existingHostel(row, context, refs);
+			} catch (BadRequestException e) {
+				job.reject(row.line, e.getMessage(), maxRejections);
+				continue;
+			}
+			if (row.definesHostel()) {
+				hostels.add(hostel);
+				refs.put(row.hostelRef, hostel);
+				roomsOfNewHostels.put(hostel, new ArrayList<>());
+			}
+			if (row.definesRoom()) {
+				Room room = new Room(hostel, row.roomType, row.totalBeds, row.pricePerNight);
+				room.setDescription(row.roomDescription);
+				rooms.add(room);
+				List<Room> siblings = roomsOfNewHostels.get(hostel);
+				if (siblings != null) {
+					siblings.add(room);
+				}
+			}
+		}
+
+		hostelRepository.saveAll(hostels);
+		roomRepository.saveAll(rooms);
+
+		roomsOfNewHostels.forEach(Hostel::setRooms);
+		// one call per chunk, so each city's search snapshot is merged once rather than once per row
+		roomSearchService.indexAll(hostels, rooms);
+		hostelCatalogueCache.refresh(hostels.stream().map(Hostel::getHostelId).toList());
+		return new ChunkResult(refs, rooms);
+	}
+
+	private Hostel newHostel(ImportRow row, ImportContext context, Map<String, Hostel> refs) {
+		if (refs.containsKey(row.hostelRef) || context.refs.containsKey(row.hostelRef)) {
+			throw new BadRequestException("Duplicate hostelRef: " + row.hostelRef);
+		}
+		User owner = context.owners.get(row.ownerId);
+		if (owner == null) {
+			throw new BadRequestException("Owner not found - ID: " + row.ownerId);
+		}
+		if (owner.getRole() == UserRole.OWNER && owner.getStatus() != UserStatus.APPROVED) {
+			throw new BadRequestException("Owner account is not approved - ID: " + row.ownerId);
+		}
+		for (Long facilityId : row.facilityIds) {
+			if (!facilityDictionary.contains(facilityId)) {
+				throw new BadRequestException("Facility not found - ID: " + facilityId);
+			}
+		}
+		Set<Facility> facilities = facilityDictionary.references(row.facilityIds);
+
+		Hostel hostel = new Hostel(row.hostelName, row.city, row.address, owner);
+		hostel.setDescription(row.description);
+		hostel.setFacilities(facilities);
+		hostel.setApproved(true);
+		return hostel;
+	}
+
+	private Hostel existingHostel(ImportRow row, ImportContext context, Map<String, Hostel> refs) {
+		if (row.hostelId == null) {
+			Hostel hostel = refs.containsKey(row.hostelRef) ? refs.get(row.hostelRef) : context.refs.get(row.hostelRef);
+			if (hostel == null) {
+				throw new BadRequestException("Unknown hostelRef: " + row.hostelRef);
+			}
+			return hostel;
+		}
+		Hostel hostel = context.hostels.get(row.hostelId);
+		if (hostel == null) {
+			throw new BadRequestException("Hostel not found - ID: " + row.hostelId);
+		}
+		if (!Boolean.TRUE.equals(hostel.getApproved())) {
+			throw new BadRequestException("Cannot add room to unapproved hostel - ID: " + row.hostelId);
+		}
+		return hostel;
+	}
+
+	private ImportRow parse(RawRow raw, ImportFormat format, List<String> header) {
+		try {
+			Map<String, String> fields = format == ImportFormat.CSV ? csvFields(raw.text, header) : jsonFields(raw.text);
+			return ImportRow.of(raw.line, fields);
+		} catch (BadRequestException e) {
+			return ImportRow.rejected(raw.line, e.getMessage());
+		}
+	}
+
+	private static Map<String, String> csvFields(String line, List<String> header) {
+		List<String> values = parseCsvLine(line);
+		if (values.size() != header.size()) {
+			throw new BadRequestException(
+					"Expected " + header.size() + " columns but found " + values.size());
+		}
+		Map<String, String> fields = new HashMap<>();
+		for (int i = 0; i < header.size(); i++) {
+			fields.put(header.get(i), values.get(i));
+		}
+		return fields;
+	}
+
+	private Map<String, String> jsonFields(String line) {
+		Map<String, Object> values;
+		try {
+			values = objectMapper.readValue(line, new TypeReference<Map<String, Object>>() {
+			});
+		} catch (JsonProcessingException e) {
+			throw new BadRequestException("Malformed JSON row");
+		}
+		Map<String, String> fields = new HashMap<>();
+		values.forEach((name, value) -> {
+			if (value instanceof Collection<?> list) {
+				fields.put(name, list.stream().map(String::valueOf).collect(Collectors.joining(";")));
+			} else if (value != null) {
+				fields.put(name, value.toString());
+			}
+		});
+		return fields;
+	}
+
+	static List<String> parseCsvLine(String line) {
+		List<String> values = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (quoted) {
+				if (c != '"') {
+					field.append(c);
+				} else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+					field.append('"');
+					i++;
+				} else {
+					quoted = false;
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == ',') {
+				values.add(field.toString());
+				field.setLength(0);
+			} else {
+				field.append(c);
+			}
+		}
+		if (quoted) {
+			throw new BadRequestException("Unterminated quoted field");
+		}
+		values.add(field.toString());
+		return values;
+	}
+
+	private static void deleteQuietly(Path path) {
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException e) {
+			logger.warn("Import file could not be deleted - Path: {}", path);
+		}
+	}
+
+	/**
+	 * Reads one record at a time and numbers physical lines. A quoted CSV
+	 * field may contain line breaks, so a CSV record only ends on a line that
+	 * leaves the quotes balanced; escaped quotes come in pairs and do not
+	 * change the balance.
+	 */
+	private static final class RecordReader {
+
+		private final BufferedReader reader;
+		private final boolean csv;
+		private long firstLine;
+		private long lastLine;
+
+		private RecordReader(BufferedReader reader, boolean csv) {
+			this.reader = reader;
+			this.csv = csv;
+		}
+
+		private String next() throws IOException {
+			String line = reader.readLine();
+			if (line == null) {
+				return null;
+			}
+			firstLine = ++lastLine;
+			if (!csv || !oddQuotes(line)) {
+				return line;
+			}
+			StringBuilder record = new StringBuilder(line);
+			boolean open = true;
+			while (open && (line = reader.readLine()) != null) {
+				lastLine++;
+				record.append('\n').append(line);
+				open = !oddQuotes(line);
+			}
+			// an unterminated field runs to the end of the file and is rejected by the parser
+			return record.toString();
+		}
+
+		private static boolean oddQuotes(String line) {
+			boolean odd = false;
+			for (int i = 0; i < line.length(); i++) {
+				if (line.charAt(i) == '"') {
+					odd = !odd;
+				}
+			}
+			return odd;
+		}
+	}
+
+	private static final class RawRow {
+
+		private final long line;
+		private final String text;
+
+		private RawRow(long line, String text) {
+			this.line = line;
+			this.text = text;
+		}
+	}
+
+	private static final class ImportRow {
+
+		private long line;
+		private String rejection;
+		private String hostelRef;
+		private Long hostelId;
+		private Long ownerId;
+		private String hostelName;
+		private String city;
+		private String address;
+		private String description;
+		private List<Long> facilityIds = List.of();
+		private RoomType roomType;
+		private Integer totalBeds;
+		private Double pricePerNight;
+		private String roomDescription;
+
+		private static ImportRow rejected(long line, String reason) {
+			ImportRow row = new ImportRow();
+			row.line = line;
+			row.rejection = reason;
+			return row;
+		}
+
+		private static ImportRow of(long line, Map<String, String> fields) {
+			ImportRow row = new ImportRow();
+			row.line = line;
+			row.hostelRef = text(fields, "hostelRef");
+			row.hostelId = number(fields, "hostelId", Long::valueOf);
+			row.hostelName = text(fields, "hostelName");
+			String roomType = text(fields, "roomType");
+
+			if (row.hostelName == null && roomType == null) {
+				throw new BadRequestException("Row defines neither a hostel nor a room");
+			}
+			if (row.hostelName != null) {
+				if (row.hostelRef == null || row.hostelId != null) {
+					throw new BadRequestException("A hostel row needs a hostelRef and no hostelId");
+				}
+				row.ownerId = required(fields, "ownerId", Long::valueOf);
+				row.city = required(fields, "city", Function.identity());
+				row.address = required(fields, "address", Function.identity());
+				row.description = text(fields, "description");
+				String facilityIds = text(fields, "facilityIds");
+				if (facilityIds != null) {
+					row.facilityIds = new ArrayList<>();
+					for (String id : facilityIds.split(";")) {
+						if (!id.isBlank()) {
+							row.facilityIds.add(parseNumber("facilityIds", id.trim(), Long::valueOf));
+						}
+					}
+				}
+			}
+			if (roomType != null) {
+				if (row.hostelId == null && row.hostelRef == null) {
+					throw new BadRequestException("A room row needs a hostelId or hostelRef");
+				}
+				try {
+					row.roomType = RoomType.valueOf(roomType.toUpperCase(Locale.ROOT));
+				} catch (IllegalArgumentException e) {
+					throw new BadRequestException("Invalid roomType: " + roomType);
+				}
+				row.totalBeds = required(fields, "totalBeds", Integer::valueOf);
+				row.pricePerNight = required(fields, "pricePerNight", Double::valueOf);
+				if (row.totalBeds <= 0) {
+					throw new BadRequestException("totalBeds must be positive");
+				}
+				if (!(row.pricePerNight > 0)) {
+					throw new BadRequestException("pricePerNight must be positive");
+				}
+				row.roomDescription = text(fields, "roomDescription");
+			}
+			return row;
+		}
+
+		private boolean definesHostel() {
+			return hostelName != null;
+		}
+
+		private boolean definesRoom() {
+			return roomType != null;
+		}
+
+		private static String text(Map<String, String> fields, String name) {
+			String value = fields.get(name);
+			return value == null || value.isBlank() ? null : value.trim();
+		}
+
+		private static <T> T number(Map<String, String> fields, String name, Function<String, T> parser) {
+			String value = text(fields, name);
+			return value == null ? null : parseNumber(name, value, parser);
+		}
+
+		private static <T> T required(Map<String, String> fields, String name, Function<String, T> parser) {
+			String value = text(fields, name);
+			if (value == null) {
+				throw new BadRequestException(name + " is required");
+			}
+			return parseNumber(name, value, parser);
+		}
+
+		private static <T> T parseNumber(String name, String value, Function<String, T> parser) {
+			try {
+				return parser.apply(value);
+			} catch (NumberFormatException e) {
+				throw new BadRequestException("Invalid " + name + ": " + value);
+			}
+		}
+	}
+
+	private static final class ChunkResult {
+
+		private final Map<String, Hostel> refs;
+		private final List<Room> rooms;
+
+		private ChunkResult(Map<String, Hostel> refs, List<Room> rooms) {
+			this.refs = refs;
+			this.rooms = rooms;
+		}
+	}
+
+	private static final class ImportContext {
+
+		private final Map<Long, User> owners = new HashMap<>();
+		private final Map<Long, Hostel> hostels = new HashMap<>();
+		private final Map<String, Hostel> refs = new HashMap<>();
+
+		private void loadOwners(List<ImportRow> rows, UserRepository userRepository) {
+			Set<Long> missing = rows.stream().map(row -> row.ownerId)
+					.filter(id -> id != null && !owners.containsKey(id)).collect(Collectors.toSet());
+			if (!missing.isEmpty()) {
+				userRepository.findAllById(missing).forEach(owner -> owners.put(owner.getUserId(), owner));
+			}
+		}
+
+		private void loadHostels(List<ImportRow> rows, HostelRepository hostelRepository) {
+			Set<Long> missing = rows.stream().map(row -> row.hostelId)
+					.filter(id -> id != null && !hostels.containsKey(id)).collect(Collectors.toSet());
+			if (!missing.isEmpty()) {
+				hostelRepository.findAllById(missing).forEach(hostel -> hostels.put(hostel.getHostelId(), hostel));
+			}
+		}
+	}
+
+	private static final class ImportJob {
+
+		private final String jobId;
+		private final ImportFormat format;
+		private final long startLine;
+		private final LocalDateTime startedAt = LocalDateTime.now();
+		private final List<ImportRejection> rejections = new ArrayList<>();
+		private volatile ImportStatus status = ImportStatus.RUNNING;
+		private volatile long rowsRead;
+		private volatile long hostelsCreated;
+		private volatile long roomsCreated;
+		private volatile long rowsRejected;
+		private volatile long checkpointLine;
+		private volatile LocalDateTime finishedAt;
+		private volatile String error;
+
+		private ImportJob(String jobId, ImportFormat format, long startLine) {
+			this.jobId = jobId;
+			this.format = format;
+			this.startLine = startLine;
+			this.checkpointLine = startLine;
+		}
+
+		private void reject(long line, String reason, int maxRejections) {
+			rowsRejected++;
+			synchronized (rejections) {
+				if (rejections.size() < maxRejections) {
+					rejections.add(new ImportRejection(line, reason));
+				}
+			}
+		}
+
+		private void finish(ImportStatus finalStatus, String message) {
+			error = message;
+			finishedAt = LocalDateTime.now();
+			status = finalStatus;
+		}
+
+		private ImportJobResponse toResponse() {
+			ImportJobResponse response = new ImportJobResponse();
+			response.setJobId(jobId);
+			response.setFormat(format);
+			response.setStatus(status);
+			response.setRowsRead(rowsRead);
+			response.setHostelsCreated(hostelsCreated);
+			response.setRoomsCreated(roomsCreated);
+			response.setRowsRejected(rowsRejected);
+			response.setCheckpointLine(checkpointLine);
+			response.setStartedAt(startedAt);
+			response.setFinishedAt(finishedAt);
+			response.setError(error);
+			synchronized (rejections) {
+				response.setRejections(new ArrayList<>(rejections));
+			}
+			return response;
+		}
+	}
+}
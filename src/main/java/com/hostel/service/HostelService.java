@@ -4,13 +4,13 @@ import com.hostel.entity.Hostel;
 import com.hostel.entity.User;
 import com.hostel.entity.Facility;
 import com.hostel.dto.request.HostelRequest;
+import com.hostel.dto.response.CursorPage;
 import com.hostel.dto.response.HostelResponse;
 import com.hostel.repository.HostelRepository;
 import com.hostel.repository.UserRepository;
 
 import jakarta.validation.Valid;
 
-import com.hostel.repository.FacilityRepository;
 import com.hostel.mapper.HostelMapper;
 import com.hostel.exception.ResourceNotFoundException;
 import com.hostel.exception.BadRequestException;
@@ -21,11 +21,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Set;
-import java.util.HashSet;
-import java.util.stream.Collectors;
+import io.micrometer.core.annotation.Timed;
 
 @Service
 @Transactional
+@Timed(value = "hostel.service", histogram = true, percentiles = { 0.5, 0.95, 0.99 })
 public class HostelService {
 
 	private static final Logger logger = LoggerFactory.getLogger(HostelService.class);
@@ -37,11 +37,17 @@ public class HostelService {
 	private UserRepository userRepository;
 
 	@Autowired
-	private FacilityRepository facilityRepository;
+	private FacilityDictionary facilityDictionary;
 
 	@Autowired
 	private HostelMapper hostelMapper;
 
+	@Autowired
+	private RoomSearchService roomSearchService;
+
+	@Autowired
+	private HostelCatalogueCache hostelCatalogueCache;
+
 	public HostelResponse addHostel(HostelRequest request) {
 		logger.info("Adding new hostel - Name: {}, City: {}, Owner ID: {}", request.getHostelName(), request.getCity(),
 				request.getOwnerId());
@@ -70,19 +76,13 @@ public class HostelService {
 					hostel.getApproved());
 
 			if (request.getFacilityIds() != null && !request.getFacilityIds().isEmpty()) {
-				Set<Facility> facilities = new HashSet<>();
-				for (Long facilityId : request.getFacilityIds()) {
-					Facility facility = facilityRepository.findById(facilityId).orElseThrow(() -> {
-						logger.error("Facility not found - ID: {}", facilityId);
-						return new ResourceNotFoundException("Facility", "facilityId", facilityId);
-					});
-					facilities.add(facility);
-				}
+				Set<Facility> facilities = facilityDictionary.references(request.getFacilityIds());
 				hostel.setFacilities(facilities);
 				logger.debug("Added {} facilities to hostel", facilities.size());
 			}
 
 			Hostel savedHostel = hostelRepository.save(hostel);
+			hostelCatalogueCache.refresh(savedHostel.getHostelId());
 
 			logger.info("Hostel created successfully - ID: {}, Name: {}, Owner: {}, Requires approval",
 					savedHostel.getHostelId(), savedHostel.getHostelName(), owner.getName());
@@ -98,23 +98,22 @@ public class HostelService {
 		}
 	}
 
-	public List<HostelResponse> getApprovedHostels() {
-		logger.info("Fetching all approved hostels");
+	public CursorPage<HostelResponse> getApprovedHostels(Long cursor, Integer size) {
+		logger.info("Fetching approved hostels - Cursor: {}", cursor);
 
-		List<HostelResponse> hostels = hostelRepository.findByApproved(true).stream().map(hostelMapper::toResponse)
-				.collect(Collectors.toList());
+		CursorPage<HostelResponse> hostels = hostelCatalogueCache.getApprovedHostels(cursor, CursorPage.size(size));
 
-		logger.info("Retrieved {} approved hostels", hostels.size());
+		logger.info("Retrieved {} approved hostels", hostels.getItems().size());
 		return hostels;
 	}
 
-	public List<HostelResponse> searchHostelsByCity(String city) {
+	public CursorPage<HostelResponse> searchHostelsByCity(String city, Long cursor, Integer size) {
 		logger.info("Searching hostels in city: {}", city);
 
-		List<HostelResponse> hostels = hostelRepository.findByCityAndApproved(city, true).stream()
-				.map(hostelMapper::toResponse).collect(Collectors.toList());
+		CursorPage<HostelResponse> hostels = hostelCatalogueCache.getApprovedHostelsByCity(city, cursor,
+				CursorPage.size(size));
 
-		logger.info("Found {} hostels in city: {}", hostels.size(), city);
+		logger.info("Found {} hostels in city: {}", hostels.getItems().size(), city);
 		return hostels;
 	}
 
@@ -128,6 +127,8 @@ public class HostelService {
 
 		hostel.setApproved(true);
 		Hostel updatedHostel = hostelRepository.save(hostel);
+		roomSearchService.indexHostel(updatedHostel);
+		hostelCatalogueCache.refresh(hostelId);
 
 		logger.info("Hostel approved successfully - ID: {}, Name: {}, Owner: {}", hostelId, hostel.getHostelName(),
 				hostel.getOwner().getName());
@@ -150,22 +151,29 @@ public class HostelService {
 		}
 
 		hostelRepository.delete(hostel);
+		roomSearchService.removeHostel(hostelId);
+		hostelCatalogueCache.refresh(hostelId);
 		logger.info("Hostel deleted successfully - ID: {}, Name: {}", hostelId, hostel.getHostelName());
 	}
 
 	public HostelResponse getHostelById(Long hostelId) {
 		logger.info("Fetching hostel with ID: {}", hostelId);
+		HostelResponse cached = hostelCatalogueCache.getApprovedHostel(hostelId);
+		if (cached != null) {
+			return cached;
+		}
 		Hostel hostel = hostelRepository.findById(hostelId)
 				.orElseThrow(() -> new ResourceNotFoundException("Hostel", "hostelId", hostelId));
 		return hostelMapper.toResponse(hostel);
 
 	}
 
-	public List<HostelResponse> getHostelsByOwner(Long ownerId) {
+	public CursorPage<HostelResponse> getHostelsByOwner(Long ownerId, Long cursor, Integer size) {
 		logger.info("Fetching hostels for owner ID: {}", ownerId);
-		List<HostelResponse> hostels = hostelRepository.findByOwner_UserId(ownerId).stream()
-				.map(hostelMapper::toResponse).collect(Collectors.toList());
-		return hostels;
+		int pageSize = CursorPage.size(size);
+		List<Hostel> rows = hostelRepository.findPageByOwner(ownerId, CursorPage.after(cursor),
+				CursorPage.fetchLimit(pageSize));
+		return CursorPage.of(rows, pageSize, Hostel::getHostelId, hostelMapper::toResponse);
 
 	}
 
@@ -179,6 +187,8 @@ public class HostelService {
 		hostel.setAddress(request.getAddress());
 
 		Hostel updatedHostel = hostelRepository.save(hostel);
+		roomSearchService.indexHostel(updatedHostel);
+		hostelCatalogueCache.refresh(hostelId);
 		return hostelMapper.toResponse(updatedHostel);
 
 	}
@@ -188,13 +198,12 @@ public class HostelService {
 		Hostel hostel = hostelRepository.findById(hostelId)
 				.orElseThrow(() -> new ResourceNotFoundException("Hostel", "hostelId", hostelId));
 
-		Set<Facility> facilities = facilityIds.stream()
-				.map(id -> facilityRepository.findById(id)
-						.orElseThrow(() -> new ResourceNotFoundException("Facility", "facilityId", id)))
-				.collect(Collectors.toSet());
+		Set<Facility> facilities = facilityDictionary.references(facilityIds);
 
 		hostel.setFacilities(facilities);
 		Hostel updatedHostel = hostelRepository.save(hostel);
+		roomSearchService.indexHostel(updatedHostel);
+		hostelCatalogueCache.refresh(hostelId);
 		return hostelMapper.toResponse(updatedHostel);
 
 	}
@@ -204,20 +213,24 @@ public class HostelService {
 		Hostel hostel = hostelRepository.findById(hostelId)
 				.orElseThrow(() -> new ResourceNotFoundException("Hostel", "hostelId", hostelId));
 
-		Facility facility = facilityRepository.findById(facilityId)
-				.orElseThrow(() -> new ResourceNotFoundException("Facility", "facilityId", facilityId));
+		if (!facilityDictionary.contains(facilityId)) {
+			throw new ResourceNotFoundException("Facility", "facilityId", facilityId);
+		}
 
-		hostel.getFacilities().remove(facility);
+		hostel.getFacilities().removeIf(facility -> facility.getFacilityId().equals(facilityId));
 		Hostel updatedHostel = hostelRepository.save(hostel);
+		roomSearchService.indexHostel(updatedHostel);
+		hostelCatalogueCache.refresh(hostelId);
 		return hostelMapper.toResponse(updatedHostel);
 
 	}
 
-	public List<HostelResponse> getPendingHostels() {
+	public CursorPage<HostelResponse> getPendingHostels(Long cursor, Integer size) {
 		logger.info("Fetching pending hostels");
-		List<HostelResponse> hostels = hostelRepository.findByApproved(false).stream().map(hostelMapper::toResponse)
-				.collect(Collectors.toList());
-		return hostels;
+		int pageSize = CursorPage.size(size);
+		List<Hostel> rows = hostelRepository.findPageByApproved(false, CursorPage.after(cursor),
+				CursorPage.fetchLimit(pageSize));
+		return CursorPage.of(rows, pageSize, Hostel::getHostelId, hostelMapper::toResponse);
 	}
 
 	public void rejectHostel(Long hostelId, String reason) {
@@ -228,6 +241,8 @@ public class HostelService {
 		hostel.setApproved(false);
 
 		hostelRepository.save(hostel);
+		roomSearchService.removeHostel(hostelId);
+		hostelCatalogueCache.refresh(hostelId);
 
 	}
 
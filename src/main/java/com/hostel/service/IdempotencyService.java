@@ -0,0 +1,300 @@
+package com.hostel.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hostel.dto.response.ApiResponse;
+import com.hostel.entity.IdempotencyRecord;
+import com.hostel.exception.BadRequestException;
+import com.hostel.exception.ConflictException;
+import com.hostel.repository.IdempotencyRecordRepository;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Replays the stored response when a client retries a create request with the
+ * same Idempotency-Key. Keys are scoped to the caller and the operation.
+ * A request first claims its key with a placeholder row in idempotency_keys;
+ * the response is filled in once the action succeeds, and the placeholder is
+ * removed when it fails, so a failed request can be retried with the same
+ * key. A retry that finds a placeholder is refused rather than run again.
+ * Completed responses are kept in a bounded LRU map in front of the table.
+ */
+@Service
+public class IdempotencyService {
+
+	private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+	public static final String HEADER = "Idempotency-Key";
+
+	public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+	@Autowired
+	private IdempotencyRecordRepository idempotencyRecordRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Value("${idempotency.cache-size:10000}")
+	private int cacheSize = 10000;
+
+	@Value("${idempotency.ttl-hours:24}")
+	private long ttlHours = 24;
+
+	private TransactionTemplate transactionTemplate;
+
+	private Map<String, IdempotencyRecord> cache;
+
+	private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+	@PostConstruct
+	public void init() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		int maxEntries = cacheSize;
+		cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, IdempotencyRecord> eldest) {
+				return size() > maxEntries;
+			}
+		});
+	}
+
+	/**
+	 * Runs the action in one transaction with the placeholder insert and the
+	 * stored response, so a crash can never leave the action committed
+	 * without its record.
+	 */
+	public <T> ResponseEntity<ApiResponse<T>> execute(String key, String operation, Object request,
+			Class<T> dataType, Supplier<ResponseEntity<ApiResponse<T>>> action) {
+		if (key == null || key.isBlank()) {
+			return action.get();
+		}
+		String keyHash = keyHash(key, operation);
+		String fingerprint = fingerprint(operation, request);
+
+		ResponseEntity<ApiResponse<T>> replay = begin(keyHash, fingerprint, dataType);
+		if (replay != null) {
+			return replay;
+		}
+		try {
+			IdempotencyRecord record = placeholder(keyHash, fingerprint);
+			ResponseEntity<ApiResponse<T>> response = transactionTemplate.execute(status -> {
+				claim(record);
+				ResponseEntity<ApiResponse<T>> result = action.get();
+				if (isSuccess(result)) {
+					complete(record, result);
+				} else {
+					idempotencyRecordRepository.delete(record);
+				}
+				return result;
+			});
+			if (!record.isPending()) {
+				cache.put(keyHash, record);
+			}
+			return response;
+		} finally {
+			inFlight.remove(keyHash);
+		}
+	}
+
+	/**
+	 * For actions that commit in several transactions of their own. The
+	 * placeholder is committed before the action starts, so a crash before
+	 * the response is stored leaves the key claimed and a retry is refused
+	 * instead of run twice. Responses that {@code replayable} rejects, such
+	 * as a declined payment, are not kept, so the client may retry with the
+	 * same key.
+	 */
+	public <T> CompletableFuture<ResponseEntity<ApiResponse<T>>> executeAsync(String key, String operation,
+			Object request, Class<T> dataType, Predicate<? super T> replayable,
+			Supplier<CompletableFuture<ResponseEntity<ApiResponse<T>>>> action) {
+		if (key == null || key.isBlank()) {
+			return action.get();
+		}
+		String keyHash = keyHash(key, operation);
+		String fingerprint = fingerprint(operation, request);
+
+		ResponseEntity<ApiResponse<T>> replay = begin(keyHash, fingerprint, dataType);
+		if (replay != null) {
+			return CompletableFuture.completedFuture(replay);
+		}
+		IdempotencyRecord record = placeholder(keyHash, fingerprint);
+		CompletableFuture<ResponseEntity<ApiResponse<T>>> result;
+		try {
+			transactionTemplate.executeWithoutResult(status -> claim(record));
+			result = action.get();
+		} catch (RuntimeException e) {
+			release(record);
+			inFlight.remove(keyHash);
+			throw e;
+		}
+		return result.whenComplete((response, ex) -> {
+			try {
+				boolean keep = ex == null && isSuccess(response) && response.getBody() != null
+						&& replayable.test(response.getBody().getData());
+				if (keep) {
+					transactionTemplate.executeWithoutResult(status -> complete(record, response));
+					cache.put(keyHash, record);
+				} else {
+					release(record);
+				}
+			} catch (RuntimeException e) {
+				logger.error("Failed to store idempotent response - Key: {}", keyHash, e);
+			} finally {
+				inFlight.remove(keyHash);
+			}
+		});
+	}
+
+	@Scheduled(fixedDelayString = "${idempotency.purge-ms:3600000}")
+	public void purgeExpired() {
+		LocalDateTime now = LocalDateTime.now();
+		cache.values().removeIf(record -> record.getExpiresAt().isBefore(now));
+		Integer deleted = transactionTemplate.execute(status -> idempotencyRecordRepository.deleteExpired(now));
+		logger.debug("Expired idempotency keys purged - Deleted: {}", deleted);
+	}
+
+	private <T> ResponseEntity<ApiResponse<T>> begin(String keyHash, String fingerprint, Class<T> dataType) {
+		if (!inFlight.add(keyHash)) {
+			logger.warn("Idempotent request already in progress - Key: {}", keyHash);
+			throw new ConflictException("A request with this Idempotency-Key is already in progress");
+		}
+
+		// the key stays in flight only for a caller that goes on to run the action
+		boolean proceed = false;
+		try {
+			IdempotencyRecord record = lookup(keyHash);
+			if (record == null) {
+				proceed = true;
+				return null;
+			}
+
+			if (!record.getFingerprint().equals(fingerprint)) {
+				logger.warn("Idempotency-Key reused with a different request - Key: {}", keyHash);
+				throw new BadRequestException("Idempotency-Key was already used for a different request");
+			}
+			if (record.isPending()) {
+				logger.warn("Idempotent request has no stored response yet - Key: {}", keyHash);
+				throw new ConflictException("A request with this Idempotency-Key is already in progress");
+			}
+
+			logger.info("Replaying idempotent response - Key: {}", keyHash);
+			JavaType type = objectMapper.getTypeFactory().constructParametricType(ApiResponse.class, dataType);
+			try {
+				ApiResponse<T> body = objectMapper.readValue(record.getResponseBody(), type);
+				return ResponseEntity.status(record.getStatusCode()).header(REPLAYED_HEADER, "true").body(body);
+			} catch (JsonProcessingException e) {
+				throw new IllegalStateException("Stored idempotent response could not be read", e);
+			}
+		} finally {
+			if (!proceed) {
+				inFlight.remove(keyHash);
+			}
+		}
+	}
+
+	private IdempotencyRecord lookup(String keyHash) {
+		IdempotencyRecord record = cache.get(keyHash);
+		if (record == null) {
+			record = idempotencyRecordRepository.findById(keyHash).orElse(null);
+			if (record != null && !record.isPending()) {
+				cache.put(keyHash, record);
+			}
+		}
+		if (record != null && record.getExpiresAt().isBefore(LocalDateTime.now())) {
+			cache.remove(keyHash);
+			idempotencyRecordRepository.deleteById(keyHash);
+			return null;
+		}
+		return record;
+	}
+
+	private IdempotencyRecord placeholder(String keyHash, String fingerprint) {
+		return new IdempotencyRecord(keyHash, fingerprint, null, null, LocalDateTime.now().plusHours(ttlHours));
+	}
+
+	private void claim(IdempotencyRecord record) {
+		try {
+			// flushed at once so another node claiming the same key fails here, before any work is done
+			idempotencyRecordRepository.saveAndFlush(record);
+		} catch (DataIntegrityViolationException e) {
+			logger.warn("Idempotency-Key claimed by another request - Key: {}", record.getKeyHash());
+			throw new ConflictException("A request with this Idempotency-Key is already in progress");
+		}
+	}
+
+	private void complete(IdempotencyRecord record, ResponseEntity<?> response) {
+		try {
+			record.setStatusCode(response.getStatusCode().value());
+			record.setResponseBody(objectMapper.writeValueAsString(response.getBody()));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Idempotent response could not be stored", e);
+		}
+		idempotencyRecordRepository.save(record);
+	}
+
+	private void release(IdempotencyRecord record) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository.delete(record));
+		} catch (RuntimeException e) {
+			logger.error("Failed to release Idempotency-Key - Key: {}", record.getKeyHash(), e);
+		}
+	}
+
+	private static boolean isSuccess(ResponseEntity<?> response) {
+		return response != null && response.getStatusCode().is2xxSuccessful();
+	}
+
+	private String keyHash(String key, String operation) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		String caller = authentication != null ? authentication.getName() : "anonymous";
+		return sha256(caller + ':' + operation + ':' + key);
+	}
+
+	private String fingerprint(String operation, Object request) {
+		try {
+			return sha256(operation + ':' + objectMapper.writeValueAsString(request));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Request could not be fingerprinted", e);
+		}
+	}
+
+	private static String sha256(String value) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+}
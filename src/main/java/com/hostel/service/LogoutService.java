@@ -12,6 +12,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import com.hostel.dto.request.LogoutRequest;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -32,6 +34,9 @@ public class LogoutService {
 	@Autowired
 	private LogoutMapper logoutMapper;
 
+	@Autowired
+	private TokenBlacklistService tokenBlacklistService;
+
 	public LogoutResponse logout(LogoutRequest request) {
 		logger.info("Processing logout request");
 
@@ -59,6 +64,7 @@ public class LogoutService {
 
 		Logout blacklistedToken = new Logout(token, email, expiresAt);
 		Logout savedToken = logoutRepository.save(blacklistedToken);
+		revokeAfterCommit(token, expirationDate.getTime());
 
 		logger.info("User logged out successfully - Email: {}", email);
 
@@ -66,12 +72,19 @@ public class LogoutService {
 	}
 
 	public boolean isTokenBlacklisted(String token) {
-		return logoutRepository.existsByToken(token);
+		return tokenBlacklistService.isBlacklisted(token);
 	}
 
-	public void cleanupExpiredTokens() {
-		logger.info("Starting cleanup of expired tokens");
-		int deletedCount = logoutRepository.deleteExpiredTokens(LocalDateTime.now());
-		logger.info("Expired tokens cleanup completed - Deleted {} tokens", deletedCount);
+	private void revokeAfterCommit(String token, long expiresAtMillis) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			tokenBlacklistService.revoke(token, expiresAtMillis);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				tokenBlacklistService.revoke(token, expiresAtMillis);
+			}
+		});
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,135 @@
+package com.hostel.service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.hostel.enums.UserRole;
+import com.hostel.exception.TooManyRequestsException;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Hashes and checks passwords on the bounded {@code passwordHashingExecutor}
+ * so a burst of logins cannot take the CPU from other endpoints. When the
+ * queue is full, or the work is still queued after
+ * {@code password.hashing.timeout-ms}, the caller gets a 429 instead of
+ * waiting. Each role hashes with its own BCrypt work factor; a hash weaker
+ * than its role's factor is reported by {@link #needsUpgrade} so it can be
+ * rehashed on the next successful login.
+ */
+@Service
+public class PasswordHashingService {
+
+	private static final Logger logger = LoggerFactory.getLogger(PasswordHashingService.class);
+
+	@Autowired
+	@Qualifier("passwordHashingExecutor")
+	private ThreadPoolTaskExecutor passwordHashingExecutor;
+
+	@Value("${password.hashing.timeout-ms:2000}")
+	private long timeoutMs = 2000;
+
+	@Value("${password.hashing.retry-after-seconds:1}")
+	private long retryAfterSeconds = 1;
+
+	@Value("${password.bcrypt.strength.user:10}")
+	private int userStrength = 10;
+
+	@Value("${password.bcrypt.strength.owner:11}")
+	private int ownerStrength = 11;
+
+	@Value("${password.bcrypt.strength.admin:12}")
+	private int adminStrength = 12;
+
+	private final Map<UserRole, BCryptPasswordEncoder> encoders = new EnumMap<>(UserRole.class);
+
+	private final LongAdder rejected = new LongAdder();
+
+	@PostConstruct
+	public void init() {
+		encoders.put(UserRole.USER, new BCryptPasswordEncoder(userStrength));
+		encoders.put(UserRole.OWNER, new BCryptPasswordEncoder(ownerStrength));
+		encoders.put(UserRole.ADMIN, new BCryptPasswordEncoder(adminStrength));
+	}
+
+	public String encode(UserRole role, String rawPassword) {
+		BCryptPasswordEncoder encoder = encoder(role);
+		return hash(() -> encoder.encode(rawPassword));
+	}
+
+	public boolean matches(String rawPassword, String encodedPassword) {
+		// the work factor is read from the hash, so any encoder checks any hash
+		BCryptPasswordEncoder encoder = encoder(UserRole.USER);
+		return hash(() -> encoder.matches(rawPassword, encodedPassword));
+	}
+
+	public boolean needsUpgrade(UserRole role, String encodedPassword) {
+		return encoder(role).upgradeEncoding(encodedPassword);
+	}
+
+	public long getRejected() {
+		return rejected.sum();
+	}
+
+	public int queued() {
+		return passwordHashingExecutor.getQueueSize();
+	}
+
+	private BCryptPasswordEncoder encoder(UserRole role) {
+		return encoders.getOrDefault(role, encoders.get(UserRole.USER));
+	}
+
+	private <T> T hash(Callable<T> work) {
+		// claimed by whichever comes first: the worker starting it or the caller giving up
+		AtomicBoolean claimed = new AtomicBoolean();
+		Future<T> future;
+		try {
+			future = passwordHashingExecutor.submit(() -> claimed.compareAndSet(false, true) ? work.call() : null);
+		} catch (TaskRejectedException e) {
+			throw reject("queue full");
+		}
+		try {
+			try {
+				return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// only work still waiting in the queue is dropped; started work is not wasted
+				if (claimed.compareAndSet(false, true)) {
+					throw reject("timed out");
+				}
+				return future.get();
+			}
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException("Password hashing failed", e.getCause());
+		} catch (InterruptedException e) {
+			claimed.set(true);
+			Thread.currentThread().interrupt();
+			throw reject("interrupted");
+		}
+	}
+
+	private TooManyRequestsException reject(String reason) {
+		rejected.increment();
+		logger.warn("Password hashing rejected - Reason: {}, Queued: {}", reason, queued());
+		return new TooManyRequestsException("Too many sign-in requests, please retry shortly", retryAfterSeconds);
+	}
+}
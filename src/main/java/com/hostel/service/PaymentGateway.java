@@ -0,0 +1,69 @@
+package com.hostel.service;
+
+import com.hostel.dto.request.PaymentRequest;
+
+/**
+ * Charges a booking through an external payment provider. Called outside any
+ * database transaction, so implementations may block on the network. Every
+ * charge carries our own reference so that a charge whose answer was lost can
+ * be looked up again with {@link #status(String)}.
+ */
+public interface PaymentGateway {
+
+	Result charge(String reference, PaymentRequest request, Double amount);
+
+	/**
+	 * Returns the outcome of an earlier charge, or {@link Result#unknown} when
+	 * the gateway has no final answer for the reference yet.
+	 */
+	Result status(String reference);
+
+	/**
+	 * Returns a captured charge to the customer. Must be safe to repeat for the
+	 * same transaction id, since an unanswered refund is asked for again.
+	 */
+	Result refund(String transactionId);
+
+	final class Result {
+
+		private final boolean success;
+		private final boolean settled;
+		private final String transactionId;
+		private final String failureReason;
+
+		private Result(boolean success, boolean settled, String transactionId, String failureReason) {
+			this.success = success;
+			this.settled = settled;
+			this.transactionId = transactionId;
+			this.failureReason = failureReason;
+		}
+
+		public static Result approved(String transactionId) {
+			return new Result(true, true, transactionId, null);
+		}
+
+		public static Result declined(String failureReason) {
+			return new Result(false, true, null, failureReason);
+		}
+
+		public static Result unknown(String reason) {
+			return new Result(false, false, null, reason);
+		}
+
+		public boolean isSuccess() {
+			return success;
+		}
+
+		public boolean isSettled() {
+			return settled;
+		}
+
+		public String getTransactionId() {
+			return transactionId;
+		}
+
+		public String getFailureReason() {
+			return failureReason;
+		}
+	}
+}
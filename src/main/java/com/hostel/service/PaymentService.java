@@ -1,29 +1,43 @@
 package com.hostel.service;
 
 import com.hostel.dto.request.PaymentRequest;
+import com.hostel.dto.response.CursorPage;
 import com.hostel.dto.response.PaymentResponse;
 import com.hostel.entity.Booking;
 import com.hostel.entity.Payment;
 import com.hostel.enums.BookingStatus;
 import com.hostel.enums.PaymentStatus;
 import com.hostel.exception.BadRequestException;
+import com.hostel.exception.ConflictException;
 import com.hostel.exception.ResourceNotFoundException;
 import com.hostel.mapper.PaymentMapper;
 import com.hostel.repository.BookingRepository;
 import com.hostel.repository.PaymentRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import io.micrometer.core.annotation.Timed;
 
 @Service
 @Transactional
+@Timed(value = "hostel.service", histogram = true, percentiles = { 0.5, 0.95, 0.99 })
 public class PaymentService {
 
 	private static final Logger logger = LoggerFactory.getLogger(PaymentService.class);
@@ -37,9 +51,57 @@ public class PaymentService {
 	@Autowired
 	private PaymentMapper paymentMapper;
 
-	public PaymentResponse processPayment(PaymentRequest request) {
-		logger.info("Processing payment for booking ID: {}", request.getBookingId());
+	@Autowired
+	private BookingStatisticsService bookingStatisticsService;
+
+	@Autowired
+	private PaymentGateway paymentGateway;
+
+	@Autowired
+	@Qualifier("paymentExecutor")
+	private Executor paymentExecutor;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
 
+	@Value("${payment.gateway.timeout-ms:10000}")
+	private long gatewayTimeoutMs = 10000;
+
+	private TransactionTemplate transactionTemplate;
+
+	@PostConstruct
+	public void init() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * Processes a payment in three steps. First a short transaction validates
+	 * the booking and stores the payment as PENDING. Then the gateway is called
+	 * on the payment executor, with no transaction or connection held. Finally
+	 * a second transaction records the outcome. A gateway error or timeout is
+	 * not a decline, since the charge may still go through, so the payment is
+	 * left UNKNOWN until {@link #reconcileUnknown()} learns the real outcome.
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public CompletableFuture<PaymentResponse> processPayment(PaymentRequest request) {
+		logger.atInfo().setMessage("Processing payment").addKeyValue("bookingId", request.getBookingId())
+				.addKeyValue("method", request.getPaymentMethod()).log();
+
+		Payment pending = transactionTemplate.execute(status -> openPayment(request));
+		Long paymentId = pending.getPaymentId();
+
+		return CompletableFuture
+				.supplyAsync(() -> paymentGateway.charge(pending.getGatewayReference(), request, pending.getAmount()),
+						paymentExecutor)
+				.orTimeout(gatewayTimeoutMs, TimeUnit.MILLISECONDS)
+				.exceptionally(ex -> {
+					logger.error("Payment gateway call failed - Payment ID: {}", paymentId, ex);
+					return PaymentGateway.Result.unknown("Payment gateway did not answer, outcome pending");
+				})
+				.thenApplyAsync(result -> settle(paymentId, result), paymentExecutor);
+	}
+
+	private Payment openPayment(PaymentRequest request) {
 		Booking booking = bookingRepository.findById(request.getBookingId()).orElseThrow(() -> {
 			logger.error("Booking not found - ID: {}", request.getBookingId());
 			return new ResourceNotFoundException("Booking", "bookingId", request.getBookingId());
@@ -50,40 +112,191 @@ public class PaymentService {
 			throw new BadRequestException("Booking is not awaiting payment");
 		}
 
-		if (booking.getPayment() != null) {
+		if (booking.getHoldExpiresAt() != null && booking.getHoldExpiresAt().isBefore(LocalDateTime.now())) {
+			logger.warn("Booking hold expired - ID: {}, Expired at: {}", request.getBookingId(),
+					booking.getHoldExpiresAt());
+			throw new BadRequestException("Booking hold has expired, please book again");
+		}
+
+		Payment payment = booking.getPayment();
+		if (payment != null && payment.getPaymentStatus() == PaymentStatus.UNKNOWN) {
+			logger.warn("Payment outcome not yet known - Booking ID: {}", request.getBookingId());
+			throw new ConflictException("Previous payment attempt is still being confirmed, please check again later");
+		}
+		if (payment != null && payment.getPaymentStatus() != PaymentStatus.FAILED) {
 			logger.error("Payment already exists for booking ID: {}", request.getBookingId());
 			throw new BadRequestException("Payment already processed for this booking");
 		}
 
-		Payment payment = new Payment();
-		payment.setBooking(booking);
+		if (payment == null) {
+			payment = new Payment();
+			payment.setBooking(booking);
+		}
 		payment.setAmount(booking.getTotalPrice());
 		payment.setPaymentMethod(request.getPaymentMethod());
+		payment.setPaymentStatus(PaymentStatus.PENDING);
+		payment.setFailureReason(null);
+		// a new attempt only follows an explicit decline, so it gets a fresh reference
+		payment.setGatewayReference("PAY-" + UUID.randomUUID());
+
+		Payment savedPayment = paymentRepository.save(payment);
+		booking.setPayment(savedPayment);
+		bookingRepository.save(booking);
+
+		logger.debug("Payment pending gateway response - Payment ID: {}", savedPayment.getPaymentId());
+		return savedPayment;
+	}
+
+	/**
+	 * Records the gateway outcome. If the hold reaper cancelled the booking
+	 * while this transaction was running, the version check fails and the
+	 * outcome is recorded again against the cancelled booking. A successful
+	 * charge for a booking that is no longer awaiting payment is left
+	 * REFUND_PENDING and refunded through the gateway outside the transaction.
+	 */
+	private PaymentResponse settle(Long paymentId, PaymentGateway.Result result) {
+		Payment payment;
+		try {
+			payment = transactionTemplate.execute(status -> completePayment(paymentId, result));
+		} catch (OptimisticLockingFailureException e) {
+			logger.warn("Booking changed while completing payment, retrying - Payment ID: {}", paymentId);
+			payment = transactionTemplate.execute(status -> completePayment(paymentId, result));
+		}
+		if (payment.getPaymentStatus() == PaymentStatus.REFUND_PENDING) {
+			payment = refund(payment);
+		}
+		return paymentMapper.toResponse(payment);
+	}
 
-		boolean paymentSuccess = simulatePaymentGateway(request);
+	/**
+	 * Asks the gateway to return the charge and records REFUNDED once it
+	 * confirms. Until then the payment stays REFUND_PENDING, is logged for
+	 * manual follow-up and is retried by {@link #retryRefunds()}.
+	 */
+	private Payment refund(Payment payment) {
+		Long paymentId = payment.getPaymentId();
+		PaymentGateway.Result result;
+		try {
+			result = paymentGateway.refund(payment.getTransactionId());
+		} catch (RuntimeException e) {
+			logger.error("Payment refund failed, manual action needed - Payment ID: {}", paymentId, e);
+			return payment;
+		}
+		if (!result.isSettled() || !result.isSuccess()) {
+			logger.atError().setMessage("Payment refund not confirmed, manual action needed")
+					.addKeyValue("paymentId", paymentId).addKeyValue("transactionId", payment.getTransactionId())
+					.addKeyValue("reason", result.getFailureReason()).log();
+			return payment;
+		}
+		return transactionTemplate.execute(status -> recordRefund(paymentId, result));
+	}
+
+	private Payment recordRefund(Long paymentId, PaymentGateway.Result result) {
+		Payment payment = paymentRepository.findById(paymentId)
+				.orElseThrow(() -> new ResourceNotFoundException("Payment", "paymentId", paymentId));
+		if (payment.getPaymentStatus() != PaymentStatus.REFUND_PENDING) {
+			return payment;
+		}
+		payment.setPaymentStatus(PaymentStatus.REFUNDED);
+
+		logger.atWarn().setMessage("Payment refunded, booking no longer awaiting payment")
+				.addKeyValue("bookingId", payment.getBooking().getBookingId()).addKeyValue("paymentId", paymentId)
+				.addKeyValue("refundId", result.getTransactionId()).log();
+		return paymentRepository.save(payment);
+	}
+
+	private Payment completePayment(Long paymentId, PaymentGateway.Result result) {
+		Payment payment = paymentRepository.findById(paymentId)
+				.orElseThrow(() -> new ResourceNotFoundException("Payment", "paymentId", paymentId));
+		Booking booking = payment.getBooking();
+
+		if (payment.getPaymentStatus() != PaymentStatus.PENDING
+				&& payment.getPaymentStatus() != PaymentStatus.UNKNOWN) {
+			logger.debug("Payment already settled - Payment ID: {}, Status: {}", paymentId,
+					payment.getPaymentStatus());
+			return payment;
+		}
 
-		if (paymentSuccess) {
+		if (!result.isSettled()) {
+			payment.setPaymentStatus(PaymentStatus.UNKNOWN);
+			payment.setFailureReason(result.getFailureReason());
 
+			logger.atWarn().setMessage("Payment outcome unknown").addKeyValue("bookingId", booking.getBookingId())
+					.addKeyValue("paymentId", paymentId).addKeyValue("reference", payment.getGatewayReference())
+					.log();
+		} else if (!result.isSuccess()) {
+			payment.setPaymentStatus(PaymentStatus.FAILED);
+			payment.setFailureReason(result.getFailureReason());
+
+			logger.atWarn().setMessage("Payment failed").addKeyValue("bookingId", booking.getBookingId())
+					.addKeyValue("paymentId", paymentId).addKeyValue("reason", result.getFailureReason()).log();
+		} else if (booking.getBookingStatus() != BookingStatus.PENDING_PAYMENT) {
+			payment.setPaymentStatus(PaymentStatus.REFUND_PENDING);
+			payment.setTransactionId(result.getTransactionId());
+			payment.setFailureReason("Booking was " + booking.getBookingStatus() + " before payment completed");
+
+			logger.atWarn().setMessage("Payment captured, booking no longer awaiting payment")
+					.addKeyValue("bookingId", booking.getBookingId()).addKeyValue("paymentId", paymentId)
+					.addKeyValue("status", booking.getBookingStatus()).log();
+		} else {
 			payment.setPaymentStatus(PaymentStatus.COMPLETED);
-			payment.setTransactionId("TXN-" + UUID.randomUUID().toString());
+			payment.setTransactionId(result.getTransactionId());
 			payment.setPaymentDate(LocalDateTime.now());
 
 			booking.setBookingStatus(BookingStatus.CONFIRMED);
+			booking.setHoldExpiresAt(null);
+			bookingRepository.save(booking);
+			bookingStatisticsService.recordTransition(booking, BookingStatus.PENDING_PAYMENT);
 
-			logger.info("Payment successful - Transaction ID: {}", payment.getTransactionId());
-		} else {
+			logger.atInfo().setMessage("Payment successful").addKeyValue("bookingId", booking.getBookingId())
+					.addKeyValue("paymentId", paymentId).addKeyValue("transactionId", payment.getTransactionId())
+					.log();
+		}
 
-			payment.setPaymentStatus(PaymentStatus.FAILED);
-			payment.setFailureReason("Payment gateway declined the transaction");
+		return paymentRepository.save(payment);
+	}
 
-			logger.warn("Payment failed for booking ID: {}", request.getBookingId());
+	/**
+	 * Asks the gateway for the outcome of every charge left UNKNOWN and records
+	 * the ones it has settled. Gateway calls run without a transaction.
+	 */
+	@Scheduled(fixedDelayString = "${payment.reconcile-ms:60000}")
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void reconcileUnknown() {
+		List<Payment> unknown = transactionTemplate
+				.execute(status -> paymentRepository.findByPaymentStatus(PaymentStatus.UNKNOWN));
+		int settled = 0;
+		for (Payment payment : unknown) {
+			PaymentGateway.Result result;
+			try {
+				result = paymentGateway.status(payment.getGatewayReference());
+			} catch (RuntimeException e) {
+				logger.error("Payment status query failed - Payment ID: {}", payment.getPaymentId(), e);
+				continue;
+			}
+			if (result.isSettled()) {
+				settle(payment.getPaymentId(), result);
+				settled++;
+			}
 		}
+		if (!unknown.isEmpty()) {
+			logger.info("Unknown payments reconciled - Checked: {}, Settled: {}", unknown.size(), settled);
+		}
+	}
 
-		Payment savedPayment = paymentRepository.save(payment);
-		booking.setPayment(savedPayment);
-		bookingRepository.save(booking);
-
-		return paymentMapper.toResponse(savedPayment);
+	/**
+	 * Asks the gateway again for every refund it has not confirmed yet.
+	 */
+	@Scheduled(fixedDelayString = "${payment.reconcile-ms:60000}")
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void retryRefunds() {
+		List<Payment> owed = transactionTemplate
+				.execute(status -> paymentRepository.findByPaymentStatus(PaymentStatus.REFUND_PENDING));
+		long refunded = owed.stream().map(this::refund)
+				.filter(payment -> payment.getPaymentStatus() == PaymentStatus.REFUNDED).count();
+		if (!owed.isEmpty()) {
+			logger.info("Pending refunds retried - Checked: {}, Refunded: {}", owed.size(), refunded);
+		}
 	}
 
 	public PaymentResponse getPaymentByBooking(Long bookingId) {
@@ -108,15 +321,17 @@ public class PaymentService {
 		return paymentMapper.toResponse(payment);
 	}
 
-	public List<PaymentResponse> getPaymentsByUser(Long userId) {
-		logger.info("Fetching payments for user ID: {}", userId);
+	public CursorPage<PaymentResponse> getPaymentsByUser(Long userId, Long cursor, Integer size) {
+		logger.info("Fetching payments for user ID: {}, Cursor: {}", userId, cursor);
 
-		return paymentRepository.findByBooking_User_UserId(userId).stream().map(paymentMapper::toResponse)
-				.collect(Collectors.toList());
+		int pageSize = CursorPage.size(size);
+		List<Payment> rows = paymentRepository.findPageByUser(userId, CursorPage.after(cursor),
+				CursorPage.fetchLimit(pageSize));
+		return CursorPage.of(rows, pageSize, Payment::getPaymentId, paymentMapper::toResponse);
 	}
 
 	public PaymentResponse refundPayment(Long paymentId) {
-		logger.info("Processing refund for payment ID: {}", paymentId);
+		logger.atInfo().setMessage("Processing refund").addKeyValue("paymentId", paymentId).log();
 
 		Payment payment = paymentRepository.findById(paymentId).orElseThrow(() -> {
 			logger.error("Payment not found with ID: {}", paymentId);
@@ -131,14 +346,8 @@ public class PaymentService {
 
 		Payment updatedPayment = paymentRepository.save(payment);
 
-		logger.info("Refund processed successfully for payment ID: {}", paymentId);
+		logger.atInfo().setMessage("Refund processed").addKeyValue("paymentId", paymentId).log();
 
 		return paymentMapper.toResponse(updatedPayment);
 	}
-
-	private boolean simulatePaymentGateway(PaymentRequest request) {
-
-		return Math.random() < 0.9;
-
-	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,221 @@
+package com.hostel.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.hostel.dto.response.NPlusOneIncident;
+import com.hostel.dto.response.QueryStatisticsResponse;
+import com.hostel.dto.response.SlowQuery;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Collects the statement timings reported by
+ * {@link com.hostel.config.QueryTimingDataSource}. Statements slower than
+ * {@code query.slow-ms} go into a top-N table; the table rolls over every
+ * {@code query.window-ms} and the current and previous window are reported.
+ * Statements are also counted per HTTP request, and a select repeated
+ * {@code query.n-plus-one-threshold} times within one request is reported as a
+ * suspected N+1.
+ */
+@Service
+public class QueryStatisticsService {
+
+	private static final Logger logger = LoggerFactory.getLogger(QueryStatisticsService.class);
+
+	// the datasource reports statements while the entity manager factory is still being built
+	@Lazy
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Value("${query.slow-ms:200}")
+	private long slowMs = 200;
+
+	@Value("${query.top-n:50}")
+	private int topN = 50;
+
+	@Value("${query.n-plus-one-threshold:10}")
+	private int nPlusOneThreshold = 10;
+
+	@Value("${query.max-incidents:100}")
+	private int maxIncidents = 100;
+
+	private final ThreadLocal<RequestQueries> requests = new ThreadLocal<>();
+
+	private final Deque<NPlusOneIncident> incidents = new ArrayDeque<>();
+
+	private Window current = new Window();
+
+	private Window previous = new Window();
+
+	// once the table is full, statements faster than its fastest entry skip the lock
+	private volatile long floorNanos;
+
+	public void begin(String request) {
+		requests.set(new RequestQueries(request));
+	}
+
+	public void end() {
+		RequestQueries queries = requests.get();
+		if (queries == null) {
+			return;
+		}
+		requests.remove();
+		if (queries.statements == 0) {
+			return;
+		}
+		logger.debug("Request queries - Request: {}, Statements: {}, Time ms: {}, Rows: {}", queries.request,
+				queries.statements, TimeUnit.NANOSECONDS.toMillis(queries.nanos), queries.rows);
+		for (Map.Entry<String, Integer> shape : queries.executions.entrySet()) {
+			if (shape.getValue() >= nPlusOneThreshold && isSelect(shape.getKey())) {
+				logger.warn("Suspected N+1 - Request: {}, Executions: {}, SQL: {}", queries.request, shape.getValue(),
+						shape.getKey());
+				addIncident(new NPlusOneIncident(queries.request, shape.getKey(), shape.getValue(),
+						LocalDateTime.now()));
+			}
+		}
+	}
+
+	public void record(String sql, long elapsedNanos, long rows) {
+		RequestQueries queries = requests.get();
+		if (queries != null) {
+			queries.add(sql, elapsedNanos, rows);
+		}
+		if (elapsedNanos < TimeUnit.MILLISECONDS.toNanos(slowMs) || elapsedNanos <= floorNanos) {
+			return;
+		}
+		String request = queries != null ? queries.request : null;
+		synchronized (this) {
+			current.offer(new Execution(sql, elapsedNanos, rows, request, LocalDateTime.now()), topN);
+			floorNanos = current.floor(topN);
+		}
+	}
+
+	public QueryStatisticsResponse getStatistics() {
+		List<Execution> executions = new ArrayList<>();
+		List<NPlusOneIncident> suspected;
+		LocalDateTime windowStartedAt;
+		synchronized (this) {
+			executions.addAll(current.slowest);
+			executions.addAll(previous.slowest);
+			suspected = new ArrayList<>(incidents);
+			windowStartedAt = previous.startedAt;
+		}
+		executions.sort(Comparator.comparingLong(Execution::nanos).reversed());
+
+		Statistics statistics = statistics();
+		QueryStatisticsResponse response = new QueryStatisticsResponse();
+		response.setWindowStartedAt(windowStartedAt);
+		response.setSlowThresholdMs(slowMs);
+		response.setStatementsPrepared(statistics.getPrepareStatementCount());
+		response.setQueryExecutions(statistics.getQueryExecutionCount());
+		response.setQueryExecutionMaxTimeMs(statistics.getQueryExecutionMaxTime());
+		response.setQueryExecutionMaxTimeQuery(statistics.getQueryExecutionMaxTimeQueryString());
+		response.setEntityLoads(statistics.getEntityLoadCount());
+		response.setCollectionFetches(statistics.getCollectionFetchCount());
+		response.setSlowQueries(executions.stream().limit(topN).map(Execution::toSlowQuery).toList());
+		response.setSuspectedNPlusOne(suspected);
+		return response;
+	}
+
+	@Scheduled(initialDelayString = "${query.window-ms:3600000}", fixedDelayString = "${query.window-ms:3600000}")
+	public synchronized void rotate() {
+		previous = current;
+		current = new Window();
+		floorNanos = 0;
+	}
+
+	public void reset() {
+		synchronized (this) {
+			previous = new Window();
+			current = new Window();
+			incidents.clear();
+			floorNanos = 0;
+		}
+		statistics().clear();
+		logger.info("Query statistics reset");
+	}
+
+	private synchronized void addIncident(NPlusOneIncident incident) {
+		if (incidents.size() >= maxIncidents) {
+			incidents.removeLast();
+		}
+		incidents.addFirst(incident);
+	}
+
+	private Statistics statistics() {
+		return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	private static boolean isSelect(String sql) {
+		return sql.regionMatches(true, 0, "select", 0, 6);
+	}
+
+	private record Execution(String sql, long nanos, long rows, String request, LocalDateTime executedAt) {
+
+		private SlowQuery toSlowQuery() {
+			return new SlowQuery(sql, TimeUnit.NANOSECONDS.toMillis(nanos), rows, request, executedAt);
+		}
+	}
+
+	private static final class Window {
+
+		private final LocalDateTime startedAt = LocalDateTime.now();
+		private final PriorityQueue<Execution> slowest = new PriorityQueue<>(
+				Comparator.comparingLong(Execution::nanos));
+
+		private void offer(Execution execution, int limit) {
+			slowest.add(execution);
+			if (slowest.size() > limit) {
+				slowest.poll();
+			}
+		}
+
+		private long floor(int limit) {
+			return slowest.size() < limit ? 0 : slowest.peek().nanos();
+		}
+	}
+
+	private static final class RequestQueries {
+
+		// enough distinct statements for any endpoint; more are still timed but not grouped
+		private static final int MAX_SHAPES = 256;
+
+		private final String request;
+		private final Map<String, Integer> executions = new HashMap<>();
+		private int statements;
+		private long nanos;
+		private long rows;
+
+		private RequestQueries(String request) {
+			this.request = request;
+		}
+
+		private void add(String sql, long elapsedNanos, long rowCount) {
+			statements++;
+			nanos += elapsedNanos;
+			rows += rowCount;
+			if (executions.size() < MAX_SHAPES || executions.containsKey(sql)) {
+				executions.merge(sql, 1, Integer::sum);
+			}
+		}
+	}
+}
@@ -0,0 +1,142 @@
+package com.hostel.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Token buckets per client. Each client may burst {@code ratelimit.capacity}
+ * tokens and gets {@code ratelimit.refill-per-second} back; a request costs
+ * the weight of the first matching route in {@code ratelimit.costs}, or 1.
+ * A bucket is a single {@link AtomicLong} holding the time at which it will
+ * be full again, so taking tokens is one compare-and-set and never locks.
+ * Full buckets carry no state and are evicted every
+ * {@code ratelimit.evict-ms}.
+ */
+@Service
+public class RateLimitService {
+
+	private static final Logger logger = LoggerFactory.getLogger(RateLimitService.class);
+
+	@Value("${ratelimit.enabled:true}")
+	private boolean enabled = true;
+
+	@Value("${ratelimit.capacity:60}")
+	private int capacity = 60;
+
+	@Value("${ratelimit.refill-per-second:20}")
+	private double refillPerSecond = 20;
+
+	@Value("${ratelimit.costs:}")
+	private String costs = "";
+
+	private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+	private final LongAdder limited = new LongAdder();
+
+	private final List<RouteCost> routes = new ArrayList<>();
+
+	private long tokenNanos;
+
+	private long burstNanos;
+
+	@PostConstruct
+	public void init() {
+		tokenNanos = (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+		burstNanos = capacity * tokenNanos;
+		routes.clear();
+		for (String entry : costs.split(",")) {
+			if (entry.isBlank()) {
+				continue;
+			}
+			// "GET /api/v1/rooms/available=5"
+			String[] route = entry.trim().split("[ =]");
+			if (route.length != 3) {
+				throw new IllegalArgumentException("Invalid ratelimit.costs entry: " + entry);
+			}
+			// a cost above the capacity could never be paid
+			int cost = Math.min(Integer.parseInt(route[2]), capacity);
+			routes.add(new RouteCost(route[0], PathPatternParser.defaultInstance.parse(route[1]), cost));
+		}
+		logger.info("Rate limits - Capacity: {}, Refill/s: {}, Weighted routes: {}", capacity, refillPerSecond,
+				routes.size());
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public int cost(String method, String path) {
+		PathContainer container = PathContainer.parsePath(path);
+		for (RouteCost route : routes) {
+			if (route.method.equals(method) && route.pattern.matches(container)) {
+				return route.cost;
+			}
+		}
+		return 1;
+	}
+
+	/**
+	 * Takes {@code cost} tokens from the client's bucket. Returns 0 when the
+	 * request may proceed, otherwise the nanoseconds until enough tokens
+	 * will be back.
+	 */
+	public long tryConsume(String client, int cost, long nowNanos) {
+		AtomicLong bucket = buckets.get(client);
+		if (bucket == null) {
+			bucket = buckets.computeIfAbsent(client, key -> new AtomicLong(nowNanos));
+		}
+		long increment = cost * tokenNanos;
+		while (true) {
+			long fullAt = bucket.get();
+			long next = Math.max(fullAt, nowNanos) + increment;
+			long wait = next - nowNanos - burstNanos;
+			if (wait > 0) {
+				limited.increment();
+				return wait;
+			}
+			if (bucket.compareAndSet(fullAt, next)) {
+				return 0;
+			}
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${ratelimit.evict-ms:60000}")
+	public void evictIdle() {
+		int before = buckets.size();
+		evictIdle(System.nanoTime());
+		logger.debug("Idle rate limit buckets evicted - Evicted: {}, Remaining: {}", before - buckets.size(),
+				buckets.size());
+	}
+
+	public void evictIdle(long nowNanos) {
+		// a request racing the removal may get its tokens back; that is at most one refill
+		buckets.entrySet().removeIf(entry -> entry.getValue().get() <= nowNanos);
+	}
+
+	public int size() {
+		return buckets.size();
+	}
+
+	public long getLimited() {
+		return limited.sum();
+	}
+
+	private record RouteCost(String method, PathPattern pattern, int cost) {
+	}
+}
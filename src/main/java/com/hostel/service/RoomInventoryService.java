@@ -0,0 +1,418 @@
+package com.hostel.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hostel.entity.Booking;
+import com.hostel.entity.Room;
+import com.hostel.entity.RoomNightOccupancy;
+import com.hostel.enums.BookingStatus;
+import com.hostel.exception.BadRequestException;
+import com.hostel.repository.BookingRepository;
+import com.hostel.repository.RoomNightOccupancyRepository;
+import com.hostel.repository.RoomRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * In-memory per-night bed calendar, one {@link RoomCalendar} per room. A
+ * reservation books beds on every night of the stay with CAS updates, so
+ * availability no longer depends on a single rooms row or on scanning the
+ * bookings table. Changed nights are written to room_night_occupancy by a
+ * scheduled flush. Room.availableBeds is the number of beds the room offers
+ * per night. The calendars are owned by this instance, so a deployment must
+ * route all bookings through a single node.
+ */
+@Service
+public class RoomInventoryService implements SmartInitializingSingleton {
+
+	private static final Logger logger = LoggerFactory.getLogger(RoomInventoryService.class);
+
+	@Autowired
+	private RoomRepository roomRepository;
+
+	@Autowired
+	private BookingRepository bookingRepository;
+
+	@Autowired
+	private RoomNightOccupancyRepository occupancyRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Value("${inventory.horizon-days:365}")
+	private int horizonDays = 365;
+
+	private TransactionTemplate transactionTemplate;
+
+	private final Map<Long, RoomCalendar> calendars = new ConcurrentHashMap<>();
+
+	// the sets are only touched inside compute/remove/merge on this map, so a set is never changed after flush detaches it
+	private final Map<Long, Set<Long>> dirtyNights = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	public void init() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		transactionTemplate.executeWithoutResult(status -> warmUp());
+	}
+
+	/**
+	 * Rebuilds the calendars from the active bookings, which are the source of
+	 * truth: room_night_occupancy lags them by up to one flush, and a crash in
+	 * that window would otherwise lose committed bookings. Stored nights that
+	 * disagree with the bookings are marked dirty so the next flush corrects
+	 * them.
+	 */
+	private void warmUp() {
+		logger.info("Warming room calendars");
+		LocalDate today = LocalDate.now();
+
+		List<Booking> bookings = bookingRepository
+				.findActiveFrom(List.of(BookingStatus.PENDING_PAYMENT, BookingStatus.CONFIRMED), today);
+		logger.info("Rebuilding room calendars from {} active bookings", bookings.size());
+
+		for (Room room : roomRepository.findAll()) {
+			calendars.put(room.getRoomId(), new RoomCalendar(room.getAvailableBeds(), horizonDays));
+		}
+
+		long lastDay = today.toEpochDay() + horizonDays;
+		for (Booking booking : bookings) {
+			RoomCalendar calendar = calendars.get(booking.getRoom().getRoomId());
+			long from = Math.max(booking.getCheckInDate().toEpochDay(), today.toEpochDay());
+			long to = Math.min(booking.getCheckOutDate().toEpochDay(), lastDay);
+			if (calendar != null) {
+				calendar.adjust(from, to, booking.getNumberOfBeds());
+			}
+		}
+
+		int stale = reconcileStoredNights(today);
+		if (stale > 0) {
+			logger.warn("Stored room nights disagreed with bookings - Nights: {}", stale);
+		}
+		logger.info("Room calendars warmed - Rooms: {}, Nights to write: {}", calendars.size(), stale);
+	}
+
+	private int reconcileStoredNights(LocalDate today) {
+		long lastDay = today.toEpochDay() + horizonDays;
+		Map<Long, Set<Long>> stored = new HashMap<>();
+		int stale = 0;
+		for (RoomNightOccupancy occupancy : occupancyRepository.findActiveFrom(today)) {
+			Long roomId = occupancy.getRoom().getRoomId();
+			long day = occupancy.getNight().toEpochDay();
+			RoomCalendar calendar = calendars.get(roomId);
+			if (calendar == null || day >= lastDay) {
+				continue;
+			}
+			stored.computeIfAbsent(roomId, id -> new HashSet<>()).add(day);
+			if (calendar.bookedOn(day) != occupancy.getBookedBeds()) {
+				markDirty(roomId, day, day + 1);
+				stale++;
+			}
+		}
+		// booked nights with no stored row, e.g. booked after the last flush before a crash
+		for (Map.Entry<Long, RoomCalendar> entry : calendars.entrySet()) {
+			Set<Long> storedNights = stored.getOrDefault(entry.getKey(), Set.of());
+			for (long day = today.toEpochDay(); day < lastDay; day++) {
+				if (entry.getValue().bookedOn(day) > 0 && !storedNights.contains(day)) {
+					markDirty(entry.getKey(), day, day + 1);
+					stale++;
+				}
+			}
+		}
+		return stale;
+	}
+
+	// nights past the horizon would read ring slots that belong to other nights, so they are never free
+	public int getAvailableBeds(Room room, LocalDate checkIn, LocalDate checkOut) {
+		if (beyondHorizon(checkOut)) {
+			return 0;
+		}
+		return calendarFor(room).freeBeds(checkIn.toEpochDay(), checkOut.toEpochDay());
+	}
+
+	public int getAvailableBeds(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+		RoomCalendar calendar = calendars.get(roomId);
+		if (calendar == null || beyondHorizon(checkOut)) {
+			return 0;
+		}
+		return calendar.freeBeds(checkIn.toEpochDay(), checkOut.toEpochDay());
+	}
+
+	public void checkHorizon(LocalDate checkOut) {
+		if (beyondHorizon(checkOut)) {
+			throw new BadRequestException("Bookings can only be made up to " + horizonDays + " days in advance");
+		}
+	}
+
+	// past nights share ring slots with nights at the far end of the horizon, so they are never booked
+	public boolean reserve(Room room, LocalDate checkIn, LocalDate checkOut, int beds) {
+		checkHorizon(checkOut);
+		long from = Math.max(checkIn.toEpochDay(), LocalDate.now().toEpochDay());
+		long to = checkOut.toEpochDay();
+		if (from >= to) {
+			return true;
+		}
+
+		if (!calendarFor(room).reserve(from, to, beds)) {
+			logger.debug("Reservation rejected - Room ID: {}, CheckIn: {}, CheckOut: {}, Required: {}",
+					room.getRoomId(), checkIn, checkOut, beds);
+			return false;
+		}
+		markDirty(room.getRoomId(), from, to);
+		undoOnRollback(room.getRoomId(), from, to, -beds);
+		return true;
+	}
+
+	// clamped like warmUp: nights past the horizon were never booked and their slots belong to nearer nights
+	public void release(Room room, LocalDate checkIn, LocalDate checkOut, int beds) {
+		long today = LocalDate.now().toEpochDay();
+		long from = Math.max(checkIn.toEpochDay(), today);
+		long to = Math.min(checkOut.toEpochDay(), today + horizonDays);
+		if (from >= to) {
+			return;
+		}
+		calendarFor(room).adjust(from, to, -beds);
+		markDirty(room.getRoomId(), from, to);
+		undoOnRollback(room.getRoomId(), from, to, beds);
+	}
+
+	public void track(Room room) {
+		RoomCalendar calendar = calendars.putIfAbsent(room.getRoomId(),
+				new RoomCalendar(room.getAvailableBeds(), horizonDays));
+		if (calendar != null) {
+			calendar.setCapacity(room.getAvailableBeds());
+		}
+	}
+
+	public void evict(Long roomId) {
+		occupancyRepository.deleteByRoomId(roomId);
+		// a rolled-back delete must keep the calendar, or every booked night would read as free
+		afterCommit(() -> {
+			calendars.remove(roomId);
+			dirtyNights.remove(roomId);
+		});
+	}
+
+	@Scheduled(fixedDelayString = "${inventory.flush-interval-ms:500}")
+	public void flush() {
+		for (Long roomId : dirtyNights.keySet()) {
+			Set<Long> nights = dirtyNights.remove(roomId);
+			RoomCalendar calendar = calendars.get(roomId);
+			if (nights == null || nights.isEmpty() || calendar == null) {
+				continue;
+			}
+			try {
+				transactionTemplate.executeWithoutResult(status -> writeNights(roomId, calendar, nights));
+			} catch (RuntimeException e) {
+				dirtyNights.merge(roomId, nights, (current, failed) -> {
+					current.addAll(failed);
+					return current;
+				});
+				logger.error("Room calendar flush failed - Room ID: {}, Nights: {}", roomId, nights.size(), e);
+			}
+		}
+	}
+
+	@Scheduled(cron = "${inventory.cleanup-cron:0 15 0 * * *}")
+	public void purgePastNights() {
+		Integer deleted = transactionTemplate
+				.execute(status -> occupancyRepository.deleteNightsBefore(LocalDate.now()));
+		logger.info("Past room nights purged - Deleted {} rows", deleted);
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		logger.info("Flushing room calendars before shutdown - Pending rooms: {}", dirtyNights.size());
+		flush();
+	}
+
+	private void writeNights(Long roomId, RoomCalendar calendar, Collection<Long> epochDays) {
+		List<LocalDate> nights = new ArrayList<>(epochDays.size());
+		for (Long day : epochDays) {
+			nights.add(LocalDate.ofEpochDay(day));
+		}
+
+		Map<LocalDate, RoomNightOccupancy> existing = new HashMap<>();
+		for (RoomNightOccupancy occupancy : occupancyRepository.findByRoom_RoomIdAndNightIn(roomId, nights)) {
+			existing.put(occupancy.getNight(), occupancy);
+		}
+
+		Room room = roomRepository.getReferenceById(roomId);
+		List<RoomNightOccupancy> changed = new ArrayList<>(nights.size());
+		for (LocalDate night : nights) {
+			int booked = calendar.bookedOn(night.toEpochDay());
+			RoomNightOccupancy occupancy = existing.get(night);
+			if (occupancy == null) {
+				occupancy = new RoomNightOccupancy(room, night, booked);
+			} else {
+				occupancy.setBookedBeds(booked);
+			}
+			changed.add(occupancy);
+		}
+		occupancyRepository.saveAll(changed);
+	}
+
+	private boolean beyondHorizon(LocalDate checkOut) {
+		return checkOut.toEpochDay() > LocalDate.now().toEpochDay() + horizonDays;
+	}
+
+	private RoomCalendar calendarFor(Room room) {
+		return calendars.computeIfAbsent(room.getRoomId(),
+				id -> new RoomCalendar(room.getAvailableBeds(), horizonDays));
+	}
+
+	private void markDirty(Long roomId, long from, long to) {
+		dirtyNights.compute(roomId, (id, nights) -> {
+			Set<Long> pending = nights != null ? nights : new HashSet<>();
+			for (long day = from; day < to; day++) {
+				pending.add(day);
+			}
+			return pending;
+		});
+	}
+
+	private void undoOnRollback(Long roomId, long from, long to, int beds) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_ROLLED_BACK) {
+					RoomCalendar calendar = calendars.get(roomId);
+					if (calendar != null) {
+						calendar.adjust(from, to, beds);
+						markDirty(roomId, from, to);
+					}
+					logger.debug("Room calendar change rolled back - Room ID: {}, Beds: {}", roomId, beds);
+				}
+			}
+		});
+	}
+
+	private static void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+	/**
+	 * Booked beds per night in a ring of {@code horizonDays} slots indexed by
+	 * epoch day. Each slot packs the epoch day it belongs to with its booked
+	 * count, so a slot left over from a past night reads as empty and is
+	 * reclaimed by the first CAS that touches it.
+	 */
+	static final class RoomCalendar {
+
+		private final AtomicLongArray slots;
+
+		private volatile int capacity;
+
+		RoomCalendar(int capacity, int horizonDays) {
+			this.capacity = capacity;
+			this.slots = new AtomicLongArray(horizonDays);
+		}
+
+		void setCapacity(int capacity) {
+			this.capacity = capacity;
+		}
+
+		int bookedOn(long day) {
+			long slot = slots.get(index(day));
+			return dayOf(slot) == day ? bookedOf(slot) : 0;
+		}
+
+		int freeBeds(long from, long to) {
+			int free = capacity;
+			for (long day = from; day < to; day++) {
+				free = Math.min(free, capacity - bookedOn(day));
+			}
+			return Math.max(free, 0);
+		}
+
+		boolean reserve(long from, long to, int beds) {
+			for (long day = from; day < to; day++) {
+				if (!tryBook(day, beds)) {
+					adjust(from, day, -beds);
+					return false;
+				}
+			}
+			return true;
+		}
+
+		void adjust(long from, long to, int delta) {
+			for (long day = from; day < to; day++) {
+				int index = index(day);
+				while (true) {
+					long slot = slots.get(index);
+					int booked = dayOf(slot) == day ? bookedOf(slot) : 0;
+					if (slots.compareAndSet(index, slot, pack(day, Math.max(booked + delta, 0)))) {
+						break;
+					}
+				}
+			}
+		}
+
+		private boolean tryBook(long day, int beds) {
+			int index = index(day);
+			while (true) {
+				long slot = slots.get(index);
+				int booked = dayOf(slot) == day ? bookedOf(slot) : 0;
+				if (booked + beds > capacity) {
+					return false;
+				}
+				if (slots.compareAndSet(index, slot, pack(day, booked + beds))) {
+					return true;
+				}
+			}
+		}
+
+		private int index(long day) {
+			return (int) Math.floorMod(day, (long) slots.length());
+		}
+
+		private static long pack(long day, int booked) {
+			return (day << 32) | (booked & 0xFFFFFFFFL);
+		}
+
+		private static long dayOf(long slot) {
+			return slot >>> 32;
+		}
+
+		private static int bookedOf(long slot) {
+			return (int) slot;
+		}
+	}
+}
@@ -0,0 +1,488 @@
+package com.hostel.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hostel.dto.request.RoomSearchRequest;
+import com.hostel.dto.response.RoomResponse;
+import com.hostel.entity.Hostel;
+import com.hostel.entity.Room;
+import com.hostel.enums.RoomType;
+import com.hostel.exception.BadRequestException;
+import com.hostel.repository.HostelRepository;
+import com.hostel.repository.RoomRepository;
+
+/**
+ * In-memory search index over approved hostels: city to hostels to rooms,
+ * a facility bitset per hostel keyed by {@link FacilityDictionary} ordinal
+ * and a price-sorted room array per city.
+ * Readers work on immutable per-city snapshots. After the surrounding
+ * transaction commits, writers merge the rooms they changed into the sorted
+ * snapshot of each city they touch; only the startup build sorts a whole
+ * city.
+ */
+@Service
+public class RoomSearchService implements SmartInitializingSingleton {
+
+	private static final Logger logger = LoggerFactory.getLogger(RoomSearchService.class);
+
+	@Autowired
+	private HostelRepository hostelRepository;
+
+	@Autowired
+	private RoomRepository roomRepository;
+
+	@Autowired
+	private RoomInventoryService roomInventoryService;
+
+	@Autowired
+	private FacilityDictionary facilityDictionary;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private final Map<String, CityIndex> cities = new ConcurrentHashMap<>();
+
+	private final Map<Long, HostelEntry> hostels = new ConcurrentHashMap<>();
+
+	private final Map<Long, RoomEntry> rooms = new ConcurrentHashMap<>();
+
+	private final Map<Long, Set<Long>> roomsByHostel = new ConcurrentHashMap<>();
+
+	private final Map<String, Set<Long>> hostelsByCity = new ConcurrentHashMap<>();
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(true);
+		transactionTemplate.executeWithoutResult(status -> rebuild());
+	}
+
+	private synchronized void rebuild() {
+		logger.info("Building room search index");
+		for (Hostel hostel : hostelRepository.findByApproved(true)) {
+			putHostel(toEntry(hostel));
+		}
+		for (Room room : roomRepository.findAll()) {
+			if (hostels.containsKey(room.getHostel().getHostelId())) {
+				putRoom(toEntry(room));
+			}
+		}
+		for (String city : hostelsByCity.keySet()) {
+			rebuildCity(city);
+		}
+		logger.info("Room search index built - Hostels: {}, Rooms: {}", hostels.size(), rooms.size());
+	}
+
+	public List<RoomResponse> search(RoomSearchRequest request) {
+		LocalDate checkIn = request.getCheckIn() != null ? request.getCheckIn() : LocalDate.now();
+		LocalDate checkOut = request.getCheckOut() != null ? request.getCheckOut() : checkIn.plusDays(1);
+		if (checkIn.isBefore(LocalDate.now())) {
+			throw new BadRequestException("Check-in date cannot be in the past");
+		}
+		if (!checkOut.isAfter(checkIn)) {
+			throw new BadRequestException("Check-out date must be after check-in date");
+		}
+		roomInventoryService.checkHorizon(checkOut);
+		// an empty ?beds= or ?limit= binds null over the field defaults
+		int beds = request.getBeds() != null ? request.getBeds() : 1;
+		int limit = request.getLimit() != null ? request.getLimit() : RoomSearchRequest.DEFAULT_LIMIT;
+
+		BitSet requiredFacilities = facilityDictionary.encodeIds(request.getFacilityIds());
+		if (requiredFacilities == null) {
+			return new ArrayList<>();
+		}
+
+		List<CityIndex> candidates;
+		if (request.getCity() != null && !request.getCity().isBlank()) {
+			CityIndex index = cities.get(cityKey(request.getCity()));
+			candidates = index == null ? Collections.emptyList() : List.of(index);
+		} else {
+			candidates = new ArrayList<>(cities.values());
+		}
+
+		List<RoomResponse> results = new ArrayList<>();
+		for (CityIndex index : candidates) {
+			index.collect(request, requiredFacilities, checkIn, checkOut, beds, limit, results);
+		}
+		if (candidates.size() > 1) {
+			results.sort(Comparator.comparing(RoomResponse::getPricePerNight));
+		}
+		return results.size() > limit ? new ArrayList<>(results.subList(0, limit)) : results;
+	}
+
+	public void indexHostel(Hostel hostel) {
+		Long hostelId = hostel.getHostelId();
+		if (!Boolean.TRUE.equals(hostel.getApproved())) {
+			removeHostel(hostelId);
+			return;
+		}
+		HostelEntry entry = toEntry(hostel);
+		List<RoomEntry> roomEntries = new ArrayList<>();
+		if (hostel.getRooms() != null) {
+			hostel.getRooms().forEach(room -> roomEntries.add(toEntry(room)));
+		}
+		afterCommit(() -> applyHostel(hostelId, entry, roomEntries));
+	}
+
+	public void removeHostel(Long hostelId) {
+		afterCommit(() -> applyHostel(hostelId, null, Collections.emptyList()));
+	}
+
+	public void indexRoom(Room room) {
+		RoomEntry entry = toEntry(room);
+		afterCommit(() -> applyRoom(entry));
+	}
+
+	/**
+	 * Indexes a batch in one step after commit, for bulk writers such as the
+	 * import. Each hostel replaces its previous entry and rooms; each room is
+	 * added to its hostel if that hostel is indexed. Every touched city is
+	 * merged once, however many rooms it received.
+	 */
+	public void indexAll(Collection<Hostel> hostelBatch, Collection<Room> roomBatch) {
+		List<Long> hostelIds = new ArrayList<>(hostelBatch.size());
+		List<HostelEntry> hostelEntries = new ArrayList<>(hostelBatch.size());
+		for (Hostel hostel : hostelBatch) {
+			hostelIds.add(hostel.getHostelId());
+			if (Boolean.TRUE.equals(hostel.getApproved())) {
+				hostelEntries.add(toEntry(hostel));
+			}
+		}
+		List<RoomEntry> roomEntries = roomBatch.stream().map(this::toEntry).toList();
+		afterCommit(() -> applyAll(hostelIds, hostelEntries, roomEntries));
+	}
+
+	public void removeRoom(Long roomId) {
+		afterCommit(() -> dropRoom(roomId));
+	}
+
+	private synchronized void applyHostel(Long hostelId, HostelEntry entry, List<RoomEntry> roomEntries) {
+		HostelEntry previous = hostels.remove(hostelId);
+		Set<Long> previousRooms = Collections.emptySet();
+		if (previous != null) {
+			Set<Long> hostelsInCity = hostelsByCity.get(previous.city);
+			if (hostelsInCity != null) {
+				hostelsInCity.remove(hostelId);
+			}
+			Set<Long> roomIds = roomsByHostel.remove(hostelId);
+			if (roomIds != null) {
+				roomIds.forEach(rooms::remove);
+				previousRooms = roomIds;
+			}
+		}
+		if (entry != null) {
+			putHostel(entry);
+			roomEntries.forEach(this::putRoom);
+		}
+		if (previous != null && entry != null && previous.city.equals(entry.city)) {
+			updateCity(entry.city, previousRooms, roomEntries);
+		} else {
+			if (previous != null) {
+				updateCity(previous.city, previousRooms, Collections.emptyList());
+			}
+			if (entry != null) {
+				updateCity(entry.city, Collections.emptySet(), roomEntries);
+			}
+		}
+		logger.debug("Search index updated for hostel - ID: {}, Indexed: {}", hostelId, entry != null);
+	}
+
+	private synchronized void applyAll(List<Long> hostelIds, List<HostelEntry> hostelEntries,
+			List<RoomEntry> roomEntries) {
+		Map<String, Set<Long>> removed = new HashMap<>();
+		Map<String, List<RoomEntry>> added = new HashMap<>();
+		for (Long hostelId : hostelIds) {
+			HostelEntry previous = hostels.remove(hostelId);
+			if (previous == null) {
+				continue;
+			}
+			Set<Long> hostelsInCity = hostelsByCity.get(previous.city);
+			if (hostelsInCity != null) {
+				hostelsInCity.remove(hostelId);
+			}
+			Set<Long> roomIds = roomsByHostel.remove(hostelId);
+			if (roomIds != null) {
+				roomIds.forEach(rooms::remove);
+				removed.computeIfAbsent(previous.city, city -> new HashSet<>()).addAll(roomIds);
+			} else {
+				removed.computeIfAbsent(previous.city, city -> new HashSet<>());
+			}
+		}
+		for (HostelEntry entry : hostelEntries) {
+			putHostel(entry);
+			added.computeIfAbsent(entry.city, city -> new ArrayList<>());
+		}
+		for (RoomEntry entry : roomEntries) {
+			HostelEntry hostel = hostels.get(entry.hostelId);
+			if (hostel == null) {
+				continue;
+			}
+			RoomEntry previous = rooms.get(entry.roomId);
+			if (previous != null && !previous.hostelId.equals(entry.hostelId)) {
+				dropRoom(entry.roomId);
+			}
+			putRoom(entry);
+			removed.computeIfAbsent(hostel.city, city -> new HashSet<>()).add(entry.roomId);
+			added.computeIfAbsent(hostel.city, city -> new ArrayList<>()).add(entry);
+		}
+
+		Set<String> touched = new HashSet<>(removed.keySet());
+		touched.addAll(added.keySet());
+		for (String city : touched) {
+			updateCity(city, removed.getOrDefault(city, Collections.emptySet()),
+					added.getOrDefault(city, Collections.emptyList()));
+		}
+		logger.debug("Search index updated in bulk - Hostels: {}, Rooms: {}, Cities: {}", hostelIds.size(),
+				roomEntries.size(), touched.size());
+	}
+
+	private synchronized void applyRoom(RoomEntry entry) {
+		HostelEntry hostel = hostels.get(entry.hostelId);
+		if (hostel == null) {
+			return;
+		}
+		RoomEntry previous = rooms.get(entry.roomId);
+		if (previous != null && !previous.hostelId.equals(entry.hostelId)) {
+			dropRoom(entry.roomId);
+		}
+		putRoom(entry);
+		updateCity(hostel.city, Set.of(entry.roomId), List.of(entry));
+	}
+
+	private synchronized void dropRoom(Long roomId) {
+		RoomEntry previous = rooms.remove(roomId);
+		if (previous == null) {
+			return;
+		}
+		Set<Long> roomIds = roomsByHostel.get(previous.hostelId);
+		if (roomIds != null) {
+			roomIds.remove(roomId);
+		}
+		HostelEntry hostel = hostels.get(previous.hostelId);
+		if (hostel != null) {
+			updateCity(hostel.city, Set.of(roomId), Collections.emptyList());
+		}
+	}
+
+	private void putHostel(HostelEntry entry) {
+		hostels.put(entry.hostelId, entry);
+		hostelsByCity.computeIfAbsent(entry.city, city -> ConcurrentHashMap.newKeySet()).add(entry.hostelId);
+	}
+
+	private void putRoom(RoomEntry entry) {
+		rooms.put(entry.roomId, entry);
+		roomsByHostel.computeIfAbsent(entry.hostelId, id -> ConcurrentHashMap.newKeySet()).add(entry.roomId);
+	}
+
+	private void rebuildCity(String city) {
+		Set<Long> hostelIds = hostelsByCity.getOrDefault(city, Collections.emptySet());
+		List<RoomEntry> cityRooms = new ArrayList<>();
+		for (Long hostelId : hostelIds) {
+			for (Long roomId : roomsByHostel.getOrDefault(hostelId, Collections.emptySet())) {
+				RoomEntry room = rooms.get(roomId);
+				if (room != null) {
+					cityRooms.add(room);
+				}
+			}
+		}
+		if (hostelIds.isEmpty()) {
+			hostelsByCity.remove(city);
+			cities.remove(city);
+			return;
+		}
+		cityRooms.sort(Comparator.comparingDouble(room -> room.pricePerNight));
+		cities.put(city, new CityIndex(cityRooms.toArray(new RoomEntry[0])));
+	}
+
+	/**
+	 * Publishes a new snapshot of one city without the removed rooms and with
+	 * the added ones merged in by price. Linear in the size of the city; only
+	 * the added rooms are sorted.
+	 */
+	private void updateCity(String city, Set<Long> removedRoomIds, List<RoomEntry> added) {
+		Set<Long> hostelIds = hostelsByCity.get(city);
+		if (hostelIds == null || hostelIds.isEmpty()) {
+			hostelsByCity.remove(city);
+			cities.remove(city);
+			return;
+		}
+		CityIndex current = cities.get(city);
+		RoomEntry[] existing = current != null ? current.roomsByPrice : new RoomEntry[0];
+		RoomEntry[] additions = added.toArray(new RoomEntry[0]);
+		Arrays.sort(additions, Comparator.comparingDouble(room -> room.pricePerNight));
+
+		RoomEntry[] merged = new RoomEntry[existing.length + additions.length];
+		int size = 0;
+		int next = 0;
+		for (RoomEntry room : existing) {
+			if (removedRoomIds.contains(room.roomId)) {
+				continue;
+			}
+			while (next < additions.length && additions[next].pricePerNight < room.pricePerNight) {
+				merged[size++] = additions[next++];
+			}
+			merged[size++] = room;
+		}
+		while (next < additions.length) {
+			merged[size++] = additions[next++];
+		}
+		cities.put(city, new CityIndex(Arrays.copyOf(merged, size)));
+	}
+
+	private HostelEntry toEntry(Hostel hostel) {
+		return new HostelEntry(hostel.getHostelId(), hostel.getHostelName(), cityKey(hostel.getCity()),
+				facilityDictionary.encode(hostel.getFacilities()));
+	}
+
+	private RoomEntry toEntry(Room room) {
+		return new RoomEntry(room.getRoomId(), room.getHostel().getHostelId(), room.getRoomType(),
+				room.getTotalBeds(), room.getPricePerNight(), room.getDescription());
+	}
+
+	private static String cityKey(String city) {
+		if (city == null || city.isBlank()) {
+			throw new BadRequestException("City is required");
+		}
+		return city.trim().toLowerCase(Locale.ROOT);
+	}
+
+	private static void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+	private static final class HostelEntry {
+
+		private final Long hostelId;
+		private final String hostelName;
+		private final String city;
+		private final BitSet facilities;
+
+		private HostelEntry(Long hostelId, String hostelName, String city, BitSet facilities) {
+			this.hostelId = hostelId;
+			this.hostelName = hostelName;
+			this.city = city;
+			this.facilities = facilities;
+		}
+
+		private boolean hasAll(BitSet required) {
+			return FacilityDictionary.hasAll(facilities, required);
+		}
+	}
+
+	private static final class RoomEntry {
+
+		private final Long roomId;
+		private final Long hostelId;
+		private final RoomType roomType;
+		private final Integer totalBeds;
+		private final double pricePerNight;
+		private final String description;
+
+		private RoomEntry(Long roomId, Long hostelId, RoomType roomType, Integer totalBeds, double pricePerNight,
+				String description) {
+			this.roomId = roomId;
+			this.hostelId = hostelId;
+			this.roomType = roomType;
+			this.totalBeds = totalBeds;
+			this.pricePerNight = pricePerNight;
+			this.description = description;
+		}
+	}
+
+	private final class CityIndex {
+
+		private final RoomEntry[] roomsByPrice;
+		private final double[] prices;
+
+		private CityIndex(RoomEntry[] roomsByPrice) {
+			this.roomsByPrice = roomsByPrice;
+			this.prices = new double[roomsByPrice.length];
+			for (int i = 0; i < roomsByPrice.length; i++) {
+				prices[i] = roomsByPrice[i].pricePerNight;
+			}
+		}
+
+		private void collect(RoomSearchRequest request, BitSet requiredFacilities, LocalDate checkIn,
+				LocalDate checkOut, int beds, int limit, List<RoomResponse> results) {
+			int found = 0;
+			for (int i = firstAtLeast(request.getMinPrice()); i < roomsByPrice.length && found < limit; i++) {
+				RoomEntry room = roomsByPrice[i];
+				if (request.getMaxPrice() != null && room.pricePerNight > request.getMaxPrice()) {
+					break;
+				}
+				if (request.getRoomType() != null && room.roomType != request.getRoomType()) {
+					continue;
+				}
+				HostelEntry hostel = hostels.get(room.hostelId);
+				if (hostel == null || !hostel.hasAll(requiredFacilities)) {
+					continue;
+				}
+				int freeBeds = roomInventoryService.getAvailableBeds(room.roomId, checkIn, checkOut);
+				if (freeBeds < beds) {
+					continue;
+				}
+				results.add(toResponse(room, hostel, freeBeds));
+				found++;
+			}
+		}
+
+		private int firstAtLeast(Double minPrice) {
+			if (minPrice == null) {
+				return 0;
+			}
+			int index = Arrays.binarySearch(prices, minPrice);
+			if (index < 0) {
+				return -index - 1;
+			}
+			while (index > 0 && prices[index - 1] == minPrice) {
+				index--;
+			}
+			return index;
+		}
+
+		private RoomResponse toResponse(RoomEntry room, HostelEntry hostel, int freeBeds) {
+			RoomResponse response = new RoomResponse();
+			response.setRoomId(room.roomId);
+			response.setHostelId(hostel.hostelId);
+			response.setHostelName(hostel.hostelName);
+			response.setRoomType(room.roomType);
+			response.setTotalBeds(room.totalBeds);
+			response.setAvailableBeds(freeBeds);
+			response.setPricePerNight(room.pricePerNight);
+			response.setDescription(room.description);
+			return response;
+		}
+	}
+}
@@ -3,6 +3,7 @@ package com.hostel.service;
 import com.hostel.entity.Room;
 import com.hostel.entity.Hostel;
 import com.hostel.dto.request.RoomRequest;
+import com.hostel.dto.response.CursorPage;
 import com.hostel.dto.response.RoomResponse;
 import com.hostel.repository.RoomRepository;
 
@@ -15,13 +16,20 @@ import com.hostel.exception.BadRequestException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.BiFunction;
+import io.micrometer.core.annotation.Timed;
 
 @Service
 @Transactional
+@Timed(value = "hostel.service", histogram = true, percentiles = { 0.5, 0.95, 0.99 })
 public class RoomService {
     
   
@@ -35,6 +43,12 @@ public class RoomService {
     
     @Autowired
     private RoomMapper roomMapper;
+
+    @Autowired
+    private RoomInventoryService roomInventoryService;
+
+    @Autowired
+    private RoomSearchService roomSearchService;
     
   
     public RoomResponse addRoom(RoomRequest request) {
@@ -66,6 +80,8 @@ public class RoomService {
             
            
             Room savedRoom = roomRepository.save(room);
+            roomInventoryService.track(savedRoom);
+            roomSearchService.indexRoom(savedRoom);
             
             logger.info("Room created successfully - ID: {}, Hostel: {}, Type: {}, Beds: {}", 
                        savedRoom.getRoomId(), hostel.getHostelName(), 
@@ -83,14 +99,14 @@ public class RoomService {
     }
     
    
-    public List<RoomResponse> getAvailableRoomsByHostel(Long hostelId) {
+    public CursorPage<RoomResponse> getAvailableRoomsByHostel(Long hostelId, Long cursor, Integer size,
+            LocalDate checkIn, LocalDate checkOut) {
         logger.info("Fetching available rooms for hostel ID: {}", hostelId);
         
-        List<RoomResponse> rooms = roomRepository.findAvailableRoomsByHostel(hostelId).stream()
-            .map(roomMapper::toResponse)
-            .collect(Collectors.toList());
+        CursorPage<RoomResponse> rooms = freeRoomsPage(cursor, size, checkIn, checkOut,
+            (after, limit) -> roomRepository.findAvailablePageByHostel(hostelId, after, limit));
         
-        logger.info("Retrieved {} available rooms for hostel ID: {}", rooms.size(), hostelId);
+        logger.info("Retrieved {} available rooms for hostel ID: {}", rooms.getItems().size(), hostelId);
         return rooms;
     }
     
@@ -116,6 +132,8 @@ public class RoomService {
         
         room.setAvailableBeds(availableBeds);
         Room updatedRoom = roomRepository.save(room);
+        roomInventoryService.track(updatedRoom);
+        roomSearchService.indexRoom(updatedRoom);
         
         logger.info("Room availability updated - Room ID: {}, Previous: {}, New: {}", 
                    roomId, previousAvailability, availableBeds);
@@ -124,9 +142,15 @@ public class RoomService {
     }
     
 
-    public boolean checkAvailability(Long roomId, Integer requiredBeds) {
-        logger.debug("Checking room availability - Room ID: {}, Required beds: {}", 
-                    roomId, requiredBeds);
+    public boolean checkAvailability(Long roomId, Integer requiredBeds, LocalDate checkIn, LocalDate checkOut) {
+        LocalDate from = checkIn != null ? checkIn : LocalDate.now();
+        LocalDate to = checkOut != null ? checkOut : from.plusDays(1);
+        logger.debug("Checking room availability - Room ID: {}, Required beds: {}, CheckIn: {}, CheckOut: {}", 
+                    roomId, requiredBeds, from, to);
+        
+        if (!to.isAfter(from)) {
+            throw new BadRequestException("Check-out date must be after check-in date");
+        }
         
         Room room = roomRepository.findById(roomId)
             .orElseThrow(() -> {
@@ -134,20 +158,21 @@ public class RoomService {
                 return new ResourceNotFoundException("Room", "roomId", roomId);
             });
         
-        boolean available = room.getAvailableBeds() >= requiredBeds;
+        int availableBeds = roomInventoryService.getAvailableBeds(room, from, to);
+        boolean available = availableBeds >= requiredBeds;
         
         logger.debug("Room availability check result - Room ID: {}, Available: {}, Required: {}, Result: {}", 
-                    roomId, room.getAvailableBeds(), requiredBeds, available);
+                    roomId, availableBeds, requiredBeds, available);
         
         return available;
     }
 
 
-	public List<RoomResponse> getAllRooms() {
-	    logger.info("Fetching all rooms");
-	    return roomRepository.findAll().stream()
-	            .map(roomMapper::toResponse)
-	            .collect(Collectors.toList());
+	public CursorPage<RoomResponse> getAllRooms(Long cursor, Integer size) {
+	    logger.info("Fetching rooms page - Cursor: {}", cursor);
+	    int pageSize = CursorPage.size(size);
+	    List<Room> rows = roomRepository.findPage(CursorPage.after(cursor), CursorPage.fetchLimit(pageSize));
+	    return CursorPage.of(rows, pageSize, Room::getRoomId, roomMapper::toResponse);
 	}
 
 
@@ -159,21 +184,57 @@ public class RoomService {
 	}
 
 
-	public List<RoomResponse> getRoomsByHostel(Long hostelId) {
+	public CursorPage<RoomResponse> getRoomsByHostel(Long hostelId, Long cursor, Integer size) {
 	    logger.info("Fetching rooms for hostel ID: {}", hostelId);
-	    List<RoomResponse> rooms = roomRepository.findByHostel_HostelId(hostelId).stream()
-	            .map(roomMapper::toResponse)
-	            .collect(Collectors.toList());
-	    return rooms;
+	    int pageSize = CursorPage.size(size);
+	    List<Room> rows = roomRepository.findPageByHostel(hostelId, CursorPage.after(cursor),
+	            CursorPage.fetchLimit(pageSize));
+	    return CursorPage.of(rows, pageSize, Room::getRoomId, roomMapper::toResponse);
+	}
+
+	public CursorPage<RoomResponse> getAvailableRooms(Long cursor, Integer size, LocalDate checkIn, LocalDate checkOut) {
+	    logger.info("Fetching available rooms - Cursor: {}", cursor);
+	    return freeRoomsPage(cursor, size, checkIn, checkOut, roomRepository::findAvailablePage);
 	}
 
-	public List<RoomResponse> getAvailableRooms() {
-	    logger.info("Fetching all available rooms");
-	    List<RoomResponse> rooms = roomRepository.findAll().stream()
-	            .filter(room -> room.getAvailableBeds() > 0)
-	            .map(roomMapper::toResponse)
-	            .collect(Collectors.toList());
-	    return rooms;
+	/**
+	 * Pages through rooms that offer beds and keeps those with at least one
+	 * bed free on every night from checkIn (default today) to checkOut
+	 * (default one night), reading the nights from the room calendars.
+	 * availableBeds in the response is the number free for that stay.
+	 */
+	private CursorPage<RoomResponse> freeRoomsPage(Long cursor, Integer size, LocalDate checkIn, LocalDate checkOut,
+	        BiFunction<Long, Limit, List<Room>> fetch) {
+	    LocalDate from = checkIn != null ? checkIn : LocalDate.now();
+	    LocalDate to = checkOut != null ? checkOut : from.plusDays(1);
+	    if (!to.isAfter(from)) {
+	        throw new BadRequestException("Check-out date must be after check-in date");
+	    }
+
+	    int pageSize = CursorPage.size(size);
+	    Limit limit = CursorPage.fetchLimit(pageSize);
+	    Map<Room, Integer> free = new LinkedHashMap<>();
+	    long after = CursorPage.after(cursor);
+	    // fully booked rooms are skipped, so keep reading until the page is full or the rooms run out
+	    while (free.size() <= pageSize) {
+	        List<Room> batch = fetch.apply(after, limit);
+	        for (Room room : batch) {
+	            int beds = roomInventoryService.getAvailableBeds(room, from, to);
+	            if (beds > 0 && free.size() <= pageSize) {
+	                free.put(room, beds);
+	            }
+	        }
+	        if (batch.size() < limit.max()) {
+	            break;
+	        }
+	        after = batch.get(batch.size() - 1).getRoomId();
+	    }
+
+	    return CursorPage.of(new ArrayList<>(free.keySet()), pageSize, Room::getRoomId, room -> {
+	        RoomResponse response = roomMapper.toResponse(room);
+	        response.setAvailableBeds(free.get(room));
+	        return response;
+	    });
 	}
 
 
@@ -189,6 +250,8 @@ public class RoomService {
 	    room.setAvailableBeds(request.getAvailableBeds());
 
 	    Room updatedRoom = roomRepository.save(room);
+	    roomInventoryService.track(updatedRoom);
+	    roomSearchService.indexRoom(updatedRoom);
 	    return roomMapper.toResponse(updatedRoom);
 	}
 
@@ -196,6 +259,8 @@ public class RoomService {
 	    logger.info("Deleting room with ID: {}", roomId);
 	    Room room = roomRepository.findById(roomId)
 	            .orElseThrow(() -> new ResourceNotFoundException("Room", "roomId", roomId));
+	    roomInventoryService.evict(roomId);
+	    roomSearchService.removeRoom(roomId);
 	    roomRepository.delete(room);
 	}
 }
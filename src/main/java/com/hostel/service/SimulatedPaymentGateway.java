@@ -0,0 +1,39 @@
+package com.hostel.service;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.hostel.dto.request.PaymentRequest;
+
+@Component
+public class SimulatedPaymentGateway implements PaymentGateway {
+
+	private final Map<String, Result> charges = new ConcurrentHashMap<>();
+
+	private final Map<String, Result> refunds = new ConcurrentHashMap<>();
+
+	@Override
+	public Result charge(String reference, PaymentRequest request, Double amount) {
+		// a repeated reference returns the first outcome instead of charging again
+		return charges.computeIfAbsent(reference, key -> {
+			if (Math.random() < 0.9) {
+				return Result.approved("TXN-" + UUID.randomUUID().toString());
+			}
+			return Result.declined("Payment gateway declined the transaction");
+		});
+	}
+
+	@Override
+	public Result status(String reference) {
+		Result result = charges.get(reference);
+		return result != null ? result : Result.declined("Payment gateway has no charge for this reference");
+	}
+
+	@Override
+	public Result refund(String transactionId) {
+		return refunds.computeIfAbsent(transactionId, key -> Result.approved("RFD-" + UUID.randomUUID().toString()));
+	}
+}
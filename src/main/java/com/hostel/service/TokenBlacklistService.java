@@ -0,0 +1,287 @@
+package com.hostel.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hostel.entity.Logout;
+import com.hostel.repository.LogoutRepository;
+
+/**
+ * Revoked tokens held in memory so the request path never queries the
+ * Logout table. A Bloom filter answers most lookups for tokens that were
+ * never revoked; hits are confirmed against the exact set of token hashes.
+ * Entries are dropped by a two-level timing wheel once the token expires,
+ * and the matching Logout rows are purged at the same time. The in-memory
+ * set only sees logouts made through this instance, so a deployment must
+ * route all requests through a single node; the unexpired Logout rows are
+ * reloaded on startup.
+ */
+@Service
+public class TokenBlacklistService implements SmartInitializingSingleton {
+
+	private static final Logger logger = LoggerFactory.getLogger(TokenBlacklistService.class);
+
+	private static final int WHEEL_SIZE = 64;
+
+	private static final int WHEEL_BITS = 6;
+
+	@Autowired
+	private LogoutRepository logoutRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Value("${blacklist.expected-tokens:100000}")
+	private int expectedTokens = 100000;
+
+	@Value("${blacklist.tick-ms:60000}")
+	private long tickMs = 60000;
+
+	private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+	private volatile BloomFilter bloomFilter;
+
+	private final List<List<Entry>> nearWheel = newWheel();
+
+	private final List<List<Entry>> farWheel = newWheel();
+
+	private final List<Entry> overflow = new ArrayList<>();
+
+	private long currentTick = -1;
+
+	private int removedSinceRebuild;
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.executeWithoutResult(status -> {
+			LocalDateTime now = LocalDateTime.now();
+			int purged = logoutRepository.deleteExpiredTokens(now);
+			List<Logout> active = logoutRepository.findByExpiresAtAfter(now);
+			active.forEach(logout -> revoke(logout.getToken(), toMillis(logout.getExpiresAt())));
+			logger.info("Token blacklist loaded - Active: {}, Purged: {}", active.size(), purged);
+		});
+	}
+
+	public boolean isBlacklisted(String token) {
+		byte[] digest = digest(token);
+		if (!bloomFilter().mightContain(digest)) {
+			return false;
+		}
+		Long expiresAt = revoked.get(key(digest));
+		return expiresAt != null && expiresAt > System.currentTimeMillis();
+	}
+
+	public synchronized void revoke(String token, long expiresAtMillis) {
+		byte[] digest = digest(token);
+		String key = key(digest);
+		if (revoked.put(key, expiresAtMillis) != null) {
+			return;
+		}
+		bloomFilter().put(digest);
+		if (currentTick < 0) {
+			currentTick = System.currentTimeMillis() / tickMs;
+		}
+		if (!schedule(new Entry(key, Math.floorDiv(expiresAtMillis + tickMs - 1, tickMs)))) {
+			revoked.remove(key);
+		}
+	}
+
+	public int size() {
+		return revoked.size();
+	}
+
+	@Scheduled(fixedDelayString = "${blacklist.tick-ms:60000}")
+	public void tick() {
+		if (expireUntil(System.currentTimeMillis()) > 0) {
+			TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+			Integer deleted = transactionTemplate
+					.execute(status -> logoutRepository.deleteExpiredTokens(LocalDateTime.now()));
+			logger.debug("Expired logout tokens purged - Deleted: {}", deleted);
+		}
+	}
+
+	/**
+	 * Advances the wheel up to the given time and returns the number of
+	 * entries that expired.
+	 */
+	public synchronized int expireUntil(long nowMillis) {
+		long targetTick = nowMillis / tickMs;
+		if (currentTick < 0) {
+			currentTick = targetTick;
+			return 0;
+		}
+		int expired = 0;
+		while (currentTick < targetTick) {
+			currentTick++;
+			if ((currentTick & (WHEEL_SIZE - 1)) == 0) {
+				if ((currentTick & (WHEEL_SIZE * WHEEL_SIZE - 1)) == 0) {
+					expired += cascade(overflow);
+				}
+				expired += cascade(farWheel.get((int) ((currentTick >>> WHEEL_BITS) & (WHEEL_SIZE - 1))));
+			}
+			List<Entry> slot = nearWheel.get((int) (currentTick & (WHEEL_SIZE - 1)));
+			for (Entry entry : slot) {
+				revoked.remove(entry.key);
+			}
+			expired += slot.size();
+			slot.clear();
+		}
+		removedSinceRebuild += expired;
+		if (removedSinceRebuild > expectedTokens / 2) {
+			rebuildBloomFilter();
+		}
+		return expired;
+	}
+
+	private int cascade(List<Entry> bucket) {
+		List<Entry> entries = new ArrayList<>(bucket);
+		bucket.clear();
+		int expired = 0;
+		for (Entry entry : entries) {
+			if (!schedule(entry)) {
+				revoked.remove(entry.key);
+				expired++;
+			}
+		}
+		return expired;
+	}
+
+	private boolean schedule(Entry entry) {
+		long delta = entry.deadlineTick - currentTick;
+		if (delta <= 0) {
+			return false;
+		}
+		if (delta < WHEEL_SIZE) {
+			nearWheel.get((int) (entry.deadlineTick & (WHEEL_SIZE - 1))).add(entry);
+		} else if (delta < WHEEL_SIZE * WHEEL_SIZE) {
+			farWheel.get((int) ((entry.deadlineTick >>> WHEEL_BITS) & (WHEEL_SIZE - 1))).add(entry);
+		} else {
+			overflow.add(entry);
+		}
+		return true;
+	}
+
+	private void rebuildBloomFilter() {
+		BloomFilter rebuilt = new BloomFilter(Math.max(expectedTokens, revoked.size() * 2));
+		for (String key : revoked.keySet()) {
+			rebuilt.put(Base64.getDecoder().decode(key));
+		}
+		bloomFilter = rebuilt;
+		removedSinceRebuild = 0;
+	}
+
+	private BloomFilter bloomFilter() {
+		BloomFilter filter = bloomFilter;
+		if (filter == null) {
+			synchronized (this) {
+				if (bloomFilter == null) {
+					bloomFilter = new BloomFilter(expectedTokens);
+				}
+				filter = bloomFilter;
+			}
+		}
+		return filter;
+	}
+
+	private static List<List<Entry>> newWheel() {
+		List<List<Entry>> wheel = new ArrayList<>(WHEEL_SIZE);
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			wheel.add(new ArrayList<>());
+		}
+		return wheel;
+	}
+
+	private static long toMillis(LocalDateTime dateTime) {
+		return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	private static String key(byte[] digest) {
+		return Base64.getEncoder().encodeToString(digest);
+	}
+
+	private static byte[] digest(String token) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+
+	private static final class Entry {
+
+		private final String key;
+		private final long deadlineTick;
+
+		private Entry(String key, long deadlineTick) {
+			this.key = key;
+			this.deadlineTick = deadlineTick;
+		}
+	}
+
+	/**
+	 * Sized for a 1% false positive rate at the expected number of tokens.
+	 * Bit positions come from double hashing over the token's SHA-256.
+	 */
+	static final class BloomFilter {
+
+		private final AtomicLongArray words;
+		private final long bits;
+		private final int hashes;
+
+		BloomFilter(int expectedInsertions) {
+			long size = (long) Math.ceil(-expectedInsertions * Math.log(0.01) / (Math.log(2) * Math.log(2)));
+			this.bits = Math.max(64, size);
+			this.hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * Math.log(2)));
+			this.words = new AtomicLongArray((int) ((bits + 63) >>> 6));
+		}
+
+		void put(byte[] digest) {
+			ByteBuffer buffer = ByteBuffer.wrap(digest);
+			long h1 = buffer.getLong();
+			long h2 = buffer.getLong();
+			for (int i = 0; i < hashes; i++) {
+				long bit = Math.floorMod(h1 + i * h2, bits);
+				int word = (int) (bit >>> 6);
+				long mask = 1L << bit;
+				long current;
+				do {
+					current = words.get(word);
+				} while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+			}
+		}
+
+		boolean mightContain(byte[] digest) {
+			ByteBuffer buffer = ByteBuffer.wrap(digest);
+			long h1 = buffer.getLong();
+			long h2 = buffer.getLong();
+			for (int i = 0; i < hashes; i++) {
+				long bit = Math.floorMod(h1 + i * h2, bits);
+				if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
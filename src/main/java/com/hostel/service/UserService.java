@@ -4,13 +4,12 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.hostel.config.JwtService;
@@ -18,6 +17,7 @@ import com.hostel.dto.request.ForgotPasswordRequest;
 import com.hostel.dto.request.LoginRequest;
 import com.hostel.dto.request.ResetPasswordRequest;
 import com.hostel.dto.request.UserRequest;
+import com.hostel.dto.response.CursorPage;
 import com.hostel.dto.response.LoginResponse;
 import com.hostel.dto.response.UserResponse;
 import com.hostel.entity.User;
@@ -25,14 +25,18 @@ import com.hostel.enums.UserRole;
 import com.hostel.enums.UserStatus;
 import com.hostel.exception.BadRequestException;
 import com.hostel.exception.ResourceNotFoundException;
+import com.hostel.exception.TooManyRequestsException;
 import com.hostel.exception.UnauthorizedException;
 import com.hostel.mapper.UserMapper;
 import com.hostel.repository.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 import jakarta.validation.Valid;
 
 @Service
 @Transactional
+@Timed(value = "hostel.service", histogram = true, percentiles = { 0.5, 0.95, 0.99 })
 public class UserService {
 
 	private static final Logger logger = LoggerFactory.getLogger(UserService.class);
@@ -44,85 +48,113 @@ public class UserService {
 	private UserMapper userMapper;
 
 	@Autowired
-	private PasswordEncoder passwordEncoder;
+	private PasswordHashingService passwordHashingService;
 
 	@Autowired
 	private JwtService jwtService;
 
+	@Autowired
+	private HostelCatalogueCache hostelCatalogueCache;
+
 	public UserResponse registerUser(UserRequest request) {
-		logger.info("Attempting to register user with email: {}", request.getEmail());
+		logger.atInfo().setMessage("Registering user").addKeyValue("email", request.getEmail())
+				.addKeyValue("role", request.getRole()).log();
 
 		try {
 
 			if (userRepository.existsByEmail(request.getEmail())) {
-				logger.warn("Registration failed: Email already exists - {}", request.getEmail());
+				logger.atWarn().setMessage("Registration failed: Email already exists")
+						.addKeyValue("email", request.getEmail()).log();
 				throw new BadRequestException("Email already exists");
 			}
 
 			User user = userMapper.toEntity(request);
 
-			user.setPassword(passwordEncoder.encode(request.getPassword()));
+			user.setPassword(passwordHashingService.encode(request.getRole(), request.getPassword()));
 			logger.debug("Password encoded for user: {}", request.getEmail());
 
 			if (request.getRole() == UserRole.OWNER) {
 				user.setStatus(UserStatus.PENDING);
-				logger.info("Owner registration - Status set to PENDING for: {}", request.getEmail());
 			} else {
 				user.setStatus(UserStatus.ACTIVE);
-				logger.info("User registration - Status set to ACTIVE for: {}", request.getEmail());
 			}
 
 			User savedUser = userRepository.save(user);
-			logger.info("User registered successfully with ID: {} and email: {}", savedUser.getUserId(),
-					savedUser.getEmail());
+			logger.atInfo().setMessage("User registered").addKeyValue("userId", savedUser.getUserId())
+					.addKeyValue("email", savedUser.getEmail()).addKeyValue("status", savedUser.getStatus()).log();
 
 			return userMapper.toResponse(savedUser);
 
 		} catch (BadRequestException e) {
 			logger.error("User registration failed for email: {} - {}", request.getEmail(), e.getMessage());
 			throw e;
+		} catch (TooManyRequestsException e) {
+			throw e;
 		} catch (Exception e) {
 			logger.error("Unexpected error during user registration for email: {}", request.getEmail(), e);
 			throw new RuntimeException("Registration failed", e);
 		}
 	}
 
+	// no transaction: a pooled connection is not held while the password is checked
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public LoginResponse login(LoginRequest request) {
-		logger.info("Login attempt for email: {}", request.getEmail());
+		logger.atInfo().setMessage("Login attempt").addKeyValue("email", request.getEmail()).log();
 
 		try {
 
 			User user = userRepository.findByEmail(request.getEmail()).orElseThrow(() -> {
-				logger.warn("Login failed: User not found with email - {}", request.getEmail());
+				logger.atWarn().setMessage("Login failed: User not found").addKeyValue("email", request.getEmail())
+						.log();
 				return new UnauthorizedException("Invalid email or password");
 			});
 
-			if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-				logger.warn("Login failed: Invalid password for email - {}", request.getEmail());
+			if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
+				logger.atWarn().setMessage("Login failed: Invalid password").addKeyValue("email", request.getEmail())
+						.log();
 				throw new UnauthorizedException("Invalid email or password");
 			}
 
 			if (user.getStatus() != UserStatus.ACTIVE && user.getStatus() != UserStatus.APPROVED) {
-				logger.warn("Login failed: Account not active for email: {} - Status: {}", request.getEmail(),
-						user.getStatus());
+				logger.atWarn().setMessage("Login failed: Account not active").addKeyValue("email", request.getEmail())
+						.addKeyValue("status", user.getStatus()).log();
 				throw new UnauthorizedException("Account is not active. Status: " + user.getStatus());
 			}
 
+			upgradePassword(user, request.getPassword());
+
 			String token = jwtService.generateToken(user.getEmail(), user.getRole().name());
-			logger.info("Login successful for user: {} (ID: {}) with role: {}", user.getEmail(), user.getUserId(),
-					user.getRole());
+			logger.atInfo().setMessage("Login successful").addKeyValue("userId", user.getUserId())
+					.addKeyValue("email", user.getEmail()).addKeyValue("role", user.getRole()).log();
 
 			return new LoginResponse(user.getUserId(), user.getName(), user.getEmail(), user.getRole(), token);
 
 		} catch (UnauthorizedException e) {
 			logger.error("Login failed for email: {} - {}", request.getEmail(), e.getMessage());
 			throw e;
+		} catch (TooManyRequestsException e) {
+			throw e;
 		} catch (Exception e) {
 			logger.error("Unexpected error during login for email: {}", request.getEmail(), e);
 			throw new RuntimeException("Login failed", e);
 		}
 	}
 
+	private void upgradePassword(User user, String rawPassword) {
+		if (!passwordHashingService.needsUpgrade(user.getRole(), user.getPassword())) {
+			return;
+		}
+		try {
+			user.setPassword(passwordHashingService.encode(user.getRole(), rawPassword));
+			userRepository.save(user);
+			logger.atInfo().setMessage("Password hash upgraded").addKeyValue("userId", user.getUserId())
+					.addKeyValue("role", user.getRole()).log();
+		} catch (TooManyRequestsException e) {
+			// the login itself succeeded; the next one retries the upgrade
+			logger.debug("Password hash upgrade skipped - ID: {}", user.getUserId());
+		}
+	}
+
 	public UserResponse getUserById(Long userId) {
 		logger.debug("Fetching user with ID: {}", userId);
 
@@ -135,13 +167,15 @@ public class UserService {
 		return userMapper.toResponse(user);
 	}
 
-	public List<UserResponse> getAllUsers() {
-		logger.info("Fetching all users");
+	public CursorPage<UserResponse> getAllUsers(Long cursor, Integer size) {
+		logger.info("Fetching users page - Cursor: {}", cursor);
 
-		List<UserResponse> users = userRepository.findAll().stream().map(userMapper::toResponse)
-				.collect(Collectors.toList());
+		int pageSize = CursorPage.size(size);
+		CursorPage<UserResponse> users = CursorPage.of(
+				userRepository.findPage(CursorPage.after(cursor), CursorPage.fetchLimit(pageSize)), pageSize,
+				User::getUserId, userMapper::toResponse);
 
-		logger.info("Retrieved {} users", users.size());
+		logger.info("Retrieved {} users", users.getItems().size());
 		return users;
 	}
 
@@ -179,6 +213,7 @@ public class UserService {
 		}
 
 		userRepository.delete(user);
+		hostelCatalogueCache.refreshOwner(userId);
 		logger.info("User deleted successfully - ID: {}, Email: {}", userId, user.getEmail());
 	}
 
@@ -190,25 +225,27 @@ public class UserService {
 			return new ResourceNotFoundException("User", "userId", userId);
 		});
 
-		if (!passwordEncoder.matches(currentPassword, user.getPassword())) {
+		if (!passwordHashingService.matches(currentPassword, user.getPassword())) {
 			logger.warn("Password change failed: Incorrect current password for user ID: {}", userId);
 			throw new UnauthorizedException("Current password is incorrect");
 		}
 
-		user.setPassword(passwordEncoder.encode(newPassword));
+		user.setPassword(passwordHashingService.encode(user.getRole(), newPassword));
 		userRepository.save(user);
 
 		logger.info("Password changed successfully for user ID: {}", userId);
 	}
 
-	public List<UserResponse> getUsersByRole(UserRole role) {
+	public CursorPage<UserResponse> getUsersByRole(UserRole role, Long cursor, Integer size) {
 
 		logger.info("Fetching users with role: {}", role);
 
-		List<UserResponse> users = userRepository.findAll().stream().filter(user -> user.getRole() == role)
-				.map(userMapper::toResponse).collect(Collectors.toList());
+		int pageSize = CursorPage.size(size);
+		CursorPage<UserResponse> users = CursorPage.of(
+				userRepository.findPageByRole(role, CursorPage.after(cursor), CursorPage.fetchLimit(pageSize)),
+				pageSize, User::getUserId, userMapper::toResponse);
 
-		logger.info("Retrieved {} users with role {}", users.size(), role);
+		logger.info("Retrieved {} users with role {}", users.getItems().size(), role);
 		return users;
 	}
 
@@ -226,25 +263,27 @@ public class UserService {
 		user.setRole(request.getRole());
 
 		if (request.getPassword() != null && !request.getPassword().isEmpty()) {
-			user.setPassword(passwordEncoder.encode(request.getPassword()));
+			user.setPassword(passwordHashingService.encode(user.getRole(), request.getPassword()));
 			logger.debug("Password updated for user ID: {}", userId);
 		}
 
 		User updatedUser = userRepository.save(user);
+		hostelCatalogueCache.refreshOwner(userId);
 		logger.info("User updated successfully - ID: {}, Email: {}", userId, updatedUser.getEmail());
 
 		return userMapper.toResponse(updatedUser);
 	}
 
-	public List<UserResponse> getPendingOwners() {
+	public CursorPage<UserResponse> getPendingOwners(Long cursor, Integer size) {
 
 		logger.info("Fetching all pending owners");
 
-		List<UserResponse> pendingOwners = userRepository.findAll().stream()
-				.filter(user -> user.getRole() == UserRole.OWNER && user.getStatus() == UserStatus.PENDING)
-				.map(userMapper::toResponse).collect(Collectors.toList());
+		int pageSize = CursorPage.size(size);
+		CursorPage<UserResponse> pendingOwners = CursorPage.of(userRepository.findPageByRoleAndStatus(UserRole.OWNER,
+				UserStatus.PENDING, CursorPage.after(cursor), CursorPage.fetchLimit(pageSize)), pageSize,
+				User::getUserId, userMapper::toResponse);
 
-		logger.info("Retrieved {} pending owners", pendingOwners.size());
+		logger.info("Retrieved {} pending owners", pendingOwners.getItems().size());
 		return pendingOwners;
 	}
 
@@ -334,7 +373,7 @@ public class UserService {
 			throw new BadRequestException("Reset token has expired. Please request a new one.");
 		}
 
-		user.setPassword(passwordEncoder.encode(request.getNewPassword()));
+		user.setPassword(passwordHashingService.encode(user.getRole(), request.getNewPassword()));
 
 		user.setResetToken(null);
 		user.setResetTokenExpiry(null);
@@ -0,0 +1,151 @@
+package com.hostel.test.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.hostel.entity.Booking;
+import com.hostel.entity.Hostel;
+import com.hostel.entity.Room;
+import com.hostel.entity.User;
+import com.hostel.enums.BookingStatus;
+import com.hostel.enums.RoomType;
+import com.hostel.enums.UserRole;
+import com.hostel.repository.BookingRepository;
+import com.hostel.repository.RoomRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Bulk insert throughput for rooms and bookings. Logs rows per second and
+ * guards the number of JDBC statements, which stays at one per batch only
+ * while IDs are not generated by IDENTITY columns.
+ */
+@DataJpaTest(properties = { "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.generate_statistics=true", "spring.jpa.show-sql=false" })
+@DisplayName("Bulk Insert Benchmark Tests")
+class BulkInsertBenchmarkTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(BulkInsertBenchmarkTest.class);
+
+	private static final int ROWS = 2000;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private RoomRepository roomRepository;
+
+	@Autowired
+	private BookingRepository bookingRepository;
+
+	private Statistics statistics;
+	private User guest;
+	private Hostel hostel;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		User owner = entityManager.persist(user("owner", UserRole.OWNER));
+		guest = entityManager.persist(user("guest", UserRole.USER));
+
+		hostel = new Hostel();
+		hostel.setHostelName("Bulk Hostel");
+		hostel.setCity("Goa");
+		hostel.setAddress("Beach Road");
+		hostel.setApproved(true);
+		hostel.setOwner(owner);
+		hostel = entityManager.persist(hostel);
+
+		entityManager.flush();
+		entityManager.clear();
+		statistics.clear();
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Bulk insert - Rooms and bookings should be written in JDBC batches")
+	void testBulkInsert() {
+		List<Room> rooms = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			rooms.add(room(300.0 + i));
+		}
+		long roomStatements = timed("rooms", () -> roomRepository.saveAll(rooms));
+
+		List<Booking> bookings = new ArrayList<>(ROWS);
+		for (Room room : rooms) {
+			bookings.add(booking(room));
+		}
+		long bookingStatements = timed("bookings", () -> bookingRepository.saveAll(bookings));
+
+		assertEquals(ROWS, roomRepository.count());
+		assertEquals(ROWS, bookingRepository.count());
+		logger.info("Bulk insert statements - Rooms: {}, Bookings: {}", roomStatements, bookingStatements);
+		assertTrue(roomStatements < ROWS / 10, "room inserts were not batched: " + roomStatements);
+		assertTrue(bookingStatements < ROWS / 10, "booking inserts were not batched: " + bookingStatements);
+	}
+
+	private long timed(String label, Runnable insert) {
+		statistics.clear();
+		long start = System.nanoTime();
+		insert.run();
+		entityManager.flush();
+		long elapsedMicros = Math.max(1, (System.nanoTime() - start) / 1000);
+		entityManager.clear();
+
+		long statements = statistics.getPrepareStatementCount();
+		logger.info("Bulk insert {} - Rows: {}, Statements: {}, Elapsed: {} ms, Throughput: {} rows/s", label, ROWS,
+				statements, elapsedMicros / 1000, ROWS * 1_000_000L / elapsedMicros);
+		return statements;
+	}
+
+	private User user(String name, UserRole role) {
+		User user = new User();
+		user.setName(name);
+		user.setEmail(name + "@example.com");
+		user.setPhone("9999999999");
+		user.setPassword("secret");
+		user.setRole(role);
+		return user;
+	}
+
+	private Room room(double price) {
+		Room room = new Room();
+		room.setHostel(hostel);
+		room.setRoomType(RoomType.DORM);
+		room.setTotalBeds(6);
+		room.setAvailableBeds(6);
+		room.setPricePerNight(price);
+		return room;
+	}
+
+	private Booking booking(Room room) {
+		Booking booking = new Booking();
+		booking.setUser(guest);
+		booking.setHostel(hostel);
+		booking.setRoom(room);
+		booking.setCheckInDate(LocalDate.now().plusDays(1));
+		booking.setCheckOutDate(LocalDate.now().plusDays(3));
+		booking.setNumberOfBeds(1);
+		booking.setTotalPrice(600.0);
+		booking.setBookingStatus(BookingStatus.PENDING_PAYMENT);
+		return booking;
+	}
+}
@@ -0,0 +1,338 @@
+package com.hostel.test.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import com.hostel.dto.response.CursorPage;
+import com.hostel.entity.Booking;
+import com.hostel.entity.Facility;
+import com.hostel.entity.Hostel;
+import com.hostel.entity.Payment;
+import com.hostel.entity.Room;
+import com.hostel.entity.User;
+import com.hostel.enums.BookingStatus;
+import com.hostel.enums.PaymentMethod;
+import com.hostel.enums.RoomType;
+import com.hostel.enums.UserRole;
+import com.hostel.mapper.BookingMapper;
+import com.hostel.mapper.HostelMapper;
+import com.hostel.mapper.PaymentMapper;
+import com.hostel.mapper.RoomMapper;
+import com.hostel.repository.BookingRepository;
+import com.hostel.repository.HostelRepository;
+import com.hostel.repository.PaymentRepository;
+import com.hostel.repository.RoomRepository;
+import com.hostel.service.FacilityDictionary;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Guards the fetch plans of the list endpoints: each page read below must stay
+ * at the given number of SQL statements no matter how many rows it returns.
+ */
+@DataJpaTest(properties = { "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.generate_statistics=true", "spring.jpa.show-sql=false",
+		// H2 rejects the negative fetch size MySQL uses for row-by-row streaming
+		"export.fetch-size=500" })
+@Import({ BookingMapper.class, HostelMapper.class, RoomMapper.class, PaymentMapper.class, FacilityDictionary.class })
+@DisplayName("Fetch Plan Statement Count Tests")
+class FetchPlanStatementCountTest {
+
+	private static final Limit PAGE = Limit.of(CursorPage.DEFAULT_SIZE + 1);
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private BookingRepository bookingRepository;
+
+	@Autowired
+	private HostelRepository hostelRepository;
+
+	@Autowired
+	private RoomRepository roomRepository;
+
+	@Autowired
+	private PaymentRepository paymentRepository;
+
+	@Autowired
+	private BookingMapper bookingMapper;
+
+	@Autowired
+	private HostelMapper hostelMapper;
+
+	@Autowired
+	private RoomMapper roomMapper;
+
+	@Autowired
+	private PaymentMapper paymentMapper;
+
+	@Autowired
+	private FacilityDictionary facilityDictionary;
+
+	private Statistics statistics;
+	private User owner;
+	private User guest;
+	private Hostel hostel;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		Facility wifi = entityManager.persist(facility("WiFi"));
+		Facility kitchen = entityManager.persist(facility("Kitchen"));
+
+		for (int o = 0; o < 3; o++) {
+			User hostelOwner = entityManager.persist(user("owner" + o, UserRole.OWNER));
+			User bookingGuest = entityManager.persist(user("guest" + o, UserRole.USER));
+			for (int h = 0; h < 2; h++) {
+				Hostel ownedHostel = entityManager
+						.persist(hostel(hostelOwner, "Hostel " + o + "-" + h, Set.of(wifi, kitchen)));
+				for (int r = 0; r < 2; r++) {
+					Room room = entityManager.persist(room(ownedHostel, 300.0 + r));
+					Booking booking = entityManager.persist(booking(bookingGuest, ownedHostel, room));
+					entityManager.persist(payment(booking, "TXN-" + o + h + r));
+				}
+				hostel = ownedHostel;
+			}
+			owner = hostelOwner;
+			guest = bookingGuest;
+		}
+		entityManager.flush();
+		entityManager.clear();
+		facilityDictionary.size();
+		statistics.clear();
+	}
+
+	@Test
+	@DisplayName("SUCCESS: getAllBookings - Single statement")
+	void testAllBookings() {
+		assertStatements(1, 12, () -> bookingRepository.findPage(0L, PAGE).stream().map(bookingMapper::toResponse)
+				.toList());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Booking export stream - Single statement")
+	void testStreamAllBookings() {
+		assertStatements(1, 12, () -> {
+			try (Stream<Booking> bookings = bookingRepository.streamAll()) {
+				return bookings.map(bookingMapper::toResponse).toList();
+			}
+		});
+	}
+
+	@Test
+	@DisplayName("SUCCESS: getBookingsByOwner - Single statement")
+	void testBookingsByOwner() {
+		assertStatements(1, 4, () -> bookingRepository.findPageByOwner(owner.getUserId(), 0L, PAGE).stream()
+				.map(bookingMapper::toResponse).toList());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: getBookingsByHostel - Single statement")
+	void testBookingsByHostel() {
+		assertStatements(1, 2, () -> bookingRepository.findPageByHostel(hostel.getHostelId(), 0L, PAGE).stream()
+				.map(bookingMapper::toResponse).toList());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: getBookingsByUser - Single statement")
+	void testBookingsByUser() {
+		assertStatements(1, 4, () -> bookingRepository.findPageByUser(guest.getUserId(), 0L, PAGE).stream()
+				.map(bookingMapper::toResponse).toList());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: getApprovedHostels - Page plus one facility batch")
+	void testApprovedHostels() {
+		assertStatements(2, 6, () -> hostelRepository.findPageByApproved(true, 0L, PAGE).stream()
+				.map(hostelMapper::toResponse).toList());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: searchHostelsByCity - Page plus one facility batch")
+	void testHostelsByCity() {
+		assertStatements(2, 6, () -> hostelRepository.findApprovedPageByCity("Goa", 0L, PAGE).stream()
+				.map(hostelMapper::toResponse).toList());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: getHostelsByOwner - Page plus one facility batch")
+	void testHostelsByOwner() {
+		assertStatements(2, 2, () -> hostelRepository.findPageByOwner(owner.getUserId(), 0L, PAGE).stream()
+				.map(hostelMapper::toResponse).toList());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Search index warm-up - Single statement")
+	void testApprovedHostelsWarmUp() {
+		assertStatements(1, 6,
+				() -> hostelRepository.findByApproved(true).stream().map(hostelMapper::toResponse).toList());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Catalogue load - Hostels plus one facility id statement")
+	void testCatalogueLoad() {
+		assertStatements(2, 6, () -> {
+			Map<Long, BitSet> facilities = facilityDictionary.encodeRows(hostelRepository.findApprovedFacilityIds());
+			return hostelRepository.findApprovedWithOwner().stream()
+					.map(approved -> hostelMapper.toResponse(approved,
+							facilities.getOrDefault(approved.getHostelId(), new BitSet())))
+					.toList();
+		});
+	}
+
+	@Test
+	@DisplayName("SUCCESS: getAllRooms - Single statement")
+	void testAllRooms() {
+		assertStatements(1, 12, () -> roomRepository.findPage(0L, PAGE).stream().map(roomMapper::toResponse).toList());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: getAvailableRooms - Single statement")
+	void testAvailableRooms() {
+		assertStatements(1, 12,
+				() -> roomRepository.findAvailablePage(0L, PAGE).stream().map(roomMapper::toResponse).toList());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: getRoomsByHostel - Single statement")
+	void testRoomsByHostel() {
+		assertStatements(1, 2, () -> roomRepository.findPageByHostel(hostel.getHostelId(), 0L, PAGE).stream()
+				.map(roomMapper::toResponse).toList());
+		entityManager.clear();
+		statistics.clear();
+		assertStatements(1, 2, () -> roomRepository.findAvailablePageByHostel(hostel.getHostelId(), 0L, PAGE)
+				.stream().map(roomMapper::toResponse).toList());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: getPaymentsByUser - Single statement")
+	void testPaymentsByUser() {
+		assertStatements(1, 4, () -> paymentRepository.findPageByUser(guest.getUserId(), 0L, PAGE).stream()
+				.map(paymentMapper::toResponse).toList());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Statistics reconcile - Single grouped statement")
+	void testCountByHostelAndStatus() {
+		List<Object[]> rows = bookingRepository.countByHostelAndStatus();
+
+		assertEquals(6, rows.size());
+		assertEquals(12L, rows.stream().mapToLong(row -> ((Number) row[3]).longValue()).sum());
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Hold reaper batch - Single statement")
+	void testExpiredHolds() {
+		List<Long> ids = bookingRepository.findHoldsByStatus(BookingStatus.CONFIRMED).stream()
+				.map(row -> (Long) row[0]).toList();
+		statistics.clear();
+
+		assertStatements(1, 12, () -> bookingRepository
+				.findExpiredHolds(ids, BookingStatus.CONFIRMED, LocalDateTime.now()).stream()
+				.map(booking -> booking.getRoom().getRoomId() + booking.getHostel().getHostelName()).toList());
+		assertEquals(0, bookingRepository.findExpiredHolds(ids, BookingStatus.PENDING_PAYMENT, LocalDateTime.now())
+				.size());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Keyset page - Cursor should continue after the last row")
+	void testKeysetContinuation() {
+		List<Booking> first = bookingRepository.findPage(0L, Limit.of(5));
+		List<Booking> second = bookingRepository.findPage(first.get(4).getBookingId(), Limit.of(5));
+
+		assertEquals(5, second.size());
+		assertEquals(first.get(4).getBookingId() + 1, second.get(0).getBookingId());
+	}
+
+	private void assertStatements(long expected, int expectedRows, Supplier<List<?>> endpoint) {
+		List<?> rows = endpoint.get();
+
+		assertEquals(expectedRows, rows.size());
+		assertEquals(expected, statistics.getPrepareStatementCount());
+	}
+
+	private Facility facility(String name) {
+		Facility facility = new Facility();
+		facility.setFacilityName(name);
+		return facility;
+	}
+
+	private User user(String name, UserRole role) {
+		User user = new User();
+		user.setName(name);
+		user.setEmail(name + "@example.com");
+		user.setPhone("9999999999");
+		user.setPassword("secret");
+		user.setRole(role);
+		return user;
+	}
+
+	private Hostel hostel(User hostelOwner, String name, Set<Facility> facilities) {
+		Hostel entity = new Hostel();
+		entity.setHostelName(name);
+		entity.setCity("Goa");
+		entity.setAddress("Beach Road");
+		entity.setApproved(true);
+		entity.setOwner(hostelOwner);
+		entity.setFacilities(new HashSet<>(facilities));
+		return entity;
+	}
+
+	private Room room(Hostel roomHostel, double price) {
+		Room room = new Room();
+		room.setHostel(roomHostel);
+		room.setRoomType(RoomType.DORM);
+		room.setTotalBeds(6);
+		room.setAvailableBeds(6);
+		room.setPricePerNight(price);
+		return room;
+	}
+
+	private Booking booking(User bookingGuest, Hostel bookingHostel, Room room) {
+		Booking booking = new Booking();
+		booking.setUser(bookingGuest);
+		booking.setHostel(bookingHostel);
+		booking.setRoom(room);
+		booking.setCheckInDate(LocalDate.now().plusDays(1));
+		booking.setCheckOutDate(LocalDate.now().plusDays(3));
+		booking.setNumberOfBeds(1);
+		booking.setTotalPrice(600.0);
+		booking.setBookingStatus(BookingStatus.CONFIRMED);
+		return booking;
+	}
+
+	private Payment payment(Booking booking, String transactionId) {
+		Payment payment = new Payment();
+		payment.setBooking(booking);
+		payment.setAmount(600.0);
+		payment.setPaymentMethod(PaymentMethod.UPI);
+		payment.setTransactionId(transactionId);
+		return payment;
+	}
+}
@@ -0,0 +1,73 @@
+package com.hostel.test.repository;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hostel.config.IdSequenceInitializer;
+import com.hostel.entity.User;
+import com.hostel.enums.UserRole;
+import com.hostel.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Runs outside the test transaction: the table generator allocates IDs in
+ * its own transaction and would block on locks held by the test.
+ */
+@DataJpaTest(properties = { "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.show-sql=false" })
+@Import(IdSequenceInitializer.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("ID Sequence Initializer Tests")
+class IdSequenceInitializerTest {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private IdSequenceInitializer idSequenceInitializer;
+
+	@AfterEach
+	void tearDown() {
+		userRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Seed - New IDs should start above rows inserted before the generator existed")
+	void testSeed_SkipsExistingIds() {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> entityManager
+				.createNativeQuery("INSERT INTO users (user_id, name, email, phone, password, role, status, "
+						+ "registration_date) VALUES (5000, 'legacy', 'legacy@example.com', '9999999999', 'secret', "
+						+ "'USER', 'ACTIVE', CURRENT_TIMESTAMP)")
+				.executeUpdate());
+
+		idSequenceInitializer.afterSingletonsInstantiated();
+
+		User user = new User();
+		user.setName("fresh");
+		user.setEmail("fresh@example.com");
+		user.setPhone("9999999999");
+		user.setPassword("secret");
+		user.setRole(UserRole.USER);
+		User saved = userRepository.save(user);
+
+		assertTrue(saved.getUserId() > 5000, "generated ID collides with legacy rows: " + saved.getUserId());
+	}
+}
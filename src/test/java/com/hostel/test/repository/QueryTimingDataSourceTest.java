@@ -0,0 +1,90 @@
+package com.hostel.test.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.hostel.config.QueryStatisticsConfig;
+import com.hostel.dto.response.NPlusOneIncident;
+import com.hostel.dto.response.QueryStatisticsResponse;
+import com.hostel.dto.response.SlowQuery;
+import com.hostel.entity.User;
+import com.hostel.enums.UserRole;
+import com.hostel.repository.UserRepository;
+import com.hostel.service.QueryStatisticsService;
+
+@DataJpaTest(properties = { "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.generate_statistics=true", "spring.jpa.show-sql=false", "query.slow-ms=0",
+		"query.n-plus-one-threshold=3", "query.capture.enabled=true" })
+@Import({ QueryStatisticsConfig.class, QueryStatisticsService.class })
+@DisplayName("Query Timing DataSource Tests")
+class QueryTimingDataSourceTest {
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private QueryStatisticsService queryStatisticsService;
+
+	private final List<Long> userIds = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		for (int i = 0; i < 3; i++) {
+			User user = new User();
+			user.setName("guest" + i);
+			user.setEmail("guest" + i + "@example.com");
+			user.setPhone("9999999999");
+			user.setPassword("secret");
+			user.setRole(UserRole.USER);
+			userIds.add(entityManager.persist(user).getUserId());
+		}
+		entityManager.flush();
+		entityManager.clear();
+		queryStatisticsService.reset();
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Statements are timed with the rows they returned")
+	void select_RecordsRowCount() {
+		queryStatisticsService.begin("GET /api/v1/users");
+		userRepository.findAll();
+		queryStatisticsService.end();
+
+		QueryStatisticsResponse statistics = queryStatisticsService.getStatistics();
+		SlowQuery select = statistics.getSlowQueries().stream().filter(query -> query.getSql().contains("users"))
+				.findFirst().orElseThrow();
+
+		assertEquals(3, select.getRows());
+		assertEquals("GET /api/v1/users", select.getRequest());
+		assertEquals(1, statistics.getQueryExecutions());
+		assertTrue(statistics.getSuspectedNPlusOne().isEmpty());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: A select repeated within one request is reported as N+1")
+	void repeatedSelect_ReportsNPlusOne() {
+		queryStatisticsService.begin("GET /api/v1/users/lookup");
+		userIds.forEach(userId -> userRepository.findById(userId).orElseThrow());
+		queryStatisticsService.end();
+
+		List<NPlusOneIncident> suspected = queryStatisticsService.getStatistics().getSuspectedNPlusOne();
+
+		assertEquals(1, suspected.size());
+		assertEquals(3, suspected.get(0).getExecutions());
+		assertEquals("GET /api/v1/users/lookup", suspected.get(0).getRequest());
+	}
+}
@@ -0,0 +1,156 @@
+package com.hostel.test.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hostel.dto.response.BookingResponse;
+import com.hostel.entity.Booking;
+import com.hostel.enums.BookingStatus;
+import com.hostel.enums.ExportFormat;
+import com.hostel.enums.PaymentMethod;
+import com.hostel.enums.PaymentStatus;
+import com.hostel.mapper.BookingMapper;
+import com.hostel.repository.BookingRepository;
+import com.hostel.service.BookingExportService;
+
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Booking Export Service Tests")
+class BookingExportServiceTest {
+
+	@Mock
+	private BookingRepository bookingRepository;
+
+	@Mock
+	private BookingMapper bookingMapper;
+
+	@Mock
+	private EntityManager entityManager;
+
+	@Spy
+	private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+	@InjectMocks
+	private BookingExportService bookingExportService;
+
+	private BookingResponse paidBooking;
+	private BookingResponse pendingBooking;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(bookingExportService, "entityManager", entityManager);
+
+		paidBooking = new BookingResponse();
+		paidBooking.setBookingId(1L);
+		paidBooking.setUserName("Test User");
+		paidBooking.setHostelName("Sea View, Goa");
+		paidBooking.setCheckInDate(LocalDate.of(2026, 1, 10));
+		paidBooking.setBookingStatus(BookingStatus.CONFIRMED);
+		paidBooking.setPaymentStatus(PaymentStatus.COMPLETED);
+		paidBooking.setPaymentMethod(PaymentMethod.UPI);
+		paidBooking.setTransactionId("TXN-1");
+		paidBooking.setAmount(1500.0);
+
+		pendingBooking = new BookingResponse();
+		pendingBooking.setBookingId(2L);
+		pendingBooking.setUserName("Other \"Guest\"");
+		pendingBooking.setBookingStatus(BookingStatus.PENDING_PAYMENT);
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Export NDJSON - Should write one JSON object per booking")
+	void testExport_Ndjson() throws Exception {
+		Booking first = new Booking();
+		Booking second = new Booking();
+		when(bookingRepository.streamAll()).thenReturn(Stream.of(first, second));
+		when(bookingMapper.toResponse(first)).thenReturn(paidBooking);
+		when(bookingMapper.toResponse(second)).thenReturn(pendingBooking);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		long rows = bookingExportService.export(ExportFormat.NDJSON, out);
+
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(2, rows);
+		assertEquals(2, lines.length);
+		JsonNode node = objectMapper.readTree(lines[0]);
+		assertEquals(1L, node.get("bookingId").asLong());
+		assertEquals("TXN-1", node.get("transactionId").asText());
+		assertEquals("COMPLETED", node.get("paymentStatus").asText());
+		verify(entityManager, never()).clear();
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Export CSV - Should write header and quote special characters")
+	void testExport_Csv() throws Exception {
+		Booking first = new Booking();
+		Booking second = new Booking();
+		when(bookingRepository.streamAll()).thenReturn(Stream.of(first, second));
+		when(bookingMapper.toResponse(first)).thenReturn(paidBooking);
+		when(bookingMapper.toResponse(second)).thenReturn(pendingBooking);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		bookingExportService.export(ExportFormat.CSV, out);
+
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(3, lines.length);
+		assertTrue(lines[0].startsWith("bookingId,userId,userName"));
+		assertTrue(lines[1].startsWith("1,,Test User,,\"Sea View, Goa\",,,2026-01-10,"));
+		assertTrue(lines[1].endsWith("COMPLETED,UPI,TXN-1,1500.0"));
+		assertTrue(lines[2].startsWith("2,,\"Other \"\"Guest\"\"\","));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Export CSV - Should neutralise cells a spreadsheet would run as formulas")
+	void testExport_CsvFormulaInjection() throws Exception {
+		Booking first = new Booking();
+		when(bookingRepository.streamAll()).thenReturn(Stream.of(first));
+		paidBooking.setUserName("=HYPERLINK(\"http://evil\",\"x\")");
+		paidBooking.setHostelName("@SUM(A1)");
+		paidBooking.setTransactionId("-2+3");
+		paidBooking.setTotalPrice(-10.0);
+		when(bookingMapper.toResponse(first)).thenReturn(paidBooking);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		bookingExportService.export(ExportFormat.CSV, out);
+
+		String row = out.toString(StandardCharsets.UTF_8).split("\n")[1];
+		assertTrue(row.startsWith("1,,\"'=HYPERLINK(\"\"http://evil\"\",\"\"x\"\")\",,'@SUM(A1),"));
+		assertTrue(row.contains(",-10.0,"));
+		assertTrue(row.endsWith("COMPLETED,UPI,'-2+3,1500.0"));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Export - Should clear persistence context while streaming")
+	void testExport_ClearsPersistenceContext() throws Exception {
+		when(bookingRepository.streamAll()).thenReturn(Stream.generate(Booking::new).limit(1200));
+		when(bookingMapper.toResponse(any(Booking.class))).thenReturn(pendingBooking);
+
+		long rows = bookingExportService.export(ExportFormat.CSV, new ByteArrayOutputStream());
+
+		assertEquals(1200, rows);
+		verify(entityManager, times(2)).clear();
+	}
+}
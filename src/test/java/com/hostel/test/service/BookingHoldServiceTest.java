@@ -0,0 +1,179 @@
+package com.hostel.test.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.hostel.entity.Booking;
+import com.hostel.entity.Payment;
+import com.hostel.entity.Room;
+import com.hostel.enums.BookingStatus;
+import com.hostel.enums.PaymentStatus;
+import com.hostel.repository.BookingRepository;
+import com.hostel.service.BookingHoldService;
+import com.hostel.service.BookingStatisticsService;
+import com.hostel.service.RoomInventoryService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Booking Hold Service Tests")
+class BookingHoldServiceTest {
+
+	@Mock
+	private BookingRepository bookingRepository;
+
+	@Mock
+	private RoomInventoryService roomInventoryService;
+
+	@Mock
+	private BookingStatisticsService bookingStatisticsService;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@InjectMocks
+	private BookingHoldService bookingHoldService;
+
+	private Booking booking;
+	private Room room;
+
+	@BeforeEach
+	void setUp() {
+		room = new Room();
+		room.setRoomId(10L);
+
+		booking = new Booking();
+		booking.setBookingId(101L);
+		booking.setRoom(room);
+		booking.setCheckInDate(LocalDate.now().plusDays(5));
+		booking.setCheckOutDate(LocalDate.now().plusDays(7));
+		booking.setNumberOfBeds(2);
+		booking.setBookingStatus(BookingStatus.PENDING_PAYMENT);
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Reap - Should cancel expired holds and release beds")
+	void testReap_CancelsExpiredHold() {
+		booking.setHoldExpiresAt(LocalDateTime.now().minusSeconds(1));
+		bookingHoldService.track(booking);
+		when(bookingRepository.findExpiredHolds(eq(List.of(101L)), eq(BookingStatus.PENDING_PAYMENT),
+				any(LocalDateTime.class))).thenReturn(List.of(booking));
+
+		bookingHoldService.reap();
+
+		assertEquals(BookingStatus.CANCELLED, booking.getBookingStatus());
+		assertEquals(0, bookingHoldService.pending());
+		verify(roomInventoryService).release(room, booking.getCheckInDate(), booking.getCheckOutDate(), 2);
+		verify(bookingStatisticsService).recordTransition(booking, BookingStatus.PENDING_PAYMENT);
+		verify(bookingRepository).saveAll(List.of(booking));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Reap - Should leave holds that have not expired")
+	void testReap_KeepsActiveHold() {
+		booking.setHoldExpiresAt(LocalDateTime.now().plusMinutes(15));
+		bookingHoldService.track(booking);
+
+		bookingHoldService.reap();
+
+		assertEquals(1, bookingHoldService.pending());
+		assertEquals(BookingStatus.PENDING_PAYMENT, booking.getBookingStatus());
+		verify(bookingRepository, never()).findExpiredHolds(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Reap - Paid booking should not be cancelled")
+	void testReap_SkipsPaidBooking() {
+		booking.setHoldExpiresAt(LocalDateTime.now().minusSeconds(1));
+		bookingHoldService.track(booking);
+		when(bookingRepository.findExpiredHolds(any(), any(), any())).thenReturn(List.of());
+
+		bookingHoldService.reap();
+
+		assertEquals(0, bookingHoldService.pending());
+		verify(roomInventoryService, never()).release(any(), any(), any(), eq(2));
+	}
+
+	@Test
+	@DisplayName("FAILURE: Reap - Failed batch should be retried on the next run")
+	void testReap_FailureRequeues() {
+		booking.setHoldExpiresAt(LocalDateTime.now().minusSeconds(1));
+		bookingHoldService.track(booking);
+		when(bookingRepository.findExpiredHolds(any(), any(), any())).thenThrow(new IllegalStateException("down"));
+
+		bookingHoldService.reap();
+
+		assertEquals(1, bookingHoldService.pending());
+	}
+
+	@Test
+	@DisplayName("FAILURE: Reap - Booking paid during the batch should be retried, not cancelled")
+	void testReap_PaidConcurrently_Requeues() {
+		booking.setHoldExpiresAt(LocalDateTime.now().minusSeconds(1));
+		bookingHoldService.track(booking);
+		when(bookingRepository.findExpiredHolds(any(), any(), any())).thenReturn(List.of(booking));
+		doThrow(new ObjectOptimisticLockingFailureException(Booking.class, 101L)).when(transactionManager)
+				.commit(any());
+
+		bookingHoldService.reap();
+
+		assertEquals(1, bookingHoldService.pending());
+	}
+
+	@Test
+	@DisplayName("FAILURE: Reap - Failed batch should end the pass and wait for the backoff")
+	void testReap_FailureBacksOff() {
+		ReflectionTestUtils.setField(bookingHoldService, "batchSize", 1);
+		booking.setHoldExpiresAt(LocalDateTime.now().minusSeconds(1));
+		bookingHoldService.track(booking);
+		Booking other = new Booking();
+		other.setBookingId(102L);
+		other.setHoldExpiresAt(LocalDateTime.now().minusSeconds(1));
+		bookingHoldService.track(other);
+		when(bookingRepository.findExpiredHolds(any(), any(), any())).thenThrow(new IllegalStateException("down"));
+
+		bookingHoldService.reap();
+		bookingHoldService.reap();
+
+		assertEquals(2, bookingHoldService.pending());
+		verify(bookingRepository, times(1)).findExpiredHolds(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Reap - Booking with a charge in flight should be re-armed, not cancelled")
+	void testReap_PaymentInFlight_Rearms() {
+		Payment payment = new Payment();
+		payment.setPaymentStatus(PaymentStatus.UNKNOWN);
+		booking.setPayment(payment);
+		booking.setHoldExpiresAt(LocalDateTime.now().minusSeconds(1));
+		bookingHoldService.track(booking);
+		when(bookingRepository.findExpiredHolds(any(), any(), any())).thenReturn(List.of(booking));
+
+		bookingHoldService.reap();
+		bookingHoldService.reap();
+
+		assertEquals(BookingStatus.PENDING_PAYMENT, booking.getBookingStatus());
+		assertEquals(1, bookingHoldService.pending());
+		verify(roomInventoryService, never()).release(any(), any(), any(), eq(2));
+		verify(bookingRepository, times(1)).findExpiredHolds(any(), any(), any());
+	}
+}
@@ -2,7 +2,8 @@ package com.hostel.test.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDate;
@@ -19,8 +20,10 @@ import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import com.hostel.dto.request.BookingRequest;
+import com.hostel.dto.response.CursorPage;
 import com.hostel.dto.response.BookingResponse;
 import com.hostel.dto.response.BookingStatisticsResponse;
 import com.hostel.entity.Booking;
@@ -37,12 +40,17 @@ import com.hostel.repository.BookingRepository;
 import com.hostel.repository.HostelRepository;
 import com.hostel.repository.RoomRepository;
 import com.hostel.repository.UserRepository;
+import com.hostel.service.BookingHoldService;
 import com.hostel.service.BookingService;
+import com.hostel.service.BookingStatisticsService;
+import com.hostel.service.RoomInventoryService;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Booking Service Tests")
 class BookingServiceTest {
 
+	private static final Limit FIRST_PAGE = CursorPage.fetchLimit(CursorPage.DEFAULT_SIZE);
+
 	@Mock
 	private BookingRepository bookingRepository;
 	@Mock
@@ -53,6 +61,12 @@ class BookingServiceTest {
 	private RoomRepository roomRepository;
 	@Mock
 	private BookingMapper bookingMapper;
+	@Mock
+	private RoomInventoryService roomInventoryService;
+	@Mock
+	private BookingStatisticsService bookingStatisticsService;
+	@Mock
+	private BookingHoldService bookingHoldService;
 
 	@InjectMocks
 	private BookingService bookingService;
@@ -136,8 +150,8 @@ class BookingServiceTest {
 		when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
 		when(hostelRepository.findById(1L)).thenReturn(Optional.of(testHostel));
 		when(roomRepository.findById(10L)).thenReturn(Optional.of(testRoom));
-		when(bookingRepository.findOverlappingBookings(anyLong(), any(LocalDate.class), any(LocalDate.class)))
-				.thenReturn(new ArrayList<>());
+		when(roomInventoryService.reserve(testRoom, bookingRequest.getCheckInDate(), bookingRequest.getCheckOutDate(),
+				2)).thenReturn(true);
 
 		when(bookingMapper.toEntity(any(BookingRequest.class))).thenAnswer(inv -> {
 			Booking b = new Booking();
@@ -153,7 +167,6 @@ class BookingServiceTest {
 			return b;
 		});
 
-		when(roomRepository.save(any(Room.class))).thenAnswer(inv -> inv.getArgument(0));
 		when(bookingMapper.toResponse(any(Booking.class))).thenReturn(bookingResponse);
 
 		BookingResponse result = bookingService.createBooking(bookingRequest);
@@ -170,11 +183,14 @@ class BookingServiceTest {
 		double expectedTotal = nights * testRoom.getPricePerNight() * bookingRequest.getNumberOfBeds();
 		assertEquals(expectedTotal, saved.getTotalPrice(), 0.0001);
 
-		assertEquals(4, testRoom.getAvailableBeds());
+		assertEquals(BookingStatus.PENDING_PAYMENT, saved.getBookingStatus());
+		verify(bookingHoldService).track(saved);
 
-		InOrder inOrder = inOrder(roomRepository, bookingRepository);
-		inOrder.verify(roomRepository).save(testRoom);
+		InOrder inOrder = inOrder(roomInventoryService, bookingRepository);
+		inOrder.verify(roomInventoryService).reserve(testRoom, bookingRequest.getCheckInDate(),
+				bookingRequest.getCheckOutDate(), 2);
 		inOrder.verify(bookingRepository).save(saved);
+		verify(roomRepository, never()).save(any(Room.class));
 	}
 
 	@Test
@@ -186,17 +202,16 @@ class BookingServiceTest {
 
 		when(bookingRepository.findById(101L)).thenReturn(Optional.of(testBooking));
 		when(bookingRepository.save(any(Booking.class))).thenAnswer(inv -> inv.getArgument(0));
-		when(roomRepository.save(any(Room.class))).thenAnswer(inv -> inv.getArgument(0));
 		when(bookingMapper.toResponse(any(Booking.class))).thenReturn(bookingResponse);
 
 		BookingResponse result = bookingService.cancelBooking(101L, "Changed plans");
 
 		assertNotNull(result);
 		assertEquals(BookingStatus.CANCELLED, testBooking.getBookingStatus());
-		assertEquals(6, testRoom.getAvailableBeds());
 		verify(bookingRepository).findById(101L);
-		verify(roomRepository).save(testRoom);
+		verify(roomInventoryService).release(testRoom, testBooking.getCheckInDate(), testBooking.getCheckOutDate(), 2);
 		verify(bookingRepository).save(testBooking);
+		verify(bookingStatisticsService).recordTransition(testBooking, BookingStatus.CONFIRMED);
 	}
 
 	@Test
@@ -204,16 +219,16 @@ class BookingServiceTest {
 	void testGetBookingsByUser_Success() {
 		List<Booking> bookings = Arrays.asList(testBooking);
 
-		when(bookingRepository.findByUser_UserId(1L)).thenReturn(bookings);
+		when(bookingRepository.findPageByUser(1L, 0L, FIRST_PAGE)).thenReturn(bookings);
 		when(bookingMapper.toResponse(any(Booking.class))).thenReturn(bookingResponse);
 
-		List<BookingResponse> result = bookingService.getBookingsByUser(1L);
+		CursorPage<BookingResponse> result = bookingService.getBookingsByUser(1L, null, null);
 
 		assertNotNull(result);
-		assertEquals(1, result.size());
-		assertEquals("Suresh Kumar", result.get(0).getUserName());
+		assertEquals(1, result.getItems().size());
+		assertEquals("Suresh Kumar", result.getItems().get(0).getUserName());
 
-		verify(bookingRepository).findByUser_UserId(1L);
+		verify(bookingRepository).findPageByUser(1L, 0L, FIRST_PAGE);
 	}
 
 	@Test
@@ -221,15 +236,33 @@ class BookingServiceTest {
 	void testGetAllBookings_Success() {
 		List<Booking> bookings = Arrays.asList(testBooking);
 
-		when(bookingRepository.findAll()).thenReturn(bookings);
+		when(bookingRepository.findPage(0L, FIRST_PAGE)).thenReturn(bookings);
 		when(bookingMapper.toResponse(any(Booking.class))).thenReturn(bookingResponse);
 
-		List<BookingResponse> result = bookingService.getAllBookings();
+		CursorPage<BookingResponse> result = bookingService.getAllBookings(null, null);
 
 		assertNotNull(result);
-		assertEquals(1, result.size());
+		assertEquals(1, result.getItems().size());
+
+		verify(bookingRepository).findPage(0L, FIRST_PAGE);
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Get All Bookings - Should return next cursor when more rows exist")
+	void testGetAllBookings_NextCursor() {
+		Booking second = new Booking();
+		second.setBookingId(102L);
+		Booking third = new Booking();
+		third.setBookingId(103L);
+
+		when(bookingRepository.findPage(101L, Limit.of(3))).thenReturn(Arrays.asList(second, third, new Booking()));
+		when(bookingMapper.toResponse(any(Booking.class))).thenReturn(bookingResponse);
 
-		verify(bookingRepository).findAll();
+		CursorPage<BookingResponse> result = bookingService.getAllBookings(101L, 2);
+
+		assertEquals(2, result.getItems().size());
+		assertEquals(103L, result.getNextCursor());
+		assertTrue(result.isHasMore());
 	}
 
 	@Test
@@ -252,15 +285,15 @@ class BookingServiceTest {
 	void testGetBookingsByHostel_Success() {
 		List<Booking> bookings = Arrays.asList(testBooking);
 
-		when(bookingRepository.findByHostel_HostelId(1L)).thenReturn(bookings);
+		when(bookingRepository.findPageByHostel(1L, 0L, FIRST_PAGE)).thenReturn(bookings);
 		when(bookingMapper.toResponse(any(Booking.class))).thenReturn(bookingResponse);
 
-		List<BookingResponse> result = bookingService.getBookingsByHostel(1L);
+		CursorPage<BookingResponse> result = bookingService.getBookingsByHostel(1L, null, null);
 
 		assertNotNull(result);
-		assertEquals(1, result.size());
+		assertEquals(1, result.getItems().size());
 
-		verify(bookingRepository).findByHostel_HostelId(1L);
+		verify(bookingRepository).findPageByHostel(1L, 0L, FIRST_PAGE);
 	}
 
 	@Test
@@ -268,15 +301,15 @@ class BookingServiceTest {
 	void testGetBookingsByOwner_Success() {
 		List<Booking> bookings = Arrays.asList(testBooking);
 
-		when(bookingRepository.findByHostel_Owner_UserId(5L)).thenReturn(bookings);
+		when(bookingRepository.findPageByOwner(5L, 0L, FIRST_PAGE)).thenReturn(bookings);
 		when(bookingMapper.toResponse(any(Booking.class))).thenReturn(bookingResponse);
 
-		List<BookingResponse> result = bookingService.getBookingsByOwner(5L);
+		CursorPage<BookingResponse> result = bookingService.getBookingsByOwner(5L, null, null);
 
 		assertNotNull(result);
-		assertEquals(1, result.size());
+		assertEquals(1, result.getItems().size());
 
-		verify(bookingRepository).findByHostel_Owner_UserId(5L);
+		verify(bookingRepository).findPageByOwner(5L, 0L, FIRST_PAGE);
 	}
 
 	@Test
@@ -292,23 +325,150 @@ class BookingServiceTest {
 		assertEquals(BookingStatus.COMPLETED, testBooking.getBookingStatus());
 
 		verify(bookingRepository).save(testBooking);
+		verify(roomInventoryService).release(testRoom, testBooking.getCheckInDate(), testBooking.getCheckOutDate(), 2);
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Update Booking Status - Rejecting a pending booking should release its beds")
+	void testUpdateBookingStatus_Rejected_ReleasesBeds() {
+		testBooking.setBookingStatus(BookingStatus.PENDING_PAYMENT);
+		testBooking.setHoldExpiresAt(LocalDateTime.now().plusMinutes(10));
+		when(bookingRepository.findById(101L)).thenReturn(Optional.of(testBooking));
+		when(bookingRepository.save(any(Booking.class))).thenAnswer(inv -> inv.getArgument(0));
+		when(bookingMapper.toResponse(any(Booking.class))).thenReturn(bookingResponse);
+
+		bookingService.updateBookingStatus(101L, BookingStatus.REJECTED);
+
+		assertEquals(BookingStatus.REJECTED, testBooking.getBookingStatus());
+		assertNull(testBooking.getHoldExpiresAt());
+		verify(roomInventoryService).release(testRoom, testBooking.getCheckInDate(), testBooking.getCheckOutDate(), 2);
+		verify(roomInventoryService, never()).reserve(any(), any(), any(), anyInt());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Update Booking Status - Reinstating a cancelled booking should reserve its beds")
+	void testUpdateBookingStatus_Reinstated_ReservesBeds() {
+		testBooking.setBookingStatus(BookingStatus.CANCELLED);
+		when(bookingRepository.findById(101L)).thenReturn(Optional.of(testBooking));
+		when(roomInventoryService.reserve(testRoom, testBooking.getCheckInDate(), testBooking.getCheckOutDate(), 2))
+				.thenReturn(true);
+		when(bookingRepository.save(any(Booking.class))).thenAnswer(inv -> inv.getArgument(0));
+		when(bookingMapper.toResponse(any(Booking.class))).thenReturn(bookingResponse);
+
+		bookingService.updateBookingStatus(101L, BookingStatus.CONFIRMED);
+
+		assertEquals(BookingStatus.CONFIRMED, testBooking.getBookingStatus());
+		assertNull(testBooking.getHoldExpiresAt());
+		verify(roomInventoryService, never()).release(any(), any(), any(), anyInt());
+	}
+
+	@Test
+	@DisplayName("FAILURE: Update Booking Status - Reinstating into a full room should be rejected")
+	void testUpdateBookingStatus_Reinstated_RoomFull() {
+		testBooking.setBookingStatus(BookingStatus.CANCELLED);
+		when(bookingRepository.findById(101L)).thenReturn(Optional.of(testBooking));
+		when(roomInventoryService.reserve(testRoom, testBooking.getCheckInDate(), testBooking.getCheckOutDate(), 2))
+				.thenReturn(false);
+
+		assertThrows(BadRequestException.class,
+				() -> bookingService.updateBookingStatus(101L, BookingStatus.CONFIRMED));
+
+		assertEquals(BookingStatus.CANCELLED, testBooking.getBookingStatus());
+		verify(bookingRepository, never()).save(any(Booking.class));
 	}
 
 	@Test
 	@DisplayName("SUCCESS: Get Statistics - Should return booking statistics")
 	void testGetStatistics_Success() {
-		when(bookingRepository.count()).thenReturn(100L);
-		when(bookingRepository.countByBookingStatus(BookingStatus.CONFIRMED)).thenReturn(60L);
-		when(bookingRepository.countByBookingStatus(BookingStatus.CANCELLED)).thenReturn(20L);
-		when(bookingRepository.countByBookingStatus(BookingStatus.COMPLETED)).thenReturn(20L);
+		when(bookingStatisticsService.getStatistics())
+				.thenReturn(new BookingStatisticsResponse(100L, 5L, 55L, 20L, 0L, 20L));
 
 		BookingStatisticsResponse result = bookingService.getStatistics();
 
 		assertNotNull(result);
 		assertEquals(100L, result.getTotal());
-		assertEquals(60L, result.getConfirmed());
+		assertEquals(5L, result.getPendingPayment());
+		assertEquals(55L, result.getConfirmed());
 		assertEquals(20L, result.getCancelled());
 		assertEquals(20L, result.getCompleted());
+		verify(bookingRepository, never()).count();
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Create Bookings - Should resolve entities once and save all bookings together")
+	void testCreateBookings_Success() {
+		Room secondRoom = new Room();
+		secondRoom.setRoomId(11L);
+		secondRoom.setHostel(testHostel);
+		secondRoom.setPricePerNight(500.0);
+		BookingRequest secondRequest = new BookingRequest();
+		secondRequest.setUserId(1L);
+		secondRequest.setHostelId(1L);
+		secondRequest.setRoomId(11L);
+		secondRequest.setCheckInDate(bookingRequest.getCheckInDate());
+		secondRequest.setCheckOutDate(bookingRequest.getCheckOutDate());
+		secondRequest.setNumberOfBeds(1);
+
+		when(userRepository.findAllById(Set.of(1L))).thenReturn(List.of(testUser));
+		when(hostelRepository.findAllById(Set.of(1L))).thenReturn(List.of(testHostel));
+		when(roomRepository.findAllById(Set.of(10L, 11L))).thenReturn(List.of(testRoom, secondRoom));
+		when(roomInventoryService.reserve(any(Room.class), any(LocalDate.class), any(LocalDate.class), anyInt()))
+				.thenReturn(true);
+		when(bookingMapper.toEntity(any(BookingRequest.class))).thenAnswer(inv -> new Booking());
+		when(bookingRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+		when(bookingMapper.toResponse(any(Booking.class))).thenReturn(bookingResponse);
+
+		List<BookingResponse> result = bookingService.createBookings(List.of(bookingRequest, secondRequest));
+
+		assertEquals(2, result.size());
+		verify(roomInventoryService).reserve(secondRoom, secondRequest.getCheckInDate(),
+				secondRequest.getCheckOutDate(), 1);
+		verify(bookingRepository).saveAll(anyList());
+		verify(bookingRepository, never()).save(any(Booking.class));
+		verify(userRepository, never()).findById(any());
+		verify(bookingStatisticsService, times(2)).recordCreated(any(Booking.class));
+	}
+
+	@Test
+	@DisplayName("FAILURE: Create Bookings - Unknown room should reject the whole batch")
+	void testCreateBookings_RoomNotFound_ThrowsException() {
+		when(userRepository.findAllById(Set.of(1L))).thenReturn(List.of(testUser));
+		when(hostelRepository.findAllById(Set.of(1L))).thenReturn(List.of(testHostel));
+		when(roomRepository.findAllById(Set.of(10L))).thenReturn(List.of());
+
+		assertThrows(ResourceNotFoundException.class, () -> bookingService.createBookings(List.of(bookingRequest)));
+
+		verify(roomInventoryService, never()).reserve(any(), any(), any(), anyInt());
+		verify(bookingRepository, never()).saveAll(anyList());
+	}
+
+	@Test
+	@DisplayName("FAILURE: Create Bookings - One full room should reject the whole batch")
+	void testCreateBookings_InsufficientBeds_ThrowsException() {
+		BookingRequest fullRoomRequest = new BookingRequest();
+		fullRoomRequest.setUserId(1L);
+		fullRoomRequest.setHostelId(1L);
+		fullRoomRequest.setRoomId(10L);
+		fullRoomRequest.setCheckInDate(bookingRequest.getCheckInDate());
+		fullRoomRequest.setCheckOutDate(bookingRequest.getCheckOutDate());
+		fullRoomRequest.setNumberOfBeds(5);
+
+		when(userRepository.findAllById(Set.of(1L))).thenReturn(List.of(testUser));
+		when(hostelRepository.findAllById(Set.of(1L))).thenReturn(List.of(testHostel));
+		when(roomRepository.findAllById(Set.of(10L))).thenReturn(List.of(testRoom));
+		when(roomInventoryService.reserve(testRoom, bookingRequest.getCheckInDate(), bookingRequest.getCheckOutDate(),
+				2)).thenReturn(true);
+		when(roomInventoryService.reserve(testRoom, bookingRequest.getCheckInDate(), bookingRequest.getCheckOutDate(),
+				5)).thenReturn(false);
+		when(roomInventoryService.getAvailableBeds(testRoom, bookingRequest.getCheckInDate(),
+				bookingRequest.getCheckOutDate())).thenReturn(4);
+		when(bookingMapper.toEntity(any(BookingRequest.class))).thenAnswer(inv -> new Booking());
+
+		BadRequestException exception = assertThrows(BadRequestException.class,
+				() -> bookingService.createBookings(List.of(bookingRequest, fullRoomRequest)));
+
+		assertTrue(exception.getMessage().contains("Only 4 beds"));
+		verify(bookingRepository, never()).saveAll(anyList());
 	}
 
 	@Test
@@ -406,30 +566,34 @@ class BookingServiceTest {
 	@Test
 	@DisplayName("FAILURE: Create Booking - Not enough beds available")
 	void testCreateBooking_NotEnoughBeds_ThrowsException() {
-		testRoom.setAvailableBeds(1);
 		bookingRequest.setNumberOfBeds(3);
 
 		when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
 		when(hostelRepository.findById(1L)).thenReturn(Optional.of(testHostel));
 		when(roomRepository.findById(10L)).thenReturn(Optional.of(testRoom));
+		when(roomInventoryService.reserve(testRoom, bookingRequest.getCheckInDate(), bookingRequest.getCheckOutDate(),
+				3)).thenReturn(false);
+		when(roomInventoryService.getAvailableBeds(testRoom, bookingRequest.getCheckInDate(),
+				bookingRequest.getCheckOutDate())).thenReturn(1);
 
 		BadRequestException exception = assertThrows(BadRequestException.class, () -> {
 			bookingService.createBooking(bookingRequest);
 		});
 
-		assertTrue(exception.getMessage().contains("Not enough beds available"));
+		assertEquals("Not enough beds available. Only 1 beds available", exception.getMessage());
+		verify(bookingRepository, never()).save(any(Booking.class));
 	}
 
 	@Test
 	@DisplayName("FAILURE: Create Booking - Room already booked for dates")
 	void testCreateBooking_OverlappingBooking_ThrowsException() {
-		List<Booking> overlappingBookings = Arrays.asList(testBooking);
-
 		when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
 		when(hostelRepository.findById(1L)).thenReturn(Optional.of(testHostel));
 		when(roomRepository.findById(10L)).thenReturn(Optional.of(testRoom));
-		when(bookingRepository.findOverlappingBookings(anyLong(), any(LocalDate.class), any(LocalDate.class)))
-				.thenReturn(overlappingBookings);
+		when(roomInventoryService.reserve(testRoom, bookingRequest.getCheckInDate(), bookingRequest.getCheckOutDate(),
+				2)).thenReturn(false);
+		when(roomInventoryService.getAvailableBeds(testRoom, bookingRequest.getCheckInDate(),
+				bookingRequest.getCheckOutDate())).thenReturn(0);
 
 		BadRequestException exception = assertThrows(BadRequestException.class, () -> {
 			bookingService.createBooking(bookingRequest);
@@ -504,11 +668,11 @@ class BookingServiceTest {
 		when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
 		when(hostelRepository.findById(1L)).thenReturn(Optional.of(testHostel));
 		when(roomRepository.findById(10L)).thenReturn(Optional.of(testRoom));
-		when(bookingRepository.findOverlappingBookings(anyLong(), any(LocalDate.class), any(LocalDate.class)))
-				.thenReturn(Collections.emptyList());
+		when(roomInventoryService.reserve(testRoom, bookingRequest.getCheckInDate(), bookingRequest.getCheckOutDate(),
+				2)).thenReturn(true);
 		when(bookingMapper.toEntity(any(BookingRequest.class))).thenReturn(new Booking());
 
-		when(roomRepository.save(any(Room.class))).thenThrow(new RuntimeException("DB down"));
+		when(bookingRepository.save(any(Booking.class))).thenThrow(new RuntimeException("DB down"));
 
 		RuntimeException ex = assertThrows(RuntimeException.class, () -> bookingService.createBooking(bookingRequest));
 		assertEquals("Booking creation failed", ex.getMessage());
@@ -0,0 +1,119 @@
+package com.hostel.test.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.hostel.dto.response.BookingStatisticsResponse;
+import com.hostel.entity.Booking;
+import com.hostel.entity.Hostel;
+import com.hostel.entity.User;
+import com.hostel.enums.BookingStatus;
+import com.hostel.repository.BookingRepository;
+import com.hostel.service.BookingStatisticsService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Booking Statistics Service Tests")
+class BookingStatisticsServiceTest {
+
+	@Mock
+	private BookingRepository bookingRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@InjectMocks
+	private BookingStatisticsService bookingStatisticsService;
+
+	private Booking booking;
+
+	@BeforeEach
+	void setUp() {
+		User owner = new User();
+		owner.setUserId(7L);
+
+		Hostel hostel = new Hostel();
+		hostel.setHostelId(3L);
+		hostel.setOwner(owner);
+
+		booking = new Booking();
+		booking.setHostel(hostel);
+		booking.setBookingStatus(BookingStatus.PENDING_PAYMENT);
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Record - Should move counts between statuses")
+	void testRecord_Transitions() {
+		bookingStatisticsService.recordCreated(booking);
+		booking.setBookingStatus(BookingStatus.CONFIRMED);
+		bookingStatisticsService.recordTransition(booking, BookingStatus.PENDING_PAYMENT);
+
+		BookingStatisticsResponse stats = bookingStatisticsService.getStatistics();
+		assertEquals(1, stats.getTotal());
+		assertEquals(0, stats.getPendingPayment());
+		assertEquals(1, stats.getConfirmed());
+		assertEquals(1, bookingStatisticsService.getHostelStatistics(3L).getConfirmed());
+		assertEquals(1, bookingStatisticsService.getOwnerStatistics(7L).getConfirmed());
+		assertEquals(0, bookingStatisticsService.getHostelStatistics(99L).getTotal());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Record - Same status should not change counts")
+	void testRecord_SameStatus() {
+		bookingStatisticsService.recordCreated(booking);
+		bookingStatisticsService.recordTransition(booking, BookingStatus.PENDING_PAYMENT);
+
+		assertEquals(1, bookingStatisticsService.getStatistics().getPendingPayment());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Reconcile - Should replace counters with grouped counts")
+	void testReconcile_ReplacesCounters() {
+		bookingStatisticsService.recordCreated(booking);
+
+		List<Object[]> rows = new ArrayList<>();
+		rows.add(new Object[] { 3L, 7L, BookingStatus.CONFIRMED, 4L });
+		rows.add(new Object[] { 3L, 7L, BookingStatus.REJECTED, 1L });
+		rows.add(new Object[] { 5L, 8L, BookingStatus.CANCELLED, 2L });
+		when(bookingRepository.countByHostelAndStatus()).thenReturn(rows);
+
+		bookingStatisticsService.reconcile();
+
+		BookingStatisticsResponse stats = bookingStatisticsService.getStatistics();
+		assertEquals(7, stats.getTotal());
+		assertEquals(0, stats.getPendingPayment());
+		assertEquals(1, stats.getRejected());
+		assertEquals(5, bookingStatisticsService.getHostelStatistics(3L).getTotal());
+		assertEquals(2, bookingStatisticsService.getOwnerStatistics(8L).getCancelled());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Reconcile - Changes committed during the query should survive the swap")
+	void testReconcile_ReplaysChangesDuringQuery() {
+		List<Object[]> rows = new ArrayList<>();
+		rows.add(new Object[] { 3L, 7L, BookingStatus.CONFIRMED, 4L });
+		when(bookingRepository.countByHostelAndStatus()).thenAnswer(inv -> {
+			// committed after the query read its snapshot
+			bookingStatisticsService.recordCreated(booking);
+			return rows;
+		});
+
+		bookingStatisticsService.reconcile();
+
+		BookingStatisticsResponse stats = bookingStatisticsService.getStatistics();
+		assertEquals(5, stats.getTotal());
+		assertEquals(1, stats.getPendingPayment());
+		assertEquals(1, bookingStatisticsService.getHostelStatistics(3L).getPendingPayment());
+	}
+}
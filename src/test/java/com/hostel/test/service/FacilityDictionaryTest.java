@@ -0,0 +1,120 @@
+package com.hostel.test.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.hostel.entity.Facility;
+import com.hostel.exception.ResourceNotFoundException;
+import com.hostel.repository.FacilityRepository;
+import com.hostel.service.FacilityDictionary;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Facility Dictionary Tests")
+class FacilityDictionaryTest {
+
+	@Mock
+	private FacilityRepository facilityRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@InjectMocks
+	private FacilityDictionary facilityDictionary;
+
+	private Facility wifi;
+	private Facility laundry;
+	private Facility kitchen;
+
+	@BeforeEach
+	void setUp() {
+		wifi = facility(51L, "WiFi");
+		laundry = facility(151L, "Laundry");
+		kitchen = facility(101L, "Kitchen");
+		when(facilityRepository.findAll()).thenReturn(List.of(wifi, laundry, kitchen));
+	}
+
+	private static Facility facility(Long id, String name) {
+		Facility facility = new Facility(new String(name));
+		facility.setFacilityId(id);
+		return facility;
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Sparse ids get dense ordinals and filters match with a bitwise AND")
+	void encode_DenseOrdinals() {
+		BitSet hostel = facilityDictionary.encode(Set.of(wifi, laundry));
+		BitSet wifiAndLaundry = facilityDictionary.encodeIds(List.of(51L, 151L));
+		BitSet kitchenOnly = facilityDictionary.encodeIds(List.of(101L));
+
+		assertEquals(3, hostel.length());
+		assertTrue(FacilityDictionary.hasAll(hostel, wifiAndLaundry));
+		assertFalse(FacilityDictionary.hasAll(hostel, kitchenOnly));
+		assertTrue(FacilityDictionary.hasAll(hostel, new BitSet()));
+		assertNull(facilityDictionary.encodeIds(List.of(51L, 999L)));
+		verify(facilityRepository, times(1)).findAll();
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Names come back interned and in ordinal order")
+	void names_InternedInOrdinalOrder() {
+		List<String> names = facilityDictionary.names(Set.of(laundry, wifi, kitchen));
+
+		assertEquals(List.of("WiFi", "Kitchen", "Laundry"), names);
+		assertTrue(names.get(0) == "WiFi");
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Facility id rows are grouped into ordinal sets per hostel")
+	void encodeRows_GroupsByHostel() {
+		Map<Long, BitSet> hostels = facilityDictionary.encodeRows(List.of(new Object[] { 7L, 151L },
+				new Object[] { 7L, 51L }, new Object[] { 8L, 101L }, new Object[] { 8L, 999L }));
+
+		assertEquals(List.of("WiFi", "Laundry"), facilityDictionary.names(hostels.get(7L)));
+		assertEquals(List.of("Kitchen"), facilityDictionary.names(hostels.get(8L)));
+		assertEquals(facilityDictionary.encode(Set.of(wifi, laundry)), hostels.get(7L));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Rename keeps the ordinal and delete drops the facility")
+	void registerAndRemove_UpdateDictionary() {
+		BitSet before = facilityDictionary.encode(Set.of(kitchen));
+
+		facilityDictionary.register(facility(101L, "Shared Kitchen"));
+		facilityDictionary.remove(151L);
+		facilityDictionary.register(facility(201L, "Parking"));
+
+		assertEquals(before, facilityDictionary.encode(Set.of(kitchen)));
+		assertEquals(List.of("Shared Kitchen"), facilityDictionary.names(Set.of(kitchen)));
+		assertFalse(facilityDictionary.contains(151L));
+		assertEquals(3, facilityDictionary.encodeIds(List.of(201L)).nextSetBit(0));
+		assertEquals(3, facilityDictionary.size());
+	}
+
+	@Test
+	@DisplayName("FAILURE: References - Unknown facility id")
+	void references_UnknownId_ThrowsException() {
+		assertThrows(ResourceNotFoundException.class, () -> facilityDictionary.references(List.of(51L, 999L)));
+		verify(facilityRepository, never()).getReferenceById(999L);
+	}
+}
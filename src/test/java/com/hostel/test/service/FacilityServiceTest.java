@@ -33,6 +33,8 @@ import com.hostel.exception.BadRequestException;
 import com.hostel.exception.ResourceNotFoundException;
 import com.hostel.mapper.FacilityMapper;
 import com.hostel.repository.FacilityRepository;
+import com.hostel.service.FacilityDictionary;
+import com.hostel.service.HostelCatalogueCache;
 import com.hostel.service.FacilityService;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +47,12 @@ class FacilityServiceTest {
 	@Mock
 	private FacilityMapper facilityMapper;
 
+	@Mock
+	private HostelCatalogueCache hostelCatalogueCache;
+
+	@Mock
+	private FacilityDictionary facilityDictionary;
+
 	@InjectMocks
 	private FacilityService facilityService;
 
@@ -0,0 +1,200 @@
+package com.hostel.test.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.hostel.dto.response.CursorPage;
+import com.hostel.dto.response.HostelResponse;
+import com.hostel.entity.Facility;
+import com.hostel.entity.Hostel;
+import com.hostel.entity.User;
+import com.hostel.mapper.HostelMapper;
+import com.hostel.repository.FacilityRepository;
+import com.hostel.repository.HostelRepository;
+import com.hostel.service.FacilityDictionary;
+import com.hostel.service.HostelCatalogueCache;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Hostel Catalogue Cache Tests")
+class HostelCatalogueCacheTest {
+
+	@Mock
+	private HostelRepository hostelRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private FacilityRepository facilityRepository;
+
+	@InjectMocks
+	private FacilityDictionary facilityDictionary;
+
+	@Spy
+	private HostelMapper hostelMapper = new HostelMapper();
+
+	@InjectMocks
+	private HostelCatalogueCache hostelCatalogueCache;
+
+	private User owner;
+	private List<Hostel> approved;
+	private List<Object[]> facilityRows;
+
+	@BeforeEach
+	void setUp() {
+		hostelCatalogueCache.init();
+
+		owner = new User();
+		owner.setUserId(5L);
+		owner.setName("Raj Kumar");
+
+		Facility wifi = new Facility();
+		wifi.setFacilityId(1L);
+		wifi.setFacilityName("WiFi");
+		lenient().when(facilityRepository.findAll()).thenReturn(List.of(wifi));
+		ReflectionTestUtils.setField(hostelMapper, "facilityDictionary", facilityDictionary);
+		ReflectionTestUtils.setField(hostelCatalogueCache, "facilityDictionary", facilityDictionary);
+
+		approved = new ArrayList<>();
+		facilityRows = new ArrayList<>();
+		for (long id = 1; id <= 5; id++) {
+			approved.add(hostel(id, id % 2 == 0 ? "Goa" : "Chennai", true));
+			facilityRows.add(new Object[] { id, 1L });
+		}
+		lenient().when(hostelRepository.findApprovedFacilityIds()).thenReturn(facilityRows);
+	}
+
+	private Hostel hostel(Long id, String city, boolean isApproved) {
+		Hostel hostel = new Hostel("Hostel " + id, city, "Street " + id, owner);
+		hostel.setHostelId(id);
+		hostel.setApproved(isApproved);
+		// facilities come from the id rows; touching the collection would mean a lazy load
+		hostel.setFacilities(null);
+		return hostel;
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Catalogue is loaded once and pages are served from memory")
+	void getApprovedHostels_LoadsOnce() {
+		when(hostelRepository.findApprovedWithOwner()).thenReturn(approved);
+
+		CursorPage<HostelResponse> first = hostelCatalogueCache.getApprovedHostels(null, 2);
+		CursorPage<HostelResponse> second = hostelCatalogueCache.getApprovedHostels(first.getNextCursor(), 2);
+		CursorPage<HostelResponse> last = hostelCatalogueCache.getApprovedHostels(second.getNextCursor(), 2);
+
+		assertEquals(List.of(1L, 2L), first.getItems().stream().map(HostelResponse::getHostelId).toList());
+		assertEquals(List.of(3L, 4L), second.getItems().stream().map(HostelResponse::getHostelId).toList());
+		assertEquals(List.of(5L), last.getItems().stream().map(HostelResponse::getHostelId).toList());
+		assertFalse(last.isHasMore());
+		assertEquals(List.of("WiFi"), first.getItems().get(0).getFacilities());
+		assertThrows(UnsupportedOperationException.class, () -> first.getItems().get(0).getFacilities().add("Pool"));
+
+		verify(hostelRepository, times(1)).findApprovedWithOwner();
+		assertEquals(1, hostelCatalogueCache.getMisses());
+		assertEquals(2, hostelCatalogueCache.getHits());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: City lookup ignores case and only returns that city")
+	void getApprovedHostelsByCity_MatchesCity() {
+		when(hostelRepository.findApprovedWithOwner()).thenReturn(approved);
+
+		CursorPage<HostelResponse> goa = hostelCatalogueCache.getApprovedHostelsByCity(" goa", null, 10);
+		CursorPage<HostelResponse> none = hostelCatalogueCache.getApprovedHostelsByCity("Pune", null, 10);
+
+		assertEquals(List.of(2L, 4L), goa.getItems().stream().map(HostelResponse::getHostelId).toList());
+		assertTrue(none.getItems().isEmpty());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Refresh reloads only the changed hostels")
+	void refresh_ReplacesAndRemovesEntries() {
+		when(hostelRepository.findApprovedWithOwner()).thenReturn(approved);
+		hostelCatalogueCache.getApprovedHostels(null, 10);
+
+		Hostel moved = hostel(2L, "Pune", true);
+		Hostel rejected = hostel(3L, "Chennai", false);
+		Hostel added = hostel(9L, "Pune", true);
+		when(hostelRepository.findWithOwnerByIds(List.of(2L, 3L, 9L))).thenReturn(List.of(moved, rejected, added));
+		when(hostelRepository.findFacilityIds(List.of(2L, 3L, 9L))).thenReturn(List.<Object[]>of(new Object[] { 9L, 1L }));
+
+		hostelCatalogueCache.refresh(List.of(2L, 3L, 9L));
+
+		assertEquals(List.of(1L, 2L, 4L, 5L, 9L), hostelCatalogueCache.getApprovedHostels(null, 10).getItems().stream()
+				.map(HostelResponse::getHostelId).toList());
+		assertEquals(List.of(4L), hostelCatalogueCache.getApprovedHostelsByCity("Goa", null, 10).getItems().stream()
+				.map(HostelResponse::getHostelId).toList());
+		assertEquals(List.of(2L, 9L), hostelCatalogueCache.getApprovedHostelsByCity("Pune", null, 10).getItems()
+				.stream().map(HostelResponse::getHostelId).toList());
+		assertNull(hostelCatalogueCache.getApprovedHostel(3L));
+		assertEquals(List.of(), hostelCatalogueCache.getApprovedHostel(2L).getFacilities());
+		assertEquals(List.of("WiFi"), hostelCatalogueCache.getApprovedHostel(9L).getFacilities());
+		verify(hostelRepository, times(1)).findApprovedWithOwner();
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Owner change refreshes every hostel of that owner")
+	void refreshOwner_ReloadsOwnerHostels() {
+		when(hostelRepository.findApprovedWithOwner()).thenReturn(approved);
+		hostelCatalogueCache.getApprovedHostels(null, 10);
+
+		owner.setName("Raj K.");
+		when(hostelRepository.findWithOwnerByIds(List.of(1L, 2L, 3L, 4L, 5L))).thenReturn(approved);
+		when(hostelRepository.findFacilityIds(List.of(1L, 2L, 3L, 4L, 5L))).thenReturn(facilityRows);
+
+		hostelCatalogueCache.refreshOwner(5L);
+
+		assertEquals("Raj K.", hostelCatalogueCache.getApprovedHostel(4L).getOwnerName());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Callers get copies that cannot change the cache")
+	void getApprovedHostel_ReturnsCopy() {
+		when(hostelRepository.findApprovedWithOwner()).thenReturn(approved);
+
+		hostelCatalogueCache.getApprovedHostel(1L).setHostelName("Changed");
+		hostelCatalogueCache.getApprovedHostels(null, 10).getItems().get(1).setCity("Pune");
+
+		assertEquals("Hostel 1", hostelCatalogueCache.getApprovedHostel(1L).getHostelName());
+		assertEquals(List.of(2L, 4L), hostelCatalogueCache.getApprovedHostelsByCity("Goa", null, 10).getItems()
+				.stream().map(HostelResponse::getHostelId).toList());
+		assertEquals("Goa", hostelCatalogueCache.getApprovedHostel(2L).getCity());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Lookups served from memory are hits, database fallbacks are misses")
+	void getApprovedHostel_CountsDatabaseFallbacks() {
+		when(hostelRepository.findApprovedWithOwner()).thenReturn(approved);
+
+		hostelCatalogueCache.getApprovedHostel(1L);
+		hostelCatalogueCache.getApprovedHostel(2L);
+		hostelCatalogueCache.getApprovedHostels(null, 10);
+		assertEquals(1, hostelCatalogueCache.getMisses());
+		assertEquals(2, hostelCatalogueCache.getHits());
+
+		assertNull(hostelCatalogueCache.getApprovedHostel(42L));
+		assertEquals(2, hostelCatalogueCache.getMisses());
+		assertEquals(2, hostelCatalogueCache.getHits());
+	}
+}
@@ -0,0 +1,256 @@
+package com.hostel.test.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hostel.dto.response.ImportJobResponse;
+import com.hostel.entity.Facility;
+import com.hostel.entity.Hostel;
+import com.hostel.entity.Room;
+import com.hostel.entity.User;
+import com.hostel.enums.ImportFormat;
+import com.hostel.enums.ImportStatus;
+import com.hostel.enums.RoomType;
+import com.hostel.enums.UserRole;
+import com.hostel.enums.UserStatus;
+import com.hostel.repository.HostelRepository;
+import com.hostel.repository.RoomRepository;
+import com.hostel.repository.UserRepository;
+import com.hostel.service.FacilityDictionary;
+import com.hostel.service.HostelCatalogueCache;
+import com.hostel.service.HostelImportService;
+import com.hostel.service.RoomInventoryService;
+import com.hostel.service.RoomSearchService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Hostel Import Service Tests")
+class HostelImportServiceTest {
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private FacilityDictionary facilityDictionary;
+
+	@Mock
+	private HostelRepository hostelRepository;
+
+	@Mock
+	private RoomRepository roomRepository;
+
+	@Mock
+	private RoomInventoryService roomInventoryService;
+
+	@Mock
+	private RoomSearchService roomSearchService;
+
+	@Mock
+	private HostelCatalogueCache hostelCatalogueCache;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Spy
+	private ObjectMapper objectMapper = new ObjectMapper();
+
+	@InjectMocks
+	private HostelImportService hostelImportService;
+
+	private User owner;
+	private Facility wifi;
+
+	@BeforeEach
+	void setUp() {
+		Executor direct = Runnable::run;
+		ReflectionTestUtils.setField(hostelImportService, "importExecutor", direct);
+		hostelImportService.init();
+
+		owner = new User();
+		owner.setUserId(1L);
+		owner.setRole(UserRole.OWNER);
+		owner.setStatus(UserStatus.APPROVED);
+
+		wifi = new Facility();
+		wifi.setFacilityId(7L);
+		wifi.setFacilityName("WiFi");
+	}
+
+	private static MockMultipartFile file(String content) {
+		return new MockMultipartFile("file", "import.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: CSV import creates hostels with their rooms and reports rejected rows")
+	void importCsv_CreatesHostelsAndRooms() {
+		when(facilityDictionary.contains(7L)).thenReturn(true);
+		when(facilityDictionary.references(List.of(7L))).thenReturn(Set.of(wifi));
+		when(userRepository.findAllById(any())).thenReturn(List.of(owner));
+
+		String csv = String.join("\n",
+				"hostelRef,ownerId,hostelName,city,address,description,facilityIds,roomType,totalBeds,pricePerNight",
+				"h1,1,Sea View,Goa,\"Beach Road, 4\",Near the beach,7,DORM,8,499",
+				"h1,,,,,,,PRIVATE,2,1500",
+				"h2,99,Hill Top,Manali,Mall Road,,,,,",
+				"h3,,,,,,,SHARED,4,800",
+				"h1,,,,,,,SHARED,0,800");
+
+		ImportJobResponse job = hostelImportService.submit(file(csv), ImportFormat.CSV, 0);
+
+		assertEquals(ImportStatus.COMPLETED, job.getStatus());
+		assertEquals(5, job.getRowsRead());
+		assertEquals(1, job.getHostelsCreated());
+		assertEquals(2, job.getRoomsCreated());
+		assertEquals(3, job.getRowsRejected());
+		assertEquals(6, job.getCheckpointLine());
+		assertEquals(List.of(4L, 5L, 6L), job.getRejections().stream().map(r -> r.getLine()).sorted().toList());
+		assertTrue(job.getRejections().stream().anyMatch(r -> r.getReason().contains("Owner not found")));
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Hostel>> hostels = ArgumentCaptor.forClass(List.class);
+		verify(hostelRepository).saveAll(hostels.capture());
+		Hostel hostel = hostels.getValue().get(0);
+		assertEquals("Beach Road, 4", hostel.getAddress());
+		assertTrue(hostel.getApproved());
+		assertTrue(hostel.getFacilities().contains(wifi));
+		assertEquals(2, hostel.getRooms().size());
+		verify(roomSearchService).indexAll(hostels.getValue(), hostel.getRooms());
+		verify(roomInventoryService, times(2)).track(any(Room.class));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: CSV quoted fields may span lines and rejections keep physical line numbers")
+	void importCsv_MultilineQuotedField() {
+		when(userRepository.findAllById(any())).thenReturn(List.of(owner));
+
+		String csv = String.join("\n", "hostelRef,ownerId,hostelName,city,address,description",
+				"h1,1,Sea View,Goa,Beach Road,\"Near the beach.", "Ask for the \"\"sea\"\" room,", "no pets\"",
+				"h2,1,Hill Top,Manali,Mall Road", "h3,1,River Side,Rishikesh,Ghat Road,\"Quiet\"");
+
+		ImportJobResponse job = hostelImportService.submit(file(csv), ImportFormat.CSV, 0);
+
+		assertEquals(ImportStatus.COMPLETED, job.getStatus());
+		assertEquals(3, job.getRowsRead());
+		assertEquals(2, job.getHostelsCreated());
+		assertEquals(List.of(5L), job.getRejections().stream().map(r -> r.getLine()).toList());
+		assertEquals(6, job.getCheckpointLine());
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Hostel>> hostels = ArgumentCaptor.forClass(List.class);
+		verify(hostelRepository).saveAll(hostels.capture());
+		assertEquals("Near the beach.\nAsk for the \"sea\" room,\nno pets", hostels.getValue().get(0).getDescription());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: CSV resume skips a multi-line record before the checkpoint as a whole")
+	void importCsv_ResumeAfterMultilineRecord() {
+		when(userRepository.findAllById(any())).thenReturn(List.of(owner));
+
+		String csv = String.join("\n", "hostelRef,ownerId,hostelName,city,address,description",
+				"h1,1,Sea View,Goa,Beach Road,\"two", "lines\"", "h2,1,Hill Top,Manali,Mall Road,\"x,", "y\"");
+
+		ImportJobResponse job = hostelImportService.submit(file(csv), ImportFormat.CSV, 3);
+
+		assertEquals(ImportStatus.COMPLETED, job.getStatus());
+		assertEquals(1, job.getRowsRead());
+		assertEquals(1, job.getHostelsCreated());
+		assertEquals(0, job.getRowsRejected());
+		assertEquals(5, job.getCheckpointLine());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: NDJSON rooms are added to existing approved hostels only")
+	void importNdjson_RoomsForExistingHostels() {
+		Hostel approved = new Hostel("Sea View", "Goa", "Beach Road", owner);
+		approved.setHostelId(10L);
+		approved.setApproved(true);
+		Hostel pending = new Hostel("Hill Top", "Manali", "Mall Road", owner);
+		pending.setHostelId(11L);
+		pending.setApproved(false);
+		when(hostelRepository.findAllById(any())).thenReturn(List.of(approved, pending));
+
+		String ndjson = String.join("\n",
+				"{\"hostelId\":10,\"roomType\":\"private\",\"totalBeds\":2,\"pricePerNight\":1200}",
+				"{\"hostelId\":11,\"roomType\":\"SHARED\",\"totalBeds\":3,\"pricePerNight\":700}",
+				"not json");
+
+		ImportJobResponse job = hostelImportService.submit(file(ndjson), ImportFormat.NDJSON, 0);
+
+		assertEquals(ImportStatus.COMPLETED, job.getStatus());
+		assertEquals(1, job.getRoomsCreated());
+		assertEquals(2, job.getRowsRejected());
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Room>> rooms = ArgumentCaptor.forClass(List.class);
+		verify(roomRepository).saveAll(rooms.capture());
+		assertEquals(RoomType.PRIVATE, rooms.getValue().get(0).getRoomType());
+		assertEquals(approved, rooms.getValue().get(0).getHostel());
+		verify(roomSearchService).indexAll(List.of(), rooms.getValue());
+		verify(userRepository, never()).findAllById(any());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: File is written in chunks and resumes after the start line")
+	void importCsv_WritesOneTransactionPerChunk() {
+		ReflectionTestUtils.setField(hostelImportService, "chunkSize", 2);
+		when(userRepository.findAllById(any())).thenReturn(List.of(owner));
+
+		List<String> lines = new ArrayList<>();
+		lines.add("hostelRef,ownerId,hostelName,city,address");
+		for (int i = 1; i <= 6; i++) {
+			lines.add("h" + i + ",1,Hostel " + i + ",Pune,Street " + i);
+		}
+
+		ImportJobResponse job = hostelImportService.submit(file(String.join("\n", lines)), ImportFormat.CSV, 2);
+
+		assertEquals(ImportStatus.COMPLETED, job.getStatus());
+		assertEquals(5, job.getHostelsCreated());
+		assertEquals(7, job.getCheckpointLine());
+		verify(hostelRepository, times(3)).saveAll(anyList());
+		verify(userRepository, times(1)).findAllById(any());
+	}
+
+	@Test
+	@DisplayName("FAILURE: Failed chunk stops the job at the last committed checkpoint")
+	void importCsv_ChunkFailure_KeepsCheckpoint() {
+		ReflectionTestUtils.setField(hostelImportService, "chunkSize", 2);
+		when(userRepository.findAllById(any())).thenReturn(List.of(owner));
+		when(hostelRepository.saveAll(anyList())).thenReturn(List.of())
+				.thenThrow(new IllegalStateException("Deadlock found"));
+
+		String csv = String.join("\n", "hostelRef,ownerId,hostelName,city,address", "h1,1,A,Pune,S1", "h2,1,B,Pune,S2",
+				"h3,1,C,Pune,S3", "h4,1,D,Pune,S4");
+
+		ImportJobResponse job = hostelImportService.submit(file(csv), ImportFormat.CSV, 0);
+
+		assertEquals(ImportStatus.FAILED, job.getStatus());
+		assertEquals(3, job.getCheckpointLine());
+		assertEquals(2, job.getHostelsCreated());
+		assertEquals("Deadlock found", job.getError());
+	}
+}
@@ -17,6 +17,7 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,8 +26,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import com.hostel.dto.request.HostelRequest;
+import com.hostel.dto.response.CursorPage;
 import com.hostel.dto.response.HostelResponse;
 import com.hostel.entity.Facility;
 import com.hostel.entity.Hostel;
@@ -36,15 +39,19 @@ import com.hostel.enums.UserStatus;
 import com.hostel.exception.BadRequestException;
 import com.hostel.exception.ResourceNotFoundException;
 import com.hostel.mapper.HostelMapper;
-import com.hostel.repository.FacilityRepository;
 import com.hostel.repository.HostelRepository;
 import com.hostel.repository.UserRepository;
+import com.hostel.service.FacilityDictionary;
+import com.hostel.service.HostelCatalogueCache;
 import com.hostel.service.HostelService;
+import com.hostel.service.RoomSearchService;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Hostel Service Tests")
 class HostelServiceTest {
 
+	private static final Limit FIRST_PAGE = CursorPage.fetchLimit(CursorPage.DEFAULT_SIZE);
+
 	@Mock
 	private HostelRepository hostelRepository;
 
@@ -52,11 +59,17 @@ class HostelServiceTest {
 	private UserRepository userRepository;
 
 	@Mock
-	private FacilityRepository facilityRepository;
+	private FacilityDictionary facilityDictionary;
 
 	@Mock
 	private HostelMapper hostelMapper;
 
+	@Mock
+	private RoomSearchService roomSearchService;
+
+	@Mock
+	private HostelCatalogueCache hostelCatalogueCache;
+
 	@InjectMocks
 	private HostelService hostelService;
 
@@ -113,7 +126,7 @@ class HostelServiceTest {
 	void testAddHostel_Success() {
 
 		when(userRepository.findById(5L)).thenReturn(Optional.of(testOwner));
-		when(facilityRepository.findById(1L)).thenReturn(Optional.of(testFacility));
+		when(facilityDictionary.references(List.of(1L))).thenReturn(Set.of(testFacility));
 		when(hostelMapper.toEntity(any(HostelRequest.class))).thenReturn(testHostel);
 		when(hostelRepository.save(any(Hostel.class))).thenReturn(testHostel);
 		when(hostelMapper.toResponse(any(Hostel.class))).thenReturn(hostelResponse);
@@ -133,37 +146,34 @@ class HostelServiceTest {
 	@DisplayName("SUCCESS: Get Approved Hostels - Should return only approved hostels")
 	void testGetApprovedHostels_Success() {
 
-		testHostel.setApproved(true);
-		List<Hostel> hostels = Arrays.asList(testHostel);
-
-		when(hostelRepository.findByApproved(true)).thenReturn(hostels);
-		when(hostelMapper.toResponse(any(Hostel.class))).thenReturn(hostelResponse);
+		hostelResponse.setApproved(true);
+		when(hostelCatalogueCache.getApprovedHostels(null, CursorPage.DEFAULT_SIZE))
+				.thenReturn(new CursorPage<>(List.of(hostelResponse), null));
 
-		List<HostelResponse> result = hostelService.getApprovedHostels();
+		CursorPage<HostelResponse> result = hostelService.getApprovedHostels(null, null);
 
 		assertNotNull(result);
-		assertEquals(1, result.size());
+		assertEquals(1, result.getItems().size());
 
-		verify(hostelRepository, times(1)).findByApproved(true);
+		verify(hostelCatalogueCache, times(1)).getApprovedHostels(null, CursorPage.DEFAULT_SIZE);
+		verify(hostelRepository, never()).findPageByApproved(any(), any(), any());
 	}
 
 	@Test
 	@DisplayName("SUCCESS: Search Hostels By City - Should return hostels in city")
 	void testSearchHostelsByCity_Success() {
 
-		testHostel.setApproved(true);
-		List<Hostel> hostels = Arrays.asList(testHostel);
-
-		when(hostelRepository.findByCityAndApproved("Chennai", true)).thenReturn(hostels);
-		when(hostelMapper.toResponse(any(Hostel.class))).thenReturn(hostelResponse);
+		hostelResponse.setApproved(true);
+		when(hostelCatalogueCache.getApprovedHostelsByCity("Chennai", null, CursorPage.DEFAULT_SIZE))
+				.thenReturn(new CursorPage<>(List.of(hostelResponse), null));
 
-		List<HostelResponse> result = hostelService.searchHostelsByCity("Chennai");
+		CursorPage<HostelResponse> result = hostelService.searchHostelsByCity("Chennai", null, null);
 
 		assertNotNull(result);
-		assertEquals(1, result.size());
+		assertEquals(1, result.getItems().size());
 		assertEquals("Chennai", hostelResponse.getCity());
 
-		verify(hostelRepository, times(1)).findByCityAndApproved("Chennai", true);
+		verify(hostelCatalogueCache, times(1)).getApprovedHostelsByCity("Chennai", null, CursorPage.DEFAULT_SIZE);
 	}
 
 	@Test
@@ -180,6 +190,7 @@ class HostelServiceTest {
 		assertTrue(testHostel.getApproved());
 
 		verify(hostelRepository, times(1)).save(testHostel);
+		verify(hostelCatalogueCache, times(1)).refresh(1L);
 	}
 
 	@Test
@@ -196,19 +207,31 @@ class HostelServiceTest {
 		assertEquals("Sunshine Hostel", result.getHostelName());
 	}
 
+	@Test
+	@DisplayName("SUCCESS: Get Hostel By ID - Should serve approved hostels from the catalogue cache")
+	void testGetHostelById_CacheHit() {
+
+		when(hostelCatalogueCache.getApprovedHostel(1L)).thenReturn(hostelResponse);
+
+		HostelResponse result = hostelService.getHostelById(1L);
+
+		assertEquals(hostelResponse, result);
+		verify(hostelRepository, never()).findById(any());
+	}
+
 	@Test
 	@DisplayName("SUCCESS: Get Hostels By Owner - Should return owner's hostels")
 	void testGetHostelsByOwner_Success() {
 
 		List<Hostel> hostels = Arrays.asList(testHostel);
 
-		when(hostelRepository.findByOwner_UserId(5L)).thenReturn(hostels);
+		when(hostelRepository.findPageByOwner(5L, 0L, FIRST_PAGE)).thenReturn(hostels);
 		when(hostelMapper.toResponse(any(Hostel.class))).thenReturn(hostelResponse);
 
-		List<HostelResponse> result = hostelService.getHostelsByOwner(5L);
+		CursorPage<HostelResponse> result = hostelService.getHostelsByOwner(5L, null, null);
 
 		assertNotNull(result);
-		assertEquals(1, result.size());
+		assertEquals(1, result.getItems().size());
 	}
 
 	@Test
@@ -237,7 +260,7 @@ class HostelServiceTest {
 		List<Long> facilityIds = Arrays.asList(1L);
 
 		when(hostelRepository.findById(1L)).thenReturn(Optional.of(testHostel));
-		when(facilityRepository.findById(1L)).thenReturn(Optional.of(testFacility));
+		when(facilityDictionary.references(facilityIds)).thenReturn(Set.of(testFacility));
 		when(hostelRepository.save(any(Hostel.class))).thenReturn(testHostel);
 		when(hostelMapper.toResponse(any(Hostel.class))).thenReturn(hostelResponse);
 
@@ -254,13 +277,14 @@ class HostelServiceTest {
 		testHostel.getFacilities().add(testFacility);
 
 		when(hostelRepository.findById(1L)).thenReturn(Optional.of(testHostel));
-		when(facilityRepository.findById(1L)).thenReturn(Optional.of(testFacility));
+		when(facilityDictionary.contains(1L)).thenReturn(true);
 		when(hostelRepository.save(any(Hostel.class))).thenReturn(testHostel);
 		when(hostelMapper.toResponse(any(Hostel.class))).thenReturn(hostelResponse);
 
 		HostelResponse result = hostelService.removeFacility(1L, 1L);
 
 		assertNotNull(result);
+		assertTrue(testHostel.getFacilities().isEmpty());
 		verify(hostelRepository, times(1)).save(testHostel);
 	}
 
@@ -270,13 +294,13 @@ class HostelServiceTest {
 
 		List<Hostel> hostels = Arrays.asList(testHostel);
 
-		when(hostelRepository.findByApproved(false)).thenReturn(hostels);
+		when(hostelRepository.findPageByApproved(false, 0L, FIRST_PAGE)).thenReturn(hostels);
 		when(hostelMapper.toResponse(any(Hostel.class))).thenReturn(hostelResponse);
 
-		List<HostelResponse> result = hostelService.getPendingHostels();
+		CursorPage<HostelResponse> result = hostelService.getPendingHostels(null, null);
 
 		assertNotNull(result);
-		assertEquals(1, result.size());
+		assertEquals(1, result.getItems().size());
 	}
 
 	@Test
@@ -340,7 +364,8 @@ class HostelServiceTest {
 
 		when(userRepository.findById(5L)).thenReturn(Optional.of(testOwner));
 		when(hostelMapper.toEntity(any(HostelRequest.class))).thenReturn(testHostel);
-		when(facilityRepository.findById(999L)).thenReturn(Optional.empty());
+		when(facilityDictionary.references(List.of(999L)))
+				.thenThrow(new ResourceNotFoundException("Facility", "facilityId", 999L));
 
 		hostelRequest.setFacilityIds(Arrays.asList(999L));
 
@@ -415,7 +440,7 @@ class HostelServiceTest {
 	void testRemoveFacility_FacilityNotFound_ThrowsException() {
 
 		when(hostelRepository.findById(1L)).thenReturn(Optional.of(testHostel));
-		when(facilityRepository.findById(999L)).thenReturn(Optional.empty());
+		when(facilityDictionary.contains(999L)).thenReturn(false);
 
 		assertThrows(ResourceNotFoundException.class, () -> {
 			hostelService.removeFacility(1L, 999L);
@@ -0,0 +1,235 @@
+package com.hostel.test.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hostel.dto.request.BookingRequest;
+import com.hostel.dto.response.ApiResponse;
+import com.hostel.dto.response.BookingResponse;
+import com.hostel.entity.IdempotencyRecord;
+import com.hostel.exception.BadRequestException;
+import com.hostel.exception.ConflictException;
+import com.hostel.repository.IdempotencyRecordRepository;
+import com.hostel.service.IdempotencyService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Idempotency Service Tests")
+class IdempotencyServiceTest {
+
+	@Mock
+	private IdempotencyRecordRepository idempotencyRecordRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Spy
+	private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+	@InjectMocks
+	private IdempotencyService idempotencyService;
+
+	private BookingRequest request;
+	private AtomicInteger calls;
+
+	@BeforeEach
+	void setUp() {
+		idempotencyService.init();
+		request = new BookingRequest();
+		request.setUserId(1L);
+		request.setRoomId(10L);
+		request.setNumberOfBeds(2);
+		calls = new AtomicInteger();
+	}
+
+	private ResponseEntity<ApiResponse<BookingResponse>> createBooking() {
+		BookingResponse response = new BookingResponse();
+		response.setBookingId(100L + calls.incrementAndGet());
+		return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success("Booking created", response));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Execute - Replay should return stored response without running the action")
+	void testExecute_ReplaysStoredResponse() {
+		ResponseEntity<ApiResponse<BookingResponse>> first = idempotencyService.execute("key-1", "booking.create",
+				request, BookingResponse.class, this::createBooking);
+		ResponseEntity<ApiResponse<BookingResponse>> replay = idempotencyService.execute("key-1", "booking.create",
+				request, BookingResponse.class, this::createBooking);
+
+		assertEquals(1, calls.get());
+		assertEquals(HttpStatus.CREATED, replay.getStatusCode());
+		assertEquals(first.getBody().getData().getBookingId(), replay.getBody().getData().getBookingId());
+		assertEquals("true", replay.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+		verify(idempotencyRecordRepository).save(any(IdempotencyRecord.class));
+	}
+
+	@Test
+	@DisplayName("FAILURE: Execute - Failed lookup should not leave the key in progress")
+	void testExecute_LookupFails_KeyReleased() {
+		when(idempotencyRecordRepository.findById(any())).thenThrow(new IllegalStateException("down"))
+				.thenReturn(Optional.empty());
+
+		assertThrows(IllegalStateException.class, () -> idempotencyService.execute("key-9", "booking.create",
+				request, BookingResponse.class, this::createBooking));
+		idempotencyService.execute("key-9", "booking.create", request, BookingResponse.class, this::createBooking);
+
+		assertEquals(1, calls.get());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Execute - Without a key every request should run")
+	void testExecute_NoKey() {
+		idempotencyService.execute(null, "booking.create", request, BookingResponse.class, this::createBooking);
+		idempotencyService.execute(" ", "booking.create", request, BookingResponse.class, this::createBooking);
+
+		assertEquals(2, calls.get());
+		verify(idempotencyRecordRepository, never()).save(any(IdempotencyRecord.class));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Execute - Should replay a response stored by another instance")
+	void testExecute_ReplaysFromTable() throws Exception {
+		IdempotencyRecord stored = new IdempotencyRecord();
+		when(idempotencyRecordRepository.findById(any())).thenAnswer(inv -> {
+			if (stored.getKeyHash() == null) {
+				return Optional.empty();
+			}
+			return Optional.of(stored);
+		});
+		when(idempotencyRecordRepository.save(any(IdempotencyRecord.class))).thenAnswer(inv -> {
+			IdempotencyRecord record = inv.getArgument(0);
+			stored.setKeyHash(record.getKeyHash());
+			stored.setFingerprint(record.getFingerprint());
+			stored.setStatusCode(record.getStatusCode());
+			stored.setResponseBody(record.getResponseBody());
+			stored.setExpiresAt(record.getExpiresAt());
+			return record;
+		});
+		idempotencyService.execute("key-2", "booking.create", request, BookingResponse.class, this::createBooking);
+		idempotencyService.init();
+
+		ResponseEntity<ApiResponse<BookingResponse>> replay = idempotencyService.execute("key-2", "booking.create",
+				request, BookingResponse.class, this::createBooking);
+
+		assertEquals(1, calls.get());
+		assertEquals(101L, replay.getBody().getData().getBookingId());
+	}
+
+	@Test
+	@DisplayName("FAILURE: Execute - Same key with a different body")
+	void testExecute_DifferentRequest_ThrowsException() {
+		idempotencyService.execute("key-3", "booking.create", request, BookingResponse.class, this::createBooking);
+		request.setNumberOfBeds(4);
+
+		assertThrows(BadRequestException.class, () -> idempotencyService.execute("key-3", "booking.create", request,
+				BookingResponse.class, this::createBooking));
+		assertEquals(1, calls.get());
+	}
+
+	@Test
+	@DisplayName("FAILURE: Execute - Failed request should not be stored")
+	void testExecute_FailureNotStored() {
+		assertThrows(BadRequestException.class, () -> idempotencyService.execute("key-4", "booking.create", request,
+				BookingResponse.class, () -> {
+					throw new BadRequestException("Room is already booked for selected dates");
+				}));
+
+		idempotencyService.execute("key-4", "booking.create", request, BookingResponse.class, this::createBooking);
+		assertEquals(1, calls.get());
+	}
+
+	@Test
+	@DisplayName("FAILURE: Execute Async - Concurrent request with the same key")
+	void testExecuteAsync_InProgress_ThrowsException() {
+		CompletableFuture<ResponseEntity<ApiResponse<BookingResponse>>> pending = new CompletableFuture<>();
+		idempotencyService.executeAsync("key-5", "payment.create", request, BookingResponse.class, response -> true,
+				() -> pending);
+
+		assertThrows(ConflictException.class, () -> idempotencyService.executeAsync("key-5", "payment.create",
+				request, BookingResponse.class, response -> true, () -> CompletableFuture.completedFuture(createBooking())));
+
+		pending.complete(createBooking());
+		ResponseEntity<ApiResponse<BookingResponse>> replay = idempotencyService
+				.executeAsync("key-5", "payment.create", request, BookingResponse.class, response -> true, () -> {
+					throw new AssertionError("should replay");
+				}).join();
+		assertEquals(101L, replay.getBody().getData().getBookingId());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Execute - Key should be claimed in the same transaction as the action")
+	void testExecute_ClaimsKeyInActionTransaction() {
+		idempotencyService.execute("key-6", "booking.create", request, BookingResponse.class, this::createBooking);
+
+		InOrder order = inOrder(transactionManager, idempotencyRecordRepository);
+		order.verify(transactionManager).getTransaction(any());
+		order.verify(idempotencyRecordRepository).saveAndFlush(any(IdempotencyRecord.class));
+		order.verify(idempotencyRecordRepository).save(any(IdempotencyRecord.class));
+		order.verify(transactionManager).commit(any());
+	}
+
+	@Test
+	@DisplayName("FAILURE: Execute - Key claimed by another instance")
+	void testExecute_KeyClaimedElsewhere_ThrowsException() {
+		when(idempotencyRecordRepository.saveAndFlush(any(IdempotencyRecord.class)))
+				.thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+		assertThrows(ConflictException.class, () -> idempotencyService.execute("key-7", "booking.create", request,
+				BookingResponse.class, this::createBooking));
+		assertEquals(0, calls.get());
+	}
+
+	@Test
+	@DisplayName("FAILURE: Execute - Key whose response is not stored yet")
+	void testExecute_PendingRecord_ThrowsException() {
+		ArgumentCaptor<IdempotencyRecord> placeholder = ArgumentCaptor.forClass(IdempotencyRecord.class);
+		CompletableFuture<ResponseEntity<ApiResponse<BookingResponse>>> pending = new CompletableFuture<>();
+		idempotencyService.executeAsync("key-8", "booking.create", request, BookingResponse.class, response -> true,
+				() -> pending);
+		verify(idempotencyRecordRepository).saveAndFlush(placeholder.capture());
+		when(idempotencyRecordRepository.findById(any())).thenReturn(Optional.of(placeholder.getValue()));
+		pending.completeExceptionally(new IllegalStateException("node stopped"));
+
+		assertThrows(ConflictException.class, () -> idempotencyService.execute("key-8", "booking.create", request,
+				BookingResponse.class, this::createBooking));
+		assertEquals(0, calls.get());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Execute Async - Response rejected as not replayable should release the key")
+	void testExecuteAsync_NotReplayable_ReleasesKey() {
+		idempotencyService.executeAsync("key-9", "payment.create", request, BookingResponse.class, response -> false,
+				() -> CompletableFuture.completedFuture(createBooking())).join();
+		idempotencyService.executeAsync("key-9", "payment.create", request, BookingResponse.class, response -> false,
+				() -> CompletableFuture.completedFuture(createBooking())).join();
+
+		assertEquals(2, calls.get());
+		verify(idempotencyRecordRepository, never()).save(any(IdempotencyRecord.class));
+		verify(idempotencyRecordRepository, times(2)).delete(any(IdempotencyRecord.class));
+	}
+}
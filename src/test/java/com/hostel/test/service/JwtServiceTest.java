@@ -0,0 +1,78 @@
+package com.hostel.test.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hostel.config.JwtService;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+
+@DisplayName("JWT Service Tests")
+class JwtServiceTest {
+
+	private static final String SECRET = "YourSuperSecretKeyForJWTTokenGenerationMustBeLongEnoughAtLeast256Bits";
+
+	private JwtService jwtService;
+
+	@BeforeEach
+	void setUp() {
+		jwtService = newService(86400000L);
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Parse Token - Should return subject and role")
+	void testParseToken_Success() {
+		String token = jwtService.generateToken("john@example.com", "USER");
+
+		Claims claims = jwtService.parseToken(token);
+
+		assertEquals("john@example.com", claims.getSubject());
+		assertEquals("USER", claims.get("role", String.class));
+		assertTrue(jwtService.validateToken(token, "john@example.com"));
+		assertFalse(jwtService.validateToken(token, "other@example.com"));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Parse Token - Repeated calls should reuse verified claims")
+	void testParseToken_Cached() {
+		String token = jwtService.generateToken("john@example.com", "USER");
+
+		assertSame(jwtService.parseToken(token), jwtService.parseToken(token));
+	}
+
+	@Test
+	@DisplayName("FAILURE: Parse Token - Tampered signature")
+	void testParseToken_Tampered_ThrowsException() {
+		String token = jwtService.generateToken("john@example.com", "USER");
+		String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+		assertThrows(SignatureException.class, () -> jwtService.parseToken(tampered));
+	}
+
+	@Test
+	@DisplayName("FAILURE: Parse Token - Expired token")
+	void testParseToken_Expired_ThrowsException() {
+		JwtService shortLived = newService(-1000L);
+		String token = shortLived.generateToken("john@example.com", "USER");
+
+		assertThrows(ExpiredJwtException.class, () -> shortLived.parseToken(token));
+	}
+
+	private JwtService newService(Long expiration) {
+		JwtService service = new JwtService();
+		ReflectionTestUtils.setField(service, "secret", SECRET);
+		ReflectionTestUtils.setField(service, "expiration", expiration);
+		service.init();
+		return service;
+	}
+}
@@ -0,0 +1,121 @@
+package com.hostel.test.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hostel.enums.UserRole;
+import com.hostel.exception.TooManyRequestsException;
+import com.hostel.service.PasswordHashingService;
+
+@DisplayName("Password Hashing Service Tests")
+class PasswordHashingServiceTest {
+
+	private ThreadPoolTaskExecutor executor;
+
+	private PasswordHashingService passwordHashingService;
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@BeforeEach
+	void setUp() {
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(1);
+		executor.setPrestartAllCoreThreads(true);
+		executor.initialize();
+
+		passwordHashingService = new PasswordHashingService();
+		ReflectionTestUtils.setField(passwordHashingService, "passwordHashingExecutor", executor);
+		ReflectionTestUtils.setField(passwordHashingService, "timeoutMs", 200L);
+		ReflectionTestUtils.setField(passwordHashingService, "userStrength", 4);
+		ReflectionTestUtils.setField(passwordHashingService, "ownerStrength", 5);
+		ReflectionTestUtils.setField(passwordHashingService, "adminStrength", 6);
+		passwordHashingService.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		executor.shutdown();
+	}
+
+	private void occupyWorker() throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		executor.execute(() -> {
+			started.countDown();
+			await();
+		});
+		started.await();
+	}
+
+	private void await() {
+		try {
+			release.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Each role hashes with its own work factor and weaker hashes need an upgrade")
+	void encode_UsesRoleWorkFactor() {
+		String userHash = passwordHashingService.encode(UserRole.USER, "secret");
+		String adminHash = passwordHashingService.encode(UserRole.ADMIN, "secret");
+
+		assertTrue(userHash.startsWith("$2a$04$"));
+		assertTrue(adminHash.startsWith("$2a$06$"));
+		assertTrue(passwordHashingService.matches("secret", adminHash));
+		assertFalse(passwordHashingService.matches("wrong", userHash));
+		assertTrue(passwordHashingService.needsUpgrade(UserRole.ADMIN, userHash));
+		assertFalse(passwordHashingService.needsUpgrade(UserRole.USER, adminHash));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Work that started before the timeout is finished rather than rejected")
+	void encode_StartedWork_Completes() {
+		ReflectionTestUtils.setField(passwordHashingService, "timeoutMs", 20L);
+		ReflectionTestUtils.setField(passwordHashingService, "adminStrength", 10);
+		passwordHashingService.init();
+
+		String hash = passwordHashingService.encode(UserRole.ADMIN, "secret");
+
+		assertTrue(hash.startsWith("$2a$10$"));
+		assertEquals(0, passwordHashingService.getRejected());
+	}
+
+	@Test
+	@DisplayName("FAILURE: Encode - Full queue is rejected without waiting")
+	void encode_QueueFull_ThrowsException() throws InterruptedException {
+		occupyWorker();
+		executor.execute(this::await);
+
+		TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+				() -> passwordHashingService.encode(UserRole.USER, "secret"));
+
+		assertEquals(1, exception.getRetryAfterSeconds());
+		assertEquals(1, passwordHashingService.getRejected());
+	}
+
+	@Test
+	@DisplayName("FAILURE: Matches - Work still queued at the timeout is rejected")
+	void matches_Timeout_ThrowsException() throws InterruptedException {
+		occupyWorker();
+
+		assertThrows(TooManyRequestsException.class, () -> passwordHashingService.matches("secret", "$2a$04$x"));
+
+		assertEquals(1, passwordHashingService.getRejected());
+		assertEquals(1, passwordHashingService.queued());
+	}
+}
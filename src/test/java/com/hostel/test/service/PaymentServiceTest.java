@@ -0,0 +1,328 @@
+package com.hostel.test.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.hostel.dto.request.PaymentRequest;
+import com.hostel.dto.response.PaymentResponse;
+import com.hostel.entity.Booking;
+import com.hostel.entity.Payment;
+import com.hostel.enums.BookingStatus;
+import com.hostel.enums.PaymentMethod;
+import com.hostel.enums.PaymentStatus;
+import com.hostel.exception.BadRequestException;
+import com.hostel.exception.ConflictException;
+import com.hostel.mapper.PaymentMapper;
+import com.hostel.repository.BookingRepository;
+import com.hostel.repository.PaymentRepository;
+import com.hostel.service.BookingStatisticsService;
+import com.hostel.service.PaymentGateway;
+import com.hostel.service.PaymentService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Payment Service Tests")
+class PaymentServiceTest {
+
+	@Mock
+	private PaymentRepository paymentRepository;
+
+	@Mock
+	private BookingRepository bookingRepository;
+
+	@Mock
+	private PaymentMapper paymentMapper;
+
+	@Mock
+	private BookingStatisticsService bookingStatisticsService;
+
+	@Mock
+	private PaymentGateway paymentGateway;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@InjectMocks
+	private PaymentService paymentService;
+
+	private Booking booking;
+	private PaymentRequest request;
+
+	@BeforeEach
+	void setUp() {
+		Executor direct = Runnable::run;
+		ReflectionTestUtils.setField(paymentService, "paymentExecutor", direct);
+		paymentService.init();
+
+		booking = new Booking();
+		booking.setBookingId(101L);
+		booking.setTotalPrice(1500.0);
+		booking.setBookingStatus(BookingStatus.PENDING_PAYMENT);
+		booking.setHoldExpiresAt(LocalDateTime.now().plusMinutes(10));
+
+		request = new PaymentRequest();
+		request.setBookingId(101L);
+		request.setPaymentMethod(PaymentMethod.UPI);
+
+		lenient().when(bookingRepository.findById(101L)).thenReturn(Optional.of(booking));
+	}
+
+	private void stubPersistence() {
+		when(paymentRepository.save(any(Payment.class))).thenAnswer(inv -> {
+			Payment payment = inv.getArgument(0);
+			payment.setPaymentId(55L);
+			return payment;
+		});
+		when(paymentRepository.findById(55L)).thenAnswer(inv -> Optional.of(booking.getPayment()));
+		when(paymentMapper.toResponse(any(Payment.class))).thenReturn(new PaymentResponse());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Process Payment - Approved charge should confirm booking")
+	void testProcessPayment_Approved() {
+		stubPersistence();
+		when(paymentGateway.charge(any(), eq(request), eq(1500.0))).thenReturn(PaymentGateway.Result.approved("TXN-1"));
+
+		paymentService.processPayment(request).join();
+
+		Payment payment = booking.getPayment();
+		assertEquals(PaymentStatus.COMPLETED, payment.getPaymentStatus());
+		assertEquals("TXN-1", payment.getTransactionId());
+		assertEquals(BookingStatus.CONFIRMED, booking.getBookingStatus());
+		assertNull(booking.getHoldExpiresAt());
+		verify(bookingStatisticsService).recordTransition(booking, BookingStatus.PENDING_PAYMENT);
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Process Payment - Declined charge should leave booking pending")
+	void testProcessPayment_Declined() {
+		stubPersistence();
+		when(paymentGateway.charge(any(), eq(request), eq(1500.0))).thenReturn(PaymentGateway.Result.declined("Card declined"));
+
+		paymentService.processPayment(request).join();
+
+		assertEquals(PaymentStatus.FAILED, booking.getPayment().getPaymentStatus());
+		assertEquals("Card declined", booking.getPayment().getFailureReason());
+		assertEquals(BookingStatus.PENDING_PAYMENT, booking.getBookingStatus());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Process Payment - Gateway error should leave the outcome unknown")
+	void testProcessPayment_GatewayError() {
+		stubPersistence();
+		when(paymentGateway.charge(any(), eq(request), eq(1500.0))).thenThrow(new IllegalStateException("timeout"));
+
+		paymentService.processPayment(request).join();
+
+		assertEquals(PaymentStatus.UNKNOWN, booking.getPayment().getPaymentStatus());
+		assertNotNull(booking.getPayment().getGatewayReference());
+		assertEquals(BookingStatus.PENDING_PAYMENT, booking.getBookingStatus());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Process Payment - Gateway slower than the timeout should not fail the payment")
+	void testProcessPayment_GatewayTimeout_RetryRefused() throws InterruptedException {
+		ExecutorService executor = Executors.newCachedThreadPool();
+		ReflectionTestUtils.setField(paymentService, "paymentExecutor", executor);
+		ReflectionTestUtils.setField(paymentService, "gatewayTimeoutMs", 50L);
+		CountDownLatch gatewayAnswers = new CountDownLatch(1);
+		stubPersistence();
+		when(paymentGateway.charge(any(), eq(request), eq(1500.0))).thenAnswer(inv -> {
+			gatewayAnswers.await();
+			return PaymentGateway.Result.approved("TXN-LATE");
+		});
+
+		try {
+			paymentService.processPayment(request).join();
+
+			assertEquals(PaymentStatus.UNKNOWN, booking.getPayment().getPaymentStatus());
+			assertEquals(BookingStatus.PENDING_PAYMENT, booking.getBookingStatus());
+			assertThrows(ConflictException.class, () -> paymentService.processPayment(request));
+			verify(paymentGateway, times(1)).charge(any(), any(), any());
+		} finally {
+			gatewayAnswers.countDown();
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Reconcile - Charge approved after a timeout should confirm booking")
+	void testReconcileUnknown_Approved() {
+		Payment unknown = new Payment();
+		unknown.setPaymentId(55L);
+		unknown.setBooking(booking);
+		unknown.setPaymentStatus(PaymentStatus.UNKNOWN);
+		unknown.setGatewayReference("PAY-1");
+		booking.setPayment(unknown);
+		when(paymentRepository.findByPaymentStatus(PaymentStatus.UNKNOWN)).thenReturn(List.of(unknown));
+		when(paymentGateway.status("PAY-1")).thenReturn(PaymentGateway.Result.approved("TXN-4"));
+		stubPersistence();
+
+		paymentService.reconcileUnknown();
+
+		assertEquals(PaymentStatus.COMPLETED, unknown.getPaymentStatus());
+		assertEquals("TXN-4", unknown.getTransactionId());
+		assertEquals(BookingStatus.CONFIRMED, booking.getBookingStatus());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Reconcile - Charge still unknown at the gateway should stay unknown")
+	void testReconcileUnknown_StillUnknown() {
+		Payment unknown = new Payment();
+		unknown.setPaymentId(55L);
+		unknown.setBooking(booking);
+		unknown.setPaymentStatus(PaymentStatus.UNKNOWN);
+		unknown.setGatewayReference("PAY-1");
+		when(paymentRepository.findByPaymentStatus(PaymentStatus.UNKNOWN)).thenReturn(List.of(unknown));
+		when(paymentGateway.status("PAY-1")).thenReturn(PaymentGateway.Result.unknown("Still processing"));
+
+		paymentService.reconcileUnknown();
+
+		assertEquals(PaymentStatus.UNKNOWN, unknown.getPaymentStatus());
+		verify(paymentRepository, never()).save(any(Payment.class));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Process Payment - Retry should reuse a failed payment")
+	void testProcessPayment_RetryAfterFailure() {
+		Payment failed = new Payment();
+		failed.setPaymentId(55L);
+		failed.setBooking(booking);
+		failed.setPaymentStatus(PaymentStatus.FAILED);
+		booking.setPayment(failed);
+		stubPersistence();
+		when(paymentGateway.charge(any(), eq(request), eq(1500.0))).thenReturn(PaymentGateway.Result.approved("TXN-2"));
+
+		paymentService.processPayment(request).join();
+
+		assertEquals(PaymentStatus.COMPLETED, failed.getPaymentStatus());
+		assertNull(failed.getFailureReason());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Process Payment - Booking cancelled during charge should be refunded")
+	void testProcessPayment_BookingCancelledDuringCharge() {
+		stubPersistence();
+		when(paymentGateway.charge(any(), eq(request), eq(1500.0))).thenAnswer(inv -> {
+			booking.setBookingStatus(BookingStatus.CANCELLED);
+			return PaymentGateway.Result.approved("TXN-3");
+		});
+		when(paymentGateway.refund("TXN-3")).thenReturn(PaymentGateway.Result.approved("RFD-3"));
+
+		paymentService.processPayment(request).join();
+
+		assertEquals(PaymentStatus.REFUNDED, booking.getPayment().getPaymentStatus());
+		assertEquals(BookingStatus.CANCELLED, booking.getBookingStatus());
+		verify(paymentGateway).refund("TXN-3");
+		verify(bookingStatisticsService, never()).recordTransition(any(), any());
+	}
+
+	@Test
+	@DisplayName("FAILURE: Process Payment - Unconfirmed refund should stay pending for manual action")
+	void testProcessPayment_RefundNotConfirmed() {
+		stubPersistence();
+		when(paymentGateway.charge(any(), eq(request), eq(1500.0))).thenAnswer(inv -> {
+			booking.setBookingStatus(BookingStatus.CANCELLED);
+			return PaymentGateway.Result.approved("TXN-5");
+		});
+		when(paymentGateway.refund("TXN-5")).thenReturn(PaymentGateway.Result.unknown("Gateway timeout"));
+
+		paymentService.processPayment(request).join();
+
+		assertEquals(PaymentStatus.REFUND_PENDING, booking.getPayment().getPaymentStatus());
+		assertEquals("TXN-5", booking.getPayment().getTransactionId());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Retry Refunds - Refund confirmed on a later run should be recorded")
+	void testRetryRefunds_Confirmed() {
+		Payment owed = new Payment();
+		owed.setPaymentId(56L);
+		owed.setBooking(booking);
+		owed.setTransactionId("TXN-6");
+		owed.setPaymentStatus(PaymentStatus.REFUND_PENDING);
+		when(paymentRepository.findByPaymentStatus(PaymentStatus.REFUND_PENDING)).thenReturn(List.of(owed));
+		when(paymentRepository.findById(56L)).thenReturn(Optional.of(owed));
+		when(paymentRepository.save(owed)).thenReturn(owed);
+		when(paymentGateway.refund("TXN-6")).thenReturn(PaymentGateway.Result.approved("RFD-6"));
+
+		paymentService.retryRefunds();
+
+		assertEquals(PaymentStatus.REFUNDED, owed.getPaymentStatus());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Process Payment - Hold expired while confirming should be refunded")
+	void testProcessPayment_ReaperWinsRace() {
+		stubPersistence();
+		when(paymentGateway.charge(any(), eq(request), eq(1500.0))).thenReturn(PaymentGateway.Result.approved("TXN-4"));
+		AtomicInteger commits = new AtomicInteger();
+		doAnswer(inv -> {
+			if (commits.incrementAndGet() == 2) {
+				// the reaper committed the cancellation first; this transaction rolls back
+				booking.setBookingStatus(BookingStatus.CANCELLED);
+				booking.getPayment().setPaymentStatus(PaymentStatus.PENDING);
+				throw new ObjectOptimisticLockingFailureException(Booking.class, 101L);
+			}
+			return null;
+		}).when(transactionManager).commit(any());
+		when(paymentGateway.refund("TXN-4")).thenReturn(PaymentGateway.Result.approved("RFD-4"));
+
+		paymentService.processPayment(request).join();
+
+		assertEquals(PaymentStatus.REFUNDED, booking.getPayment().getPaymentStatus());
+		assertEquals(BookingStatus.CANCELLED, booking.getBookingStatus());
+	}
+
+	@Test
+	@DisplayName("FAILURE: Process Payment - Expired hold")
+	void testProcessPayment_HoldExpired_ThrowsException() {
+		booking.setHoldExpiresAt(LocalDateTime.now().minusMinutes(1));
+
+		assertThrows(BadRequestException.class, () -> paymentService.processPayment(request));
+
+		verify(paymentGateway, never()).charge(any(), any(), any());
+		verify(paymentRepository, never()).save(any(Payment.class));
+	}
+
+	@Test
+	@DisplayName("FAILURE: Process Payment - Already paid")
+	void testProcessPayment_AlreadyPaid_ThrowsException() {
+		Payment completed = new Payment();
+		completed.setPaymentStatus(PaymentStatus.COMPLETED);
+		booking.setPayment(completed);
+
+		assertThrows(BadRequestException.class, () -> paymentService.processPayment(request));
+
+		verify(paymentGateway, never()).charge(any(), any(), any());
+	}
+}
@@ -0,0 +1,117 @@
+package com.hostel.test.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hostel.dto.response.QueryStatisticsResponse;
+import com.hostel.dto.response.SlowQuery;
+import com.hostel.service.QueryStatisticsService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Query Statistics Service Tests")
+class QueryStatisticsServiceTest {
+
+	@Mock
+	private EntityManagerFactory entityManagerFactory;
+
+	@Mock
+	private SessionFactory sessionFactory;
+
+	@Mock
+	private Statistics statistics;
+
+	@InjectMocks
+	private QueryStatisticsService queryStatisticsService;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(queryStatisticsService, "topN", 2);
+		when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+		when(sessionFactory.getStatistics()).thenReturn(statistics);
+	}
+
+	private static long millis(long ms) {
+		return TimeUnit.MILLISECONDS.toNanos(ms);
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Only the slowest statements above the threshold are kept")
+	void record_KeepsTopN() {
+		queryStatisticsService.record("select 1", millis(50), 1);
+		queryStatisticsService.record("select 2", millis(300), 2);
+		queryStatisticsService.record("select 3", millis(900), 3);
+		queryStatisticsService.record("select 4", millis(250), 4);
+		queryStatisticsService.record("select 5", millis(500), 5);
+
+		List<SlowQuery> slowest = queryStatisticsService.getStatistics().getSlowQueries();
+
+		assertEquals(List.of("select 3", "select 5"), slowest.stream().map(SlowQuery::getSql).toList());
+		assertEquals(900, slowest.get(0).getElapsedMs());
+		assertNull(slowest.get(0).getRequest());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Previous window is still reported after one rotation and dropped after two")
+	void rotate_RollsWindow() {
+		queryStatisticsService.record("select old", millis(400), 1);
+		queryStatisticsService.rotate();
+		queryStatisticsService.record("select new", millis(300), 1);
+
+		assertEquals(List.of("select old", "select new"), queryStatisticsService.getStatistics().getSlowQueries()
+				.stream().map(SlowQuery::getSql).toList());
+
+		queryStatisticsService.rotate();
+
+		assertEquals(List.of("select new"), queryStatisticsService.getStatistics().getSlowQueries().stream()
+				.map(SlowQuery::getSql).toList());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Repeated selects in one request are flagged, repeated inserts are not")
+	void end_FlagsRepeatedSelects() {
+		queryStatisticsService.begin("GET /api/v1/bookings");
+		for (int i = 0; i < 10; i++) {
+			queryStatisticsService.record("select * from rooms where room_id=?", millis(1), 1);
+			queryStatisticsService.record("insert into rooms values (?)", millis(1), 1);
+		}
+		queryStatisticsService.end();
+		queryStatisticsService.record("select * from rooms where room_id=?", millis(1), 1);
+
+		QueryStatisticsResponse response = queryStatisticsService.getStatistics();
+
+		assertEquals(1, response.getSuspectedNPlusOne().size());
+		assertEquals("select * from rooms where room_id=?", response.getSuspectedNPlusOne().get(0).getSql());
+		assertEquals(10, response.getSuspectedNPlusOne().get(0).getExecutions());
+		assertTrue(response.getSlowQueries().isEmpty());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Reset clears the tables and the Hibernate statistics")
+	void reset_ClearsEverything() {
+		queryStatisticsService.record("select 1", millis(400), 1);
+
+		queryStatisticsService.reset();
+
+		assertTrue(queryStatisticsService.getStatistics().getSlowQueries().isEmpty());
+		verify(statistics).clear();
+	}
+}
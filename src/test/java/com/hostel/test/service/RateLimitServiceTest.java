@@ -0,0 +1,89 @@
+package com.hostel.test.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hostel.service.RateLimitService;
+
+@DisplayName("Rate Limit Service Tests")
+class RateLimitServiceTest {
+
+	private RateLimitService rateLimitService;
+
+	@BeforeEach
+	void setUp() {
+		rateLimitService = new RateLimitService();
+		ReflectionTestUtils.setField(rateLimitService, "capacity", 10);
+		ReflectionTestUtils.setField(rateLimitService, "refillPerSecond", 10.0);
+		ReflectionTestUtils.setField(rateLimitService, "costs",
+				"GET /api/v1/rooms/available=5, GET /api/v1/rooms/hostel/*/available=3,POST /api/v1/imports/hostels=50");
+		rateLimitService.init();
+	}
+
+	private static long millis(long ms) {
+		return TimeUnit.MILLISECONDS.toNanos(ms);
+	}
+
+	@Test
+	@DisplayName("SUCCESS: A full bucket allows a burst and then reports the wait for one token")
+	void tryConsume_BurstThenLimited() {
+		for (int i = 0; i < 10; i++) {
+			assertEquals(0, rateLimitService.tryConsume("ip:10.0.0.1", 1, 0));
+		}
+
+		assertEquals(millis(100), rateLimitService.tryConsume("ip:10.0.0.1", 1, 0));
+		assertEquals(0, rateLimitService.tryConsume("ip:10.0.0.2", 1, 0));
+		assertEquals(1, rateLimitService.getLimited());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Tokens refill over time and are never banked beyond the capacity")
+	void tryConsume_RefillsUpToCapacity() {
+		for (int i = 0; i < 10; i++) {
+			rateLimitService.tryConsume("user:guest@example.com", 1, 0);
+		}
+
+		assertEquals(0, rateLimitService.tryConsume("user:guest@example.com", 3, millis(300)));
+		assertTrue(rateLimitService.tryConsume("user:guest@example.com", 1, millis(300)) > 0);
+
+		long later = TimeUnit.SECONDS.toNanos(60);
+		assertEquals(0, rateLimitService.tryConsume("user:guest@example.com", 10, later));
+		assertEquals(millis(100), rateLimitService.tryConsume("user:guest@example.com", 1, later));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Weighted routes cost more and costs above the capacity are capped")
+	void cost_MatchesRoutes() {
+		assertEquals(5, rateLimitService.cost("GET", "/api/v1/rooms/available"));
+		assertEquals(3, rateLimitService.cost("GET", "/api/v1/rooms/hostel/7/available"));
+		assertEquals(10, rateLimitService.cost("POST", "/api/v1/imports/hostels"));
+		assertEquals(1, rateLimitService.cost("POST", "/api/v1/rooms/available"));
+		assertEquals(1, rateLimitService.cost("GET", "/api/v1/hostels"));
+
+		assertEquals(0, rateLimitService.tryConsume("ip:10.0.0.1", 5, 0));
+		assertEquals(0, rateLimitService.tryConsume("ip:10.0.0.1", 5, 0));
+		assertEquals(millis(500), rateLimitService.tryConsume("ip:10.0.0.1", 5, 0));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Only buckets that have refilled completely are evicted")
+	void evictIdle_RemovesFullBuckets() {
+		rateLimitService.tryConsume("ip:10.0.0.1", 1, 0);
+		rateLimitService.tryConsume("ip:10.0.0.2", 10, 0);
+
+		rateLimitService.evictIdle(millis(500));
+
+		assertEquals(1, rateLimitService.size());
+
+		rateLimitService.evictIdle(millis(1000));
+
+		assertEquals(0, rateLimitService.size());
+	}
+}
@@ -0,0 +1,314 @@
+package com.hostel.test.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.hostel.entity.Booking;
+import com.hostel.entity.Room;
+import com.hostel.entity.RoomNightOccupancy;
+import com.hostel.enums.BookingStatus;
+import com.hostel.enums.RoomType;
+import com.hostel.exception.BadRequestException;
+import com.hostel.repository.BookingRepository;
+import com.hostel.repository.RoomNightOccupancyRepository;
+import com.hostel.repository.RoomRepository;
+import com.hostel.service.RoomInventoryService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Room Inventory Service Tests")
+class RoomInventoryServiceTest {
+
+	@Mock
+	private RoomRepository roomRepository;
+
+	@Mock
+	private BookingRepository bookingRepository;
+
+	@Mock
+	private RoomNightOccupancyRepository occupancyRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@InjectMocks
+	private RoomInventoryService roomInventoryService;
+
+	private Room testRoom;
+	private LocalDate checkIn;
+	private LocalDate checkOut;
+
+	@BeforeEach
+	void setUp() {
+		testRoom = new Room();
+		testRoom.setRoomId(10L);
+		testRoom.setRoomType(RoomType.DORM);
+		testRoom.setTotalBeds(6);
+		testRoom.setAvailableBeds(6);
+		testRoom.setPricePerNight(300.0);
+
+		checkIn = LocalDate.now().plusDays(5);
+		checkOut = LocalDate.now().plusDays(10);
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Reserve - Should book beds only on the nights of the stay")
+	void testReserve_Success() {
+		assertTrue(roomInventoryService.reserve(testRoom, checkIn, checkOut, 2));
+
+		assertEquals(4, roomInventoryService.getAvailableBeds(testRoom, checkIn, checkOut));
+		assertEquals(6, roomInventoryService.getAvailableBeds(testRoom, LocalDate.now(), checkIn));
+		assertEquals(6, roomInventoryService.getAvailableBeds(testRoom, checkOut, checkOut.plusDays(3)));
+		assertEquals(6, testRoom.getAvailableBeds());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Reserve - Back-to-back stays should not conflict")
+	void testReserve_BackToBackStays() {
+		assertTrue(roomInventoryService.reserve(testRoom, checkIn, checkOut, 6));
+
+		assertTrue(roomInventoryService.reserve(testRoom, checkOut, checkOut.plusDays(2), 6));
+		assertTrue(roomInventoryService.reserve(testRoom, checkIn.minusDays(3), checkIn, 6));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Release - Should restore reserved beds")
+	void testRelease_Success() {
+		roomInventoryService.reserve(testRoom, checkIn, checkOut, 4);
+		roomInventoryService.release(testRoom, checkIn, checkOut, 4);
+
+		assertEquals(6, roomInventoryService.getAvailableBeds(testRoom, checkIn, checkOut));
+	}
+
+	@Test
+	@DisplayName("FAILURE: Reserve - Partially full range should leave no beds booked")
+	void testReserve_PartialOverlap_RollsBack() {
+		roomInventoryService.reserve(testRoom, checkOut.minusDays(1), checkOut, 5);
+
+		assertFalse(roomInventoryService.reserve(testRoom, checkIn, checkOut, 2));
+
+		assertEquals(6, roomInventoryService.getAvailableBeds(testRoom, checkIn, checkOut.minusDays(1)));
+		assertEquals(1, roomInventoryService.getAvailableBeds(testRoom, checkIn, checkOut));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Concurrent Reserve - Should never oversell any night")
+	void testReserve_ConcurrentNeverOversells() throws Exception {
+		testRoom.setAvailableBeds(50);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Boolean>> results = new ArrayList<>();
+
+		for (int i = 0; i < 200; i++) {
+			LocalDate from = checkIn.plusDays(i % 3);
+			results.add(executor.submit(() -> {
+				start.await();
+				return roomInventoryService.reserve(testRoom, from, from.plusDays(3), 1);
+			}));
+		}
+		start.countDown();
+
+		for (Future<Boolean> result : results) {
+			result.get();
+		}
+		executor.shutdown();
+		executor.awaitTermination(5, TimeUnit.SECONDS);
+
+		for (int night = 0; night < 6; night++) {
+			LocalDate day = checkIn.plusDays(night);
+			int free = roomInventoryService.getAvailableBeds(testRoom, day, day.plusDays(1));
+			assertTrue(free >= 0 && free <= 50);
+		}
+		assertEquals(0, roomInventoryService.getAvailableBeds(testRoom, checkIn.plusDays(2), checkIn.plusDays(3)));
+	}
+
+	@Test
+	@DisplayName("FAILURE: Reserve - Beyond booking horizon")
+	void testReserve_BeyondHorizon_ThrowsException() {
+		LocalDate farAway = LocalDate.now().plusDays(400);
+
+		assertThrows(BadRequestException.class,
+				() -> roomInventoryService.reserve(testRoom, farAway, farAway.plusDays(1), 1));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Get Available Beds - Stay past the horizon should have no free beds")
+	void testGetAvailableBeds_BeyondHorizon() {
+		LocalDate farAway = LocalDate.now().plusDays(400);
+		roomInventoryService.reserve(testRoom, farAway.minusDays(365), farAway.minusDays(364), 6);
+
+		assertEquals(0, roomInventoryService.getAvailableBeds(testRoom, farAway, farAway.plusDays(1)));
+		assertEquals(0, roomInventoryService.getAvailableBeds(10L, farAway, farAway.plusDays(1)));
+		assertThrows(BadRequestException.class, () -> roomInventoryService.checkHorizon(farAway.plusDays(1)));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Reserve - Past nights of a stay should not be booked")
+	void testReserve_PastNightsSkipped() {
+		LocalDate today = LocalDate.now();
+		// today - 1 shares its ring slot with today + 364
+		assertTrue(roomInventoryService.reserve(testRoom, today.minusDays(1), today.plusDays(1), 2));
+
+		assertEquals(4, roomInventoryService.getAvailableBeds(testRoom, today, today.plusDays(1)));
+		assertEquals(6, roomInventoryService.getAvailableBeds(testRoom, today.plusDays(364), today.plusDays(365)));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Release - Stay past the horizon should not touch nearer nights")
+	void testRelease_BeyondHorizon_KeepsNearerNights() {
+		LocalDate farAway = LocalDate.now().plusDays(400);
+		// shares its ring slot with farAway
+		LocalDate near = farAway.minusDays(365);
+		roomInventoryService.reserve(testRoom, near, near.plusDays(1), 6);
+
+		roomInventoryService.release(testRoom, farAway, farAway.plusDays(1), 2);
+
+		assertEquals(0, roomInventoryService.getAvailableBeds(testRoom, near, near.plusDays(1)));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Warm Up - Empty occupancy table should not change the beds offered per night")
+	void testWarmUp_EmptyOccupancyKeepsCapacity() {
+		testRoom.setAvailableBeds(4);
+		Booking booking = new Booking();
+		booking.setRoom(testRoom);
+		booking.setCheckInDate(checkIn);
+		booking.setCheckOutDate(checkOut);
+		booking.setNumberOfBeds(2);
+		booking.setBookingStatus(BookingStatus.CONFIRMED);
+		when(bookingRepository.findActiveFrom(anyList(), any())).thenReturn(List.of(booking));
+		when(roomRepository.findAll()).thenReturn(List.of(testRoom));
+		when(occupancyRepository.findActiveFrom(any())).thenReturn(List.of());
+		roomInventoryService.init();
+
+		roomInventoryService.afterSingletonsInstantiated();
+
+		assertEquals(2, roomInventoryService.getAvailableBeds(testRoom, checkIn, checkOut));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Track - Should change capacity and keep existing reservations")
+	void testTrack_UpdatesCapacity() {
+		roomInventoryService.reserve(testRoom, checkIn, checkOut, 2);
+		testRoom.setAvailableBeds(4);
+
+		roomInventoryService.track(testRoom);
+
+		assertEquals(2, roomInventoryService.getAvailableBeds(testRoom, checkIn, checkOut));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Warm Up - Bookings missing from stored nights should still be counted and rewritten")
+	@SuppressWarnings("unchecked")
+	void testWarmUp_RebuildsFromBookings() {
+		Booking booking = new Booking();
+		booking.setRoom(testRoom);
+		booking.setCheckInDate(checkIn);
+		booking.setCheckOutDate(checkOut);
+		booking.setNumberOfBeds(2);
+		booking.setBookingStatus(BookingStatus.CONFIRMED);
+		when(bookingRepository.findActiveFrom(anyList(), any())).thenReturn(List.of(booking));
+		when(roomRepository.findAll()).thenReturn(List.of(testRoom));
+		// only the first night reached the table before the crash
+		when(occupancyRepository.findActiveFrom(any()))
+				.thenReturn(List.of(new RoomNightOccupancy(testRoom, checkIn, 2)));
+		when(roomRepository.getReferenceById(10L)).thenReturn(testRoom);
+		roomInventoryService.init();
+
+		roomInventoryService.afterSingletonsInstantiated();
+		roomInventoryService.flush();
+
+		assertEquals(4, roomInventoryService.getAvailableBeds(testRoom, checkIn, checkOut));
+		ArgumentCaptor<List<RoomNightOccupancy>> written = ArgumentCaptor.forClass(List.class);
+		verify(occupancyRepository).saveAll(written.capture());
+		assertEquals(4, written.getValue().size());
+		assertTrue(written.getValue().stream().allMatch(night -> night.getBookedBeds() == 2));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Flush - Nights marked while a flush is running should still be written")
+	void testFlush_ConcurrentReservesAllWritten() throws Exception {
+		testRoom.setAvailableBeds(10);
+		Map<LocalDate, Integer> written = new ConcurrentHashMap<>();
+		when(roomRepository.getReferenceById(10L)).thenReturn(testRoom);
+		when(occupancyRepository.findByRoom_RoomIdAndNightIn(eq(10L), any())).thenReturn(List.of());
+		when(occupancyRepository.saveAll(anyList())).thenAnswer(inv -> {
+			List<RoomNightOccupancy> nights = inv.getArgument(0);
+			nights.forEach(night -> written.put(night.getNight(), night.getBookedBeds()));
+			return nights;
+		});
+		roomInventoryService.init();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> reservations = new ArrayList<>();
+
+		for (int i = 0; i < 3000; i++) {
+			LocalDate night = LocalDate.now().plusDays(i % 300 + 1);
+			reservations.add(executor.submit(() -> {
+				start.await();
+				return roomInventoryService.reserve(testRoom, night, night.plusDays(1), 1);
+			}));
+		}
+		Future<?> flusher = executor.submit(() -> {
+			start.await();
+			while (reservations.stream().anyMatch(reservation -> !reservation.isDone())) {
+				roomInventoryService.flush();
+			}
+			return null;
+		});
+		start.countDown();
+
+		flusher.get(30, TimeUnit.SECONDS);
+		executor.shutdown();
+		roomInventoryService.flush();
+
+		assertEquals(300, written.size());
+		assertTrue(written.values().stream().allMatch(booked -> booked == 10));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Evict - Rolled back room delete should keep the booked nights")
+	void testEvict_RolledBack_KeepsCalendar() {
+		roomInventoryService.reserve(testRoom, checkIn, checkOut, 4);
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			roomInventoryService.evict(10L);
+
+			TransactionSynchronizationManager.getSynchronizations()
+					.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertEquals(2, roomInventoryService.getAvailableBeds(10L, checkIn, checkOut));
+	}
+}
@@ -0,0 +1,279 @@
+package com.hostel.test.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.hostel.dto.request.RoomSearchRequest;
+import com.hostel.dto.response.RoomResponse;
+import com.hostel.entity.Facility;
+import com.hostel.entity.Hostel;
+import com.hostel.entity.Room;
+import com.hostel.enums.RoomType;
+import com.hostel.exception.BadRequestException;
+import com.hostel.repository.FacilityRepository;
+import com.hostel.repository.HostelRepository;
+import com.hostel.repository.RoomRepository;
+import com.hostel.service.FacilityDictionary;
+import com.hostel.service.RoomInventoryService;
+import com.hostel.service.RoomSearchService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Room Search Service Tests")
+class RoomSearchServiceTest {
+
+	@Mock
+	private HostelRepository hostelRepository;
+
+	@Mock
+	private RoomRepository roomRepository;
+
+	@Mock
+	private RoomInventoryService roomInventoryService;
+
+	@Mock
+	private FacilityRepository facilityRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@InjectMocks
+	private FacilityDictionary facilityDictionary;
+
+	@InjectMocks
+	private RoomSearchService roomSearchService;
+
+	private Hostel goaHostel;
+	private Hostel puneHostel;
+
+	@BeforeEach
+	void setUp() {
+		Facility wifi = new Facility();
+		wifi.setFacilityId(1L);
+		wifi.setFacilityName("WiFi");
+		Facility kitchen = new Facility();
+		kitchen.setFacilityId(200L);
+		kitchen.setFacilityName("Kitchen");
+		when(facilityRepository.findAll()).thenReturn(List.of(wifi, kitchen));
+		ReflectionTestUtils.setField(roomSearchService, "facilityDictionary", facilityDictionary);
+
+		goaHostel = hostel(1L, "Beach House", "Goa", Set.of(wifi, kitchen));
+		goaHostel.getRooms().add(room(11L, goaHostel, RoomType.DORM, 300.0));
+		goaHostel.getRooms().add(room(12L, goaHostel, RoomType.PRIVATE, 1200.0));
+		goaHostel.getRooms().add(room(13L, goaHostel, RoomType.DORM, 500.0));
+
+		puneHostel = hostel(2L, "City Stay", "Pune", Set.of(wifi));
+		puneHostel.getRooms().add(room(21L, puneHostel, RoomType.DORM, 400.0));
+
+		roomSearchService.indexHostel(goaHostel);
+		roomSearchService.indexHostel(puneHostel);
+
+		lenient().when(roomInventoryService.getAvailableBeds(anyLong(), any(LocalDate.class), any(LocalDate.class)))
+				.thenReturn(4);
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Search - Should return city rooms ordered by price")
+	void testSearch_ByCity_OrderedByPrice() {
+		RoomSearchRequest request = new RoomSearchRequest();
+		request.setCity(" goa ");
+
+		List<RoomResponse> results = roomSearchService.search(request);
+
+		assertEquals(List.of(11L, 13L, 12L), ids(results));
+		assertEquals("Beach House", results.get(0).getHostelName());
+		assertEquals(4, results.get(0).getAvailableBeds());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Search - Should apply price range, room type and facilities")
+	void testSearch_CombinedFilters() {
+		RoomSearchRequest request = new RoomSearchRequest();
+		request.setMinPrice(350.0);
+		request.setMaxPrice(1000.0);
+		request.setRoomType(RoomType.DORM);
+		request.setFacilityIds(List.of(200L));
+
+		assertEquals(List.of(13L), ids(roomSearchService.search(request)));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Search - Should skip rooms without enough free beds")
+	void testSearch_FiltersByFreeBeds() {
+		LocalDate checkIn = LocalDate.now().plusDays(3);
+		LocalDate checkOut = checkIn.plusDays(2);
+		when(roomInventoryService.getAvailableBeds(11L, checkIn, checkOut)).thenReturn(1);
+
+		RoomSearchRequest request = new RoomSearchRequest();
+		request.setCity("Goa");
+		request.setCheckIn(checkIn);
+		request.setCheckOut(checkOut);
+		request.setBeds(2);
+
+		assertEquals(List.of(13L, 12L), ids(roomSearchService.search(request)));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Search - Should merge cities and honour the limit")
+	void testSearch_AllCities_Limit() {
+		RoomSearchRequest request = new RoomSearchRequest();
+		request.setLimit(2);
+
+		assertEquals(List.of(11L, 21L), ids(roomSearchService.search(request)));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Index - Rejected hostels and deleted rooms should disappear")
+	void testIndex_IncrementalUpdates() {
+		puneHostel.setApproved(false);
+		roomSearchService.indexHostel(puneHostel);
+		roomSearchService.removeRoom(13L);
+		Room moved = goaHostel.getRooms().get(0);
+		moved.setPricePerNight(2000.0);
+		roomSearchService.indexRoom(moved);
+
+		assertEquals(List.of(12L, 11L), ids(roomSearchService.search(new RoomSearchRequest())));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Index - Single rooms and moved hostels should keep each city ordered by price")
+	void testIndex_MergesIntoCityOrder() {
+		roomSearchService.indexRoom(room(14L, goaHostel, RoomType.DORM, 450.0));
+		puneHostel.setCity("Goa");
+		roomSearchService.indexHostel(puneHostel);
+
+		RoomSearchRequest goa = new RoomSearchRequest();
+		goa.setCity("Goa");
+		RoomSearchRequest pune = new RoomSearchRequest();
+		pune.setCity("Pune");
+
+		assertEquals(List.of(11L, 21L, 14L, 13L, 12L), ids(roomSearchService.search(goa)));
+		assertTrue(roomSearchService.search(pune).isEmpty());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Index - Bulk batch should add hostels and rooms to the cities they belong to")
+	void testIndexAll_AddsBatch() {
+		Hostel newHostel = hostel(3L, "Palm Stay", "Goa", Set.of());
+		List<Room> batch = List.of(room(31L, newHostel, RoomType.DORM, 350.0),
+				room(22L, puneHostel, RoomType.PRIVATE, 900.0), room(32L, newHostel, RoomType.PRIVATE, 2500.0));
+
+		roomSearchService.indexAll(List.of(newHostel), batch);
+
+		RoomSearchRequest goa = new RoomSearchRequest();
+		goa.setCity("Goa");
+		RoomSearchRequest pune = new RoomSearchRequest();
+		pune.setCity("Pune");
+		assertEquals(List.of(11L, 31L, 13L, 12L, 32L), ids(roomSearchService.search(goa)));
+		assertEquals(List.of(21L, 22L), ids(roomSearchService.search(pune)));
+	}
+
+	@Test
+	@DisplayName("FAILURE: Index - Hostel without a city")
+	void testIndex_NullCity_ThrowsException() {
+		Hostel noCity = hostel(3L, "Nowhere Inn", null, Set.of());
+
+		assertThrows(BadRequestException.class, () -> roomSearchService.indexHostel(noCity));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Search - Unknown city should return no rooms")
+	void testSearch_UnknownCity() {
+		RoomSearchRequest request = new RoomSearchRequest();
+		request.setCity("Delhi");
+
+		assertTrue(roomSearchService.search(request).isEmpty());
+	}
+
+	@Test
+	@DisplayName("FAILURE: Search - Check-out not after check-in")
+	void testSearch_InvalidDates_ThrowsException() {
+		RoomSearchRequest request = new RoomSearchRequest();
+		request.setCheckIn(LocalDate.now().plusDays(2));
+		request.setCheckOut(LocalDate.now().plusDays(2));
+
+		assertThrows(BadRequestException.class, () -> roomSearchService.search(request));
+	}
+
+	@Test
+	@DisplayName("FAILURE: Search - Check-in in the past")
+	void testSearch_PastCheckIn_ThrowsException() {
+		RoomSearchRequest request = new RoomSearchRequest();
+		request.setCheckIn(LocalDate.now().minusDays(1));
+		request.setCheckOut(LocalDate.now().plusDays(1));
+
+		assertThrows(BadRequestException.class, () -> roomSearchService.search(request));
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Search - Empty beds and limit parameters should fall back to the defaults")
+	void testSearch_NullBedsAndLimit() {
+		RoomSearchRequest request = new RoomSearchRequest();
+		request.setCity("Goa");
+		request.setBeds(null);
+		request.setLimit(null);
+
+		assertEquals(List.of(11L, 13L, 12L), ids(roomSearchService.search(request)));
+	}
+
+	@Test
+	@DisplayName("FAILURE: Search - Stay ending past the booking horizon")
+	void testSearch_BeyondHorizon_ThrowsException() {
+		RoomSearchRequest request = new RoomSearchRequest();
+		request.setCheckIn(LocalDate.now().plusDays(400));
+		request.setCheckOut(LocalDate.now().plusDays(401));
+		doThrow(new BadRequestException("Bookings can only be made up to 365 days in advance"))
+				.when(roomInventoryService).checkHorizon(request.getCheckOut());
+
+		assertThrows(BadRequestException.class, () -> roomSearchService.search(request));
+		verify(roomInventoryService, never()).getAvailableBeds(anyLong(), any(LocalDate.class), any(LocalDate.class));
+	}
+
+	private Hostel hostel(Long id, String name, String city, Set<Facility> facilities) {
+		Hostel hostel = new Hostel();
+		hostel.setHostelId(id);
+		hostel.setHostelName(name);
+		hostel.setCity(city);
+		hostel.setApproved(true);
+		hostel.setFacilities(facilities);
+		hostel.setRooms(new ArrayList<>());
+		return hostel;
+	}
+
+	private Room room(Long id, Hostel hostel, RoomType type, double price) {
+		Room room = new Room();
+		room.setRoomId(id);
+		room.setHostel(hostel);
+		room.setRoomType(type);
+		room.setTotalBeds(6);
+		room.setAvailableBeds(6);
+		room.setPricePerNight(price);
+		return room;
+	}
+
+	private List<Long> ids(List<RoomResponse> results) {
+		return results.stream().map(RoomResponse::getRoomId).toList();
+	}
+}
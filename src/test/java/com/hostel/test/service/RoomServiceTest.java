@@ -6,12 +6,14 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -23,8 +25,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import com.hostel.dto.request.RoomRequest;
+import com.hostel.dto.response.CursorPage;
 import com.hostel.dto.response.RoomResponse;
 import com.hostel.entity.Hostel;
 import com.hostel.entity.Room;
@@ -36,12 +40,16 @@ import com.hostel.exception.ResourceNotFoundException;
 import com.hostel.mapper.RoomMapper;
 import com.hostel.repository.HostelRepository;
 import com.hostel.repository.RoomRepository;
+import com.hostel.service.RoomInventoryService;
+import com.hostel.service.RoomSearchService;
 import com.hostel.service.RoomService;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Room Service Tests")
 class RoomServiceTest {
 
+	private static final Limit FIRST_PAGE = CursorPage.fetchLimit(CursorPage.DEFAULT_SIZE);
+
 	@Mock
 	private RoomRepository roomRepository;
 
@@ -51,6 +59,12 @@ class RoomServiceTest {
 	@Mock
 	private RoomMapper roomMapper;
 
+	@Mock
+	private RoomInventoryService roomInventoryService;
+
+	@Mock
+	private RoomSearchService roomSearchService;
+
 	@InjectMocks
 	private RoomService roomService;
 
@@ -128,16 +142,18 @@ class RoomServiceTest {
 
 		List<Room> rooms = Arrays.asList(testRoom);
 
-		when(roomRepository.findAvailableRoomsByHostel(1L)).thenReturn(rooms);
+		when(roomRepository.findAvailablePageByHostel(1L, 0L, FIRST_PAGE)).thenReturn(rooms);
+		when(roomInventoryService.getAvailableBeds(eq(testRoom), any(LocalDate.class), any(LocalDate.class)))
+				.thenReturn(6);
 		when(roomMapper.toResponse(any(Room.class))).thenReturn(roomResponse);
 
-		List<RoomResponse> result = roomService.getAvailableRoomsByHostel(1L);
+		CursorPage<RoomResponse> result = roomService.getAvailableRoomsByHostel(1L, null, null, null, null);
 
 		assertNotNull(result);
-		assertEquals(1, result.size());
-		assertEquals(6, result.get(0).getAvailableBeds());
+		assertEquals(1, result.getItems().size());
+		assertEquals(6, result.getItems().get(0).getAvailableBeds());
 
-		verify(roomRepository, times(1)).findAvailableRoomsByHostel(1L);
+		verify(roomRepository, times(1)).findAvailablePageByHostel(1L, 0L, FIRST_PAGE);
 	}
 
 	@Test
@@ -154,6 +170,7 @@ class RoomServiceTest {
 		assertEquals(4, testRoom.getAvailableBeds());
 
 		verify(roomRepository, times(1)).save(testRoom);
+		verify(roomInventoryService, times(1)).track(testRoom);
 	}
 
 	@Test
@@ -161,8 +178,9 @@ class RoomServiceTest {
 	void testCheckAvailability_Success() {
 
 		when(roomRepository.findById(10L)).thenReturn(Optional.of(testRoom));
+		when(roomInventoryService.getAvailableBeds(testRoom, LocalDate.now(), LocalDate.now().plusDays(1))).thenReturn(6);
 
-		boolean result = roomService.checkAvailability(10L, 3);
+		boolean result = roomService.checkAvailability(10L, 3, null, null);
 
 		assertTrue(result);
 
@@ -175,15 +193,15 @@ class RoomServiceTest {
 
 		List<Room> rooms = Arrays.asList(testRoom);
 
-		when(roomRepository.findAll()).thenReturn(rooms);
+		when(roomRepository.findPage(0L, FIRST_PAGE)).thenReturn(rooms);
 		when(roomMapper.toResponse(any(Room.class))).thenReturn(roomResponse);
 
-		List<RoomResponse> result = roomService.getAllRooms();
+		CursorPage<RoomResponse> result = roomService.getAllRooms(null, null);
 
 		assertNotNull(result);
-		assertEquals(1, result.size());
+		assertEquals(1, result.getItems().size());
 
-		verify(roomRepository, times(1)).findAll();
+		verify(roomRepository, times(1)).findPage(0L, FIRST_PAGE);
 	}
 
 	@Test
@@ -206,13 +224,13 @@ class RoomServiceTest {
 
 		List<Room> rooms = Arrays.asList(testRoom);
 
-		when(roomRepository.findByHostel_HostelId(1L)).thenReturn(rooms);
+		when(roomRepository.findPageByHostel(1L, 0L, FIRST_PAGE)).thenReturn(rooms);
 		when(roomMapper.toResponse(any(Room.class))).thenReturn(roomResponse);
 
-		List<RoomResponse> result = roomService.getRoomsByHostel(1L);
+		CursorPage<RoomResponse> result = roomService.getRoomsByHostel(1L, null, null);
 
 		assertNotNull(result);
-		assertEquals(1, result.size());
+		assertEquals(1, result.getItems().size());
 	}
 
 	@Test
@@ -222,13 +240,37 @@ class RoomServiceTest {
 		testRoom.setAvailableBeds(3);
 		List<Room> rooms = Arrays.asList(testRoom);
 
-		when(roomRepository.findAll()).thenReturn(rooms);
+		when(roomRepository.findAvailablePage(0L, FIRST_PAGE)).thenReturn(rooms);
+		when(roomInventoryService.getAvailableBeds(eq(testRoom), any(LocalDate.class), any(LocalDate.class)))
+				.thenReturn(3);
 		when(roomMapper.toResponse(any(Room.class))).thenReturn(roomResponse);
 
-		List<RoomResponse> result = roomService.getAvailableRooms();
+		CursorPage<RoomResponse> result = roomService.getAvailableRooms(null, null, null, null);
 
 		assertNotNull(result);
-		assertEquals(1, result.size());
+		assertEquals(1, result.getItems().size());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Get Available Rooms - Rooms booked out for the stay should be left out")
+	void testGetAvailableRooms_SkipsFullyBooked() {
+
+		Room bookedOut = new Room();
+		bookedOut.setRoomId(11L);
+		bookedOut.setAvailableBeds(4);
+		LocalDate checkIn = LocalDate.now().plusDays(3);
+		LocalDate checkOut = checkIn.plusDays(2);
+
+		when(roomRepository.findAvailablePage(0L, FIRST_PAGE)).thenReturn(Arrays.asList(testRoom, bookedOut));
+		when(roomInventoryService.getAvailableBeds(testRoom, checkIn, checkOut)).thenReturn(2);
+		when(roomInventoryService.getAvailableBeds(bookedOut, checkIn, checkOut)).thenReturn(0);
+		when(roomMapper.toResponse(testRoom)).thenReturn(roomResponse);
+
+		CursorPage<RoomResponse> result = roomService.getAvailableRooms(null, null, checkIn, checkOut);
+
+		assertEquals(1, result.getItems().size());
+		assertEquals(2, result.getItems().get(0).getAvailableBeds());
+		assertFalse(result.isHasMore());
 	}
 
 	@Test
@@ -339,7 +381,7 @@ class RoomServiceTest {
 		when(roomRepository.findById(999L)).thenReturn(Optional.empty());
 
 		assertThrows(ResourceNotFoundException.class, () -> {
-			roomService.checkAvailability(999L, 2);
+			roomService.checkAvailability(999L, 2, null, null);
 		});
 	}
 
@@ -347,10 +389,10 @@ class RoomServiceTest {
 	@DisplayName("FAILURE: Check Availability - Not enough beds")
 	void testCheckAvailability_NotEnoughBeds_ReturnsFalse() {
 
-		testRoom.setAvailableBeds(2);
 		when(roomRepository.findById(10L)).thenReturn(Optional.of(testRoom));
+		when(roomInventoryService.getAvailableBeds(testRoom, LocalDate.now(), LocalDate.now().plusDays(1))).thenReturn(2);
 
-		boolean result = roomService.checkAvailability(10L, 5);
+		boolean result = roomService.checkAvailability(10L, 5, null, null);
 
 		assertFalse(result);
 	}
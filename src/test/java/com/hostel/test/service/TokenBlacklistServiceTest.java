@@ -0,0 +1,92 @@
+package com.hostel.test.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.hostel.entity.Logout;
+import com.hostel.repository.LogoutRepository;
+import com.hostel.service.TokenBlacklistService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Token Blacklist Service Tests")
+class TokenBlacklistServiceTest {
+
+	private static final long MINUTE = 60000L;
+
+	@Mock
+	private LogoutRepository logoutRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@InjectMocks
+	private TokenBlacklistService tokenBlacklistService;
+
+	@Test
+	@DisplayName("SUCCESS: Revoke - Revoked token should be blacklisted without a database lookup")
+	void testRevoke_Blacklisted() {
+		tokenBlacklistService.revoke("token-a", System.currentTimeMillis() + 10 * MINUTE);
+
+		assertTrue(tokenBlacklistService.isBlacklisted("token-a"));
+		assertFalse(tokenBlacklistService.isBlacklisted("token-b"));
+		verifyNoInteractions(logoutRepository);
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Expire - Entries should leave the blacklist once their token expires")
+	void testExpireUntil_RemovesExpiredEntries() {
+		long now = System.currentTimeMillis();
+		tokenBlacklistService.revoke("short", now + 5 * MINUTE);
+		tokenBlacklistService.revoke("day", now + 24 * 60 * MINUTE);
+		tokenBlacklistService.revoke("week", now + 7 * 24 * 60 * MINUTE);
+
+		assertEquals(0, tokenBlacklistService.expireUntil(now + 2 * MINUTE));
+		assertEquals(1, tokenBlacklistService.expireUntil(now + 7 * MINUTE));
+		assertEquals(2, tokenBlacklistService.size());
+
+		assertEquals(1, tokenBlacklistService.expireUntil(now + 25 * 60 * MINUTE));
+		assertTrue(tokenBlacklistService.isBlacklisted("week"));
+
+		assertEquals(1, tokenBlacklistService.expireUntil(now + 8 * 24 * 60 * MINUTE));
+		assertEquals(0, tokenBlacklistService.size());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Revoke - Already expired token should not be kept")
+	void testRevoke_AlreadyExpired() {
+		tokenBlacklistService.revoke("old", System.currentTimeMillis() - MINUTE);
+
+		assertFalse(tokenBlacklistService.isBlacklisted("old"));
+		assertEquals(0, tokenBlacklistService.size());
+	}
+
+	@Test
+	@DisplayName("SUCCESS: Startup - Unexpired logout rows should be reloaded into the blacklist")
+	void testAfterSingletonsInstantiated_ReloadsActiveTokens() {
+		when(logoutRepository.deleteExpiredTokens(any(LocalDateTime.class))).thenReturn(2);
+		when(logoutRepository.findByExpiresAtAfter(any(LocalDateTime.class))).thenReturn(
+				List.of(new Logout("persisted", "user@test.com", LocalDateTime.now().plusHours(1))));
+
+		tokenBlacklistService.afterSingletonsInstantiated();
+
+		assertTrue(tokenBlacklistService.isBlacklisted("persisted"));
+		assertFalse(tokenBlacklistService.isBlacklisted("other"));
+		assertEquals(1, tokenBlacklistService.size());
+	}
+}
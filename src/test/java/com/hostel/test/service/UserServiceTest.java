@@ -3,6 +3,7 @@ package com.hostel.test.service;
 import com.hostel.config.JwtService;
 import com.hostel.dto.request.LoginRequest;
 import com.hostel.dto.request.UserRequest;
+import com.hostel.dto.response.CursorPage;
 import com.hostel.dto.response.LoginResponse;
 import com.hostel.dto.response.UserResponse;
 import com.hostel.entity.User;
@@ -10,9 +11,12 @@ import com.hostel.enums.UserRole;
 import com.hostel.enums.UserStatus;
 import com.hostel.exception.BadRequestException;
 import com.hostel.exception.ResourceNotFoundException;
+import com.hostel.exception.TooManyRequestsException;
 import com.hostel.exception.UnauthorizedException;
 import com.hostel.mapper.UserMapper;
 import com.hostel.repository.UserRepository;
+import com.hostel.service.HostelCatalogueCache;
+import com.hostel.service.PasswordHashingService;
 import com.hostel.service.UserService;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -22,7 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.Limit;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -37,6 +41,8 @@ import static org.mockito.Mockito.*;
 @DisplayName("User Service Tests")
 class UserServiceTest {
 
+	private static final Limit FIRST_PAGE = CursorPage.fetchLimit(CursorPage.DEFAULT_SIZE);
+
 	@Mock
 	private UserRepository userRepository;
 
@@ -44,11 +50,14 @@ class UserServiceTest {
 	private UserMapper userMapper;
 
 	@Mock
-	private PasswordEncoder passwordEncoder;
+	private PasswordHashingService passwordHashingService;
 
 	@Mock
 	private JwtService jwtService;
 
+	@Mock
+	private HostelCatalogueCache hostelCatalogueCache;
+
 	@InjectMocks
 	private UserService userService;
 
@@ -101,7 +110,7 @@ class UserServiceTest {
 
 		when(userRepository.existsByEmail(anyString())).thenReturn(false);
 		when(userMapper.toEntity(any(UserRequest.class))).thenReturn(testUser);
-		when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+		when(passwordHashingService.encode(any(), anyString())).thenReturn("encodedPassword");
 		when(userRepository.save(any(User.class))).thenReturn(testUser);
 		when(userMapper.toResponse(any(User.class))).thenReturn(userResponse);
 
@@ -113,7 +122,7 @@ class UserServiceTest {
 		assertEquals(UserStatus.ACTIVE, result.getStatus());
 
 		verify(userRepository, times(1)).existsByEmail("suresh@gmail.com");
-		verify(passwordEncoder, times(1)).encode("securePassword123");
+		verify(passwordHashingService, times(1)).encode(UserRole.USER, "securePassword123");
 		verify(userRepository, times(1)).save(any(User.class));
 		verify(userMapper, times(1)).toResponse(testUser);
 	}
@@ -136,7 +145,7 @@ class UserServiceTest {
 
 		when(userRepository.existsByEmail(anyString())).thenReturn(false);
 		when(userMapper.toEntity(any(UserRequest.class))).thenReturn(testOwner);
-		when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+		when(passwordHashingService.encode(any(), anyString())).thenReturn("encodedPassword");
 		when(userRepository.save(any(User.class))).thenReturn(testOwner);
 		when(userMapper.toResponse(any(User.class))).thenReturn(ownerResponse);
 
@@ -158,7 +167,7 @@ class UserServiceTest {
 		loginRequest.setPassword("securePassword123");
 
 		when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
-		when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+		when(passwordHashingService.matches(anyString(), anyString())).thenReturn(true);
 		when(jwtService.generateToken(anyString(), anyString())).thenReturn("jwt-token-123");
 
 		LoginResponse result = userService.login(loginRequest);
@@ -173,6 +182,26 @@ class UserServiceTest {
 		verify(jwtService, times(1)).generateToken("suresh@gmail.com", "USER");
 	}
 
+	@Test
+	@DisplayName("SUCCESS: Login - Should rehash a password weaker than the role's work factor")
+	void testLogin_UpgradesWeakHash() {
+
+		LoginRequest loginRequest = new LoginRequest();
+		loginRequest.setEmail("suresh@gmail.com");
+		loginRequest.setPassword("securePassword123");
+
+		when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
+		when(passwordHashingService.matches(anyString(), anyString())).thenReturn(true);
+		when(passwordHashingService.needsUpgrade(UserRole.USER, testUser.getPassword())).thenReturn(true);
+		when(passwordHashingService.encode(UserRole.USER, "securePassword123")).thenReturn("strongerHash");
+		when(jwtService.generateToken(anyString(), anyString())).thenReturn("jwt-token-123");
+
+		userService.login(loginRequest);
+
+		assertEquals("strongerHash", testUser.getPassword());
+		verify(userRepository, times(1)).save(testUser);
+	}
+
 	@Test
 	@DisplayName("SUCCESS: Get User By ID - Should return user response")
 	void testGetUserById_Success() {
@@ -197,15 +226,15 @@ class UserServiceTest {
 		List<User> users = Arrays.asList(testUser, testOwner);
 		List<UserResponse> responses = Arrays.asList(userResponse, new UserResponse());
 
-		when(userRepository.findAll()).thenReturn(users);
+		when(userRepository.findPage(0L, FIRST_PAGE)).thenReturn(users);
 		when(userMapper.toResponse(any(User.class))).thenReturn(userResponse);
 
-		List<UserResponse> result = userService.getAllUsers();
+		CursorPage<UserResponse> result = userService.getAllUsers(null, null);
 
 		assertNotNull(result);
-		assertEquals(2, result.size());
+		assertEquals(2, result.getItems().size());
 
-		verify(userRepository, times(1)).findAll();
+		verify(userRepository, times(1)).findPage(0L, FIRST_PAGE);
 	}
 
 	@Test
@@ -233,15 +262,15 @@ class UserServiceTest {
 	void testGetUsersByRole_Success() {
 
 		List<User> users = Arrays.asList(testUser);
-		when(userRepository.findAll()).thenReturn(users);
+		when(userRepository.findPageByRole(UserRole.USER, 0L, FIRST_PAGE)).thenReturn(users);
 		when(userMapper.toResponse(any(User.class))).thenReturn(userResponse);
 
-		List<UserResponse> result = userService.getUsersByRole(UserRole.USER);
+		CursorPage<UserResponse> result = userService.getUsersByRole(UserRole.USER, null, null);
 
 		assertNotNull(result);
-		assertEquals(1, result.size());
+		assertEquals(1, result.getItems().size());
 
-		verify(userRepository, times(1)).findAll();
+		verify(userRepository, times(1)).findPageByRole(UserRole.USER, 0L, FIRST_PAGE);
 	}
 
 	@Test
@@ -267,14 +296,14 @@ class UserServiceTest {
 	@DisplayName("SUCCESS: Get Pending Owners - Should return pending owners")
 	void testGetPendingOwners_Success() {
 
-		List<User> allUsers = Arrays.asList(testUser, testOwner);
-		when(userRepository.findAll()).thenReturn(allUsers);
+		List<User> allUsers = Arrays.asList(testOwner);
+		when(userRepository.findPageByRoleAndStatus(UserRole.OWNER, UserStatus.PENDING, 0L, FIRST_PAGE)).thenReturn(allUsers);
 		when(userMapper.toResponse(testOwner)).thenReturn(new UserResponse());
 
-		List<UserResponse> result = userService.getPendingOwners();
+		CursorPage<UserResponse> result = userService.getPendingOwners(null, null);
 
 		assertNotNull(result);
-		assertEquals(1, result.size());
+		assertEquals(1, result.getItems().size());
 	}
 
 	@Test
@@ -315,13 +344,13 @@ class UserServiceTest {
 	void testChangePassword_Success() {
 
 		when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-		when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
-		when(passwordEncoder.encode(anyString())).thenReturn("newEncodedPassword");
+		when(passwordHashingService.matches(anyString(), anyString())).thenReturn(true);
+		when(passwordHashingService.encode(any(), anyString())).thenReturn("newEncodedPassword");
 		when(userRepository.save(any(User.class))).thenReturn(testUser);
 
 		userService.changePassword(1L, "oldPassword", "newPassword");
 
-		verify(passwordEncoder, times(1)).encode("newPassword");
+		verify(passwordHashingService, times(1)).encode(testUser.getRole(), "newPassword");
 		verify(userRepository, times(1)).save(testUser);
 	}
 
@@ -377,7 +406,7 @@ class UserServiceTest {
 		loginRequest.setPassword("wrongPassword");
 
 		when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
-		when(passwordEncoder.matches(anyString(), anyString())).thenReturn(false);
+		when(passwordHashingService.matches(anyString(), anyString())).thenReturn(false);
 
 		UnauthorizedException exception = assertThrows(UnauthorizedException.class, () -> {
 			userService.login(loginRequest);
@@ -397,7 +426,7 @@ class UserServiceTest {
 		loginRequest.setPassword("password");
 
 		when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
-		when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+		when(passwordHashingService.matches(anyString(), anyString())).thenReturn(true);
 
 		UnauthorizedException exception = assertThrows(UnauthorizedException.class, () -> {
 			userService.login(loginRequest);
@@ -495,7 +524,7 @@ class UserServiceTest {
 	void testChangePassword_WrongPassword_ThrowsException() {
 
 		when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-		when(passwordEncoder.matches(anyString(), anyString())).thenReturn(false);
+		when(passwordHashingService.matches(anyString(), anyString())).thenReturn(false);
 
 		UnauthorizedException exception = assertThrows(UnauthorizedException.class, () -> {
 			userService.changePassword(1L, "wrongPassword", "newPassword");
@@ -529,4 +558,20 @@ class UserServiceTest {
 		assertEquals("Cannot delete user with active bookings", exception.getMessage());
 		verify(userRepository, never()).delete(any(User.class));
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("FAILURE: Login - Password hashing saturated")
+	void testLogin_HashingSaturated_ThrowsException() {
+
+		LoginRequest loginRequest = new LoginRequest();
+		loginRequest.setEmail("suresh@gmail.com");
+		loginRequest.setPassword("securePassword123");
+
+		when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
+		when(passwordHashingService.matches(anyString(), anyString()))
+				.thenThrow(new TooManyRequestsException("Too many sign-in requests, please retry shortly", 1));
+
+		assertThrows(TooManyRequestsException.class, () -> userService.login(loginRequest));
+		verify(jwtService, never()).generateToken(anyString(), anyString());
+	}
+}